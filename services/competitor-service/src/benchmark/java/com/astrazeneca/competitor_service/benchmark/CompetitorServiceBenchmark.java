@@ -0,0 +1,50 @@
+package com.astrazeneca.competitor_service.benchmark;
+
+import com.astrazeneca.competitor_service.application.service.CompetitorService;
+import com.astrazeneca.competitor_service.domain.model.ClinicalTrial;
+import com.astrazeneca.competitor_service.domain.model.Competitor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Application-service work on the write paths - validation and the duplicate trial-id
+ * check - with every port stubbed out, so no database or index cost is included.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CompetitorServiceBenchmark {
+
+    @Param({"0", "25", "500"})
+    public int trials;
+
+    private CompetitorService competitorService;
+    private Competitor competitor;
+    private ClinicalTrial trial;
+
+    @Setup
+    public void setUp() {
+        StubPorts ports = new StubPorts();
+        competitorService = new CompetitorService(ports, ports, ports, ports, ports, null);
+        competitor = Fixtures.competitor(1, trials);
+        trial = Fixtures.trial(2);
+    }
+
+    @Benchmark
+    public Competitor createCompetitor() {
+        return competitorService.createCompetitor(competitor);
+    }
+
+    @Benchmark
+    public ClinicalTrial addClinicalTrial() {
+        return competitorService.addClinicalTrialToCompetitor(1L, trial);
+    }
+}
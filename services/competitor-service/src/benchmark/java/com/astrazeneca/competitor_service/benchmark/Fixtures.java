@@ -0,0 +1,53 @@
+package com.astrazeneca.competitor_service.benchmark;
+
+import com.astrazeneca.competitor_service.domain.model.ClinicalTrial;
+import com.astrazeneca.competitor_service.domain.model.Competitor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Realistically shaped benchmark data. Seeded by competitor id, so every run and every
+ * release benchmarks exactly the same values.
+ */
+final class Fixtures {
+
+    private static final String[] AREAS = {"Oncology", "Immunology", "Cardiovascular", "Neuroscience",
+            "Respiratory", "Rare Diseases"};
+    private static final String[] PHASES = {"Phase I", "Phase II", "Phase III", "Phase IV"};
+    private static final String[] STATUSES = {"Recruiting", "Active", "Completed", "Suspended", "Terminated"};
+    private static final String[] INDICATIONS = {"Non-Small Cell Lung Cancer", "Acute Myeloid Leukemia",
+            "Metastatic Melanoma", "Chronic Heart Failure", "Severe Asthma", "Relapsing Multiple Sclerosis",
+            "Rheumatoid Arthritis"};
+
+    private Fixtures() {
+    }
+
+    static Competitor competitor(long id, int trials) {
+        Random random = new Random(id);
+        List<String> areas = new ArrayList<>(List.of(AREAS[random.nextInt(AREAS.length)],
+                AREAS[random.nextInt(AREAS.length)]));
+        return new Competitor(id, "Competitor " + id + " Pharmaceuticals", areas, "Cambridge, United Kingdom",
+                trials(random, id, trials));
+    }
+
+    static ClinicalTrial trial(long id) {
+        return trials(new Random(id), id, 1).get(0);
+    }
+
+    private static List<ClinicalTrial> trials(Random random, long competitorId, int count) {
+        List<ClinicalTrial> trials = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String phase = PHASES[random.nextInt(PHASES.length)];
+            String indication = INDICATIONS[random.nextInt(INDICATIONS.length)];
+            trials.add(new ClinicalTrial(
+                    "NCT%08d".formatted(competitorId * 10_000 + i),
+                    "A Randomized %s Study of AZD%04d in %s".formatted(phase, random.nextInt(10_000), indication),
+                    phase,
+                    STATUSES[random.nextInt(STATUSES.length)],
+                    indication));
+        }
+        return trials;
+    }
+}
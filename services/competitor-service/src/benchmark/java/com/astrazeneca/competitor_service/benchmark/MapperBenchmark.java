@@ -0,0 +1,59 @@
+package com.astrazeneca.competitor_service.benchmark;
+
+import com.astrazeneca.competitor_service.domain.model.Competitor;
+import com.astrazeneca.competitor_service.infrastructure.persistence.entity.CompetitorEntity;
+import com.astrazeneca.competitor_service.infrastructure.persistence.mapper.PersistenceMapper;
+import com.astrazeneca.competitor_service.infrastructure.persistence.mapper.PersistenceMapperImpl;
+import com.astrazeneca.competitor_service.infrastructure.web.dto.CompetitorResponse;
+import com.astrazeneca.competitor_service.infrastructure.web.mapper.WebMapper;
+import com.astrazeneca.competitor_service.infrastructure.web.mapper.WebMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MapStruct round trips of one competitor aggregate: domain to JPA entity and back, and
+ * domain to the REST response.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MapperBenchmark {
+
+    @Param({"1", "25", "500"})
+    public int trials;
+
+    private final PersistenceMapper persistenceMapper = new PersistenceMapperImpl();
+    private final WebMapper webMapper = new WebMapperImpl();
+
+    private Competitor competitor;
+    private CompetitorEntity entity;
+
+    @Setup
+    public void setUp() {
+        competitor = Fixtures.competitor(1, trials);
+        entity = persistenceMapper.toEntity(competitor);
+    }
+
+    @Benchmark
+    public CompetitorEntity domainToEntity() {
+        return persistenceMapper.toEntity(competitor);
+    }
+
+    @Benchmark
+    public Competitor entityToDomain() {
+        return persistenceMapper.toDomain(entity);
+    }
+
+    @Benchmark
+    public CompetitorResponse domainToResponse() {
+        return webMapper.toResponse(competitor);
+    }
+}
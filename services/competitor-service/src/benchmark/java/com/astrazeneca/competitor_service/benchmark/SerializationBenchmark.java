@@ -0,0 +1,51 @@
+package com.astrazeneca.competitor_service.benchmark;
+
+import com.astrazeneca.competitor_service.infrastructure.web.dto.CompetitorResponse;
+import com.astrazeneca.competitor_service.infrastructure.web.mapper.WebMapperImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson (configured like Spring MVC's message converter) writing and reading a competitor
+ * response with a large trial list - the GET /api/competitors/{id} body.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SerializationBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int trials;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private CompetitorResponse response;
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws IOException {
+        response = new WebMapperImpl().toResponse(Fixtures.competitor(1, trials));
+        json = objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] write() throws IOException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public CompetitorResponse read() throws IOException {
+        return objectMapper.readValue(json, CompetitorResponse.class);
+    }
+}
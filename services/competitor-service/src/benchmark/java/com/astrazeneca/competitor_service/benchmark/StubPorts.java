@@ -0,0 +1,129 @@
+package com.astrazeneca.competitor_service.benchmark;
+
+import com.astrazeneca.competitor_service.domain.model.ClinicalTrial;
+import com.astrazeneca.competitor_service.domain.model.Competitor;
+import com.astrazeneca.competitor_service.domain.model.CompetitorPage;
+import com.astrazeneca.competitor_service.domain.model.CompetitorSummary;
+import com.astrazeneca.competitor_service.domain.model.CompetitorSummaryPage;
+import com.astrazeneca.competitor_service.domain.model.CompetitorTrial;
+import com.astrazeneca.competitor_service.domain.model.LandscapeQuery;
+import com.astrazeneca.competitor_service.domain.model.LandscapeResult;
+import com.astrazeneca.competitor_service.domain.model.TrialSearchResult;
+import com.astrazeneca.competitor_service.domain.ports.out.ClinicalTrialRepositoryPort;
+import com.astrazeneca.competitor_service.domain.ports.out.ClinicalTrialSearchPort;
+import com.astrazeneca.competitor_service.domain.ports.out.CollectionVersionPort;
+import com.astrazeneca.competitor_service.domain.ports.out.CompetitorLandscapePort;
+import com.astrazeneca.competitor_service.domain.ports.out.CompetitorRepositoryPort;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Output ports that do no work: every competitor exists, no trial id is taken.
+ */
+final class StubPorts implements CompetitorRepositoryPort, ClinicalTrialRepositoryPort, ClinicalTrialSearchPort,
+        CompetitorLandscapePort, CollectionVersionPort {
+
+    @Override
+    public Competitor save(Competitor competitor) {
+        return competitor;
+    }
+
+    @Override
+    public List<Competitor> saveAll(List<Competitor> competitors) {
+        return competitors;
+    }
+
+    @Override
+    public Optional<Competitor> findById(Long id) {
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<Long> findVersion(Long id) {
+        return Optional.of(0L);
+    }
+
+    @Override
+    public CompetitorPage findPage(Long afterId, int limit) {
+        return new CompetitorPage(List.of(), null);
+    }
+
+    @Override
+    public CompetitorSummaryPage findSummaryPage(Long afterId, int limit) {
+        return new CompetitorSummaryPage(List.of(), null);
+    }
+
+    @Override
+    public List<CompetitorSummary> findSummariesByIds(Collection<Long> ids) {
+        return List.of();
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return true;
+    }
+
+    @Override
+    public Set<Long> findExistingIds(Collection<Long> ids) {
+        return Set.copyOf(ids);
+    }
+
+    @Override
+    public ClinicalTrial addClinicalTrial(Long competitorId, ClinicalTrial trial) {
+        return trial;
+    }
+
+    @Override
+    public void addClinicalTrials(Map<Long, List<ClinicalTrial>> trialsByCompetitor) {
+    }
+
+    @Override
+    public Optional<CompetitorTrial> findByTrialId(String trialId) {
+        return Optional.empty();
+    }
+
+    @Override
+    public List<CompetitorTrial> findByTrialIds(Collection<String> trialIds) {
+        return List.of();
+    }
+
+    @Override
+    public Set<String> findExistingTrialIds(Collection<String> trialIds) {
+        return Set.of();
+    }
+
+    @Override
+    public TrialSearchResult search(String query, int limit) {
+        return new TrialSearchResult(List.of(), 0);
+    }
+
+    @Override
+    public void index(Long competitorId, List<ClinicalTrial> trials) {
+    }
+
+    @Override
+    public LandscapeResult aggregate(LandscapeQuery query) {
+        return new LandscapeResult(List.of(), 0);
+    }
+
+    @Override
+    public void recordCompetitor(Competitor competitor) {
+    }
+
+    @Override
+    public void recordTrials(Long competitorId, List<ClinicalTrial> trials) {
+    }
+
+    @Override
+    public String currentVersion() {
+        return "0";
+    }
+
+    @Override
+    public void recordChange() {
+    }
+}
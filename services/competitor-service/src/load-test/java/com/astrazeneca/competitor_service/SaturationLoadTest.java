@@ -0,0 +1,126 @@
+package com.astrazeneca.competitor_service;
+
+import com.astrazeneca.loadkit.OpenLoadDriver;
+import com.astrazeneca.loadkit.OpenLoadResult;
+import com.astrazeneca.loadkit.RequestMix;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Saturation load test")
+class SaturationLoadTest {
+
+    private static final long SEED = Long.getLong("load.seed", 42);
+    private static final int COMPETITORS = Integer.getInteger("load.competitors", 2000);
+    private static final String RATES = System.getProperty("load.rates", "100,200,400,800,1600,3200,6400");
+    private static final Duration WARMUP = Duration.ofSeconds(Long.getLong("load.warmup", 5));
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("load.seconds", 15));
+    private static final Duration P99_OBJECTIVE = Duration.ofMillis(Long.getLong("load.p99", 100));
+    private static final String[] AREAS = {"Oncology", "Immunology", "Cardiovascular", "Neuroscience", "Respiratory"};
+    private static final String[] PHASES = {"Phase I", "Phase II", "Phase III", "Phase IV"};
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicLong nextTrial = new AtomicLong(90_000_000);
+
+    @Test
+    @DisplayName("Should find the arrival rate at which the competitor endpoints saturate")
+    void shouldFindSaturationPoint() throws Exception {
+        try (ConfigurableApplicationContext app = new SpringApplicationBuilder(CompetitorServiceApplication.class)
+                // Command-line arguments, so they win over application.yaml
+                .run("--server.port=0",
+                        "--spring.threads.virtual.enabled=" + System.getProperty("load.virtual", "true"),
+                        "--spring.datasource.url=jdbc:h2:mem:saturation",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN")) {
+            String base = "http://localhost:" + app.getEnvironment().getProperty("local.server.port");
+            long[] ids = seed(base);
+
+            RequestMix mix = new RequestMix()
+                    .add("get-by-id", 50, random -> get(base + "/api/competitors/" + ids[random.nextInt(ids.length)]))
+                    .add("page", 20, random -> get(base + "/api/competitors?size=20"))
+                    .add("summaries", 20, random -> get(base + "/api/competitors/summaries?size=50"))
+                    .add("add-trial", 10, random -> post(base + "/api/competitors/" + ids[random.nextInt(ids.length)]
+                            + "/trials", trial(random.nextInt(PHASES.length), nextTrial.getAndIncrement())))
+                    .withWeights(System.getProperty("load.mix"));
+
+            OpenLoadDriver driver = new OpenLoadDriver(WARMUP, DURATION, Duration.ofSeconds(5), 10_000, SEED);
+            List<Double> rates = Arrays.stream(RATES.split(",")).map(rate -> Double.parseDouble(rate.strip())).toList();
+            List<OpenLoadResult> results = driver.sweep(rates, mix, P99_OBJECTIVE);
+
+            System.out.println(OpenLoadResult.table(results, P99_OBJECTIVE));
+            for (OpenLoadResult result : results) {
+                result.writeDistributions(Path.of("target", "load", "competitor-service"));
+            }
+            // The lowest rate must be served cleanly, otherwise the mix itself is broken
+            assertThat(results.get(0).total().errors()).as(OpenLoadResult.table(results.subList(0, 1), P99_OBJECTIVE))
+                    .isZero();
+        }
+    }
+
+    // Bulk-imports a deterministic dataset and returns the assigned ids
+    private long[] seed(String base) throws IOException, InterruptedException {
+        Random random = new Random(SEED);
+        StringBuilder ndjson = new StringBuilder();
+        long trial = 0;
+        for (int i = 0; i < COMPETITORS; i++) {
+            StringBuilder trials = new StringBuilder();
+            for (int t = random.nextInt(9); t > 0; t--) {
+                trials.append(trials.isEmpty() ? "" : ",").append(trial(random.nextInt(PHASES.length), trial++));
+            }
+            ndjson.append("""
+                    {"name":"Competitor %d","therapeuticAreas":["%s"],"headquarters":"City %d","clinicalTrials":[%s]}
+                    """.formatted(i, AREAS[random.nextInt(AREAS.length)], i, trials));
+        }
+        HttpResponse<String> imported = client.send(HttpRequest.newBuilder(URI.create(base + "/api/competitors/import"))
+                .header("Content-Type", "application/x-ndjson")
+                .POST(HttpRequest.BodyPublishers.ofString(ndjson.toString()))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        assertThat(objectMapper.readTree(imported.body()).get("competitorsCreated").asLong()).isEqualTo(COMPETITORS);
+
+        LongStream.Builder ids = LongStream.builder();
+        String cursor = null;
+        do {
+            JsonNode page = objectMapper.readTree(client.send(get(base + "/api/competitors/summaries?size=100"
+                    + (cursor != null ? "&cursor=" + cursor : "")), HttpResponse.BodyHandlers.ofString()).body());
+            page.get("content").forEach(summary -> ids.add(summary.get("id").asLong()));
+            cursor = page.get("hasNext").asBoolean() ? page.get("nextCursor").asText() : null;
+        } while (cursor != null);
+        return ids.build().toArray();
+    }
+
+    private static String trial(int phase, long number) {
+        return """
+                {"trialId":"NCT%08d","name":"Study %d","phase":"%s","status":"Recruiting","indication":"NSCLC"}"""
+                .formatted(number, number, PHASES[phase]);
+    }
+
+    private static HttpRequest get(String uri) {
+        return HttpRequest.newBuilder(URI.create(uri)).GET().build();
+    }
+
+    private static HttpRequest post(String uri, String body) {
+        return HttpRequest.newBuilder(URI.create(uri))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+}
@@ -0,0 +1,90 @@
+package com.astrazeneca.competitor_service;
+
+import com.astrazeneca.loadkit.ClosedLoadDriver;
+import com.astrazeneca.loadkit.LoadResult;
+import com.astrazeneca.loadkit.PinningMonitor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Threading mode load test")
+class ThreadingModeLoadTest {
+
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 1000);
+    private static final Duration WARMUP = Duration.ofSeconds(Long.getLong("load.warmup", 5));
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("load.seconds", 15));
+    private static final int COMPETITORS = 500;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("Should compare platform and virtual threads without pinning in our code")
+    void shouldCompareThreadingModes() throws Exception {
+        List<LoadResult> results = new ArrayList<>(run(false));
+        PinningMonitor pinning = PinningMonitor.start();
+        try {
+            results.addAll(run(true));
+        } finally {
+            pinning.close();
+        }
+
+        System.out.println(pinning.report());
+        System.out.println(LoadResult.table(results));
+        assertThat(pinning.hotspotsIn("com.astrazeneca")).isEmpty();
+        assertThat(results).allSatisfy(result -> assertThat(result.errors()).isZero());
+    }
+
+    private List<LoadResult> run(boolean virtualThreads) throws Exception {
+        String mode = virtualThreads ? "virtual" : "platform";
+        try (ConfigurableApplicationContext app = new SpringApplicationBuilder(CompetitorServiceApplication.class)
+                .properties("server.port=0",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "spring.datasource.url=jdbc:h2:mem:load-" + mode,
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN")
+                .run()) {
+            String base = "http://localhost:" + app.getEnvironment().getProperty("local.server.port");
+            long[] ids = seed(base);
+
+            ClosedLoadDriver driver = new ClosedLoadDriver(CONCURRENCY, WARMUP, DURATION);
+            return List.of(
+                    driver.run(mode + " GET /{id}", () -> get(base + "/api/competitors/"
+                            + ids[ThreadLocalRandom.current().nextInt(ids.length)])),
+                    driver.run(mode + " GET page", () -> get(base + "/api/competitors?size=20")));
+        }
+    }
+
+    private long[] seed(String base) throws IOException, InterruptedException {
+        long[] ids = new long[COMPETITORS];
+        for (int i = 0; i < COMPETITORS; i++) {
+            String body = """
+                    {"name":"Competitor %d","therapeuticAreas":["Oncology","Immunology"],"headquarters":"City %d"}
+                    """.formatted(i, i);
+            HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(base + "/api/competitors"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build(), HttpResponse.BodyHandlers.ofString());
+            ids[i] = objectMapper.readTree(response.body()).get("id").asLong();
+        }
+        return ids;
+    }
+
+    private static HttpRequest get(String uri) {
+        return HttpRequest.newBuilder(URI.create(uri)).GET().build();
+    }
+}
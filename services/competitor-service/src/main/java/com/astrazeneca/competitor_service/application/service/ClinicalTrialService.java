@@ -0,0 +1,87 @@
+package com.astrazeneca.competitor_service.application.service;
+
+import com.astrazeneca.competitor_service.domain.exception.ClinicalTrialNotFoundException;
+import com.astrazeneca.competitor_service.domain.exception.InvalidClinicalTrialException;
+import com.astrazeneca.competitor_service.domain.model.CompetitorTrial;
+import com.astrazeneca.competitor_service.domain.model.TrialLookupResult;
+import com.astrazeneca.competitor_service.domain.model.TrialSearchResult;
+import com.astrazeneca.competitor_service.domain.ports.in.LookupClinicalTrialsUseCase;
+import com.astrazeneca.competitor_service.domain.ports.in.SearchClinicalTrialsUseCase;
+import com.astrazeneca.competitor_service.domain.ports.out.ClinicalTrialRepositoryPort;
+import com.astrazeneca.competitor_service.domain.ports.out.ClinicalTrialSearchPort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Application Service - Implements Use Cases (Input Ports)
+ * Answers clinical trial queries that span competitors
+ */
+@Service
+public class ClinicalTrialService implements SearchClinicalTrialsUseCase, LookupClinicalTrialsUseCase {
+
+    private final ClinicalTrialSearchPort clinicalTrialSearchPort;
+    private final ClinicalTrialRepositoryPort clinicalTrialRepositoryPort;
+
+    public ClinicalTrialService(ClinicalTrialSearchPort clinicalTrialSearchPort,
+                                ClinicalTrialRepositoryPort clinicalTrialRepositoryPort) {
+        this.clinicalTrialSearchPort = clinicalTrialSearchPort;
+        this.clinicalTrialRepositoryPort = clinicalTrialRepositoryPort;
+    }
+
+    @Override
+    public TrialSearchResult searchTrials(String query, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new InvalidClinicalTrialException("q", "must not be blank");
+        }
+        if (limit < 1 || limit > MAX_SEARCH_LIMIT) {
+            throw new InvalidClinicalTrialException("limit", "must be between 1 and " + MAX_SEARCH_LIMIT);
+        }
+        return clinicalTrialSearchPort.search(query, limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CompetitorTrial getTrialByTrialId(String trialId) {
+        if (trialId == null || trialId.isBlank()) {
+            throw new InvalidClinicalTrialException("trialId", "must not be blank");
+        }
+        return clinicalTrialRepositoryPort.findByTrialId(trialId)
+                .orElseThrow(() -> new ClinicalTrialNotFoundException(trialId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TrialLookupResult getTrialsByTrialIds(List<String> trialIds) {
+        if (trialIds == null || trialIds.isEmpty()) {
+            throw new InvalidClinicalTrialException("trialIds", "must not be empty");
+        }
+        Set<String> requested = new LinkedHashSet<>(trialIds);
+        if (requested.contains(null)) {
+            throw new InvalidClinicalTrialException("trialIds", "must not contain null");
+        }
+        if (requested.size() > MAX_LOOKUP_BATCH) {
+            throw new InvalidClinicalTrialException("trialIds", "must not contain more than " + MAX_LOOKUP_BATCH + " ids");
+        }
+
+        Map<String, CompetitorTrial> found = clinicalTrialRepositoryPort.findByTrialIds(requested).stream()
+                .collect(Collectors.toMap(match -> match.getTrial().getTrialId(), Function.identity()));
+        TrialLookupResult result = new TrialLookupResult(new ArrayList<>(found.size()), new ArrayList<>());
+        for (String trialId : requested) {
+            CompetitorTrial match = found.get(trialId);
+            if (match != null) {
+                result.getTrials().add(match);
+            } else {
+                result.getNotFound().add(trialId);
+            }
+        }
+        return result;
+    }
+}
@@ -1,41 +1,123 @@
 package com.astrazeneca.competitor_service.application.service;
 
 import com.astrazeneca.competitor_service.domain.exception.CompetitorNotFoundException;
+import com.astrazeneca.competitor_service.domain.exception.DomainException;
+import com.astrazeneca.competitor_service.domain.exception.DuplicateClinicalTrialException;
 import com.astrazeneca.competitor_service.domain.exception.InvalidClinicalTrialException;
 import com.astrazeneca.competitor_service.domain.exception.InvalidCompetitorDataException;
 import com.astrazeneca.competitor_service.domain.model.ClinicalTrial;
 import com.astrazeneca.competitor_service.domain.model.Competitor;
+import com.astrazeneca.competitor_service.domain.model.CompetitorImportResult;
+import com.astrazeneca.competitor_service.domain.model.CompetitorLookupResult;
+import com.astrazeneca.competitor_service.domain.model.CompetitorPage;
+import com.astrazeneca.competitor_service.domain.model.CompetitorSummary;
+import com.astrazeneca.competitor_service.domain.model.CompetitorSummaryPage;
 import com.astrazeneca.competitor_service.domain.ports.in.ManageCompetitorUseCase;
+import com.astrazeneca.competitor_service.domain.ports.out.ClinicalTrialRepositoryPort;
+import com.astrazeneca.competitor_service.domain.ports.out.ClinicalTrialSearchPort;
+import com.astrazeneca.competitor_service.domain.ports.out.CollectionVersionPort;
+import com.astrazeneca.competitor_service.domain.ports.out.CompetitorLandscapePort;
 import com.astrazeneca.competitor_service.domain.ports.out.CompetitorRepositoryPort;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Application Service - Implements Use Case (Input Port)
  * Orchestrates domain logic and persistence
  */
+@Slf4j
 @Service
 @Transactional
 public class CompetitorService implements ManageCompetitorUseCase {
 
     private final CompetitorRepositoryPort competitorRepositoryPort;
+    private final ClinicalTrialRepositoryPort clinicalTrialRepositoryPort;
+    private final ClinicalTrialSearchPort clinicalTrialSearchPort;
+    private final CompetitorLandscapePort competitorLandscapePort;
+    private final CollectionVersionPort collectionVersionPort;
+    private final TransactionTemplate transactionTemplate;
 
-    public CompetitorService(CompetitorRepositoryPort competitorRepositoryPort) {
+    public CompetitorService(CompetitorRepositoryPort competitorRepositoryPort,
+                             ClinicalTrialRepositoryPort clinicalTrialRepositoryPort,
+                             ClinicalTrialSearchPort clinicalTrialSearchPort,
+                             CompetitorLandscapePort competitorLandscapePort,
+                             CollectionVersionPort collectionVersionPort,
+                             PlatformTransactionManager transactionManager) {
         this.competitorRepositoryPort = competitorRepositoryPort;
+        this.clinicalTrialRepositoryPort = clinicalTrialRepositoryPort;
+        this.clinicalTrialSearchPort = clinicalTrialSearchPort;
+        this.competitorLandscapePort = competitorLandscapePort;
+        this.collectionVersionPort = collectionVersionPort;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     @Override
     public Competitor createCompetitor(Competitor competitor) {
         validateCompetitor(competitor);
-        return competitorRepositoryPort.save(competitor);
+        rejectDuplicateTrials(competitor.getClinicalTrials());
+        Competitor saved = competitorRepositoryPort.save(competitor);
+        clinicalTrialSearchPort.index(saved.getId(), saved.getClinicalTrials());
+        competitorLandscapePort.recordCompetitor(saved);
+        collectionVersionPort.recordChange();
+        return saved;
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<Competitor> getAllCompetitors() {
-        return competitorRepositoryPort.findAll();
+    public CompetitorPage getCompetitors(Long afterId, int size) {
+        validatePageSize(size);
+        return competitorRepositoryPort.findPage(afterId, size);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CompetitorSummaryPage getCompetitorSummaries(Long afterId, int size) {
+        validatePageSize(size);
+        return competitorRepositoryPort.findSummaryPage(afterId, size);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CompetitorLookupResult getCompetitorSummariesByIds(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new InvalidCompetitorDataException("ids", "must not be empty");
+        }
+        Set<Long> requested = new LinkedHashSet<>(ids);
+        if (requested.contains(null)) {
+            throw new InvalidCompetitorDataException("ids", "must not contain null");
+        }
+        if (requested.size() > MAX_LOOKUP_BATCH) {
+            throw new InvalidCompetitorDataException("ids", "must not contain more than " + MAX_LOOKUP_BATCH + " ids");
+        }
+
+        Map<Long, CompetitorSummary> found = competitorRepositoryPort.findSummariesByIds(requested).stream()
+                .collect(Collectors.toMap(CompetitorSummary::getId, Function.identity()));
+        CompetitorLookupResult result = new CompetitorLookupResult(new ArrayList<>(found.size()), new ArrayList<>());
+        for (Long id : requested) {
+            CompetitorSummary summary = found.get(id);
+            if (summary != null) {
+                result.getCompetitors().add(summary);
+            } else {
+                result.getNotFound().add(id);
+            }
+        }
+        return result;
     }
 
     @Override
@@ -49,19 +131,205 @@ public class CompetitorService implements ManageCompetitorUseCase {
     }
 
     @Override
-    public Competitor addClinicalTrialToCompetitor(Long competitorId, ClinicalTrial trial) {
+    @Transactional(readOnly = true)
+    public long getCompetitorVersion(Long id) {
+        if (id == null) {
+            throw new InvalidCompetitorDataException("id", "must not be null");
+        }
+        return competitorRepositoryPort.findVersion(id)
+                .orElseThrow(() -> new CompetitorNotFoundException(id));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public String getCompetitorsVersion() {
+        return collectionVersionPort.currentVersion();
+    }
+
+    @Override
+    public ClinicalTrial addClinicalTrialToCompetitor(Long competitorId, ClinicalTrial trial) {
         if (competitorId == null) {
             throw new InvalidCompetitorDataException("competitorId", "must not be null");
         }
         validateClinicalTrial(trial);
 
-        Competitor competitor = competitorRepositoryPort.findById(competitorId)
-                .orElseThrow(() -> new CompetitorNotFoundException(competitorId));
+        if (!competitorRepositoryPort.existsById(competitorId)) {
+            throw new CompetitorNotFoundException(competitorId);
+        }
+        rejectDuplicateTrials(List.of(trial));
+
+        // Append-only: the existing trials are neither loaded nor re-written
+        ClinicalTrial added = competitorRepositoryPort.addClinicalTrial(competitorId, trial);
+        clinicalTrialSearchPort.index(competitorId, List.of(added));
+        competitorLandscapePort.recordTrials(competitorId, List.of(added));
+        collectionVersionPort.recordChange();
+        return added;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompetitorImportResult importCompetitors(Iterator<Competitor> records) {
+        CompetitorImportResult result = new CompetitorImportResult();
+        List<ImportRecord> chunk = new ArrayList<>(IMPORT_CHUNK_SIZE);
+        long position = 0;
+
+        while (records.hasNext()) {
+            long recordNumber = position++;
+            result.setReceived(result.getReceived() + 1);
+            try {
+                Competitor record = records.next();
+                validateImportRecord(record);
+                chunk.add(new ImportRecord(recordNumber, record));
+            } catch (DomainException ex) {
+                result.recordFailure(recordNumber, ex.getMessage());
+                continue;
+            }
+
+            if (chunk.size() == IMPORT_CHUNK_SIZE) {
+                importChunk(chunk, result);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, result);
+        }
+        return result;
+    }
+
+    /**
+     * Persists one chunk in its own transaction so memory and lock duration stay bounded.
+     * A database failure rolls back and reports only this chunk; the run continues.
+     */
+    private void importChunk(List<ImportRecord> chunk, CompetitorImportResult result) {
+        ChunkOutcome outcome;
+        try {
+            outcome = transactionTemplate.execute(status -> persistChunk(chunk));
+        } catch (RuntimeException ex) {
+            log.warn("Import chunk starting at record {} failed: {}", chunk.get(0).position(), ex.getMessage());
+            chunk.forEach(record -> result.recordFailure(record.position(), "Chunk rolled back: " + ex.getMessage()));
+            return;
+        }
+        result.setCompetitorsCreated(result.getCompetitorsCreated() + outcome.competitorsCreated());
+        result.setTrialsAdded(result.getTrialsAdded() + outcome.trialsAdded());
+        outcome.rejected().forEach(rejected -> result.recordFailure(rejected.position(), rejected.reason()));
+    }
+
+    private ChunkOutcome persistChunk(List<ImportRecord> chunk) {
+        Set<Long> referencedIds = chunk.stream()
+                .map(record -> record.competitor().getId())
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<Long> existingIds = competitorRepositoryPort.findExistingIds(referencedIds);
+        // One indexed IN query for the whole chunk; ids claimed by earlier records are added as we go
+        Set<String> takenTrialIds = new HashSet<>(clinicalTrialRepositoryPort.findExistingTrialIds(chunk.stream()
+                .flatMap(record -> record.competitor().getClinicalTrials().stream())
+                .map(ClinicalTrial::getTrialId)
+                .collect(Collectors.toSet())));
+
+        List<Competitor> newCompetitors = new ArrayList<>();
+        Map<Long, List<ClinicalTrial>> appendedTrials = new LinkedHashMap<>();
+        List<RejectedRecord> rejected = new ArrayList<>();
+        long trialsAdded = 0;
+        for (ImportRecord record : chunk) {
+            Competitor competitor = record.competitor();
+            if (competitor.getId() != null && !existingIds.contains(competitor.getId())) {
+                rejected.add(new RejectedRecord(record.position(),
+                        new CompetitorNotFoundException(competitor.getId()).getMessage()));
+                continue;
+            }
+            String duplicate = firstDuplicateTrialId(competitor.getClinicalTrials(), takenTrialIds);
+            if (duplicate != null) {
+                rejected.add(new RejectedRecord(record.position(),
+                        new DuplicateClinicalTrialException(duplicate).getMessage()));
+                continue;
+            }
+            competitor.getClinicalTrials().forEach(trial -> takenTrialIds.add(trial.getTrialId()));
 
-        // Domain logic is called here
-        competitor.addClinicalTrial(trial);
+            if (competitor.getId() == null) {
+                newCompetitors.add(competitor);
+                trialsAdded += competitor.getClinicalTrials().size();
+            } else if (!competitor.getClinicalTrials().isEmpty()) {
+                appendedTrials.computeIfAbsent(competitor.getId(), id -> new ArrayList<>())
+                        .addAll(competitor.getClinicalTrials());
+                trialsAdded += competitor.getClinicalTrials().size();
+            }
+        }
+        // One call for the chunk, so each existing competitor's version moves once and the
+        // trial inserts batch instead of being flushed by a version UPDATE after each one
+        if (!appendedTrials.isEmpty()) {
+            competitorRepositoryPort.addClinicalTrials(appendedTrials);
+            appendedTrials.forEach((competitorId, trials) -> {
+                clinicalTrialSearchPort.index(competitorId, trials);
+                competitorLandscapePort.recordTrials(competitorId, trials);
+            });
+        }
+        competitorRepositoryPort.saveAll(newCompetitors).forEach(saved -> {
+            clinicalTrialSearchPort.index(saved.getId(), saved.getClinicalTrials());
+            competitorLandscapePort.recordCompetitor(saved);
+        });
+        if (trialsAdded > 0 || !newCompetitors.isEmpty()) {
+            collectionVersionPort.recordChange();
+        }
+        return new ChunkOutcome(newCompetitors.size(), trialsAdded, rejected);
+    }
 
-        return competitorRepositoryPort.save(competitor);
+    private void validateImportRecord(Competitor record) {
+        if (record == null) {
+            throw new InvalidCompetitorDataException("record", "must not be null");
+        }
+        if (record.getClinicalTrials() == null) {
+            record.setClinicalTrials(new ArrayList<>());
+        }
+        if (record.getId() == null) {
+            validateCompetitor(record);
+        } else if (record.getClinicalTrials().isEmpty()) {
+            throw new InvalidCompetitorDataException("clinicalTrials",
+                    "must not be empty when appending to competitor " + record.getId());
+        }
+        record.getClinicalTrials().forEach(this::validateClinicalTrial);
+    }
+
+    private record ImportRecord(long position, Competitor competitor) {
+    }
+
+    private record RejectedRecord(long position, String reason) {
+    }
+
+    private record ChunkOutcome(long competitorsCreated, long trialsAdded, List<RejectedRecord> rejected) {
+    }
+
+    /**
+     * Registry trial ids are unique: checked against the trial_id index before inserting,
+     * the database constraint still catches concurrent writers.
+     */
+    private void rejectDuplicateTrials(List<ClinicalTrial> trials) {
+        if (trials == null || trials.isEmpty()) {
+            return;
+        }
+        Set<String> trialIds = trials.stream().map(ClinicalTrial::getTrialId).collect(Collectors.toSet());
+        String duplicate = firstDuplicateTrialId(trials, clinicalTrialRepositoryPort.findExistingTrialIds(trialIds));
+        if (duplicate != null) {
+            throw new DuplicateClinicalTrialException(duplicate);
+        }
+    }
+
+    /**
+     * Returns the first trial id that is already taken or repeated within {@code trials}, or null.
+     */
+    private static String firstDuplicateTrialId(List<ClinicalTrial> trials, Set<String> takenTrialIds) {
+        Set<String> seen = new HashSet<>();
+        for (ClinicalTrial trial : trials) {
+            if (takenTrialIds.contains(trial.getTrialId()) || !seen.add(trial.getTrialId())) {
+                return trial.getTrialId();
+            }
+        }
+        return null;
+    }
+
+    private void validatePageSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidCompetitorDataException("size", "must be between 1 and " + MAX_PAGE_SIZE);
+        }
     }
 
     private void validateCompetitor(Competitor competitor) {
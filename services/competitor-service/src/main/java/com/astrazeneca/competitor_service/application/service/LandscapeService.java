@@ -0,0 +1,43 @@
+package com.astrazeneca.competitor_service.application.service;
+
+import com.astrazeneca.competitor_service.domain.exception.InvalidLandscapeQueryException;
+import com.astrazeneca.competitor_service.domain.model.LandscapeDimension;
+import com.astrazeneca.competitor_service.domain.model.LandscapeQuery;
+import com.astrazeneca.competitor_service.domain.model.LandscapeResult;
+import com.astrazeneca.competitor_service.domain.ports.in.GetLandscapeUseCase;
+import com.astrazeneca.competitor_service.domain.ports.out.CompetitorLandscapePort;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumSet;
+
+/**
+ * Application Service - Implements Use Case (Input Port)
+ * Answers landscape roll-ups from the landscape port without reading competitors
+ */
+@Service
+public class LandscapeService implements GetLandscapeUseCase {
+
+    private final CompetitorLandscapePort competitorLandscapePort;
+
+    public LandscapeService(CompetitorLandscapePort competitorLandscapePort) {
+        this.competitorLandscapePort = competitorLandscapePort;
+    }
+
+    @Override
+    public LandscapeResult getLandscape(LandscapeQuery query) {
+        if (query == null) {
+            throw new InvalidLandscapeQueryException("query", "must not be null");
+        }
+        if (query.getGroupBy() == null) {
+            query.setGroupBy(EnumSet.noneOf(LandscapeDimension.class));
+        }
+        query.setTherapeuticArea(blankToNull(query.getTherapeuticArea()));
+        query.setPhase(blankToNull(query.getPhase()));
+        query.setStatus(blankToNull(query.getStatus()));
+        return competitorLandscapePort.aggregate(query);
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+}
@@ -0,0 +1,12 @@
+package com.astrazeneca.competitor_service.domain.exception;
+
+/**
+ * Exception thrown when no clinical trial has the requested registry trial id
+ * Domain Layer - Pure Java (No framework dependencies)
+ */
+public class ClinicalTrialNotFoundException extends DomainException {
+
+    public ClinicalTrialNotFoundException(String trialId) {
+        super("Clinical trial not found with trialId: " + trialId);
+    }
+}
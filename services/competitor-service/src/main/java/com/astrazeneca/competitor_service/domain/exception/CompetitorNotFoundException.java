@@ -7,7 +7,7 @@ package com.astrazeneca.competitor_service.domain.exception;
 public class CompetitorNotFoundException extends DomainException {
 
     public CompetitorNotFoundException(Long id) {
-        super("Competitor not found with id: " + id);
+        super("Competitor not found with id: " + id, false);
     }
 
     public CompetitorNotFoundException(String message) {
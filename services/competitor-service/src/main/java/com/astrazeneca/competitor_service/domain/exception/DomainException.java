@@ -13,5 +13,13 @@ public abstract class DomainException extends RuntimeException {
     public DomainException(String message, Throwable cause) {
         super(message, cause);
     }
+
+    /**
+     * For expected outcomes such as a missing id, which are answered as a status code and
+     * never logged with a trace: skipping stack capture keeps a burst of them cheap.
+     */
+    protected DomainException(String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+    }
 }
 
@@ -0,0 +1,12 @@
+package com.astrazeneca.competitor_service.domain.exception;
+
+/**
+ * Exception thrown when a clinical trial's registry trial id is already taken
+ * Domain Layer - Pure Java (No framework dependencies)
+ */
+public class DuplicateClinicalTrialException extends DomainException {
+
+    public DuplicateClinicalTrialException(String trialId) {
+        super("Clinical trial already exists with trialId: " + trialId);
+    }
+}
@@ -0,0 +1,12 @@
+package com.astrazeneca.competitor_service.domain.exception;
+
+/**
+ * Exception thrown when a landscape aggregation query is malformed
+ * Domain Layer - Pure Java (No framework dependencies)
+ */
+public class InvalidLandscapeQueryException extends DomainException {
+
+    public InvalidLandscapeQueryException(String field, String reason) {
+        super("Invalid landscape query - " + field + ": " + reason);
+    }
+}
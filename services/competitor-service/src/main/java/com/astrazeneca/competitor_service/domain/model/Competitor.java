@@ -21,6 +21,16 @@ public class Competitor {
     private String headquarters;
     private List<ClinicalTrial> clinicalTrials = new ArrayList<>();
 
+    /**
+     * Changes whenever the competitor or any of its trials is written; null until first stored
+     */
+    private Long version;
+
+    public Competitor(Long id, String name, List<String> therapeuticAreas, String headquarters,
+                      List<ClinicalTrial> clinicalTrials) {
+        this(id, name, therapeuticAreas, headquarters, clinicalTrials, null);
+    }
+
     /**
      * Business logic: Add a clinical trial to this competitor
      */
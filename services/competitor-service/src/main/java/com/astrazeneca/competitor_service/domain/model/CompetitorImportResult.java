@@ -0,0 +1,46 @@
+package com.astrazeneca.competitor_service.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Domain Model - Pure Java (No framework dependencies)
+ * Outcome of a bulk competitor / clinical trial import run
+ */
+@Data
+@NoArgsConstructor
+public class CompetitorImportResult {
+
+    /**
+     * Upper bound on failure details kept in memory; further failures are only counted
+     */
+    public static final int MAX_REPORTED_FAILURES = 1000;
+
+    private long received;
+    private long competitorsCreated;
+    private long trialsAdded;
+    private long failed;
+    private List<ImportFailure> failures = new ArrayList<>();
+
+    public void recordFailure(long record, String message) {
+        failed++;
+        if (failures.size() < MAX_REPORTED_FAILURES) {
+            failures.add(new ImportFailure(record, message));
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ImportFailure {
+        /**
+         * Zero-based position of the record in the submitted stream
+         */
+        private long record;
+        private String message;
+    }
+}
@@ -0,0 +1,28 @@
+package com.astrazeneca.competitor_service.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Domain Model - Pure Java (No framework dependencies)
+ * One keyset page of competitors ordered by id
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompetitorPage {
+    private List<Competitor> competitors = new ArrayList<>();
+
+    /**
+     * Id of the last competitor on this page when more rows follow, otherwise null
+     */
+    private Long nextCursor;
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,23 @@
+package com.astrazeneca.competitor_service.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Domain Model - Pure Java (No framework dependencies)
+ * Read view of a competitor that carries the number of its clinical trials instead of the trials
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompetitorSummary {
+    private Long id;
+    private String name;
+    private String headquarters;
+    private List<String> therapeuticAreas = new ArrayList<>();
+    private long trialCount;
+}
@@ -0,0 +1,17 @@
+package com.astrazeneca.competitor_service.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Domain Model - Pure Java (No framework dependencies)
+ * A clinical trial together with the competitor that runs it
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompetitorTrial {
+    private Long competitorId;
+    private ClinicalTrial trial;
+}
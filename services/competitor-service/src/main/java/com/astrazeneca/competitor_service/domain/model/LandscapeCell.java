@@ -0,0 +1,21 @@
+package com.astrazeneca.competitor_service.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Domain Model - Pure Java (No framework dependencies)
+ * Number of trials sharing one combination of the grouped dimensions; dimensions that
+ * were not grouped by are null
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LandscapeCell {
+    private Long competitorId;
+    private String therapeuticArea;
+    private String phase;
+    private String status;
+    private long trials;
+}
@@ -0,0 +1,38 @@
+package com.astrazeneca.competitor_service.domain.model;
+
+import com.astrazeneca.competitor_service.domain.exception.InvalidLandscapeQueryException;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * Domain Model - Pure Java (No framework dependencies)
+ * Axes of the competitor landscape along which trial counts can be grouped or sliced
+ */
+public enum LandscapeDimension {
+
+    COMPETITOR("competitor"),
+    THERAPEUTIC_AREA("area"),
+    PHASE("phase"),
+    STATUS("status");
+
+    private final String parameter;
+
+    LandscapeDimension(String parameter) {
+        this.parameter = parameter;
+    }
+
+    public String getParameter() {
+        return parameter;
+    }
+
+    public static LandscapeDimension fromParameter(String parameter) {
+        for (LandscapeDimension dimension : values()) {
+            if (parameter != null && dimension.parameter.equalsIgnoreCase(parameter.trim())) {
+                return dimension;
+            }
+        }
+        throw new InvalidLandscapeQueryException("groupBy", "unknown dimension '" + parameter + "', expected one of "
+                + Arrays.stream(values()).map(LandscapeDimension::getParameter).collect(Collectors.joining(", ")));
+    }
+}
@@ -0,0 +1,24 @@
+package com.astrazeneca.competitor_service.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Domain Model - Pure Java (No framework dependencies)
+ * Dimensions to group trial counts by, and optional values to slice each dimension to.
+ * A null filter leaves its dimension unrestricted.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LandscapeQuery {
+    private Set<LandscapeDimension> groupBy = EnumSet.noneOf(LandscapeDimension.class);
+    private Long competitorId;
+    private String therapeuticArea;
+    private String phase;
+    private String status;
+}
@@ -0,0 +1,22 @@
+package com.astrazeneca.competitor_service.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Domain Model - Pure Java (No framework dependencies)
+ * Trial counts per group plus the number of distinct trials in the slice. A trial is
+ * counted in every therapeutic area of its competitor, so cells grouped by area may add
+ * up to more than {@code totalTrials}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LandscapeResult {
+    private List<LandscapeCell> cells = new ArrayList<>();
+    private long totalTrials;
+}
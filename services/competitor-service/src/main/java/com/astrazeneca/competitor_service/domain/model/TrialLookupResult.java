@@ -0,0 +1,20 @@
+package com.astrazeneca.competitor_service.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Domain Model - Pure Java (No framework dependencies)
+ * Trials found for a batch of registry trial ids, in request order, plus the ids that matched nothing
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrialLookupResult {
+    private List<CompetitorTrial> trials = new ArrayList<>();
+    private List<String> notFound = new ArrayList<>();
+}
@@ -0,0 +1,20 @@
+package com.astrazeneca.competitor_service.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Domain Model - Pure Java (No framework dependencies)
+ * First matches of a clinical trial search plus the number of trials that matched in total
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrialSearchResult {
+    private List<CompetitorTrial> trials = new ArrayList<>();
+    private long totalMatches;
+}
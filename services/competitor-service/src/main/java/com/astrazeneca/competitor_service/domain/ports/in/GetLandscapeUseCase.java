@@ -0,0 +1,17 @@
+package com.astrazeneca.competitor_service.domain.ports.in;
+
+import com.astrazeneca.competitor_service.domain.model.LandscapeQuery;
+import com.astrazeneca.competitor_service.domain.model.LandscapeResult;
+
+/**
+ * Input Port - Defines use cases for aggregate views of the competitor landscape
+ * Application layer implements this interface
+ */
+public interface GetLandscapeUseCase {
+
+    /**
+     * Counts trials grouped by the query's dimensions, restricted to its filters.
+     * Grouping by nothing returns a single cell holding the slice total.
+     */
+    LandscapeResult getLandscape(LandscapeQuery query);
+}
@@ -0,0 +1,23 @@
+package com.astrazeneca.competitor_service.domain.ports.in;
+
+import com.astrazeneca.competitor_service.domain.model.CompetitorTrial;
+import com.astrazeneca.competitor_service.domain.model.TrialLookupResult;
+
+import java.util.List;
+
+/**
+ * Input Port - Defines use cases for resolving clinical trials by registry trial id
+ * Application layer implements this interface
+ */
+public interface LookupClinicalTrialsUseCase {
+
+    int MAX_LOOKUP_BATCH = 1000;
+
+    CompetitorTrial getTrialByTrialId(String trialId);
+
+    /**
+     * Resolves up to {@link #MAX_LOOKUP_BATCH} trial ids in one round trip. Found trials keep
+     * the order of first appearance in {@code trialIds}; unknown ids are listed separately.
+     */
+    TrialLookupResult getTrialsByTrialIds(List<String> trialIds);
+}
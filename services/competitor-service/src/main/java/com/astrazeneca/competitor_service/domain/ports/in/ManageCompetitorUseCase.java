@@ -2,7 +2,12 @@ package com.astrazeneca.competitor_service.domain.ports.in;
 
 import com.astrazeneca.competitor_service.domain.model.ClinicalTrial;
 import com.astrazeneca.competitor_service.domain.model.Competitor;
+import com.astrazeneca.competitor_service.domain.model.CompetitorImportResult;
+import com.astrazeneca.competitor_service.domain.model.CompetitorLookupResult;
+import com.astrazeneca.competitor_service.domain.model.CompetitorPage;
+import com.astrazeneca.competitor_service.domain.model.CompetitorSummaryPage;
 
+import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -11,12 +16,57 @@ import java.util.List;
  */
 public interface ManageCompetitorUseCase {
 
+    int DEFAULT_PAGE_SIZE = 20;
+
+    int MAX_PAGE_SIZE = 100;
+
+    int IMPORT_CHUNK_SIZE = 500;
+
+    int MAX_LOOKUP_BATCH = 1000;
+
     Competitor createCompetitor(Competitor competitor);
 
-    List<Competitor> getAllCompetitors();
+    /**
+     * Returns the page of competitors following {@code afterId} (keyset pagination on id).
+     * A null {@code afterId} starts from the first competitor.
+     */
+    CompetitorPage getCompetitors(Long afterId, int size);
+
+    /**
+     * Same page as {@link #getCompetitors}, with a trial count in place of each competitor's trials.
+     */
+    CompetitorSummaryPage getCompetitorSummaries(Long afterId, int size);
+
+    /**
+     * Resolves up to {@link #MAX_LOOKUP_BATCH} competitor ids to summaries in one round trip.
+     * Found summaries keep the order of first appearance in {@code ids}; unknown ids are listed separately.
+     */
+    CompetitorLookupResult getCompetitorSummariesByIds(List<Long> ids);
 
     Competitor getCompetitorById(Long id);
 
-    Competitor addClinicalTrialToCompetitor(Long competitorId, ClinicalTrial trial);
-}
+    /**
+     * Returns the competitor's current version without loading the aggregate.
+     */
+    long getCompetitorVersion(Long id);
+
+    /**
+     * Returns a token that changes whenever any competitor or trial is written. Read it
+     * before the data it describes, so a concurrent write can only make it older, never newer.
+     */
+    String getCompetitorsVersion();
 
+    /**
+     * Appends a clinical trial to an existing competitor and returns the stored trial.
+     */
+    ClinicalTrial addClinicalTrialToCompetitor(Long competitorId, ClinicalTrial trial);
+
+    /**
+     * Bulk-imports a stream of records, committing every {@link #IMPORT_CHUNK_SIZE} records.
+     * A record without id creates a new competitor together with its trials; a record with
+     * an id appends its trials to that existing competitor. Invalid records are reported in
+     * the result and skipped without aborting the run. The iterator may throw a
+     * {@code DomainException} from {@code next()} to report an unreadable record.
+     */
+    CompetitorImportResult importCompetitors(Iterator<Competitor> records);
+}
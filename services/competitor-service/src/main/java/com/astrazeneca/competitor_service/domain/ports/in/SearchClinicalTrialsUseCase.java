@@ -0,0 +1,20 @@
+package com.astrazeneca.competitor_service.domain.ports.in;
+
+import com.astrazeneca.competitor_service.domain.model.TrialSearchResult;
+
+/**
+ * Input Port - Defines use cases for finding clinical trials across all competitors
+ * Application layer implements this interface
+ */
+public interface SearchClinicalTrialsUseCase {
+
+    int DEFAULT_SEARCH_LIMIT = 20;
+
+    int MAX_SEARCH_LIMIT = 100;
+
+    /**
+     * Finds trials whose name or indication contains every word of {@code query}.
+     * Matching is case-insensitive and on whole words.
+     */
+    TrialSearchResult searchTrials(String query, int limit);
+}
@@ -0,0 +1,27 @@
+package com.astrazeneca.competitor_service.domain.ports.out;
+
+import com.astrazeneca.competitor_service.domain.model.CompetitorTrial;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Output Port - Defines persistence lookups of clinical trials by registry trial id
+ * Infrastructure layer implements this interface
+ */
+public interface ClinicalTrialRepositoryPort {
+
+    Optional<CompetitorTrial> findByTrialId(String trialId);
+
+    /**
+     * Returns the trials with any of the given ids, in no particular order, in one query.
+     */
+    List<CompetitorTrial> findByTrialIds(Collection<String> trialIds);
+
+    /**
+     * Returns the subset of {@code trialIds} already stored, in one query.
+     */
+    Set<String> findExistingTrialIds(Collection<String> trialIds);
+}
@@ -0,0 +1,25 @@
+package com.astrazeneca.competitor_service.domain.ports.out;
+
+import com.astrazeneca.competitor_service.domain.model.ClinicalTrial;
+import com.astrazeneca.competitor_service.domain.model.TrialSearchResult;
+
+import java.util.List;
+
+/**
+ * Output Port - Defines full-text search over clinical trial names and indications
+ * Infrastructure layer implements this interface
+ */
+public interface ClinicalTrialSearchPort {
+
+    /**
+     * Returns up to {@code limit} trials whose name or indication contains every word of
+     * {@code query}, ignoring case, in the order the trials were stored.
+     */
+    TrialSearchResult search(String query, int limit);
+
+    /**
+     * Makes newly stored trials searchable. Inside a transaction they become visible
+     * only once it commits.
+     */
+    void index(Long competitorId, List<ClinicalTrial> trials);
+}
@@ -0,0 +1,19 @@
+package com.astrazeneca.competitor_service.domain.ports.out;
+
+/**
+ * Output Port - Defines a version token for the competitor collection as a whole
+ * Infrastructure layer implements this interface
+ */
+public interface CollectionVersionPort {
+
+    /**
+     * Returns a token that differs from every earlier one once any competitor or trial
+     * write has committed. Read it before reading the data it describes.
+     */
+    String currentVersion();
+
+    /**
+     * Records a write. Inside a transaction the token changes only once it completes.
+     */
+    void recordChange();
+}
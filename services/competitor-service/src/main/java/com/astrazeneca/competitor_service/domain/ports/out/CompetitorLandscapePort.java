@@ -0,0 +1,32 @@
+package com.astrazeneca.competitor_service.domain.ports.out;
+
+import com.astrazeneca.competitor_service.domain.model.ClinicalTrial;
+import com.astrazeneca.competitor_service.domain.model.Competitor;
+import com.astrazeneca.competitor_service.domain.model.LandscapeQuery;
+import com.astrazeneca.competitor_service.domain.model.LandscapeResult;
+
+import java.util.List;
+
+/**
+ * Output Port - Defines trial counts by competitor, therapeutic area, phase and status
+ * Infrastructure layer implements this interface
+ */
+public interface CompetitorLandscapePort {
+
+    /**
+     * Counts the trials in the query's slice, grouped by its dimensions.
+     */
+    LandscapeResult aggregate(LandscapeQuery query);
+
+    /**
+     * Adds a newly stored competitor, its therapeutic areas and trials to the counts.
+     * Inside a transaction they are counted only once it commits.
+     */
+    void recordCompetitor(Competitor competitor);
+
+    /**
+     * Adds trials newly stored for an existing competitor to the counts.
+     * Inside a transaction they are counted only once it commits.
+     */
+    void recordTrials(Long competitorId, List<ClinicalTrial> trials);
+}
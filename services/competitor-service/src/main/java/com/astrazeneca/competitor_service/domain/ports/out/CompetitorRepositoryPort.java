@@ -0,0 +1,67 @@
+package com.astrazeneca.competitor_service.domain.ports.out;
+
+import com.astrazeneca.competitor_service.domain.model.ClinicalTrial;
+import com.astrazeneca.competitor_service.domain.model.Competitor;
+import com.astrazeneca.competitor_service.domain.model.CompetitorPage;
+import com.astrazeneca.competitor_service.domain.model.CompetitorSummary;
+import com.astrazeneca.competitor_service.domain.model.CompetitorSummaryPage;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Output Port - Defines persistence operations for competitors
+ * Infrastructure layer implements this interface
+ */
+public interface CompetitorRepositoryPort {
+
+    Competitor save(Competitor competitor);
+
+    List<Competitor> saveAll(List<Competitor> competitors);
+
+    Optional<Competitor> findById(Long id);
+
+    /**
+     * Reads only the competitor's version, without loading the aggregate.
+     */
+    Optional<Long> findVersion(Long id);
+
+    /**
+     * Keyset page ordered by id: returns at most {@code limit} competitors whose id
+     * is strictly greater than {@code afterId} (or from the start when null).
+     */
+    CompetitorPage findPage(Long afterId, int limit);
+
+    /**
+     * Same keyset page as {@link #findPage}, as summaries: trials are counted, never loaded.
+     */
+    CompetitorSummaryPage findSummaryPage(Long afterId, int limit);
+
+    /**
+     * Summaries of the competitors among {@code ids}, in no particular order; unknown ids are skipped.
+     */
+    List<CompetitorSummary> findSummariesByIds(Collection<Long> ids);
+
+    boolean existsById(Long id);
+
+    /**
+     * Returns the subset of {@code ids} that belong to existing competitors, in one query.
+     */
+    Set<Long> findExistingIds(Collection<Long> ids);
+
+    /**
+     * Appends a single clinical trial to an existing competitor without loading or
+     * re-writing the rest of the aggregate, and advances the competitor's version.
+     */
+    ClinicalTrial addClinicalTrial(Long competitorId, ClinicalTrial trial);
+
+    /**
+     * Appends trials to several existing competitors at once. Every trial is inserted before
+     * a single UPDATE advances each competitor's version by one, so the inserts go out in
+     * JDBC batches instead of being flushed one by one ahead of a per-trial version bump.
+     */
+    void addClinicalTrials(Map<Long, List<ClinicalTrial>> trialsByCompetitor);
+}
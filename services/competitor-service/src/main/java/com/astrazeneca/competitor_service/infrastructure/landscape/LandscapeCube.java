@@ -0,0 +1,282 @@
+package com.astrazeneca.competitor_service.infrastructure.landscape;
+
+import com.astrazeneca.competitor_service.domain.model.ClinicalTrial;
+import com.astrazeneca.competitor_service.domain.model.Competitor;
+import com.astrazeneca.competitor_service.domain.model.LandscapeCell;
+import com.astrazeneca.competitor_service.domain.model.LandscapeDimension;
+import com.astrazeneca.competitor_service.domain.model.LandscapeQuery;
+import com.astrazeneca.competitor_service.domain.model.LandscapeResult;
+import com.astrazeneca.competitor_service.domain.ports.out.CompetitorLandscapePort;
+import com.astrazeneca.competitor_service.infrastructure.persistence.repository.CompetitorAreaRow;
+import com.astrazeneca.competitor_service.infrastructure.persistence.repository.JpaClinicalTrialRepository;
+import com.astrazeneca.competitor_service.infrastructure.persistence.repository.JpaCompetitorRepository;
+import com.astrazeneca.competitor_service.infrastructure.persistence.repository.TrialCountRow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Landscape Adapter - Implements Output Port with an in-process counter cube
+ * Infrastructure Layer - Holds, per competitor, its therapeutic areas and the number of its
+ * trials in each (phase, status) pair. Loaded with two GROUP BY queries before the server
+ * accepts requests; afterwards each committed trial increments a single counter, and
+ * queries aggregate the counters without reading the database. Phases and statuses are
+ * counted case-insensitively and reported in the first spelling seen.
+ */
+@Slf4j
+@Component
+public class LandscapeCube implements CompetitorLandscapePort, SmartInitializingSingleton {
+
+    private static final Comparator<LandscapeCell> CELL_ORDER = Comparator
+            .comparingLong(LandscapeCell::getTrials).reversed()
+            .thenComparing(LandscapeCell::getCompetitorId, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(LandscapeCell::getTherapeuticArea, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(LandscapeCell::getPhase, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(LandscapeCell::getStatus, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private final JpaCompetitorRepository jpaCompetitorRepository;
+    private final JpaClinicalTrialRepository jpaClinicalTrialRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final Map<Long, CompetitorCounts> competitors = new HashMap<>();
+    // Folded phase or status -> the spelling cells report it in
+    private final Map<String, String> labels = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public LandscapeCube(JpaCompetitorRepository jpaCompetitorRepository,
+                         JpaClinicalTrialRepository jpaClinicalTrialRepository,
+                         PlatformTransactionManager transactionManager) {
+        this.jpaCompetitorRepository = jpaCompetitorRepository;
+        this.jpaClinicalTrialRepository = jpaClinicalTrialRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        long started = System.nanoTime();
+        readOnlyTransaction.executeWithoutResult(status -> {
+            List<CompetitorAreaRow> areas = jpaCompetitorRepository.findAllTherapeuticAreaRows();
+            List<TrialCountRow> counts = jpaClinicalTrialRepository.countByCompetitorPhaseAndStatus();
+            lock.writeLock().lock();
+            try {
+                areas.forEach(row -> countsOf(row.competitorId()).areas.add(row.therapeuticArea()));
+                counts.forEach(row -> count(row.competitorId(), new PhaseStatus(row.phase(), row.status()),
+                        row.trials()));
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+        log.info("Loaded landscape counts for {} competitors in {} ms", competitors.size(),
+                (System.nanoTime() - started) / 1_000_000);
+    }
+
+    @Override
+    public LandscapeResult aggregate(LandscapeQuery query) {
+        Map<CellKey, Long> cells = new HashMap<>();
+        long total = 0;
+        lock.readLock().lock();
+        try {
+            if (query.getCompetitorId() != null) {
+                CompetitorCounts counts = competitors.get(query.getCompetitorId());
+                if (counts != null) {
+                    total = accumulate(query.getCompetitorId(), counts, query, cells);
+                }
+            } else {
+                for (Map.Entry<Long, CompetitorCounts> entry : competitors.entrySet()) {
+                    total += accumulate(entry.getKey(), entry.getValue(), query, cells);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        if (query.getGroupBy().isEmpty()) {
+            return new LandscapeResult(List.of(new LandscapeCell(null, null, null, null, total)), total);
+        }
+        List<LandscapeCell> result = new ArrayList<>(cells.size());
+        cells.forEach((key, trials) -> result.add(
+                new LandscapeCell(key.competitorId(), key.therapeuticArea(), key.phase(), key.status(), trials)));
+        result.sort(CELL_ORDER);
+        return new LandscapeResult(result, total);
+    }
+
+    @Override
+    public void recordCompetitor(Competitor competitor) {
+        Long competitorId = competitor.getId();
+        List<String> areas = competitor.getTherapeuticAreas() == null ? List.of()
+                : competitor.getTherapeuticAreas().stream().filter(Objects::nonNull).toList();
+        List<PhaseStatus> trials = snapshot(competitor.getClinicalTrials());
+        afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                countsOf(competitorId).areas.addAll(areas);
+                trials.forEach(trial -> count(competitorId, trial, 1));
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    @Override
+    public void recordTrials(Long competitorId, List<ClinicalTrial> trials) {
+        List<PhaseStatus> snapshot = snapshot(trials);
+        if (snapshot.isEmpty()) {
+            return;
+        }
+        afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                snapshot.forEach(trial -> count(competitorId, trial, 1));
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * Adds one competitor's counters in the query's slice to {@code cells} and returns how
+     * many distinct trials matched. A trial lands in one cell per matching therapeutic area, or,
+     * when its competitor has no areas, in a cell without one, so grouping by area loses no trials.
+     * Caller holds the read lock.
+     */
+    private long accumulate(Long competitorId, CompetitorCounts counts, LandscapeQuery query,
+                            Map<CellKey, Long> cells) {
+        Set<LandscapeDimension> groupBy = query.getGroupBy();
+        List<String> areas = new ArrayList<>(counts.areas.size());
+        for (String area : counts.areas) {
+            if (matches(query.getTherapeuticArea(), area)) {
+                areas.add(area);
+            }
+        }
+        if (query.getTherapeuticArea() != null && areas.isEmpty()) {
+            return 0;
+        }
+
+        PhaseStatus slice = new PhaseStatus(query.getPhase(), query.getStatus());
+        long total = 0;
+        for (Map.Entry<PhaseStatus, Long> entry : counts.trials.entrySet()) {
+            PhaseStatus key = entry.getKey();
+            if (!slice.contains(key)) {
+                continue;
+            }
+            long trials = entry.getValue();
+            total += trials;
+            if (groupBy.isEmpty()) {
+                continue;
+            }
+            Long competitor = groupBy.contains(LandscapeDimension.COMPETITOR) ? competitorId : null;
+            String phase = groupBy.contains(LandscapeDimension.PHASE) ? labels.get(key.phase()) : null;
+            String status = groupBy.contains(LandscapeDimension.STATUS) ? labels.get(key.status()) : null;
+            if (groupBy.contains(LandscapeDimension.THERAPEUTIC_AREA) && !areas.isEmpty()) {
+                for (String area : areas) {
+                    cells.merge(new CellKey(competitor, area, phase, status), trials, Long::sum);
+                }
+            } else {
+                cells.merge(new CellKey(competitor, null, phase, status), trials, Long::sum);
+            }
+        }
+        return total;
+    }
+
+    private static boolean matches(String filter, String value) {
+        return filter == null || filter.equalsIgnoreCase(value);
+    }
+
+    private static List<PhaseStatus> snapshot(List<ClinicalTrial> trials) {
+        if (trials == null) {
+            return List.of();
+        }
+        return trials.stream().map(trial -> new PhaseStatus(trial.getPhase(), trial.getStatus())).toList();
+    }
+
+    // Caller holds the write lock
+    private CompetitorCounts countsOf(Long competitorId) {
+        return competitors.computeIfAbsent(competitorId, id -> new CompetitorCounts());
+    }
+
+    // Caller holds the write lock
+    private void count(Long competitorId, PhaseStatus trial, long trials) {
+        if (trial.phase() != null) {
+            labels.putIfAbsent(trial.phase(), trial.phaseLabel());
+        }
+        if (trial.status() != null) {
+            labels.putIfAbsent(trial.status(), trial.statusLabel());
+        }
+        countsOf(competitorId).trials.merge(trial, trials, Long::sum);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * A phase and status folded to one spelling (trimmed, lower case), so that counting, grouping
+     * and slicing treat "Phase III" and "phase iii " alike. The spellings as given are kept only to
+     * label cells and take no part in equality.
+     */
+    private record PhaseStatus(String phase, String status, String phaseLabel, String statusLabel) {
+
+        PhaseStatus(String phase, String status) {
+            this(fold(phase), fold(status), trim(phase), trim(status));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof PhaseStatus that
+                    && Objects.equals(phase, that.phase) && Objects.equals(status, that.status);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(phase, status);
+        }
+
+        // As a slice, null components leave their dimension unrestricted
+        boolean contains(PhaseStatus trial) {
+            return (phase == null || phase.equals(trial.phase)) && (status == null || status.equals(trial.status));
+        }
+
+        private static String fold(String value) {
+            return value == null ? null : value.strip().toLowerCase(Locale.ROOT);
+        }
+
+        private static String trim(String value) {
+            return value == null ? null : value.strip();
+        }
+    }
+
+    // Values of the grouped dimensions; null for dimensions not grouped by
+    private record CellKey(Long competitorId, String therapeuticArea, String phase, String status) {
+    }
+
+    private static final class CompetitorCounts {
+
+        private final Set<String> areas = new LinkedHashSet<>();
+        private final Map<PhaseStatus, Long> trials = new HashMap<>();
+    }
+}
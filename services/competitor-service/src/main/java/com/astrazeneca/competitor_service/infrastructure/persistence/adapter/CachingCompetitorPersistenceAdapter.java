@@ -0,0 +1,162 @@
+package com.astrazeneca.competitor_service.infrastructure.persistence.adapter;
+
+import com.astrazeneca.competitor_service.domain.model.ClinicalTrial;
+import com.astrazeneca.competitor_service.domain.model.Competitor;
+import com.astrazeneca.competitor_service.domain.model.CompetitorPage;
+import com.astrazeneca.competitor_service.domain.model.CompetitorSummary;
+import com.astrazeneca.competitor_service.domain.model.CompetitorSummaryPage;
+import com.astrazeneca.competitor_service.domain.ports.out.CompetitorRepositoryPort;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Caching Decorator - Implements Output Port on top of {@link CompetitorPersistenceAdapter}
+ * Infrastructure Layer - Keeps a bounded, TTL-limited map of mapped Competitor aggregates
+ * so repeated lookups by id skip the fetch-join query and the entity mapping.
+ * Writes evict the affected ids both immediately and again after commit, so a reader
+ * racing an open transaction cannot leave a stale aggregate behind.
+ */
+@Primary
+@Component
+public class CachingCompetitorPersistenceAdapter implements CompetitorRepositoryPort {
+
+    static final String CACHE_NAME = "competitors";
+
+    private final CompetitorRepositoryPort delegate;
+    private final Cache<Long, Competitor> cache;
+
+    @Autowired
+    public CachingCompetitorPersistenceAdapter(CompetitorPersistenceAdapter delegate,
+                                               MeterRegistry meterRegistry,
+                                               @Value("${competitor.cache.maximum-size:10000}") long maximumSize,
+                                               @Value("${competitor.cache.ttl:10m}") Duration ttl) {
+        this(delegate, meterRegistry, maximumSize, ttl, Ticker.systemTicker());
+    }
+
+    CachingCompetitorPersistenceAdapter(CompetitorRepositoryPort delegate, MeterRegistry meterRegistry,
+                                        long maximumSize, Duration ttl, Ticker ticker) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        // Exposes cache.gets{result=hit|miss}, cache.evictions, cache.size, ... under /actuator/metrics
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    @Override
+    public Optional<Competitor> findById(Long id) {
+        Competitor cached = cache.getIfPresent(id);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        // Misses are not cached, so unknown ids always reach the database
+        Optional<Competitor> loaded = delegate.findById(id).map(CachingCompetitorPersistenceAdapter::readOnlyCopy);
+        loaded.ifPresent(competitor -> cache.put(id, competitor));
+        return loaded;
+    }
+
+    @Override
+    public Optional<Long> findVersion(Long id) {
+        Competitor cached = cache.getIfPresent(id);
+        if (cached != null) {
+            return Optional.of(cached.getVersion());
+        }
+        return delegate.findVersion(id);
+    }
+
+    @Override
+    public Competitor save(Competitor competitor) {
+        Competitor saved = delegate.save(competitor);
+        evict(List.of(saved.getId()));
+        return saved;
+    }
+
+    @Override
+    public List<Competitor> saveAll(List<Competitor> competitors) {
+        List<Competitor> saved = delegate.saveAll(competitors);
+        evict(saved.stream().map(Competitor::getId).toList());
+        return saved;
+    }
+
+    @Override
+    public ClinicalTrial addClinicalTrial(Long competitorId, ClinicalTrial trial) {
+        ClinicalTrial added = delegate.addClinicalTrial(competitorId, trial);
+        evict(List.of(competitorId));
+        return added;
+    }
+
+    @Override
+    public void addClinicalTrials(Map<Long, List<ClinicalTrial>> trialsByCompetitor) {
+        delegate.addClinicalTrials(trialsByCompetitor);
+        evict(trialsByCompetitor.keySet());
+    }
+
+    @Override
+    public CompetitorPage findPage(Long afterId, int limit) {
+        return delegate.findPage(afterId, limit);
+    }
+
+    @Override
+    public CompetitorSummaryPage findSummaryPage(Long afterId, int limit) {
+        return delegate.findSummaryPage(afterId, limit);
+    }
+
+    @Override
+    public List<CompetitorSummary> findSummariesByIds(Collection<Long> ids) {
+        return delegate.findSummariesByIds(ids);
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return delegate.existsById(id);
+    }
+
+    @Override
+    public Set<Long> findExistingIds(Collection<Long> ids) {
+        return delegate.findExistingIds(ids);
+    }
+
+    private void evict(Collection<Long> ids) {
+        cache.invalidateAll(ids);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidateAll(ids);
+                }
+            });
+        }
+    }
+
+    /**
+     * Cached instances are shared between requests, so their collections are frozen.
+     */
+    private static Competitor readOnlyCopy(Competitor competitor) {
+        return new Competitor(
+                competitor.getId(),
+                competitor.getName(),
+                competitor.getTherapeuticAreas() != null ? List.copyOf(competitor.getTherapeuticAreas()) : List.of(),
+                competitor.getHeadquarters(),
+                competitor.getClinicalTrials() != null ? List.copyOf(competitor.getClinicalTrials()) : List.of(),
+                competitor.getVersion());
+    }
+}
@@ -0,0 +1,54 @@
+package com.astrazeneca.competitor_service.infrastructure.persistence.adapter;
+
+import com.astrazeneca.competitor_service.domain.model.CompetitorTrial;
+import com.astrazeneca.competitor_service.domain.ports.out.ClinicalTrialRepositoryPort;
+import com.astrazeneca.competitor_service.infrastructure.persistence.mapper.PersistenceMapper;
+import com.astrazeneca.competitor_service.infrastructure.persistence.repository.JpaClinicalTrialRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Persistence Adapter - Implements Output Port (Domain Repository Interface)
+ * Infrastructure Layer - Resolves trials through the unique index on trial_id and reads
+ * projections, so no competitor aggregate is loaded
+ */
+@Component
+public class ClinicalTrialPersistenceAdapter implements ClinicalTrialRepositoryPort {
+
+    private final JpaClinicalTrialRepository jpaClinicalTrialRepository;
+    private final PersistenceMapper persistenceMapper;
+
+    public ClinicalTrialPersistenceAdapter(JpaClinicalTrialRepository jpaClinicalTrialRepository,
+                                           PersistenceMapper persistenceMapper) {
+        this.jpaClinicalTrialRepository = jpaClinicalTrialRepository;
+        this.persistenceMapper = persistenceMapper;
+    }
+
+    @Override
+    public Optional<CompetitorTrial> findByTrialId(String trialId) {
+        return jpaClinicalTrialRepository.findRowByTrialId(trialId)
+                .map(persistenceMapper::toDomain);
+    }
+
+    @Override
+    public List<CompetitorTrial> findByTrialIds(Collection<String> trialIds) {
+        if (trialIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaClinicalTrialRepository.findRowsByTrialIdIn(trialIds).stream()
+                .map(persistenceMapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public Set<String> findExistingTrialIds(Collection<String> trialIds) {
+        if (trialIds.isEmpty()) {
+            return Set.of();
+        }
+        return jpaClinicalTrialRepository.findTrialIdsByTrialIdIn(trialIds);
+    }
+}
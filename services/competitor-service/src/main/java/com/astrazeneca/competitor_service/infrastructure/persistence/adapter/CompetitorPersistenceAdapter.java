@@ -1,53 +1,213 @@
 package com.astrazeneca.competitor_service.infrastructure.persistence.adapter;
 
+import com.astrazeneca.competitor_service.domain.model.ClinicalTrial;
 import com.astrazeneca.competitor_service.domain.model.Competitor;
+import com.astrazeneca.competitor_service.domain.model.CompetitorPage;
+import com.astrazeneca.competitor_service.domain.model.CompetitorSummary;
+import com.astrazeneca.competitor_service.domain.model.CompetitorSummaryPage;
 import com.astrazeneca.competitor_service.domain.ports.out.CompetitorRepositoryPort;
+import com.astrazeneca.competitor_service.infrastructure.persistence.entity.ClinicalTrialEntity;
 import com.astrazeneca.competitor_service.infrastructure.persistence.entity.CompetitorEntity;
+import com.astrazeneca.competitor_service.infrastructure.persistence.filter.KnownCompetitorIds;
 import com.astrazeneca.competitor_service.infrastructure.persistence.mapper.PersistenceMapper;
+import com.astrazeneca.competitor_service.infrastructure.persistence.repository.CompetitorAreaRow;
+import com.astrazeneca.competitor_service.infrastructure.persistence.repository.CompetitorSummaryRow;
+import com.astrazeneca.competitor_service.infrastructure.persistence.repository.JpaClinicalTrialRepository;
 import com.astrazeneca.competitor_service.infrastructure.persistence.repository.JpaCompetitorRepository;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Persistence Adapter - Implements Output Port (Domain Repository Interface)
- * Infrastructure Layer - Adapts JPA to Domain needs
+ * Infrastructure Layer - Adapts JPA to Domain needs. Lookups by id consult
+ * {@link KnownCompetitorIds} first, so ids that were never stored cost no query.
  */
 @Component
 public class CompetitorPersistenceAdapter implements CompetitorRepositoryPort {
 
     private final JpaCompetitorRepository jpaCompetitorRepository;
+    private final JpaClinicalTrialRepository jpaClinicalTrialRepository;
     private final PersistenceMapper persistenceMapper;
+    private final KnownCompetitorIds knownCompetitorIds;
 
     public CompetitorPersistenceAdapter(JpaCompetitorRepository jpaCompetitorRepository,
-                                       PersistenceMapper persistenceMapper) {
+                                       JpaClinicalTrialRepository jpaClinicalTrialRepository,
+                                       PersistenceMapper persistenceMapper,
+                                       KnownCompetitorIds knownCompetitorIds) {
         this.jpaCompetitorRepository = jpaCompetitorRepository;
+        this.jpaClinicalTrialRepository = jpaClinicalTrialRepository;
         this.persistenceMapper = persistenceMapper;
+        this.knownCompetitorIds = knownCompetitorIds;
     }
 
     @Override
     public Competitor save(Competitor competitor) {
         CompetitorEntity entity = persistenceMapper.toEntity(competitor);
         CompetitorEntity savedEntity = jpaCompetitorRepository.save(entity);
+        knownCompetitorIds.add(savedEntity.getId());
         return persistenceMapper.toDomain(savedEntity);
     }
 
+    @Override
+    public List<Competitor> saveAll(List<Competitor> competitors) {
+        List<CompetitorEntity> entities = competitors.stream()
+                .map(persistenceMapper::toEntity)
+                .toList();
+        List<CompetitorEntity> savedEntities = jpaCompetitorRepository.saveAll(entities);
+        savedEntities.forEach(saved -> knownCompetitorIds.add(saved.getId()));
+        return persistenceMapper.toDomainList(savedEntities);
+    }
+
     @Override
     public Optional<Competitor> findById(Long id) {
-        return jpaCompetitorRepository.findByIdWithTrials(id)
+        if (!knownCompetitorIds.mightExist(id)) {
+            return Optional.empty();
+        }
+        Optional<Competitor> competitor = jpaCompetitorRepository.findByIdWithTrials(id)
                 .map(persistenceMapper::toDomain);
+        if (competitor.isEmpty()) {
+            knownCompetitorIds.recordFalsePositive();
+        }
+        return competitor;
+    }
+
+    @Override
+    public Optional<Long> findVersion(Long id) {
+        if (!knownCompetitorIds.mightExist(id)) {
+            return Optional.empty();
+        }
+        Optional<Long> version = jpaCompetitorRepository.findVersionById(id);
+        if (version.isEmpty()) {
+            knownCompetitorIds.recordFalsePositive();
+        }
+        return version;
+    }
+
+    @Override
+    public CompetitorPage findPage(Long afterId, int limit) {
+        // Fetch one extra row to learn whether another page follows without a COUNT query
+        List<CompetitorEntity> entities = jpaCompetitorRepository.findByIdGreaterThanOrderByIdAsc(
+                afterId != null ? afterId : 0L, Limit.of(limit + 1));
+
+        Long nextCursor = null;
+        if (entities.size() > limit) {
+            entities = entities.subList(0, limit);
+            nextCursor = entities.get(limit - 1).getId();
+        }
+        fetchCollections(entities);
+        return new CompetitorPage(persistenceMapper.toDomainList(entities), nextCursor);
+    }
+
+    @Override
+    public CompetitorSummaryPage findSummaryPage(Long afterId, int limit) {
+        // Two projection queries per page: rows with a correlated trial count, then the areas
+        List<CompetitorSummaryRow> rows = jpaCompetitorRepository.findSummaryRowsByIdGreaterThan(
+                afterId != null ? afterId : 0L, Limit.of(limit + 1));
+
+        Long nextCursor = null;
+        if (rows.size() > limit) {
+            rows = rows.subList(0, limit);
+            nextCursor = rows.get(limit - 1).id();
+        }
+        return new CompetitorSummaryPage(toSummaries(rows), nextCursor);
     }
 
     @Override
-    public List<Competitor> findAll() {
-        List<CompetitorEntity> entities = jpaCompetitorRepository.findAll();
-        return persistenceMapper.toDomainList(entities);
+    public List<CompetitorSummary> findSummariesByIds(Collection<Long> ids) {
+        List<Long> candidates = ids.stream().filter(knownCompetitorIds::mightExist).toList();
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+        // Same two projection queries as a summary page
+        return toSummaries(jpaCompetitorRepository.findSummaryRowsByIdIn(candidates));
+    }
+
+    private List<CompetitorSummary> toSummaries(List<CompetitorSummaryRow> rows) {
+        Map<Long, List<String>> areas = new HashMap<>();
+        if (!rows.isEmpty()) {
+            for (CompetitorAreaRow row : jpaCompetitorRepository.findTherapeuticAreaRowsByIdIn(
+                    rows.stream().map(CompetitorSummaryRow::id).toList())) {
+                areas.computeIfAbsent(row.competitorId(), id -> new ArrayList<>()).add(row.therapeuticArea());
+            }
+        }
+        return rows.stream()
+                .map(row -> new CompetitorSummary(row.id(), row.name(), row.headquarters(),
+                        areas.getOrDefault(row.id(), new ArrayList<>()), row.trialCount()))
+                .toList();
     }
 
     @Override
     public boolean existsById(Long id) {
-        return jpaCompetitorRepository.existsById(id);
+        if (!knownCompetitorIds.mightExist(id)) {
+            return false;
+        }
+        boolean exists = jpaCompetitorRepository.existsById(id);
+        if (!exists) {
+            knownCompetitorIds.recordFalsePositive();
+        }
+        return exists;
+    }
+
+    @Override
+    public Set<Long> findExistingIds(Collection<Long> ids) {
+        Set<Long> candidates = ids.stream().filter(knownCompetitorIds::mightExist).collect(Collectors.toSet());
+        if (candidates.isEmpty()) {
+            return Set.of();
+        }
+        return jpaCompetitorRepository.findIdsByIdIn(candidates);
+    }
+
+    @Override
+    public ClinicalTrial addClinicalTrial(Long competitorId, ClinicalTrial trial) {
+        ClinicalTrialEntity entity = persistenceMapper.toEntity(trial);
+        // Reference proxy only supplies the foreign key; the competitor row and its
+        // collections are never loaded, so the cost is one INSERT whatever the trial count
+        entity.setCompetitor(jpaCompetitorRepository.getReferenceById(competitorId));
+        ClinicalTrialEntity savedEntity = jpaClinicalTrialRepository.save(entity);
+        jpaCompetitorRepository.incrementVersion(competitorId);
+        return persistenceMapper.toDomain(savedEntity);
+    }
+
+    @Override
+    public void addClinicalTrials(Map<Long, List<ClinicalTrial>> trialsByCompetitor) {
+        if (trialsByCompetitor.isEmpty()) {
+            return;
+        }
+        List<ClinicalTrialEntity> entities = new ArrayList<>();
+        trialsByCompetitor.forEach((competitorId, trials) -> {
+            CompetitorEntity competitor = jpaCompetitorRepository.getReferenceById(competitorId);
+            for (ClinicalTrial trial : trials) {
+                ClinicalTrialEntity entity = persistenceMapper.toEntity(trial);
+                entity.setCompetitor(competitor);
+                entities.add(entity);
+            }
+        });
+        jpaClinicalTrialRepository.saveAll(entities);
+        // The bulk UPDATE flushes the queued INSERTs first, as full batches
+        jpaCompetitorRepository.incrementVersions(trialsByCompetitor.keySet());
+    }
+
+    /**
+     * Initializes both lazy collections of already-loaded competitors with one IN-clause
+     * query each, so mapping a list costs a constant number of statements instead of 1 + 2N.
+     * The fetched rows attach to the same managed instances in the persistence context.
+     */
+    private void fetchCollections(List<CompetitorEntity> entities) {
+        if (entities.isEmpty()) {
+            return;
+        }
+        List<Long> ids = entities.stream().map(CompetitorEntity::getId).toList();
+        jpaCompetitorRepository.fetchClinicalTrialsByIdIn(ids);
+        jpaCompetitorRepository.fetchTherapeuticAreasByIdIn(ids);
     }
 }
 
@@ -10,14 +10,18 @@ import lombok.NoArgsConstructor;
  * Contains JPA annotations for persistence
  */
 @Entity
-@Table(name = "clinical_trials")
+// Registry ids (e.g. NCT numbers) are unique; the constraint's index serves lookups by trial_id
+@Table(name = "clinical_trials",
+        uniqueConstraints = @UniqueConstraint(name = "uk_clinical_trials_trial_id", columnNames = "trial_id"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class ClinicalTrialEntity {
 
+    // Pooled sequence (not IDENTITY) so Hibernate can batch inserts
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "clinical_trials_seq")
+    @SequenceGenerator(name = "clinical_trials_seq", sequenceName = "clinical_trials_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "trial_id", nullable = false)
@@ -0,0 +1,94 @@
+package com.astrazeneca.competitor_service.infrastructure.persistence.filter;
+
+import com.astrazeneca.competitor_service.infrastructure.persistence.repository.JpaCompetitorRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Negative cache over stored competitor ids
+ * Infrastructure Layer - A Bloom filter loaded from an id-only scan before the server accepts
+ * requests and extended on every save, so lookups of ids that were never stored are answered
+ * without a query. Ids are added before commit: a rolled-back insert only leaves a false
+ * positive, whereas adding after commit would briefly report a committed id as absent.
+ */
+@Slf4j
+@Component
+public class KnownCompetitorIds implements SmartInitializingSingleton {
+
+    static final String FILTER_NAME = "competitors";
+
+    private final JpaCompetitorRepository jpaCompetitorRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final LongBloomFilter filter;
+    private final Counter skipped;
+    private final Counter queried;
+    private final Counter falsePositives;
+
+    public KnownCompetitorIds(JpaCompetitorRepository jpaCompetitorRepository,
+                              PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry,
+                              @Value("${competitor.id-filter.expected-insertions:1000000}") long expectedInsertions,
+                              @Value("${competitor.id-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.jpaCompetitorRepository = jpaCompetitorRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.filter = new LongBloomFilter(expectedInsertions, falsePositiveRate);
+        this.skipped = Counter.builder("id.filter.lookups").tag("filter", FILTER_NAME).tag("result", "skipped")
+                .description("Lookups of unknown ids answered without a database query")
+                .register(meterRegistry);
+        this.queried = Counter.builder("id.filter.lookups").tag("filter", FILTER_NAME).tag("result", "queried")
+                .description("Lookups the filter passed on to the database")
+                .register(meterRegistry);
+        this.falsePositives = Counter.builder("id.filter.false.positives").tag("filter", FILTER_NAME)
+                .description("Passed lookups for which the database found nothing")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        long started = System.nanoTime();
+        AtomicLong loaded = new AtomicLong();
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<Long> ids = jpaCompetitorRepository.streamAllIds()) {
+                ids.forEach(id -> {
+                    filter.add(id);
+                    loaded.incrementAndGet();
+                });
+            }
+        });
+        log.info("Loaded {} competitor ids into a {}-bit filter in {} ms", loaded.get(), filter.bitCount(),
+                (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /**
+     * False means the id was never stored; true means it may have been and the database decides.
+     */
+    public boolean mightExist(Long id) {
+        if (id == null || !filter.mightContain(id)) {
+            skipped.increment();
+            return false;
+        }
+        queried.increment();
+        return true;
+    }
+
+    public void add(Long id) {
+        filter.add(id);
+    }
+
+    /**
+     * Reports that a lookup passed by {@link #mightExist} found nothing.
+     */
+    public void recordFalsePositive() {
+        falsePositives.increment();
+    }
+}
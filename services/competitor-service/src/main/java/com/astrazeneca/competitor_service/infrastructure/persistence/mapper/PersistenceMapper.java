@@ -2,8 +2,10 @@ package com.astrazeneca.competitor_service.infrastructure.persistence.mapper;
 
 import com.astrazeneca.competitor_service.domain.model.ClinicalTrial;
 import com.astrazeneca.competitor_service.domain.model.Competitor;
+import com.astrazeneca.competitor_service.domain.model.CompetitorTrial;
 import com.astrazeneca.competitor_service.infrastructure.persistence.entity.ClinicalTrialEntity;
 import com.astrazeneca.competitor_service.infrastructure.persistence.entity.CompetitorEntity;
+import com.astrazeneca.competitor_service.infrastructure.persistence.repository.ClinicalTrialRow;
 import org.mapstruct.*;
 
 import java.util.List;
@@ -15,6 +17,7 @@ import java.util.List;
 @Mapper(componentModel = "spring")
 public interface PersistenceMapper {
 
+    @Mapping(target = "id", ignore = true)
     @Mapping(target = "competitor", ignore = true)
     ClinicalTrialEntity toEntity(ClinicalTrial clinicalTrial);
 
@@ -28,6 +31,11 @@ public interface PersistenceMapper {
 
     List<Competitor> toDomainList(List<CompetitorEntity> competitorEntities);
 
+    @Mapping(target = "trial", source = ".")
+    CompetitorTrial toDomain(ClinicalTrialRow row);
+
+    ClinicalTrial toClinicalTrial(ClinicalTrialRow row);
+
     @AfterMapping
     default void linkTrialsToCompetitor(@MappingTarget CompetitorEntity competitorEntity) {
         if (competitorEntity.getClinicalTrials() != null) {
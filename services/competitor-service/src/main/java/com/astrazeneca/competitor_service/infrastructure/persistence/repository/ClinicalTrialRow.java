@@ -0,0 +1,9 @@
+package com.astrazeneca.competitor_service.infrastructure.persistence.repository;
+
+/**
+ * Read-only projection of a clinical_trials row with its competitor id - Infrastructure Layer
+ * Selected through a constructor expression, so rows never enter the persistence context.
+ */
+public record ClinicalTrialRow(Long competitorId, String trialId, String name, String phase,
+                               String status, String indication) {
+}
@@ -0,0 +1,7 @@
+package com.astrazeneca.competitor_service.infrastructure.persistence.repository;
+
+/**
+ * Read-only projection of a competitor_therapeutic_areas row - Infrastructure Layer
+ */
+public record CompetitorAreaRow(Long competitorId, String therapeuticArea) {
+}
@@ -0,0 +1,8 @@
+package com.astrazeneca.competitor_service.infrastructure.persistence.repository;
+
+/**
+ * Read-only projection of a competitors row with the number of its clinical trials - Infrastructure Layer
+ * Selected through a constructor expression, so neither competitors nor trials enter the persistence context.
+ */
+public record CompetitorSummaryRow(Long id, String name, String headquarters, long trialCount) {
+}
@@ -0,0 +1,50 @@
+package com.astrazeneca.competitor_service.infrastructure.persistence.repository;
+
+import com.astrazeneca.competitor_service.infrastructure.persistence.entity.ClinicalTrialEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Spring Data JPA Repository - Infrastructure Layer
+ */
+@Repository
+public interface JpaClinicalTrialRepository extends JpaRepository<ClinicalTrialEntity, Long> {
+
+    /**
+     * Streams every trial in insertion order; must be consumed inside a transaction and closed.
+     */
+    @Query("SELECT new com.astrazeneca.competitor_service.infrastructure.persistence.repository.ClinicalTrialRow(" +
+            "t.competitor.id, t.trialId, t.name, t.phase, t.status, t.indication) " +
+            "FROM ClinicalTrialEntity t ORDER BY t.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<ClinicalTrialRow> streamAllRows();
+
+    @Query("SELECT new com.astrazeneca.competitor_service.infrastructure.persistence.repository.ClinicalTrialRow(" +
+            "t.competitor.id, t.trialId, t.name, t.phase, t.status, t.indication) " +
+            "FROM ClinicalTrialEntity t WHERE t.trialId = :trialId")
+    Optional<ClinicalTrialRow> findRowByTrialId(@Param("trialId") String trialId);
+
+    @Query("SELECT new com.astrazeneca.competitor_service.infrastructure.persistence.repository.ClinicalTrialRow(" +
+            "t.competitor.id, t.trialId, t.name, t.phase, t.status, t.indication) " +
+            "FROM ClinicalTrialEntity t WHERE t.trialId IN :trialIds")
+    List<ClinicalTrialRow> findRowsByTrialIdIn(@Param("trialIds") Collection<String> trialIds);
+
+    @Query("SELECT t.trialId FROM ClinicalTrialEntity t WHERE t.trialId IN :trialIds")
+    Set<String> findTrialIdsByTrialIdIn(@Param("trialIds") Collection<String> trialIds);
+
+    @Query("SELECT new com.astrazeneca.competitor_service.infrastructure.persistence.repository.TrialCountRow(" +
+            "t.competitor.id, t.phase, t.status, COUNT(t)) " +
+            "FROM ClinicalTrialEntity t GROUP BY t.competitor.id, t.phase, t.status")
+    List<TrialCountRow> countByCompetitorPhaseAndStatus();
+}
@@ -1,12 +1,22 @@
 package com.astrazeneca.competitor_service.infrastructure.persistence.repository;
 
 import com.astrazeneca.competitor_service.infrastructure.persistence.entity.CompetitorEntity;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 /**
  * Spring Data JPA Repository - Infrastructure Layer
@@ -16,5 +26,52 @@ public interface JpaCompetitorRepository extends JpaRepository<CompetitorEntity,
 
     @Query("SELECT c FROM CompetitorEntity c LEFT JOIN FETCH c.clinicalTrials WHERE c.id = :id")
     Optional<CompetitorEntity> findByIdWithTrials(@Param("id") Long id);
-}
 
+    List<CompetitorEntity> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    @Query("SELECT c.version FROM CompetitorEntity c WHERE c.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE CompetitorEntity c SET c.version = c.version + 1 WHERE c.id = :id")
+    int incrementVersion(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE CompetitorEntity c SET c.version = c.version + 1 WHERE c.id IN :ids")
+    int incrementVersions(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT c.id FROM CompetitorEntity c")
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    Stream<Long> streamAllIds();
+
+    @Query("SELECT c.id FROM CompetitorEntity c WHERE c.id IN :ids")
+    Set<Long> findIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // The two collections are fetched in separate statements: joining both at once would
+    // multiply rows (trials x areas) and Hibernate rejects fetching two bags together.
+    @Query("SELECT c FROM CompetitorEntity c LEFT JOIN FETCH c.clinicalTrials WHERE c.id IN :ids")
+    List<CompetitorEntity> fetchClinicalTrialsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT c FROM CompetitorEntity c LEFT JOIN FETCH c.therapeuticAreas WHERE c.id IN :ids")
+    List<CompetitorEntity> fetchTherapeuticAreasByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT new com.astrazeneca.competitor_service.infrastructure.persistence.repository.CompetitorAreaRow(" +
+            "c.id, a) FROM CompetitorEntity c JOIN c.therapeuticAreas a")
+    List<CompetitorAreaRow> findAllTherapeuticAreaRows();
+
+    @Query("SELECT new com.astrazeneca.competitor_service.infrastructure.persistence.repository.CompetitorSummaryRow(" +
+            "c.id, c.name, c.headquarters, " +
+            "(SELECT COUNT(t) FROM ClinicalTrialEntity t WHERE t.competitor.id = c.id)) " +
+            "FROM CompetitorEntity c WHERE c.id > :afterId ORDER BY c.id")
+    List<CompetitorSummaryRow> findSummaryRowsByIdGreaterThan(@Param("afterId") Long afterId, Limit limit);
+
+    @Query("SELECT new com.astrazeneca.competitor_service.infrastructure.persistence.repository.CompetitorSummaryRow(" +
+            "c.id, c.name, c.headquarters, " +
+            "(SELECT COUNT(t) FROM ClinicalTrialEntity t WHERE t.competitor.id = c.id)) " +
+            "FROM CompetitorEntity c WHERE c.id IN :ids")
+    List<CompetitorSummaryRow> findSummaryRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT new com.astrazeneca.competitor_service.infrastructure.persistence.repository.CompetitorAreaRow(" +
+            "c.id, a) FROM CompetitorEntity c JOIN c.therapeuticAreas a WHERE c.id IN :ids")
+    List<CompetitorAreaRow> findTherapeuticAreaRowsByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,7 @@
+package com.astrazeneca.competitor_service.infrastructure.persistence.repository;
+
+/**
+ * Read-only projection counting one competitor's trials in one phase and status - Infrastructure Layer
+ */
+public record TrialCountRow(Long competitorId, String phase, String status, long trials) {
+}
@@ -0,0 +1,209 @@
+package com.astrazeneca.competitor_service.infrastructure.search;
+
+import com.astrazeneca.competitor_service.domain.model.ClinicalTrial;
+import com.astrazeneca.competitor_service.domain.model.CompetitorTrial;
+import com.astrazeneca.competitor_service.domain.model.TrialSearchResult;
+import com.astrazeneca.competitor_service.domain.ports.out.ClinicalTrialSearchPort;
+import com.astrazeneca.competitor_service.infrastructure.persistence.repository.ClinicalTrialRow;
+import com.astrazeneca.competitor_service.infrastructure.persistence.repository.JpaClinicalTrialRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Search Adapter - Implements Output Port with an in-process inverted index
+ * Infrastructure Layer - Maps every word of a trial's name and indication to the sorted
+ * list of trials containing it, so a query intersects a few posting lists instead of
+ * scanning the clinical_trials table. Built from the table before the server accepts
+ * requests and extended after each commit that stores trials.
+ */
+@Slf4j
+@Component
+public class InvertedTrialIndex implements ClinicalTrialSearchPort, SmartInitializingSingleton {
+
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    private final JpaClinicalTrialRepository jpaClinicalTrialRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    // Trials by document number; posting lists hold document numbers in ascending order
+    private final List<CompetitorTrial> documents = new ArrayList<>();
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public InvertedTrialIndex(JpaClinicalTrialRepository jpaClinicalTrialRepository,
+                              PlatformTransactionManager transactionManager) {
+        this.jpaClinicalTrialRepository = jpaClinicalTrialRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        long started = System.nanoTime();
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<ClinicalTrialRow> rows = jpaClinicalTrialRepository.streamAllRows()) {
+                lock.writeLock().lock();
+                try {
+                    rows.forEach(row -> add(row.competitorId(), new ClinicalTrial(
+                            row.trialId(), row.name(), row.phase(), row.status(), row.indication())));
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+        });
+        log.info("Indexed {} clinical trials ({} terms) in {} ms", documents.size(), postings.size(),
+                (System.nanoTime() - started) / 1_000_000);
+    }
+
+    @Override
+    public TrialSearchResult search(String query, int limit) {
+        Set<String> terms = tokenize(query);
+        if (terms.isEmpty()) {
+            return new TrialSearchResult(List.of(), 0);
+        }
+        lock.readLock().lock();
+        try {
+            Postings[] lists = new Postings[terms.size()];
+            int i = 0;
+            for (String term : terms) {
+                Postings list = postings.get(term);
+                if (list == null) {
+                    return new TrialSearchResult(List.of(), 0);
+                }
+                lists[i++] = list;
+            }
+            // Walk the rarest term and probe the others, so the cost follows the smallest list
+            Arrays.sort(lists, Comparator.comparingInt(Postings::size));
+            List<CompetitorTrial> matches = new ArrayList<>(Math.min(limit, lists[0].size()));
+            long total = 0;
+            for (int p = 0; p < lists[0].size(); p++) {
+                int document = lists[0].get(p);
+                if (containsInAll(lists, document)) {
+                    total++;
+                    if (matches.size() < limit) {
+                        matches.add(documents.get(document));
+                    }
+                }
+            }
+            return new TrialSearchResult(matches, total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void index(Long competitorId, List<ClinicalTrial> trials) {
+        if (trials == null || trials.isEmpty()) {
+            return;
+        }
+        // Copies, so later changes to the caller's objects cannot reach the index
+        List<ClinicalTrial> snapshot = trials.stream()
+                .map(trial -> new ClinicalTrial(trial.getTrialId(), trial.getName(), trial.getPhase(),
+                        trial.getStatus(), trial.getIndication()))
+                .toList();
+        Runnable apply = () -> {
+            lock.writeLock().lock();
+            try {
+                snapshot.forEach(trial -> add(competitorId, trial));
+            } finally {
+                lock.writeLock().unlock();
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+        } else {
+            apply.run();
+        }
+    }
+
+    /**
+     * Lower-cases, strips accents and splits on anything that is not a letter or digit.
+     */
+    static Set<String> tokenize(String text) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (text == null) {
+            return terms;
+        }
+        String folded = COMBINING_MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFKD)).replaceAll("")
+                .toLowerCase(Locale.ROOT);
+        for (String term : NON_WORD.split(folded)) {
+            if (!term.isEmpty()) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    }
+
+    // Caller holds the write lock
+    private void add(Long competitorId, ClinicalTrial trial) {
+        int document = documents.size();
+        documents.add(new CompetitorTrial(competitorId, trial));
+        Set<String> terms = tokenize(trial.getName());
+        terms.addAll(tokenize(trial.getIndication()));
+        for (String term : terms) {
+            postings.computeIfAbsent(term, key -> new Postings()).add(document);
+        }
+    }
+
+    private static boolean containsInAll(Postings[] lists, int document) {
+        for (int i = 1; i < lists.length; i++) {
+            if (!lists[i].contains(document)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Growable, ascending array of document numbers.
+     */
+    private static final class Postings {
+
+        private int[] documents = new int[4];
+        private int size;
+
+        void add(int document) {
+            if (size == documents.length) {
+                documents = Arrays.copyOf(documents, size * 2);
+            }
+            documents[size++] = document;
+        }
+
+        int get(int index) {
+            return documents[index];
+        }
+
+        int size() {
+            return size;
+        }
+
+        boolean contains(int document) {
+            return Arrays.binarySearch(documents, 0, size, document) >= 0;
+        }
+    }
+}
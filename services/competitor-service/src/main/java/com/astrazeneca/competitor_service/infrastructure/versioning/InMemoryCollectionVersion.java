@@ -0,0 +1,13 @@
+package com.astrazeneca.competitor_service.infrastructure.versioning;
+
+import com.astrazeneca.competitor_service.domain.ports.out.CollectionVersionPort;
+import com.astrazeneca.servicekit.versioning.CollectionChangeCounter;
+import org.springframework.stereotype.Component;
+
+/**
+ * Collection Version Adapter - Implements Output Port with service-kit's in-process change counter
+ * Infrastructure Layer - Counts the competitor and trial writes of this instance
+ */
+@Component
+public class InMemoryCollectionVersion extends CollectionChangeCounter implements CollectionVersionPort {
+}
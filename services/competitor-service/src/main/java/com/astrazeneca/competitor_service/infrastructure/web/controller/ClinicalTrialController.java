@@ -0,0 +1,93 @@
+package com.astrazeneca.competitor_service.infrastructure.web.controller;
+
+import com.astrazeneca.competitor_service.domain.model.CompetitorTrial;
+import com.astrazeneca.competitor_service.domain.model.TrialLookupResult;
+import com.astrazeneca.competitor_service.domain.model.TrialSearchResult;
+import com.astrazeneca.competitor_service.domain.ports.in.LookupClinicalTrialsUseCase;
+import com.astrazeneca.competitor_service.domain.ports.in.SearchClinicalTrialsUseCase;
+import com.astrazeneca.competitor_service.infrastructure.web.dto.ErrorResponse;
+import com.astrazeneca.competitor_service.infrastructure.web.dto.TrialLookupRequest;
+import com.astrazeneca.competitor_service.infrastructure.web.dto.TrialLookupResponse;
+import com.astrazeneca.competitor_service.infrastructure.web.dto.TrialResponse;
+import com.astrazeneca.competitor_service.infrastructure.web.dto.TrialSearchResponse;
+import com.astrazeneca.competitor_service.infrastructure.web.mapper.WebMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST Controller - Infrastructure/Web Layer (Web Adapter)
+ * Exposes clinical trial queries that span all competitors
+ */
+@RestController
+@RequestMapping("/api/trials")
+@Tag(name = "Clinical Trials", description = "APIs for finding clinical trials across competitors")
+public class ClinicalTrialController {
+
+    private final SearchClinicalTrialsUseCase searchClinicalTrialsUseCase;
+    private final LookupClinicalTrialsUseCase lookupClinicalTrialsUseCase;
+    private final WebMapper webMapper;
+
+    public ClinicalTrialController(SearchClinicalTrialsUseCase searchClinicalTrialsUseCase,
+                                   LookupClinicalTrialsUseCase lookupClinicalTrialsUseCase,
+                                   WebMapper webMapper) {
+        this.searchClinicalTrialsUseCase = searchClinicalTrialsUseCase;
+        this.lookupClinicalTrialsUseCase = lookupClinicalTrialsUseCase;
+        this.webMapper = webMapper;
+    }
+
+    @GetMapping("/search")
+    @Operation(summary = "Search clinical trials", description = "Finds trials whose name or indication contains every " +
+            "word of the query. Matching ignores case and accents and works on whole words.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Matching trials",
+                content = @Content(schema = @Schema(implementation = TrialSearchResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Blank query or invalid limit",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<TrialSearchResponse> searchTrials(
+            @Parameter(description = "Words to match in the trial name or indication", example = "lung cancer")
+            @RequestParam("q") String query,
+            @Parameter(description = "Maximum number of trials to return (1-" + SearchClinicalTrialsUseCase.MAX_SEARCH_LIMIT + ")")
+            @RequestParam(defaultValue = "" + SearchClinicalTrialsUseCase.DEFAULT_SEARCH_LIMIT) int limit) {
+        TrialSearchResult result = searchClinicalTrialsUseCase.searchTrials(query, limit);
+        return ResponseEntity.ok(webMapper.toSearchResponse(result));
+    }
+
+    @GetMapping("/{trialId}")
+    @Operation(summary = "Get clinical trial by registry id", description = "Resolves a trial by its registry trial id " +
+            "(e.g. NCT number) across all competitors")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Trial found",
+                content = @Content(schema = @Schema(implementation = TrialResponse.class))),
+        @ApiResponse(responseCode = "404", description = "No trial with this id",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<TrialResponse> getTrialByTrialId(
+            @Parameter(description = "Registry trial id", required = true, example = "NCT12345678")
+            @PathVariable String trialId) {
+        CompetitorTrial trial = lookupClinicalTrialsUseCase.getTrialByTrialId(trialId);
+        return ResponseEntity.ok(webMapper.toTrialResponse(trial));
+    }
+
+    @PostMapping("/lookup")
+    @Operation(summary = "Get clinical trials by registry ids", description = "Resolves up to " +
+            LookupClinicalTrialsUseCase.MAX_LOOKUP_BATCH + " registry trial ids in one request. " +
+            "Ids that match no trial are listed in notFound.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Lookup finished",
+                content = @Content(schema = @Schema(implementation = TrialLookupResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Empty or oversized id list",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<TrialLookupResponse> lookupTrials(@RequestBody TrialLookupRequest request) {
+        TrialLookupResult result = lookupClinicalTrialsUseCase.getTrialsByTrialIds(request.getTrialIds());
+        return ResponseEntity.ok(webMapper.toLookupResponse(result));
+    }
+}
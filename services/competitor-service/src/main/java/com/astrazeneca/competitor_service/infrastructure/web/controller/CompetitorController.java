@@ -2,24 +2,43 @@ package com.astrazeneca.competitor_service.infrastructure.web.controller;
 
 import com.astrazeneca.competitor_service.domain.model.ClinicalTrial;
 import com.astrazeneca.competitor_service.domain.model.Competitor;
+import com.astrazeneca.competitor_service.domain.model.CompetitorImportResult;
+import com.astrazeneca.competitor_service.domain.model.CompetitorLookupResult;
+import com.astrazeneca.competitor_service.domain.model.CompetitorPage;
+import com.astrazeneca.competitor_service.domain.model.CompetitorSummaryPage;
 import com.astrazeneca.competitor_service.domain.ports.in.ManageCompetitorUseCase;
 import com.astrazeneca.competitor_service.infrastructure.web.dto.AddTrialRequest;
+import com.astrazeneca.competitor_service.infrastructure.web.dto.CompetitorLookupRequest;
+import com.astrazeneca.competitor_service.infrastructure.web.dto.CompetitorLookupResponse;
+import com.astrazeneca.competitor_service.infrastructure.web.dto.CompetitorPageResponse;
 import com.astrazeneca.competitor_service.infrastructure.web.dto.CompetitorResponse;
+import com.astrazeneca.competitor_service.infrastructure.web.dto.CompetitorSummaryPageResponse;
 import com.astrazeneca.competitor_service.infrastructure.web.dto.CreateCompetitorRequest;
 import com.astrazeneca.competitor_service.infrastructure.web.dto.ErrorResponse;
+import com.astrazeneca.competitor_service.infrastructure.web.dto.ImportCompetitorRequest;
+import com.astrazeneca.competitor_service.infrastructure.web.dto.ImportResultResponse;
+import com.astrazeneca.competitor_service.infrastructure.web.mapper.CompetitorImportReader;
+import com.astrazeneca.competitor_service.infrastructure.web.mapper.CursorCodec;
 import com.astrazeneca.competitor_service.infrastructure.web.mapper.WebMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.InputStream;
 
 /**
  * REST Controller - Infrastructure/Web Layer (Web Adapter)
@@ -32,11 +51,14 @@ public class CompetitorController {
 
     private final ManageCompetitorUseCase manageCompetitorUseCase;
     private final WebMapper webMapper;
+    private final ObjectMapper objectMapper;
 
     public CompetitorController(ManageCompetitorUseCase manageCompetitorUseCase,
-                               WebMapper webMapper) {
+                               WebMapper webMapper,
+                               ObjectMapper objectMapper) {
         this.manageCompetitorUseCase = manageCompetitorUseCase;
         this.webMapper = webMapper;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping
@@ -60,20 +82,86 @@ public class CompetitorController {
     }
 
     @GetMapping
-    @Operation(summary = "Get all competitors", description = "Retrieves a list of all pharmaceutical competitors")
-    @ApiResponse(responseCode = "200", description = "Successfully retrieved list of competitors",
-            content = @Content(schema = @Schema(implementation = CompetitorResponse.class)))
-    public ResponseEntity<List<CompetitorResponse>> getAllCompetitors() {
-        List<Competitor> competitors = manageCompetitorUseCase.getAllCompetitors();
-        List<CompetitorResponse> responses = webMapper.toResponseList(competitors);
-        return ResponseEntity.ok(responses);
+    @Operation(summary = "Get competitors page", description = "Retrieves competitors ordered by id, one page at a time. " +
+            "Pass the returned nextCursor back as 'cursor' to fetch the following page.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved page of competitors",
+                content = @Content(schema = @Schema(implementation = CompetitorPageResponse.class))),
+        @ApiResponse(responseCode = "304", description = "No competitor or trial changed since the ETag in If-None-Match"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor or page size",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<CompetitorPageResponse> getCompetitors(
+            @Parameter(description = "Opaque cursor returned by the previous page; omit for the first page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (1-" + ManageCompetitorUseCase.MAX_PAGE_SIZE + ")")
+            @RequestParam(defaultValue = "" + ManageCompetitorUseCase.DEFAULT_PAGE_SIZE) int size,
+            WebRequest webRequest) {
+        Long afterId = CursorCodec.decode(cursor);
+        String etag = etag(manageCompetitorUseCase.getCompetitorsVersion());
+        if (webRequest.checkNotModified(etag)) {
+            // checkNotModified has already written the ETag header
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        CompetitorPage page = manageCompetitorUseCase.getCompetitors(afterId, size);
+        CompetitorPageResponse response = new CompetitorPageResponse(
+                webMapper.toResponseList(page.getCompetitors()),
+                CursorCodec.encode(page.getNextCursor()),
+                page.hasNext());
+        return ResponseEntity.ok().eTag(etag).body(response);
+    }
+
+    @GetMapping("/summaries")
+    @Operation(summary = "Get competitor summaries page", description = "Same pages as GET /api/competitors, " +
+            "with a trial count in place of the clinical trials. Trials are counted in the database, never loaded.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved page of competitor summaries",
+                content = @Content(schema = @Schema(implementation = CompetitorSummaryPageResponse.class))),
+        @ApiResponse(responseCode = "304", description = "No competitor or trial changed since the ETag in If-None-Match"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor or page size",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<CompetitorSummaryPageResponse> getCompetitorSummaries(
+            @Parameter(description = "Opaque cursor returned by the previous page; omit for the first page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (1-" + ManageCompetitorUseCase.MAX_PAGE_SIZE + ")")
+            @RequestParam(defaultValue = "" + ManageCompetitorUseCase.DEFAULT_PAGE_SIZE) int size,
+            WebRequest webRequest) {
+        Long afterId = CursorCodec.decode(cursor);
+        String etag = etag(manageCompetitorUseCase.getCompetitorsVersion());
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        CompetitorSummaryPage page = manageCompetitorUseCase.getCompetitorSummaries(afterId, size);
+        CompetitorSummaryPageResponse response = new CompetitorSummaryPageResponse(
+                webMapper.toSummaryResponseList(page.getCompetitors()),
+                CursorCodec.encode(page.getNextCursor()),
+                page.hasNext());
+        return ResponseEntity.ok().eTag(etag).body(response);
+    }
+
+    @PostMapping("/summaries/lookup")
+    @Operation(summary = "Get competitor summaries by ids", description = "Resolves up to " +
+            ManageCompetitorUseCase.MAX_LOOKUP_BATCH + " competitor ids to summaries in one request, with the " +
+            "same two queries as a summary page. Ids that match no competitor are listed in notFound.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Lookup finished",
+                content = @Content(schema = @Schema(implementation = CompetitorLookupResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Empty or oversized id list",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<CompetitorLookupResponse> lookupCompetitorSummaries(@RequestBody CompetitorLookupRequest request) {
+        CompetitorLookupResult result = manageCompetitorUseCase.getCompetitorSummariesByIds(request.getIds());
+        return ResponseEntity.ok(webMapper.toLookupResponse(result));
     }
 
     @GetMapping("/{id}")
-    @Operation(summary = "Get competitor by ID", description = "Retrieves a specific competitor by their unique identifier")
+    @Operation(summary = "Get competitor by ID", description = "Retrieves a specific competitor by their unique identifier. " +
+            "The ETag is the competitor's version; with a matching If-None-Match only the version is read.")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Competitor found",
                 content = @Content(schema = @Schema(implementation = CompetitorResponse.class))),
+        @ApiResponse(responseCode = "304", description = "Competitor unchanged since the ETag in If-None-Match"),
         @ApiResponse(responseCode = "404", description = "Competitor not found",
                 content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
         @ApiResponse(responseCode = "400", description = "Invalid ID format",
@@ -81,23 +169,31 @@ public class CompetitorController {
     })
     public ResponseEntity<CompetitorResponse> getCompetitorById(
             @Parameter(description = "ID of the competitor to retrieve", required = true)
-            @PathVariable Long id) {
+            @PathVariable Long id,
+            WebRequest webRequest) {
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            String etag = etag(manageCompetitorUseCase.getCompetitorVersion(id));
+            if (webRequest.checkNotModified(etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+            }
+        }
         Competitor competitor = manageCompetitorUseCase.getCompetitorById(id);
         CompetitorResponse response = webMapper.toResponse(competitor);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(etag(competitor.getVersion())).body(response);
     }
 
     @PostMapping("/{id}/trials")
-    @Operation(summary = "Add clinical trial to competitor", description = "Adds a new clinical trial to an existing competitor")
+    @Operation(summary = "Add clinical trial to competitor", description = "Adds a new clinical trial to an existing competitor " +
+            "and returns the stored trial")
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "Clinical trial added successfully",
-                content = @Content(schema = @Schema(implementation = CompetitorResponse.class))),
+        @ApiResponse(responseCode = "201", description = "Clinical trial added successfully",
+                content = @Content(schema = @Schema(implementation = CompetitorResponse.ClinicalTrialDto.class))),
         @ApiResponse(responseCode = "404", description = "Competitor not found",
                 content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
         @ApiResponse(responseCode = "400", description = "Invalid trial data",
                 content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
-    public ResponseEntity<CompetitorResponse> addClinicalTrial(
+    public ResponseEntity<CompetitorResponse.ClinicalTrialDto> addClinicalTrial(
             @Parameter(description = "ID of the competitor", required = true)
             @PathVariable Long id,
             @io.swagger.v3.oas.annotations.parameters.RequestBody(
@@ -106,8 +202,37 @@ public class CompetitorController {
                     content = @Content(schema = @Schema(implementation = AddTrialRequest.class)))
             @RequestBody AddTrialRequest request) {
         ClinicalTrial trial = webMapper.toDomain(request);
-        Competitor updated = manageCompetitorUseCase.addClinicalTrialToCompetitor(id, trial);
-        CompetitorResponse response = webMapper.toResponse(updated);
-        return ResponseEntity.ok(response);
+        ClinicalTrial added = manageCompetitorUseCase.addClinicalTrialToCompetitor(id, trial);
+        CompetitorResponse.ClinicalTrialDto response = webMapper.toDto(added);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    @Operation(summary = "Bulk import competitors and clinical trials",
+            description = "Streams NDJSON (one record per line) or a JSON array of records. Records without " +
+                    "competitorId create a competitor with its trials; records with competitorId append trials " +
+                    "to that competitor. Records are committed in chunks; invalid records are reported and skipped.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Import finished; see failures for rejected records",
+                content = @Content(schema = @Schema(implementation = ImportResultResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Body is not a JSON array or NDJSON stream",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<ImportResultResponse> importCompetitors(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Import records",
+                    required = true,
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = ImportCompetitorRequest.class))))
+            HttpServletRequest request) throws IOException {
+        InputStream body = request.getInputStream();
+        CompetitorImportReader records = MediaType.APPLICATION_NDJSON.isCompatibleWith(MediaType.parseMediaType(request.getContentType()))
+                ? CompetitorImportReader.ndjson(body, objectMapper, webMapper)
+                : CompetitorImportReader.jsonArray(body, objectMapper, webMapper);
+        CompetitorImportResult result = manageCompetitorUseCase.importCompetitors(records);
+        return ResponseEntity.ok(webMapper.toImportResponse(result));
+    }
+
+    private static String etag(Object version) {
+        return "\"" + version + "\"";
     }
 }
@@ -0,0 +1,73 @@
+package com.astrazeneca.competitor_service.infrastructure.web.controller;
+
+import com.astrazeneca.competitor_service.domain.model.LandscapeDimension;
+import com.astrazeneca.competitor_service.domain.model.LandscapeQuery;
+import com.astrazeneca.competitor_service.domain.model.LandscapeResult;
+import com.astrazeneca.competitor_service.domain.ports.in.GetLandscapeUseCase;
+import com.astrazeneca.competitor_service.infrastructure.web.dto.ErrorResponse;
+import com.astrazeneca.competitor_service.infrastructure.web.dto.LandscapeResponse;
+import com.astrazeneca.competitor_service.infrastructure.web.mapper.WebMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * REST Controller - Infrastructure/Web Layer (Web Adapter)
+ * Exposes trial counts by competitor, therapeutic area, phase and status
+ */
+@RestController
+@RequestMapping("/api/landscape")
+@Tag(name = "Landscape", description = "APIs for aggregate views of the competitor landscape")
+public class LandscapeController {
+
+    private final GetLandscapeUseCase getLandscapeUseCase;
+    private final WebMapper webMapper;
+
+    public LandscapeController(GetLandscapeUseCase getLandscapeUseCase, WebMapper webMapper) {
+        this.getLandscapeUseCase = getLandscapeUseCase;
+        this.webMapper = webMapper;
+    }
+
+    @GetMapping
+    @Operation(summary = "Count trials across the landscape", description = "Counts trials grouped by any of " +
+            "competitor, area, phase and status, optionally sliced to one value per dimension. " +
+            "Without groupBy a single cell holds the slice total.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Trial counts",
+                content = @Content(schema = @Schema(implementation = LandscapeResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Unknown groupBy dimension",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<LandscapeResponse> getLandscape(
+            @Parameter(description = "Dimensions to group by: competitor, area, phase, status", example = "area,phase")
+            @RequestParam(required = false) List<String> groupBy,
+            @Parameter(description = "Only count trials of this competitor")
+            @RequestParam(required = false) Long competitorId,
+            @Parameter(description = "Only count competitors active in this therapeutic area", example = "Oncology")
+            @RequestParam(required = false) String area,
+            @Parameter(description = "Only count trials in this phase", example = "Phase III")
+            @RequestParam(required = false) String phase,
+            @Parameter(description = "Only count trials with this status", example = "Recruiting")
+            @RequestParam(required = false) String status) {
+        Set<LandscapeDimension> dimensions = EnumSet.noneOf(LandscapeDimension.class);
+        if (groupBy != null) {
+            groupBy.stream()
+                    .filter(parameter -> !parameter.isBlank())
+                    .map(LandscapeDimension::fromParameter)
+                    .forEach(dimensions::add);
+        }
+        LandscapeResult result = getLandscapeUseCase.getLandscape(
+                new LandscapeQuery(dimensions, competitorId, area, phase, status));
+        return ResponseEntity.ok(webMapper.toLandscapeResponse(result));
+    }
+}
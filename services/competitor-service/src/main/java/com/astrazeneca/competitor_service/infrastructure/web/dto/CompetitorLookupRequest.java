@@ -0,0 +1,21 @@
+package com.astrazeneca.competitor_service.infrastructure.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Request DTO - Infrastructure/Web Layer
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Competitor ids to resolve to summaries in one request")
+public class CompetitorLookupRequest {
+
+    @Schema(description = "Competitor ids (at most 1000)", example = "[1, 2, 3]")
+    private List<Long> ids;
+}
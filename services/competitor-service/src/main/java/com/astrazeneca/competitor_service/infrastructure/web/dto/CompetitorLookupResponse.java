@@ -0,0 +1,24 @@
+package com.astrazeneca.competitor_service.infrastructure.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Response DTO - Infrastructure/Web Layer
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Competitor summaries resolved from a batch of ids")
+public class CompetitorLookupResponse {
+
+    @Schema(description = "Found competitor summaries, in the order their ids were requested")
+    private List<CompetitorSummaryResponse> competitors;
+
+    @Schema(description = "Requested ids that match no competitor", example = "[404]")
+    private List<Long> notFound;
+}
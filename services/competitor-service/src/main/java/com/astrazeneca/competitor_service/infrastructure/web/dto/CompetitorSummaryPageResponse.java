@@ -0,0 +1,28 @@
+package com.astrazeneca.competitor_service.infrastructure.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Response DTO - Infrastructure/Web Layer
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "One page of competitor summaries ordered by id")
+public class CompetitorSummaryPageResponse {
+
+    @Schema(description = "Competitor summaries on this page")
+    private List<CompetitorSummaryResponse> content;
+
+    @Schema(description = "Opaque cursor to pass as 'cursor' to fetch the next page; absent on the last page",
+            example = "MTA0")
+    private String nextCursor;
+
+    @Schema(description = "Whether another page follows", example = "true")
+    private boolean hasNext;
+}
@@ -0,0 +1,33 @@
+package com.astrazeneca.competitor_service.infrastructure.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Response DTO - Infrastructure/Web Layer
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Competitor without its clinical trials, for listings")
+public class CompetitorSummaryResponse {
+
+    @Schema(description = "Unique identifier of the competitor", example = "1")
+    private Long id;
+
+    @Schema(description = "Name of the pharmaceutical competitor", example = "Pfizer Inc.")
+    private String name;
+
+    @Schema(description = "List of therapeutic areas", example = "[\"Oncology\", \"Immunology\"]")
+    private List<String> therapeuticAreas;
+
+    @Schema(description = "Headquarters location", example = "New York, USA")
+    private String headquarters;
+
+    @Schema(description = "Number of clinical trials of this competitor", example = "12")
+    private long trialCount;
+}
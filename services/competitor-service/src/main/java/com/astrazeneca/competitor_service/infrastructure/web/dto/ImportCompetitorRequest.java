@@ -0,0 +1,36 @@
+package com.astrazeneca.competitor_service.infrastructure.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Request DTO - Infrastructure/Web Layer
+ * One record of a bulk import stream
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Bulk import record: a new competitor with its trials, or trials for an existing competitor")
+public class ImportCompetitorRequest {
+
+    @Schema(description = "ID of an existing competitor to append trials to; omit to create a new competitor",
+            example = "1")
+    private Long competitorId;
+
+    @Schema(description = "Name of the pharmaceutical competitor (required for new competitors)", example = "Pfizer Inc.")
+    private String name;
+
+    @Schema(description = "List of therapeutic areas the competitor focuses on",
+            example = "[\"Oncology\", \"Immunology\"]")
+    private List<String> therapeuticAreas;
+
+    @Schema(description = "Headquarters location (required for new competitors)", example = "New York, USA")
+    private String headquarters;
+
+    @Schema(description = "Clinical trials to store with the competitor")
+    private List<AddTrialRequest> clinicalTrials;
+}
@@ -0,0 +1,47 @@
+package com.astrazeneca.competitor_service.infrastructure.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Response DTO - Infrastructure/Web Layer
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Summary of a bulk import run")
+public class ImportResultResponse {
+
+    @Schema(description = "Number of records read from the request body", example = "10000")
+    private long received;
+
+    @Schema(description = "Number of competitors created", example = "9990")
+    private long competitorsCreated;
+
+    @Schema(description = "Number of clinical trials stored", example = "48211")
+    private long trialsAdded;
+
+    @Schema(description = "Number of records rejected", example = "10")
+    private long failed;
+
+    @Schema(description = "Details of rejected records (capped at 1000 entries)")
+    private List<ImportFailureDto> failures;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "Rejected import record")
+    public static class ImportFailureDto {
+
+        @Schema(description = "Zero-based position of the record in the request body", example = "42")
+        private long record;
+
+        @Schema(description = "Reason the record was rejected",
+                example = "Invalid competitor data - name: must not be blank")
+        private String message;
+    }
+}
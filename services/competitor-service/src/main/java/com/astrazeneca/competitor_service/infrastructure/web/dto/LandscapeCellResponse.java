@@ -0,0 +1,33 @@
+package com.astrazeneca.competitor_service.infrastructure.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response DTO - Infrastructure/Web Layer
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Trial count for one combination of the grouped dimensions; ungrouped dimensions are omitted")
+public class LandscapeCellResponse {
+
+    @Schema(description = "Competitor id, present when grouped by competitor", example = "1")
+    private Long competitorId;
+
+    @Schema(description = "Therapeutic area, present when grouped by area", example = "Oncology")
+    private String therapeuticArea;
+
+    @Schema(description = "Trial phase, present when grouped by phase", example = "Phase III")
+    private String phase;
+
+    @Schema(description = "Trial status, present when grouped by status", example = "Recruiting")
+    private String status;
+
+    @Schema(description = "Number of trials in this cell", example = "42")
+    private long trials;
+}
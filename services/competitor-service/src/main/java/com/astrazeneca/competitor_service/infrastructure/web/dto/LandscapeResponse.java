@@ -0,0 +1,25 @@
+package com.astrazeneca.competitor_service.infrastructure.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Response DTO - Infrastructure/Web Layer
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Trial counts of a landscape slice, largest cells first")
+public class LandscapeResponse {
+
+    @Schema(description = "One cell per combination of the grouped dimensions")
+    private List<LandscapeCellResponse> cells;
+
+    @Schema(description = "Distinct trials in the slice; area cells count a trial once per area of its competitor",
+            example = "153")
+    private long totalTrials;
+}
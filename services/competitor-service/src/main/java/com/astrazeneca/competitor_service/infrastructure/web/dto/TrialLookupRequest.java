@@ -0,0 +1,21 @@
+package com.astrazeneca.competitor_service.infrastructure.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Request DTO - Infrastructure/Web Layer
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Registry trial ids to resolve in one request")
+public class TrialLookupRequest {
+
+    @Schema(description = "Registry trial ids (at most 1000)", example = "[\"NCT12345678\", \"NCT87654321\"]")
+    private List<String> trialIds;
+}
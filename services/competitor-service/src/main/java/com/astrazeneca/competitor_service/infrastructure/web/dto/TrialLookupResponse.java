@@ -0,0 +1,24 @@
+package com.astrazeneca.competitor_service.infrastructure.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Response DTO - Infrastructure/Web Layer
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Trials resolved from a batch of registry trial ids")
+public class TrialLookupResponse {
+
+    @Schema(description = "Found trials, in the order their ids were requested")
+    private List<TrialResponse> trials;
+
+    @Schema(description = "Requested ids that match no trial", example = "[\"NCT00000000\"]")
+    private List<String> notFound;
+}
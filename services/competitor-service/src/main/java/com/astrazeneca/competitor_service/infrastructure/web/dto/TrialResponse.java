@@ -0,0 +1,34 @@
+package com.astrazeneca.competitor_service.infrastructure.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response DTO - Infrastructure/Web Layer
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Clinical trial with the competitor that runs it")
+public class TrialResponse {
+
+    @Schema(description = "Identifier of the competitor running the trial", example = "1")
+    private Long competitorId;
+
+    @Schema(description = "Clinical trial identifier", example = "NCT12345678")
+    private String trialId;
+
+    @Schema(description = "Trial name", example = "Phase III Lung Cancer Study")
+    private String name;
+
+    @Schema(description = "Trial phase", example = "Phase III")
+    private String phase;
+
+    @Schema(description = "Trial status", example = "Recruiting")
+    private String status;
+
+    @Schema(description = "Medical indication", example = "Non-Small Cell Lung Cancer")
+    private String indication;
+}
@@ -0,0 +1,24 @@
+package com.astrazeneca.competitor_service.infrastructure.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Response DTO - Infrastructure/Web Layer
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Clinical trials matching a search, in the order they were stored")
+public class TrialSearchResponse {
+
+    @Schema(description = "Matching trials, at most 'limit' of them")
+    private List<TrialResponse> trials;
+
+    @Schema(description = "Number of trials that matched in total", example = "153")
+    private long totalMatches;
+}
@@ -1,12 +1,16 @@
 package com.astrazeneca.competitor_service.infrastructure.web.exception;
 
+import com.astrazeneca.competitor_service.domain.exception.ClinicalTrialNotFoundException;
 import com.astrazeneca.competitor_service.domain.exception.CompetitorNotFoundException;
 import com.astrazeneca.competitor_service.domain.exception.DomainException;
+import com.astrazeneca.competitor_service.domain.exception.DuplicateClinicalTrialException;
 import com.astrazeneca.competitor_service.domain.exception.InvalidClinicalTrialException;
 import com.astrazeneca.competitor_service.domain.exception.InvalidCompetitorDataException;
+import com.astrazeneca.competitor_service.domain.exception.InvalidLandscapeQueryException;
 import com.astrazeneca.competitor_service.infrastructure.web.dto.ErrorResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -50,6 +54,38 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
     }
 
+    @ExceptionHandler(ClinicalTrialNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleClinicalTrialNotFound(
+            ClinicalTrialNotFoundException ex, HttpServletRequest request) {
+        log.warn("Clinical trial not found: {}", ex.getMessage());
+
+        ErrorResponse error = ErrorResponse.builder()
+                .status(HttpStatus.NOT_FOUND.value())
+                .error("NOT_FOUND")
+                .message(ex.getMessage())
+                .path(request.getRequestURI())
+                .timestamp(LocalDateTime.now())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+    }
+
+    @ExceptionHandler(DuplicateClinicalTrialException.class)
+    public ResponseEntity<ErrorResponse> handleDuplicateClinicalTrial(
+            DuplicateClinicalTrialException ex, HttpServletRequest request) {
+        log.warn("Duplicate clinical trial: {}", ex.getMessage());
+
+        ErrorResponse error = ErrorResponse.builder()
+                .status(HttpStatus.CONFLICT.value())
+                .error("DUPLICATE_CLINICAL_TRIAL")
+                .message(ex.getMessage())
+                .path(request.getRequestURI())
+                .timestamp(LocalDateTime.now())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+
     @ExceptionHandler(InvalidCompetitorDataException.class)
     public ResponseEntity<ErrorResponse> handleInvalidCompetitorData(
             InvalidCompetitorDataException ex, HttpServletRequest request) {
@@ -82,6 +118,22 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
     }
 
+    @ExceptionHandler(InvalidLandscapeQueryException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidLandscapeQuery(
+            InvalidLandscapeQueryException ex, HttpServletRequest request) {
+        log.warn("Invalid landscape query: {}", ex.getMessage());
+
+        ErrorResponse error = ErrorResponse.builder()
+                .status(HttpStatus.BAD_REQUEST.value())
+                .error("INVALID_LANDSCAPE_QUERY")
+                .message(ex.getMessage())
+                .path(request.getRequestURI())
+                .timestamp(LocalDateTime.now())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+
     @ExceptionHandler(DomainException.class)
     public ResponseEntity<ErrorResponse> handleDomainException(
             DomainException ex, HttpServletRequest request) {
@@ -98,6 +150,27 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
     }
 
+    // ==================== Persistence Exceptions ====================
+
+    /**
+     * A unique constraint (e.g. on trial_id) rejected a write that raced past the service's checks.
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ErrorResponse> handleDataIntegrityViolation(
+            DataIntegrityViolationException ex, HttpServletRequest request) {
+        log.warn("Data integrity violation: {}", ex.getMostSpecificCause().getMessage());
+
+        ErrorResponse error = ErrorResponse.builder()
+                .status(HttpStatus.CONFLICT.value())
+                .error("CONFLICT")
+                .message("The request conflicts with data stored concurrently. Please retry.")
+                .path(request.getRequestURI())
+                .timestamp(LocalDateTime.now())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+
     // ==================== Validation Exceptions ====================
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
@@ -0,0 +1,133 @@
+package com.astrazeneca.competitor_service.infrastructure.web.mapper;
+
+import com.astrazeneca.competitor_service.domain.exception.InvalidCompetitorDataException;
+import com.astrazeneca.competitor_service.domain.model.Competitor;
+import com.astrazeneca.competitor_service.infrastructure.web.dto.ImportCompetitorRequest;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.exc.StreamReadException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Streams bulk import records from a request body, one record at a time, so the whole
+ * payload is never held in memory. Accepts NDJSON (one object per line) or a JSON array.
+ * An unreadable record surfaces as an {@link InvalidCompetitorDataException} from
+ * {@link #next()}; NDJSON resumes at the next line, a JSON array stops at a syntax error.
+ * Infrastructure/Web Layer
+ */
+public class CompetitorImportReader implements Iterator<Competitor> {
+
+    private final ObjectReader objectReader;
+    private final WebMapper webMapper;
+    private final BufferedReader lines;
+    private final MappingIterator<ImportCompetitorRequest> arrayElements;
+
+    private String nextLine;
+    private InvalidCompetitorDataException pendingError;
+    private boolean finished;
+
+    private CompetitorImportReader(ObjectReader objectReader, WebMapper webMapper,
+                                   BufferedReader lines, MappingIterator<ImportCompetitorRequest> arrayElements) {
+        this.objectReader = objectReader;
+        this.webMapper = webMapper;
+        this.lines = lines;
+        this.arrayElements = arrayElements;
+    }
+
+    public static CompetitorImportReader ndjson(InputStream body, ObjectMapper objectMapper, WebMapper webMapper) {
+        BufferedReader lines = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        return new CompetitorImportReader(objectMapper.readerFor(ImportCompetitorRequest.class), webMapper,
+                lines, null);
+    }
+
+    public static CompetitorImportReader jsonArray(InputStream body, ObjectMapper objectMapper, WebMapper webMapper) {
+        ObjectReader reader = objectMapper.readerFor(ImportCompetitorRequest.class);
+        try {
+            return new CompetitorImportReader(reader, webMapper, null, reader.readValues(body));
+        } catch (IOException ex) {
+            throw new InvalidCompetitorDataException("body", "is not a JSON array of records");
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (finished) {
+            return false;
+        }
+        if (nextLine != null || pendingError != null) {
+            return true;
+        }
+        return lines != null ? advanceLine() : advanceElement();
+    }
+
+    @Override
+    public Competitor next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        if (pendingError != null) {
+            InvalidCompetitorDataException error = pendingError;
+            pendingError = null;
+            finished = true;
+            throw error;
+        }
+        return lines != null ? readLine() : readElement();
+    }
+
+    private boolean advanceLine() {
+        try {
+            String line;
+            do {
+                line = lines.readLine();
+            } while (line != null && line.isBlank());
+            nextLine = line;
+            finished = line == null;
+            return !finished;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private Competitor readLine() {
+        String line = nextLine;
+        nextLine = null;
+        try {
+            return webMapper.toDomain(objectReader.<ImportCompetitorRequest>readValue(line));
+        } catch (JsonProcessingException ex) {
+            throw new InvalidCompetitorDataException("record", "malformed JSON - " + ex.getOriginalMessage());
+        }
+    }
+
+    private boolean advanceElement() {
+        try {
+            finished = !arrayElements.hasNextValue();
+        } catch (IOException ex) {
+            // Syntax errors leave the parser in an unknown position: report once, then stop
+            pendingError = new InvalidCompetitorDataException("record", "malformed JSON - " + ex.getMessage());
+            return true;
+        }
+        return !finished;
+    }
+
+    private Competitor readElement() {
+        try {
+            return webMapper.toDomain(arrayElements.nextValue());
+        } catch (StreamReadException ex) {
+            finished = true;
+            throw new InvalidCompetitorDataException("record", "malformed JSON - " + ex.getOriginalMessage());
+        } catch (IOException ex) {
+            // Mapping errors (e.g. wrong value type) leave the parser past the element: keep going
+            throw new InvalidCompetitorDataException("record", "unreadable record - " + ex.getMessage());
+        }
+    }
+}
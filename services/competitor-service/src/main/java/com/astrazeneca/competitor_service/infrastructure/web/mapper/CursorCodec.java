@@ -0,0 +1,40 @@
+package com.astrazeneca.competitor_service.infrastructure.web.mapper;
+
+import com.astrazeneca.competitor_service.domain.exception.InvalidCompetitorDataException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Encodes keyset positions as opaque, URL-safe page cursors
+ * Infrastructure/Web Layer
+ */
+public final class CursorCodec {
+
+    private CursorCodec() {
+    }
+
+    public static String encode(Long id) {
+        if (id == null) {
+            return null;
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(Long.toString(id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            long id = Long.parseLong(decoded);
+            if (id < 0) {
+                throw new InvalidCompetitorDataException("cursor", "is malformed");
+            }
+            return id;
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidCompetitorDataException("cursor", "is malformed");
+        }
+    }
+}
@@ -2,10 +2,26 @@ package com.astrazeneca.competitor_service.infrastructure.web.mapper;
 
 import com.astrazeneca.competitor_service.domain.model.ClinicalTrial;
 import com.astrazeneca.competitor_service.domain.model.Competitor;
+import com.astrazeneca.competitor_service.domain.model.CompetitorImportResult;
+import com.astrazeneca.competitor_service.domain.model.CompetitorLookupResult;
+import com.astrazeneca.competitor_service.domain.model.CompetitorSummary;
+import com.astrazeneca.competitor_service.domain.model.CompetitorTrial;
+import com.astrazeneca.competitor_service.domain.model.LandscapeResult;
+import com.astrazeneca.competitor_service.domain.model.TrialLookupResult;
+import com.astrazeneca.competitor_service.domain.model.TrialSearchResult;
 import com.astrazeneca.competitor_service.infrastructure.web.dto.AddTrialRequest;
+import com.astrazeneca.competitor_service.infrastructure.web.dto.CompetitorLookupResponse;
 import com.astrazeneca.competitor_service.infrastructure.web.dto.CompetitorResponse;
+import com.astrazeneca.competitor_service.infrastructure.web.dto.CompetitorSummaryResponse;
 import com.astrazeneca.competitor_service.infrastructure.web.dto.CreateCompetitorRequest;
+import com.astrazeneca.competitor_service.infrastructure.web.dto.ImportCompetitorRequest;
+import com.astrazeneca.competitor_service.infrastructure.web.dto.ImportResultResponse;
+import com.astrazeneca.competitor_service.infrastructure.web.dto.LandscapeResponse;
+import com.astrazeneca.competitor_service.infrastructure.web.dto.TrialLookupResponse;
+import com.astrazeneca.competitor_service.infrastructure.web.dto.TrialResponse;
+import com.astrazeneca.competitor_service.infrastructure.web.dto.TrialSearchResponse;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 import java.util.List;
 
@@ -16,14 +32,36 @@ import java.util.List;
 @Mapper(componentModel = "spring")
 public interface WebMapper {
 
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "clinicalTrials", ignore = true)
+    @Mapping(target = "version", ignore = true)
     Competitor toDomain(CreateCompetitorRequest request);
 
     CompetitorResponse toResponse(Competitor competitor);
 
     List<CompetitorResponse> toResponseList(List<Competitor> competitors);
 
+    List<CompetitorSummaryResponse> toSummaryResponseList(List<CompetitorSummary> summaries);
+
     ClinicalTrial toDomain(AddTrialRequest request);
 
     CompetitorResponse.ClinicalTrialDto toDto(ClinicalTrial clinicalTrial);
+
+    @Mapping(target = "id", source = "competitorId")
+    @Mapping(target = "version", ignore = true)
+    Competitor toDomain(ImportCompetitorRequest request);
+
+    ImportResultResponse toImportResponse(CompetitorImportResult result);
+
+    @Mapping(target = ".", source = "trial")
+    TrialResponse toTrialResponse(CompetitorTrial competitorTrial);
+
+    TrialSearchResponse toSearchResponse(TrialSearchResult result);
+
+    TrialLookupResponse toLookupResponse(TrialLookupResult result);
+
+    CompetitorLookupResponse toLookupResponse(CompetitorLookupResult result);
+
+    LandscapeResponse toLandscapeResponse(LandscapeResult result);
 }
 
@@ -1,13 +1,40 @@
 package com.astrazeneca.competitor_service;
 
+import com.astrazeneca.competitor_service.domain.ports.out.CollectionVersionPort;
+import com.astrazeneca.servicekit.metrics.PortTimingInterceptor;
+import com.astrazeneca.servicekit.metrics.SqlProfilingDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
 @SpringBootTest
 class CompetitorServiceApplicationTests {
 
+	@Autowired
+	private DataSource dataSource;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Autowired
+	private CollectionVersionPort collectionVersion;
+
 	@Test
 	void contextLoads() {
+		// Wrapped by service-kit's auto-configuration
+		assertThat(dataSource).isInstanceOf(SqlProfilingDataSource.class);
+	}
+
+	@Test
+	void timesCallsThroughTheDomainPorts() {
+		collectionVersion.currentVersion();
+
+		assertThat(meterRegistry.find(PortTimingInterceptor.METRIC).tag("port", "CollectionVersionPort").timer()).isNotNull();
 	}
 
 }
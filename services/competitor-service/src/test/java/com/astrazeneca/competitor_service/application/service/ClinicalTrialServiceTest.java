@@ -0,0 +1,90 @@
+package com.astrazeneca.competitor_service.application.service;
+
+import com.astrazeneca.competitor_service.domain.exception.ClinicalTrialNotFoundException;
+import com.astrazeneca.competitor_service.domain.exception.InvalidClinicalTrialException;
+import com.astrazeneca.competitor_service.domain.model.ClinicalTrial;
+import com.astrazeneca.competitor_service.domain.model.CompetitorTrial;
+import com.astrazeneca.competitor_service.domain.model.TrialLookupResult;
+import com.astrazeneca.competitor_service.domain.ports.in.LookupClinicalTrialsUseCase;
+import com.astrazeneca.competitor_service.domain.ports.out.ClinicalTrialRepositoryPort;
+import com.astrazeneca.competitor_service.domain.ports.out.ClinicalTrialSearchPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ClinicalTrialService Tests")
+class ClinicalTrialServiceTest {
+
+    @Mock
+    private ClinicalTrialSearchPort clinicalTrialSearchPort;
+
+    @Mock
+    private ClinicalTrialRepositoryPort clinicalTrialRepositoryPort;
+
+    @InjectMocks
+    private ClinicalTrialService clinicalTrialService;
+
+    private static CompetitorTrial match(Long competitorId, String trialId) {
+        return new CompetitorTrial(competitorId, new ClinicalTrial(trialId, "Trial", "Phase II", "Active", "NSCLC"));
+    }
+
+    @Test
+    @DisplayName("Should throw when no trial has the registry id")
+    void shouldThrowWhenTrialIdUnknown() {
+        // Given
+        when(clinicalTrialRepositoryPort.findByTrialId("NCT404")).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> clinicalTrialService.getTrialByTrialId("NCT404"))
+                .isInstanceOf(ClinicalTrialNotFoundException.class)
+                .hasMessageContaining("NCT404");
+    }
+
+    @Test
+    @DisplayName("Should return batch matches in request order and list unknown ids once")
+    void shouldReturnBatchInRequestOrder() {
+        // Given
+        when(clinicalTrialRepositoryPort.findByTrialIds(Set.of("NCT2", "NCT404", "NCT1")))
+                .thenReturn(List.of(match(1L, "NCT1"), match(2L, "NCT2")));
+
+        // When
+        TrialLookupResult result = clinicalTrialService.getTrialsByTrialIds(List.of("NCT2", "NCT404", "NCT1", "NCT2"));
+
+        // Then
+        assertThat(result.getTrials()).extracting(found -> found.getTrial().getTrialId())
+                .containsExactly("NCT2", "NCT1");
+        assertThat(result.getNotFound()).containsExactly("NCT404");
+    }
+
+    @Test
+    @DisplayName("Should reject empty, null-bearing and oversized batches without querying")
+    void shouldRejectInvalidBatches() {
+        List<String> oversized = IntStream.rangeClosed(0, LookupClinicalTrialsUseCase.MAX_LOOKUP_BATCH)
+                .mapToObj(i -> "NCT" + i)
+                .toList();
+
+        assertThatThrownBy(() -> clinicalTrialService.getTrialsByTrialIds(List.of()))
+                .isInstanceOf(InvalidClinicalTrialException.class);
+        assertThatThrownBy(() -> clinicalTrialService.getTrialsByTrialIds(Arrays.asList("NCT1", null)))
+                .isInstanceOf(InvalidClinicalTrialException.class);
+        assertThatThrownBy(() -> clinicalTrialService.getTrialsByTrialIds(oversized))
+                .isInstanceOf(InvalidClinicalTrialException.class)
+                .hasMessageContaining(String.valueOf(LookupClinicalTrialsUseCase.MAX_LOOKUP_BATCH));
+        verifyNoInteractions(clinicalTrialRepositoryPort);
+    }
+}
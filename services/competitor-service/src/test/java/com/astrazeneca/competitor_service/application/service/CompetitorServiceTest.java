@@ -0,0 +1,375 @@
+package com.astrazeneca.competitor_service.application.service;
+
+import com.astrazeneca.competitor_service.domain.exception.CompetitorNotFoundException;
+import com.astrazeneca.competitor_service.domain.exception.DuplicateClinicalTrialException;
+import com.astrazeneca.competitor_service.domain.exception.InvalidCompetitorDataException;
+import com.astrazeneca.competitor_service.domain.model.ClinicalTrial;
+import com.astrazeneca.competitor_service.domain.model.Competitor;
+import com.astrazeneca.competitor_service.domain.model.CompetitorImportResult;
+import com.astrazeneca.competitor_service.domain.model.CompetitorLookupResult;
+import com.astrazeneca.competitor_service.domain.model.CompetitorSummary;
+import com.astrazeneca.competitor_service.domain.ports.in.ManageCompetitorUseCase;
+import com.astrazeneca.competitor_service.domain.ports.out.ClinicalTrialRepositoryPort;
+import com.astrazeneca.competitor_service.domain.ports.out.ClinicalTrialSearchPort;
+import com.astrazeneca.competitor_service.domain.ports.out.CollectionVersionPort;
+import com.astrazeneca.competitor_service.domain.ports.out.CompetitorLandscapePort;
+import com.astrazeneca.competitor_service.domain.ports.out.CompetitorRepositoryPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CompetitorService Tests")
+class CompetitorServiceTest {
+
+    @Mock
+    private CompetitorRepositoryPort competitorRepositoryPort;
+
+    @Mock
+    private ClinicalTrialRepositoryPort clinicalTrialRepositoryPort;
+
+    @Mock
+    private ClinicalTrialSearchPort clinicalTrialSearchPort;
+
+    @Mock
+    private CompetitorLandscapePort competitorLandscapePort;
+
+    @Mock
+    private CollectionVersionPort collectionVersionPort;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private CompetitorService competitorService;
+
+    private static Competitor newCompetitor(String name) {
+        List<ClinicalTrial> trials = new ArrayList<>();
+        trials.add(new ClinicalTrial("NCT-" + name, "Trial", "Phase II", "Active", "NSCLC"));
+        return new Competitor(null, name, List.of("Oncology"), "Basel", trials);
+    }
+
+    @Nested
+    @DisplayName("Trial Search Indexing Tests")
+    class TrialSearchIndexingTests {
+
+        @Test
+        @DisplayName("Should index the trials of a created competitor under its new id")
+        void shouldIndexTrialsOfCreatedCompetitor() {
+            Competitor competitor = newCompetitor("Pfizer");
+            Competitor saved = newCompetitor("Pfizer");
+            saved.setId(1L);
+            when(competitorRepositoryPort.save(competitor)).thenReturn(saved);
+
+            competitorService.createCompetitor(competitor);
+
+            verify(clinicalTrialSearchPort).index(1L, saved.getClinicalTrials());
+        }
+
+        @Test
+        @DisplayName("Should index a trial added to an existing competitor")
+        void shouldIndexAddedTrial() {
+            ClinicalTrial trial = new ClinicalTrial("NCT9", "Trial", "Phase I", "Active", "AML");
+            when(competitorRepositoryPort.existsById(3L)).thenReturn(true);
+            when(competitorRepositoryPort.addClinicalTrial(3L, trial)).thenReturn(trial);
+
+            competitorService.addClinicalTrialToCompetitor(3L, trial);
+
+            verify(clinicalTrialSearchPort).index(3L, List.of(trial));
+        }
+
+        @Test
+        @DisplayName("Should not index a trial for an unknown competitor")
+        void shouldNotIndexTrialForUnknownCompetitor() {
+            ClinicalTrial trial = new ClinicalTrial("NCT9", "Trial", "Phase I", "Active", "AML");
+            when(competitorRepositoryPort.existsById(404L)).thenReturn(false);
+
+            assertThatThrownBy(() -> competitorService.addClinicalTrialToCompetitor(404L, trial))
+                    .isInstanceOf(CompetitorNotFoundException.class);
+            verifyNoInteractions(clinicalTrialSearchPort);
+        }
+    }
+
+    @Nested
+    @DisplayName("Landscape Counting Tests")
+    class LandscapeCountingTests {
+
+        @Test
+        @DisplayName("Should count a created competitor with its areas and trials")
+        void shouldRecordCreatedCompetitor() {
+            Competitor competitor = newCompetitor("Pfizer");
+            Competitor saved = newCompetitor("Pfizer");
+            saved.setId(1L);
+            when(competitorRepositoryPort.save(competitor)).thenReturn(saved);
+
+            competitorService.createCompetitor(competitor);
+
+            verify(competitorLandscapePort).recordCompetitor(saved);
+        }
+
+        @Test
+        @DisplayName("Should count a trial added to an existing competitor")
+        void shouldRecordAddedTrial() {
+            ClinicalTrial trial = new ClinicalTrial("NCT9", "Trial", "Phase I", "Active", "AML");
+            when(competitorRepositoryPort.existsById(3L)).thenReturn(true);
+            when(competitorRepositoryPort.addClinicalTrial(3L, trial)).thenReturn(trial);
+
+            competitorService.addClinicalTrialToCompetitor(3L, trial);
+
+            verify(competitorLandscapePort).recordTrials(3L, List.of(trial));
+        }
+    }
+
+    @Nested
+    @DisplayName("Version Tests")
+    class VersionTests {
+
+        @Test
+        @DisplayName("Should mark the collection changed when a trial is added")
+        void shouldRecordCollectionChangeOnAddedTrial() {
+            ClinicalTrial trial = new ClinicalTrial("NCT9", "Trial", "Phase I", "Active", "AML");
+            when(competitorRepositoryPort.existsById(3L)).thenReturn(true);
+            when(competitorRepositoryPort.addClinicalTrial(3L, trial)).thenReturn(trial);
+
+            competitorService.addClinicalTrialToCompetitor(3L, trial);
+
+            verify(collectionVersionPort).recordChange();
+        }
+
+        @Test
+        @DisplayName("Should report an unknown competitor when reading its version")
+        void shouldRejectVersionOfUnknownCompetitor() {
+            when(competitorRepositoryPort.findVersion(404L)).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> competitorService.getCompetitorVersion(404L))
+                    .isInstanceOf(CompetitorNotFoundException.class);
+            verify(competitorRepositoryPort, never()).findById(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Duplicate Trial Tests")
+    class DuplicateTrialTests {
+
+        @Test
+        @DisplayName("Should reject a trial whose registry id is already stored")
+        void shouldRejectAlreadyStoredTrialId() {
+            ClinicalTrial trial = new ClinicalTrial("NCT1", "Trial", "Phase I", "Active", "AML");
+            when(competitorRepositoryPort.existsById(3L)).thenReturn(true);
+            when(clinicalTrialRepositoryPort.findExistingTrialIds(Set.of("NCT1"))).thenReturn(Set.of("NCT1"));
+
+            assertThatThrownBy(() -> competitorService.addClinicalTrialToCompetitor(3L, trial))
+                    .isInstanceOf(DuplicateClinicalTrialException.class)
+                    .hasMessageContaining("NCT1");
+            verify(competitorRepositoryPort, never()).addClinicalTrial(any(), any());
+        }
+
+        @Test
+        @DisplayName("Should reject a new competitor that repeats a trial id")
+        void shouldRejectRepeatedTrialIdInCompetitor() {
+            Competitor competitor = newCompetitor("Pfizer");
+            competitor.getClinicalTrials().add(new ClinicalTrial("NCT-Pfizer", "Other", "Phase I", "Active", "AML"));
+
+            assertThatThrownBy(() -> competitorService.createCompetitor(competitor))
+                    .isInstanceOf(DuplicateClinicalTrialException.class);
+            verify(competitorRepositoryPort, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("Should report import records whose trial ids are stored or claimed earlier in the run")
+        void shouldReportDuplicateTrialIdsOnImport() {
+            Competitor stored = newCompetitor("Stored");
+            Competitor first = newCompetitor("Fresh");
+            Competitor repeat = newCompetitor("Fresh");
+            when(clinicalTrialRepositoryPort.findExistingTrialIds(Set.of("NCT-Stored", "NCT-Fresh")))
+                    .thenReturn(Set.of("NCT-Stored"));
+
+            CompetitorImportResult result = competitorService.importCompetitors(List.of(stored, first, repeat).iterator());
+
+            assertThat(result.getCompetitorsCreated()).isEqualTo(1);
+            assertThat(result.getFailures()).extracting(failure -> failure.getRecord()).containsExactly(0L, 2L);
+            assertThat(result.getFailures()).allSatisfy(failure -> assertThat(failure.getMessage()).contains("already exists"));
+            verify(clinicalTrialRepositoryPort, times(1)).findExistingTrialIds(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Summary Lookup Tests")
+    class SummaryLookupTests {
+
+        @Test
+        @DisplayName("Should return summaries in request order and list unknown ids once")
+        void shouldReturnSummariesInRequestOrder() {
+            when(competitorRepositoryPort.findSummariesByIds(Set.of(2L, 404L, 1L)))
+                    .thenReturn(List.of(new CompetitorSummary(1L, "A", "Basel", List.of(), 0),
+                            new CompetitorSummary(2L, "B", "Basel", List.of(), 3)));
+
+            CompetitorLookupResult result = competitorService.getCompetitorSummariesByIds(List.of(2L, 404L, 1L, 2L));
+
+            assertThat(result.getCompetitors()).extracting(CompetitorSummary::getId).containsExactly(2L, 1L);
+            assertThat(result.getNotFound()).containsExactly(404L);
+        }
+
+        @Test
+        @DisplayName("Should reject empty, null-bearing and oversized batches without querying")
+        void shouldRejectInvalidBatches() {
+            List<Long> oversized = LongStream.rangeClosed(0, ManageCompetitorUseCase.MAX_LOOKUP_BATCH).boxed().toList();
+
+            assertThatThrownBy(() -> competitorService.getCompetitorSummariesByIds(List.of()))
+                    .isInstanceOf(InvalidCompetitorDataException.class);
+            assertThatThrownBy(() -> competitorService.getCompetitorSummariesByIds(Arrays.asList(1L, null)))
+                    .isInstanceOf(InvalidCompetitorDataException.class);
+            assertThatThrownBy(() -> competitorService.getCompetitorSummariesByIds(oversized))
+                    .isInstanceOf(InvalidCompetitorDataException.class)
+                    .hasMessageContaining(String.valueOf(ManageCompetitorUseCase.MAX_LOOKUP_BATCH));
+            verifyNoInteractions(competitorRepositoryPort);
+        }
+    }
+
+    @Nested
+    @DisplayName("Bulk Import Tests")
+    class BulkImportTests {
+
+        @Test
+        @DisplayName("Should import valid records and report invalid ones without aborting")
+        void shouldImportValidRecordsAndReportInvalidOnes() {
+            Competitor invalid = new Competitor(null, " ", List.of(), "Basel", null);
+            Iterator<Competitor> records = List.of(newCompetitor("A"), invalid, newCompetitor("B")).iterator();
+
+            CompetitorImportResult result = competitorService.importCompetitors(records);
+
+            assertThat(result.getReceived()).isEqualTo(3);
+            assertThat(result.getCompetitorsCreated()).isEqualTo(2);
+            assertThat(result.getTrialsAdded()).isEqualTo(2);
+            assertThat(result.getFailed()).isEqualTo(1);
+            assertThat(result.getFailures()).singleElement()
+                    .satisfies(failure -> {
+                        assertThat(failure.getRecord()).isEqualTo(1);
+                        assertThat(failure.getMessage()).contains("name");
+                    });
+            verify(competitorRepositoryPort).saveAll(anyList());
+            verify(transactionManager).commit(any());
+        }
+
+        @Test
+        @DisplayName("Should commit once per chunk")
+        void shouldCommitOncePerChunk() {
+            int total = ManageCompetitorUseCase.IMPORT_CHUNK_SIZE * 2 + 1;
+            Iterator<Competitor> records = IntStream.range(0, total)
+                    .mapToObj(i -> newCompetitor("C" + i))
+                    .iterator();
+
+            CompetitorImportResult result = competitorService.importCompetitors(records);
+
+            assertThat(result.getCompetitorsCreated()).isEqualTo(total);
+            verify(competitorRepositoryPort, times(3)).saveAll(anyList());
+            verify(transactionManager, times(3)).commit(any());
+        }
+
+        @Test
+        @DisplayName("Should append trials to existing competitors and reject unknown ids")
+        void shouldAppendTrialsToExistingCompetitors() {
+            Competitor existing = newCompetitor("Existing");
+            existing.setId(7L);
+            Competitor unknown = newCompetitor("Unknown");
+            unknown.setId(99L);
+            when(competitorRepositoryPort.findExistingIds(Set.of(7L, 99L))).thenReturn(Set.of(7L));
+
+            CompetitorImportResult result = competitorService.importCompetitors(List.of(existing, unknown).iterator());
+
+            assertThat(result.getTrialsAdded()).isEqualTo(1);
+            assertThat(result.getCompetitorsCreated()).isZero();
+            assertThat(result.getFailures()).singleElement()
+                    .satisfies(failure -> assertThat(failure.getMessage()).contains("99"));
+            verify(competitorRepositoryPort).addClinicalTrials(Map.of(7L, existing.getClinicalTrials()));
+            verify(competitorRepositoryPort, never()).addClinicalTrial(any(), any());
+        }
+
+        @Test
+        @DisplayName("Should append a chunk's trials for the same competitor in one call")
+        void shouldAppendTrialsOncePerCompetitorPerChunk() {
+            Competitor first = newCompetitor("First");
+            first.setId(7L);
+            Competitor second = new Competitor(7L, "Second", List.of("Oncology"), "Basel",
+                    new ArrayList<>(List.of(new ClinicalTrial("NCT-B", "Trial", "Phase I", "Active", "AML"))));
+            when(competitorRepositoryPort.findExistingIds(Set.of(7L))).thenReturn(Set.of(7L));
+
+            CompetitorImportResult result = competitorService.importCompetitors(List.of(first, second).iterator());
+
+            assertThat(result.getTrialsAdded()).isEqualTo(2);
+            ArgumentCaptor<Map<Long, List<ClinicalTrial>>> appended = ArgumentCaptor.captor();
+            verify(competitorRepositoryPort).addClinicalTrials(appended.capture());
+            assertThat(appended.getValue()).containsOnlyKeys(7L);
+            assertThat(appended.getValue().get(7L)).extracting(ClinicalTrial::getTrialId)
+                    .containsExactly(first.getClinicalTrials().getFirst().getTrialId(), "NCT-B");
+        }
+
+        @Test
+        @DisplayName("Should report unreadable records surfaced by the iterator")
+        void shouldReportUnreadableRecords() {
+            Iterator<Competitor> records = new Iterator<>() {
+                private int position;
+
+                @Override
+                public boolean hasNext() {
+                    return position < 2;
+                }
+
+                @Override
+                public Competitor next() {
+                    if (position++ == 0) {
+                        throw new InvalidCompetitorDataException("record", "malformed JSON");
+                    }
+                    return newCompetitor("Readable");
+                }
+            };
+
+            CompetitorImportResult result = competitorService.importCompetitors(records);
+
+            assertThat(result.getReceived()).isEqualTo(2);
+            assertThat(result.getCompetitorsCreated()).isEqualTo(1);
+            assertThat(result.getFailures()).singleElement()
+                    .satisfies(failure -> assertThat(failure.getRecord()).isZero());
+        }
+
+        @Test
+        @DisplayName("Should report every record of a chunk that fails to commit and continue")
+        void shouldReportRolledBackChunk() {
+            when(competitorRepositoryPort.saveAll(anyList()))
+                    .thenThrow(new IllegalStateException("constraint violation"))
+                    .thenReturn(List.of());
+            int total = ManageCompetitorUseCase.IMPORT_CHUNK_SIZE + 1;
+            Iterator<Competitor> records = IntStream.range(0, total)
+                    .mapToObj(i -> newCompetitor("R" + i))
+                    .iterator();
+
+            CompetitorImportResult result = competitorService.importCompetitors(records);
+
+            assertThat(result.getFailed()).isEqualTo(ManageCompetitorUseCase.IMPORT_CHUNK_SIZE);
+            assertThat(result.getCompetitorsCreated()).isEqualTo(1);
+            verify(transactionManager).rollback(any());
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.astrazeneca.competitor_service.infrastructure.landscape;
+
+import com.astrazeneca.competitor_service.domain.model.ClinicalTrial;
+import com.astrazeneca.competitor_service.domain.model.Competitor;
+import com.astrazeneca.competitor_service.domain.model.LandscapeCell;
+import com.astrazeneca.competitor_service.domain.model.LandscapeDimension;
+import com.astrazeneca.competitor_service.domain.model.LandscapeQuery;
+import com.astrazeneca.competitor_service.domain.model.LandscapeResult;
+import com.astrazeneca.competitor_service.infrastructure.persistence.repository.CompetitorAreaRow;
+import com.astrazeneca.competitor_service.infrastructure.persistence.repository.JpaClinicalTrialRepository;
+import com.astrazeneca.competitor_service.infrastructure.persistence.repository.JpaCompetitorRepository;
+import com.astrazeneca.competitor_service.infrastructure.persistence.repository.TrialCountRow;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LandscapeCube Tests")
+class LandscapeCubeTest {
+
+    @Mock
+    private JpaCompetitorRepository jpaCompetitorRepository;
+
+    @Mock
+    private JpaClinicalTrialRepository jpaClinicalTrialRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private LandscapeCube cube;
+
+    @BeforeEach
+    void setUp() {
+        when(jpaCompetitorRepository.findAllTherapeuticAreaRows()).thenReturn(List.of(
+                new CompetitorAreaRow(1L, "Oncology"),
+                new CompetitorAreaRow(1L, "Hematology"),
+                new CompetitorAreaRow(2L, "Oncology")));
+        when(jpaClinicalTrialRepository.countByCompetitorPhaseAndStatus()).thenReturn(List.of(
+                new TrialCountRow(1L, "Phase III", "Recruiting", 3),
+                new TrialCountRow(1L, "Phase II", "Active", 1),
+                new TrialCountRow(2L, "Phase III", "Recruiting", 2),
+                new TrialCountRow(2L, "Phase I", "Completed", 1)));
+        cube = new LandscapeCube(jpaCompetitorRepository, jpaClinicalTrialRepository, transactionManager);
+        cube.afterSingletonsInstantiated();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static LandscapeQuery groupedBy(LandscapeDimension... dimensions) {
+        LandscapeQuery query = new LandscapeQuery();
+        query.setGroupBy(dimensions.length == 0
+                ? EnumSet.noneOf(LandscapeDimension.class) : EnumSet.of(dimensions[0], dimensions));
+        return query;
+    }
+
+    @Test
+    @DisplayName("Should roll everything up into one cell when grouping by nothing")
+    void shouldRollUpToGrandTotal() {
+        LandscapeResult result = cube.aggregate(groupedBy());
+
+        assertThat(result.getTotalTrials()).isEqualTo(7);
+        assertThat(result.getCells()).singleElement().extracting(LandscapeCell::getTrials).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("Should count a trial in every area of its competitor, largest cells first")
+    void shouldGroupByAreaAndPhase() {
+        LandscapeResult result = cube.aggregate(groupedBy(LandscapeDimension.THERAPEUTIC_AREA, LandscapeDimension.PHASE));
+
+        assertThat(result.getTotalTrials()).isEqualTo(7);
+        assertThat(result.getCells())
+                .extracting(LandscapeCell::getTherapeuticArea, LandscapeCell::getPhase, LandscapeCell::getTrials,
+                        LandscapeCell::getCompetitorId, LandscapeCell::getStatus)
+                .containsExactly(
+                        tuple("Oncology", "Phase III", 5L, null, null),
+                        tuple("Hematology", "Phase III", 3L, null, null),
+                        tuple("Hematology", "Phase II", 1L, null, null),
+                        tuple("Oncology", "Phase I", 1L, null, null),
+                        tuple("Oncology", "Phase II", 1L, null, null));
+    }
+
+    @Test
+    @DisplayName("Should slice by area, competitor and phase, ignoring case")
+    void shouldSliceByFilters() {
+        LandscapeQuery byArea = groupedBy(LandscapeDimension.STATUS);
+        byArea.setTherapeuticArea("hematology");
+        LandscapeQuery byCompetitorAndPhase = groupedBy();
+        byCompetitorAndPhase.setCompetitorId(2L);
+        byCompetitorAndPhase.setPhase("phase iii");
+        LandscapeQuery unknownCompetitor = groupedBy(LandscapeDimension.PHASE);
+        unknownCompetitor.setCompetitorId(404L);
+
+        LandscapeResult areaSlice = cube.aggregate(byArea);
+
+        assertThat(areaSlice.getTotalTrials()).isEqualTo(4);
+        assertThat(areaSlice.getCells()).extracting(LandscapeCell::getStatus, LandscapeCell::getTrials)
+                .containsExactly(tuple("Recruiting", 3L), tuple("Active", 1L));
+        assertThat(cube.aggregate(byCompetitorAndPhase).getTotalTrials()).isEqualTo(2);
+        assertThat(cube.aggregate(unknownCompetitor).getCells()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should put the trials of a competitor without areas in a cell without an area")
+    void shouldKeepTrialsOfCompetitorsWithoutAreas() {
+        cube.recordCompetitor(new Competitor(3L, "Sanofi", List.of(), "Paris",
+                List.of(new ClinicalTrial("NCT10", "Trial", "Phase II", "Active", "Eczema"))));
+
+        LandscapeResult result = cube.aggregate(groupedBy(LandscapeDimension.THERAPEUTIC_AREA));
+
+        assertThat(result.getTotalTrials()).isEqualTo(8);
+        assertThat(result.getCells()).extracting(LandscapeCell::getTherapeuticArea, LandscapeCell::getTrials)
+                .containsExactly(tuple("Oncology", 7L), tuple("Hematology", 4L), tuple(null, 1L));
+        LandscapeQuery byArea = groupedBy(LandscapeDimension.THERAPEUTIC_AREA);
+        byArea.setTherapeuticArea("Oncology");
+        assertThat(cube.aggregate(byArea).getTotalTrials()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("Should group and slice phases and statuses alike whatever their case")
+    void shouldFoldPhaseAndStatusSpellings() {
+        cube.recordTrials(2L, List.of(
+                new ClinicalTrial("NCT9", "Trial", "phase iii", "RECRUITING", "AML"),
+                new ClinicalTrial("NCT10", "Trial", " Phase II ", "active", "AML")));
+
+        LandscapeResult grouped = cube.aggregate(groupedBy(LandscapeDimension.PHASE, LandscapeDimension.STATUS));
+
+        assertThat(grouped.getCells())
+                .extracting(LandscapeCell::getPhase, LandscapeCell::getStatus, LandscapeCell::getTrials)
+                .containsExactly(
+                        tuple("Phase III", "Recruiting", 6L),
+                        tuple("Phase II", "Active", 2L),
+                        tuple("Phase I", "Completed", 1L));
+        LandscapeQuery sliced = groupedBy(LandscapeDimension.PHASE);
+        sliced.setPhase("PHASE III");
+        sliced.setStatus("recruiting");
+        assertThat(cube.aggregate(sliced).getCells()).extracting(LandscapeCell::getPhase, LandscapeCell::getTrials)
+                .containsExactly(tuple("Phase III", 6L));
+    }
+
+    @Test
+    @DisplayName("Should count added trials only after the storing transaction commits")
+    void shouldRecordTrialsAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        cube.recordTrials(2L, List.of(new ClinicalTrial("NCT9", "Trial", "Phase I", "Completed", "AML")));
+
+        assertThat(cube.aggregate(groupedBy()).getTotalTrials()).isEqualTo(7);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        LandscapeQuery query = groupedBy(LandscapeDimension.COMPETITOR);
+        query.setStatus("Completed");
+        assertThat(cube.aggregate(query).getCells()).extracting(LandscapeCell::getCompetitorId, LandscapeCell::getTrials)
+                .containsExactly(tuple(2L, 2L));
+    }
+
+    @Test
+    @DisplayName("Should add a created competitor's areas and trials")
+    void shouldRecordCreatedCompetitor() {
+        cube.recordCompetitor(new Competitor(3L, "Sanofi", List.of("Immunology"), "Paris",
+                List.of(new ClinicalTrial("NCT10", "Trial", "Phase II", "Active", "Eczema"))));
+
+        LandscapeQuery query = groupedBy(LandscapeDimension.PHASE);
+        query.setTherapeuticArea("Immunology");
+        assertThat(cube.aggregate(query).getCells()).extracting(LandscapeCell::getPhase, LandscapeCell::getTrials)
+                .containsExactly(tuple("Phase II", 1L));
+    }
+}
@@ -0,0 +1,136 @@
+package com.astrazeneca.competitor_service.infrastructure.persistence.adapter;
+
+import com.astrazeneca.competitor_service.domain.model.ClinicalTrial;
+import com.astrazeneca.competitor_service.domain.model.Competitor;
+import com.astrazeneca.competitor_service.domain.ports.out.CompetitorRepositoryPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CachingCompetitorPersistenceAdapter Tests")
+class CachingCompetitorPersistenceAdapterTest {
+
+    @Mock
+    private CompetitorRepositoryPort delegate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong nanos = new AtomicLong();
+
+    private CachingCompetitorPersistenceAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new CachingCompetitorPersistenceAdapter(delegate, meterRegistry, 100, Duration.ofMinutes(10), nanos::get);
+    }
+
+    private static Competitor competitor(Long id) {
+        List<ClinicalTrial> trials = new ArrayList<>();
+        trials.add(new ClinicalTrial("NCT1", "Trial", "Phase II", "Active", "NSCLC"));
+        return new Competitor(id, "Pfizer", new ArrayList<>(List.of("Oncology")), "New York", trials);
+    }
+
+    private double gets(String result) {
+        return meterRegistry.get("cache.gets").tag("cache", CachingCompetitorPersistenceAdapter.CACHE_NAME)
+                .tag("result", result).functionCounter().count();
+    }
+
+    @Test
+    @DisplayName("Should serve repeated lookups from the cache and export hit/miss counters")
+    void shouldServeRepeatedLookupsFromCache() {
+        when(delegate.findById(1L)).thenReturn(Optional.of(competitor(1L)));
+
+        Optional<Competitor> first = adapter.findById(1L);
+        Optional<Competitor> second = adapter.findById(1L);
+
+        assertThat(first).isPresent();
+        assertThat(second).containsSame(first.get());
+        verify(delegate, times(1)).findById(1L);
+        assertThat(gets("miss")).isEqualTo(1);
+        assertThat(gets("hit")).isEqualTo(1);
+        assertThat(meterRegistry.find("cache.evictions").functionCounter()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should not cache unknown ids")
+    void shouldNotCacheUnknownIds() {
+        when(delegate.findById(404L)).thenReturn(Optional.empty());
+
+        assertThat(adapter.findById(404L)).isEmpty();
+        assertThat(adapter.findById(404L)).isEmpty();
+
+        verify(delegate, times(2)).findById(404L);
+    }
+
+    @Test
+    @DisplayName("Should hand out cached aggregates with read-only collections")
+    void shouldHandOutReadOnlyCollections() {
+        when(delegate.findById(1L)).thenReturn(Optional.of(competitor(1L)));
+
+        Competitor cached = adapter.findById(1L).orElseThrow();
+
+        assertThatThrownBy(() -> cached.getClinicalTrials().clear()).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> cached.getTherapeuticAreas().add("Rare")).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("Should evict only the competitor a trial is added to")
+    void shouldEvictOnlyTheAffectedCompetitor() {
+        when(delegate.findById(1L)).thenReturn(Optional.of(competitor(1L)));
+        when(delegate.findById(2L)).thenReturn(Optional.of(competitor(2L)));
+        adapter.findById(1L);
+        adapter.findById(2L);
+
+        adapter.addClinicalTrial(1L, new ClinicalTrial("NCT2", "Trial", "Phase III", "Active", "AML"));
+        adapter.findById(1L);
+        adapter.findById(2L);
+
+        verify(delegate, times(2)).findById(1L);
+        verify(delegate, times(1)).findById(2L);
+    }
+
+    @Test
+    @DisplayName("Should evict saved competitors")
+    void shouldEvictSavedCompetitors() {
+        Competitor existing = competitor(1L);
+        when(delegate.findById(1L)).thenReturn(Optional.of(existing));
+        when(delegate.save(any())).thenReturn(existing);
+        when(delegate.saveAll(any())).thenReturn(List.of(existing));
+        adapter.findById(1L);
+
+        adapter.save(existing);
+        adapter.findById(1L);
+        adapter.saveAll(List.of(existing));
+        adapter.findById(1L);
+
+        verify(delegate, times(3)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("Should reload entries once the TTL has elapsed")
+    void shouldReloadAfterTtl() {
+        when(delegate.findById(1L)).thenReturn(Optional.of(competitor(1L)));
+        adapter.findById(1L);
+
+        nanos.addAndGet(TimeUnit.MINUTES.toNanos(11));
+        adapter.findById(1L);
+
+        verify(delegate, times(2)).findById(1L);
+    }
+}
@@ -0,0 +1,100 @@
+package com.astrazeneca.competitor_service.infrastructure.persistence.adapter;
+
+import com.astrazeneca.competitor_service.domain.model.ClinicalTrial;
+import com.astrazeneca.competitor_service.domain.model.Competitor;
+import com.astrazeneca.competitor_service.domain.model.CompetitorTrial;
+import com.astrazeneca.competitor_service.infrastructure.persistence.filter.KnownCompetitorIds;
+import com.astrazeneca.competitor_service.infrastructure.persistence.mapper.PersistenceMapperImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.PersistenceException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@Import({ClinicalTrialPersistenceAdapter.class, CompetitorPersistenceAdapter.class, PersistenceMapperImpl.class,
+        KnownCompetitorIds.class, SimpleMeterRegistry.class})
+@DisplayName("ClinicalTrialPersistenceAdapter Tests")
+class ClinicalTrialPersistenceAdapterTest {
+
+    @Autowired
+    private ClinicalTrialPersistenceAdapter adapter;
+
+    @Autowired
+    private CompetitorPersistenceAdapter competitorAdapter;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long competitorId;
+
+    @BeforeEach
+    void setUp() {
+        competitorId = competitorAdapter.save(competitor("Pfizer",
+                new ClinicalTrial("NCT001", "Trial A", "Phase II", "Recruiting", "NSCLC"),
+                new ClinicalTrial("NCT002", "Trial B", "Phase III", "Active", "Melanoma"))).getId();
+        testEntityManager.flush();
+        testEntityManager.clear();
+    }
+
+    private static Competitor competitor(String name, ClinicalTrial... trials) {
+        Competitor competitor = new Competitor();
+        competitor.setName(name);
+        competitor.setHeadquarters("New York");
+        competitor.setTherapeuticAreas(List.of("Oncology"));
+        competitor.setClinicalTrials(List.of(trials));
+        return competitor;
+    }
+
+    @Test
+    @DisplayName("Should resolve a trial and its owning competitor by registry id")
+    void shouldFindByTrialId() {
+        assertThat(adapter.findByTrialId("NCT002")).hasValueSatisfying(match -> {
+            assertThat(match.getCompetitorId()).isEqualTo(competitorId);
+            assertThat(match.getTrial().getName()).isEqualTo("Trial B");
+            assertThat(match.getTrial().getPhase()).isEqualTo("Phase III");
+        });
+        assertThat(adapter.findByTrialId("NCT404")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should resolve a batch of registry ids and report which exist")
+    void shouldFindByTrialIds() {
+        assertThat(adapter.findByTrialIds(List.of("NCT001", "NCT002", "NCT404")))
+                .extracting(match -> match.getTrial().getTrialId())
+                .containsExactlyInAnyOrder("NCT001", "NCT002");
+        assertThat(adapter.findExistingTrialIds(List.of("NCT002", "NCT404"))).containsExactly("NCT002");
+        assertThat(adapter.findByTrialIds(List.of())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject a second trial with the same registry id")
+    void shouldRejectDuplicateTrialId() {
+        competitorAdapter.save(competitor("Novartis",
+                new ClinicalTrial("NCT001", "Copy", "Phase I", "Active", "AML")));
+
+        assertThatThrownBy(() -> testEntityManager.flush()).isInstanceOf(PersistenceException.class);
+    }
+
+    @Test
+    @DisplayName("Should plan lookups by registry id on the unique index")
+    void shouldUseUniqueIndexForLookups() {
+        String plan = jdbcTemplate.queryForObject(
+                "EXPLAIN SELECT id FROM clinical_trials WHERE trial_id = 'NCT001'", String.class);
+
+        assertThat(plan).containsIgnoringCase("UK_CLINICAL_TRIALS_TRIAL_ID");
+    }
+}
@@ -0,0 +1,306 @@
+package com.astrazeneca.competitor_service.infrastructure.persistence.adapter;
+
+import com.astrazeneca.competitor_service.domain.model.ClinicalTrial;
+import com.astrazeneca.competitor_service.domain.model.Competitor;
+import com.astrazeneca.competitor_service.domain.model.CompetitorPage;
+import com.astrazeneca.competitor_service.domain.model.CompetitorSummary;
+import com.astrazeneca.competitor_service.domain.model.CompetitorSummaryPage;
+import com.astrazeneca.competitor_service.domain.ports.in.ManageCompetitorUseCase;
+import com.astrazeneca.competitor_service.infrastructure.persistence.filter.KnownCompetitorIds;
+import com.astrazeneca.competitor_service.infrastructure.persistence.mapper.PersistenceMapperImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({CompetitorPersistenceAdapter.class, PersistenceMapperImpl.class, KnownCompetitorIds.class,
+        SimpleMeterRegistry.class})
+@DisplayName("CompetitorPersistenceAdapter Tests")
+class CompetitorPersistenceAdapterTest {
+
+    @Autowired
+    private CompetitorPersistenceAdapter adapter;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 1; i <= 5; i++) {
+            Competitor competitor = new Competitor();
+            competitor.setName("Competitor " + i);
+            competitor.setHeadquarters("City " + i);
+            competitor.setTherapeuticAreas(List.of("Oncology"));
+            adapter.save(competitor);
+        }
+    }
+
+    private void seedCompetitorsWithTrials(int count) {
+        for (int i = 0; i < count; i++) {
+            Competitor competitor = new Competitor();
+            competitor.setName("Seeded " + i);
+            competitor.setHeadquarters("Basel, Switzerland");
+            competitor.setTherapeuticAreas(List.of("Oncology", "Immunology"));
+            competitor.setClinicalTrials(List.of(
+                    new ClinicalTrial("NCT" + i + "01", "Trial A", "Phase II", "Recruiting", "NSCLC"),
+                    new ClinicalTrial("NCT" + i + "02", "Trial B", "Phase III", "Active", "Melanoma")));
+            adapter.save(competitor);
+        }
+        testEntityManager.flush();
+        testEntityManager.clear();
+    }
+
+    private long countStatementsForPage(int size) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        CompetitorPage page = adapter.findPage(null, size);
+
+        assertThat(page.getCompetitors()).hasSize(size);
+        assertThat(page.getCompetitors())
+                .filteredOn(c -> c.getName().startsWith("Seeded"))
+                .allSatisfy(c -> {
+                    assertThat(c.getClinicalTrials()).hasSize(2);
+                    assertThat(c.getTherapeuticAreas()).containsExactlyInAnyOrder("Oncology", "Immunology");
+                });
+        long statements = statistics.getPrepareStatementCount();
+        testEntityManager.clear();
+        return statements;
+    }
+
+    @Test
+    @DisplayName("Should walk all competitors in id order using keyset cursors")
+    void shouldWalkAllCompetitorsUsingKeysetCursors() {
+        List<Long> seen = new ArrayList<>();
+        Long cursor = null;
+        int pages = 0;
+
+        do {
+            CompetitorPage page = adapter.findPage(cursor, 2);
+            page.getCompetitors().forEach(c -> seen.add(c.getId()));
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(seen).hasSize(5).isSorted().doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("Should report no next cursor when the page is exactly filled")
+    void shouldReportNoNextCursorWhenPageExactlyFilled() {
+        CompetitorPage page = adapter.findPage(null, 5);
+
+        assertThat(page.getCompetitors()).hasSize(5);
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should load a page with a constant number of statements regardless of its size")
+    void shouldLoadPageWithConstantStatementCount() {
+        seedCompetitorsWithTrials(25);
+
+        long smallPage = countStatementsForPage(3);
+        long largePage = countStatementsForPage(30);
+
+        // page query + one IN-clause fetch per collection
+        assertThat(smallPage).isEqualTo(3);
+        assertThat(largePage).isEqualTo(smallPage);
+    }
+
+    @Test
+    @DisplayName("Should page summaries with trial counts from two projection queries, loading no entities")
+    void shouldPageSummariesWithoutLoadingTrials() {
+        seedCompetitorsWithTrials(25);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        CompetitorSummaryPage page = adapter.findSummaryPage(null, 30);
+
+        assertThat(page.getCompetitors()).hasSize(30).extracting(summary -> summary.getId()).isSorted();
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.getCompetitors())
+                .filteredOn(summary -> summary.getName().startsWith("Seeded"))
+                .hasSize(25)
+                .allSatisfy(summary -> {
+                    assertThat(summary.getTrialCount()).isEqualTo(2);
+                    assertThat(summary.getTherapeuticAreas()).containsExactlyInAnyOrder("Oncology", "Immunology");
+                });
+        assertThat(page.getCompetitors())
+                .filteredOn(summary -> summary.getName().startsWith("Competitor"))
+                .allSatisfy(summary -> assertThat(summary.getTrialCount()).isZero());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should resolve summaries of known ids with the two page queries, skipping never-stored ids")
+    void shouldFindSummariesByIds() {
+        seedCompetitorsWithTrials(3);
+        List<Long> seeded = adapter.findSummaryPage(null, ManageCompetitorUseCase.MAX_PAGE_SIZE).getCompetitors().stream()
+                .filter(summary -> summary.getName().startsWith("Seeded"))
+                .map(CompetitorSummary::getId)
+                .toList();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<CompetitorSummary> summaries = adapter.findSummariesByIds(List.of(seeded.get(0), seeded.get(2), 999_999L));
+
+        assertThat(summaries).extracting(CompetitorSummary::getId).containsExactlyInAnyOrder(seeded.get(0), seeded.get(2));
+        assertThat(summaries).allSatisfy(summary -> {
+            assertThat(summary.getTrialCount()).isEqualTo(2);
+            assertThat(summary.getTherapeuticAreas()).containsExactlyInAnyOrder("Oncology", "Immunology");
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(adapter.findSummariesByIds(List.of(999_999L))).isEmpty();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should walk summary pages with the same keyset cursors as full pages")
+    void shouldWalkSummaryPagesUsingKeysetCursors() {
+        CompetitorSummaryPage first = adapter.findSummaryPage(null, 2);
+        CompetitorSummaryPage second = adapter.findSummaryPage(first.getNextCursor(), 2);
+
+        assertThat(first.getNextCursor()).isEqualTo(adapter.findPage(null, 2).getNextCursor());
+        assertThat(second.getCompetitors().get(0).getId()).isGreaterThan(first.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("Should append a trial with a single insert whatever the existing trial count")
+    void shouldAppendTrialWithSingleInsert() {
+        Competitor empty = new Competitor(null, "Empty", List.of("Oncology"), "Basel", new ArrayList<>());
+        Long emptyId = adapter.save(empty).getId();
+
+        List<ClinicalTrial> trials = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            trials.add(new ClinicalTrial("NCT" + i, "Trial " + i, "Phase I", "Active", "NSCLC"));
+        }
+        Competitor large = new Competitor(null, "Large", List.of("Oncology", "Immunology"), "Basel", trials);
+        Long largeId = adapter.save(large).getId();
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        assertAppendIsSingleInsert(emptyId);
+        assertAppendIsSingleInsert(largeId);
+        assertThat(adapter.findById(largeId)).get()
+                .satisfies(c -> assertThat(c.getClinicalTrials()).hasSize(201));
+    }
+
+    @Test
+    @DisplayName("Should read the version alone and advance it when a trial is appended")
+    void shouldReadAndAdvanceVersion() {
+        Long id = adapter.save(new Competitor(null, "Versioned", List.of("Oncology"), "Basel", new ArrayList<>())).getId();
+        testEntityManager.flush();
+        testEntityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        long before = adapter.findVersion(id).orElseThrow();
+        adapter.addClinicalTrial(id, new ClinicalTrial("NCT-V1", "Trial", "Phase I", "Active", "AML"));
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        assertThat(adapter.findVersion(id)).contains(before + 1);
+        assertThat(adapter.findById(id)).get().satisfies(c -> assertThat(c.getVersion()).isEqualTo(before + 1));
+        assertThat(adapter.findVersion(-1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should batch appended trials and advance each competitor's version once")
+    void shouldBatchAppendedTrialsAndAdvanceVersionsOnce() {
+        Long first = adapter.save(new Competitor(null, "First", List.of("Oncology"), "Basel", new ArrayList<>())).getId();
+        Long second = adapter.save(new Competitor(null, "Second", List.of("Oncology"), "Basel", new ArrayList<>())).getId();
+        testEntityManager.flush();
+        testEntityManager.clear();
+        long firstBefore = adapter.findVersion(first).orElseThrow();
+        long secondBefore = adapter.findVersion(second).orElseThrow();
+        Map<Long, List<ClinicalTrial>> trials = new LinkedHashMap<>();
+        trials.put(first, trialsNamed("NCT-A", 60));
+        trials.put(second, trialsNamed("NCT-B", 40));
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        adapter.addClinicalTrials(trials);
+        testEntityManager.flush();
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(100);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        // Two INSERT batches of 50, the pooled sequence a few times and one version UPDATE;
+        // a version bump per trial would flush, and prepare, every INSERT on its own
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(10);
+        testEntityManager.clear();
+        assertThat(adapter.findVersion(first)).contains(firstBefore + 1);
+        assertThat(adapter.findVersion(second)).contains(secondBefore + 1);
+        assertThat(adapter.findById(first)).get().satisfies(c -> assertThat(c.getClinicalTrials()).hasSize(60));
+    }
+
+    private static List<ClinicalTrial> trialsNamed(String prefix, int count) {
+        List<ClinicalTrial> trials = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            trials.add(new ClinicalTrial(prefix + i, "Trial", "Phase II", "Recruiting", "NSCLC"));
+        }
+        return trials;
+    }
+
+    @Test
+    @DisplayName("Should answer lookups of never-stored ids without a query")
+    void shouldSkipQueriesForUnknownIds() {
+        testEntityManager.flush();
+        testEntityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        double skippedBefore = meterRegistry.get("id.filter.lookups").tag("result", "skipped").counter().count();
+
+        assertThat(adapter.findById(1_000_000L)).isEmpty();
+        assertThat(adapter.findVersion(1_000_001L)).isEmpty();
+        assertThat(adapter.existsById(1_000_002L)).isFalse();
+        assertThat(adapter.findExistingIds(List.of(1_000_003L, 1_000_004L))).isEmpty();
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(meterRegistry.get("id.filter.lookups").tag("result", "skipped").counter().count())
+                .isEqualTo(skippedBefore + 5);
+    }
+
+    private void assertAppendIsSingleInsert(Long competitorId) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        ClinicalTrial added = adapter.addClinicalTrial(competitorId,
+                new ClinicalTrial("NCT-NEW-" + competitorId, "New Trial", "Phase II", "Recruiting", "Melanoma"));
+        testEntityManager.flush();
+
+        assertThat(added.getTrialId()).isEqualTo("NCT-NEW-" + competitorId);
+        // Counted by entity operations rather than statements: the pooled id sequence
+        // is consulted once per 50 ids, independently of the competitor's size
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+        assertThat(statistics.getCollectionUpdateCount()).isZero();
+        testEntityManager.clear();
+    }
+}
@@ -0,0 +1,33 @@
+package com.astrazeneca.competitor_service.infrastructure.persistence.filter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LongBloomFilter Tests")
+class LongBloomFilterTest {
+
+    @Test
+    @DisplayName("Should never report an added key as absent")
+    void shouldHaveNoFalseNegatives() {
+        LongBloomFilter filter = new LongBloomFilter(10_000, 0.01);
+        LongStream.rangeClosed(1, 10_000).forEach(filter::add);
+
+        assertThat(LongStream.rangeClosed(1, 10_000).allMatch(filter::mightContain)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should keep the false-positive rate near its target for sequential ids")
+    void shouldKeepFalsePositiveRateNearTarget() {
+        LongBloomFilter filter = new LongBloomFilter(10_000, 0.01);
+        LongStream.rangeClosed(1, 10_000).forEach(filter::add);
+
+        long falsePositives = LongStream.rangeClosed(10_001, 110_000).filter(filter::mightContain).count();
+
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+        assertThat(filter.hashCount()).isEqualTo(7);
+    }
+}
@@ -0,0 +1,107 @@
+package com.astrazeneca.competitor_service.infrastructure.search;
+
+import com.astrazeneca.competitor_service.domain.model.ClinicalTrial;
+import com.astrazeneca.competitor_service.domain.model.CompetitorTrial;
+import com.astrazeneca.competitor_service.domain.model.TrialSearchResult;
+import com.astrazeneca.competitor_service.infrastructure.persistence.repository.ClinicalTrialRow;
+import com.astrazeneca.competitor_service.infrastructure.persistence.repository.JpaClinicalTrialRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InvertedTrialIndex Tests")
+class InvertedTrialIndexTest {
+
+    @Mock
+    private JpaClinicalTrialRepository jpaClinicalTrialRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private InvertedTrialIndex index;
+
+    @BeforeEach
+    void setUp() {
+        when(jpaClinicalTrialRepository.streamAllRows()).thenReturn(Stream.of(
+                new ClinicalTrialRow(1L, "NCT1", "Phase III Lung Cancer Study", "Phase III", "Recruiting", "Non-Small Cell Lung Cancer"),
+                new ClinicalTrialRow(1L, "NCT2", "Myeloma Combination", "Phase II", "Active", "Multiple Myeloma"),
+                new ClinicalTrialRow(2L, "NCT3", "Sjögren's Syndrome Trial", "Phase I", "Completed", "Sjögren's syndrome"),
+                new ClinicalTrialRow(2L, "NCT4", "Small-Cell Lung Study", "Phase II", "Recruiting", "SCLC")));
+        index = new InvertedTrialIndex(jpaClinicalTrialRepository, transactionManager);
+        index.afterSingletonsInstantiated();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static List<String> trialIds(TrialSearchResult result) {
+        return result.getTrials().stream().map(match -> match.getTrial().getTrialId()).toList();
+    }
+
+    @Test
+    @DisplayName("Should match every query word in name or indication, ignoring case and accents")
+    void shouldMatchAllWordsIgnoringCaseAndAccents() {
+        assertThat(trialIds(index.search("LUNG", 10))).containsExactly("NCT1", "NCT4");
+        assertThat(trialIds(index.search("small cell lung", 10))).containsExactly("NCT1", "NCT4");
+        assertThat(trialIds(index.search("lung non-small", 10))).containsExactly("NCT1");
+        assertThat(trialIds(index.search("sjogren", 10))).containsExactly("NCT3");
+        assertThat(index.search("myeloma", 10).getTrials()).singleElement()
+                .extracting(CompetitorTrial::getCompetitorId).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Should return nothing when any word is unknown or the query has no words")
+    void shouldReturnNothingForUnknownWords() {
+        assertThat(index.search("lung leukemia", 10).getTotalMatches()).isZero();
+        assertThat(index.search("lun", 10).getTrials()).isEmpty();
+        assertThat(index.search("--", 10).getTrials()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should cap returned trials at the limit but count all matches")
+    void shouldCapResultsAtLimit() {
+        TrialSearchResult result = index.search("study", 1);
+
+        assertThat(trialIds(result)).containsExactly("NCT1");
+        assertThat(result.getTotalMatches()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should make trials searchable only after the storing transaction commits")
+    void shouldIndexAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        index.index(3L, List.of(new ClinicalTrial("NCT5", "Atopic Dermatitis Study", "Phase II", "Active", "Eczema")));
+
+        assertThat(index.search("eczema", 10).getTrials()).isEmpty();
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(trialIds(index.search("eczema", 10))).containsExactly("NCT5");
+    }
+
+    @Test
+    @DisplayName("Should index immediately outside a transaction")
+    void shouldIndexImmediatelyWithoutTransaction() {
+        index.index(3L, List.of(new ClinicalTrial("NCT6", "Psoriasis Study", "Phase III", "Active", "Plaque Psoriasis")));
+
+        assertThat(index.search("psoriasis", 10).getTrials()).singleElement()
+                .satisfies(match -> assertThat(match.getCompetitorId()).isEqualTo(3L));
+    }
+}
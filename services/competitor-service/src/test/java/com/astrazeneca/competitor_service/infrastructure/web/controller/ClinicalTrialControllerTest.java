@@ -0,0 +1,115 @@
+package com.astrazeneca.competitor_service.infrastructure.web.controller;
+
+import com.astrazeneca.competitor_service.domain.exception.InvalidClinicalTrialException;
+import com.astrazeneca.competitor_service.domain.model.ClinicalTrial;
+import com.astrazeneca.competitor_service.domain.model.CompetitorTrial;
+import com.astrazeneca.competitor_service.domain.model.TrialLookupResult;
+import com.astrazeneca.competitor_service.domain.model.TrialSearchResult;
+import com.astrazeneca.competitor_service.domain.ports.in.LookupClinicalTrialsUseCase;
+import com.astrazeneca.competitor_service.domain.ports.in.SearchClinicalTrialsUseCase;
+import com.astrazeneca.competitor_service.infrastructure.web.dto.TrialLookupRequest;
+import com.astrazeneca.competitor_service.infrastructure.web.dto.TrialLookupResponse;
+import com.astrazeneca.competitor_service.infrastructure.web.dto.TrialResponse;
+import com.astrazeneca.competitor_service.infrastructure.web.dto.TrialSearchResponse;
+import com.astrazeneca.competitor_service.infrastructure.web.mapper.WebMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ClinicalTrialController Tests")
+class ClinicalTrialControllerTest {
+
+    @Mock
+    private SearchClinicalTrialsUseCase searchClinicalTrialsUseCase;
+
+    @Mock
+    private LookupClinicalTrialsUseCase lookupClinicalTrialsUseCase;
+
+    private final WebMapper webMapper = Mappers.getMapper(WebMapper.class);
+
+    @Test
+    @DisplayName("Should return matching trials with their competitor and the total match count")
+    void shouldReturnMatchingTrials() {
+        // Given
+        ClinicalTrialController controller = new ClinicalTrialController(searchClinicalTrialsUseCase, lookupClinicalTrialsUseCase, webMapper);
+        ClinicalTrial trial = new ClinicalTrial("NCT12345", "Drug A Trial", "Phase III", "Active", "Lung Cancer");
+        when(searchClinicalTrialsUseCase.searchTrials("lung", 20))
+                .thenReturn(new TrialSearchResult(List.of(new CompetitorTrial(1L, trial)), 42));
+
+        // When
+        ResponseEntity<TrialSearchResponse> response = controller.searchTrials("lung", 20);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getTotalMatches()).isEqualTo(42);
+        assertThat(response.getBody().getTrials()).singleElement().satisfies(dto -> {
+            assertThat(dto.getCompetitorId()).isEqualTo(1L);
+            assertThat(dto.getTrialId()).isEqualTo("NCT12345");
+            assertThat(dto.getIndication()).isEqualTo("Lung Cancer");
+        });
+    }
+
+    @Test
+    @DisplayName("Should propagate invalid search parameters")
+    void shouldPropagateInvalidSearchParameters() {
+        // Given
+        ClinicalTrialController controller = new ClinicalTrialController(searchClinicalTrialsUseCase, lookupClinicalTrialsUseCase, webMapper);
+        when(searchClinicalTrialsUseCase.searchTrials(" ", 20))
+                .thenThrow(new InvalidClinicalTrialException("q", "must not be blank"));
+
+        // When & Then
+        assertThatThrownBy(() -> controller.searchTrials(" ", 20))
+                .isInstanceOf(InvalidClinicalTrialException.class)
+                .hasMessageContaining("q");
+    }
+
+    @Test
+    @DisplayName("Should return a trial resolved by its registry id")
+    void shouldReturnTrialByTrialId() {
+        // Given
+        ClinicalTrialController controller = new ClinicalTrialController(searchClinicalTrialsUseCase, lookupClinicalTrialsUseCase, webMapper);
+        ClinicalTrial trial = new ClinicalTrial("NCT12345", "Drug A Trial", "Phase III", "Active", "Lung Cancer");
+        when(lookupClinicalTrialsUseCase.getTrialByTrialId("NCT12345")).thenReturn(new CompetitorTrial(7L, trial));
+
+        // When
+        ResponseEntity<TrialResponse> response = controller.getTrialByTrialId("NCT12345");
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getCompetitorId()).isEqualTo(7L);
+        assertThat(response.getBody().getName()).isEqualTo("Drug A Trial");
+    }
+
+    @Test
+    @DisplayName("Should return found trials and unknown ids of a batch lookup")
+    void shouldReturnBatchLookup() {
+        // Given
+        ClinicalTrialController controller = new ClinicalTrialController(searchClinicalTrialsUseCase, lookupClinicalTrialsUseCase, webMapper);
+        ClinicalTrial trial = new ClinicalTrial("NCT1", "Drug A Trial", "Phase III", "Active", "Lung Cancer");
+        when(lookupClinicalTrialsUseCase.getTrialsByTrialIds(List.of("NCT1", "NCT404")))
+                .thenReturn(new TrialLookupResult(List.of(new CompetitorTrial(1L, trial)), List.of("NCT404")));
+
+        // When
+        ResponseEntity<TrialLookupResponse> response = controller.lookupTrials(new TrialLookupRequest(List.of("NCT1", "NCT404")));
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getTrials()).extracting(TrialResponse::getTrialId).containsExactly("NCT1");
+        assertThat(response.getBody().getNotFound()).containsExactly("NCT404");
+    }
+}
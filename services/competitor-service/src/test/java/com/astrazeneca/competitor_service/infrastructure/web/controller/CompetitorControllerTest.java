@@ -4,10 +4,17 @@ import com.astrazeneca.competitor_service.domain.exception.CompetitorNotFoundExc
 import com.astrazeneca.competitor_service.domain.exception.InvalidCompetitorDataException;
 import com.astrazeneca.competitor_service.domain.model.ClinicalTrial;
 import com.astrazeneca.competitor_service.domain.model.Competitor;
+import com.astrazeneca.competitor_service.domain.model.CompetitorPage;
+import com.astrazeneca.competitor_service.domain.model.CompetitorSummary;
+import com.astrazeneca.competitor_service.domain.model.CompetitorSummaryPage;
 import com.astrazeneca.competitor_service.domain.ports.in.ManageCompetitorUseCase;
 import com.astrazeneca.competitor_service.infrastructure.web.dto.AddTrialRequest;
+import com.astrazeneca.competitor_service.infrastructure.web.dto.CompetitorPageResponse;
 import com.astrazeneca.competitor_service.infrastructure.web.dto.CompetitorResponse;
+import com.astrazeneca.competitor_service.infrastructure.web.dto.CompetitorSummaryPageResponse;
+import com.astrazeneca.competitor_service.infrastructure.web.dto.CompetitorSummaryResponse;
 import com.astrazeneca.competitor_service.infrastructure.web.dto.CreateCompetitorRequest;
+import com.astrazeneca.competitor_service.infrastructure.web.mapper.CursorCodec;
 import com.astrazeneca.competitor_service.infrastructure.web.mapper.WebMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -16,8 +23,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -45,6 +57,18 @@ class CompetitorControllerTest {
     private AddTrialRequest addTrialRequest;
     private ClinicalTrial clinicalTrial;
 
+    private static WebRequest webRequest() {
+        return webRequest(null);
+    }
+
+    private static WebRequest webRequest(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/competitors");
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
+
     @BeforeEach
     void setUp() {
         // Setup CreateCompetitorRequest
@@ -125,44 +149,99 @@ class CompetitorControllerTest {
     }
 
     @Test
-    @DisplayName("Should get all competitors successfully")
-    void shouldGetAllCompetitorsSuccessfully() {
+    @DisplayName("Should get first page of competitors successfully")
+    void shouldGetFirstPageOfCompetitorsSuccessfully() {
         // Given
         List<Competitor> competitors = List.of(competitor);
         List<CompetitorResponse> responses = List.of(competitorResponse);
+        CompetitorPage page = new CompetitorPage(competitors, 1L);
 
-        when(manageCompetitorUseCase.getAllCompetitors()).thenReturn(competitors);
+        when(manageCompetitorUseCase.getCompetitors(null, 1)).thenReturn(page);
         when(webMapper.toResponseList(competitors)).thenReturn(responses);
 
         // When
-        ResponseEntity<List<CompetitorResponse>> response = competitorController.getAllCompetitors();
+        ResponseEntity<CompetitorPageResponse> response = competitorController.getCompetitors(null, 1, webRequest());
 
         // Then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isNotNull();
-        assertThat(response.getBody()).hasSize(1);
-        assertThat(response.getBody().get(0).getName()).isEqualTo("Pfizer");
+        assertThat(response.getBody().getContent()).hasSize(1);
+        assertThat(response.getBody().getContent().get(0).getName()).isEqualTo("Pfizer");
+        assertThat(response.getBody().isHasNext()).isTrue();
+        assertThat(CursorCodec.decode(response.getBody().getNextCursor())).isEqualTo(1L);
 
-        verify(manageCompetitorUseCase).getAllCompetitors();
+        verify(manageCompetitorUseCase).getCompetitors(null, 1);
         verify(webMapper).toResponseList(competitors);
     }
 
     @Test
-    @DisplayName("Should return empty list when no competitors exist")
-    void shouldReturnEmptyListWhenNoCompetitorsExist() {
+    @DisplayName("Should get a page of competitor summaries with trial counts")
+    void shouldGetPageOfCompetitorSummaries() {
+        // Given
+        List<CompetitorSummary> summaries = List.of(new CompetitorSummary(1L, "Pfizer", "New York", List.of("Oncology"), 12));
+        List<CompetitorSummaryResponse> responses = List.of(
+                new CompetitorSummaryResponse(1L, "Pfizer", List.of("Oncology"), "New York", 12));
+        when(manageCompetitorUseCase.getCompetitorSummaries(null, 1)).thenReturn(new CompetitorSummaryPage(summaries, 1L));
+        when(webMapper.toSummaryResponseList(summaries)).thenReturn(responses);
+
+        // When
+        ResponseEntity<CompetitorSummaryPageResponse> response = competitorController.getCompetitorSummaries(null, 1, webRequest());
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getContent()).singleElement()
+                .satisfies(summary -> assertThat(summary.getTrialCount()).isEqualTo(12));
+        assertThat(CursorCodec.decode(response.getBody().getNextCursor())).isEqualTo(1L);
+        verify(manageCompetitorUseCase, never()).getCompetitors(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should resume from decoded cursor")
+    void shouldResumeFromDecodedCursor() {
         // Given
-        when(manageCompetitorUseCase.getAllCompetitors()).thenReturn(List.of());
+        String cursor = CursorCodec.encode(42L);
+        when(manageCompetitorUseCase.getCompetitors(42L, 20)).thenReturn(new CompetitorPage(List.of(), null));
         when(webMapper.toResponseList(List.of())).thenReturn(List.of());
 
         // When
-        ResponseEntity<List<CompetitorResponse>> response = competitorController.getAllCompetitors();
+        ResponseEntity<CompetitorPageResponse> response = competitorController.getCompetitors(cursor, 20, webRequest());
+
+        // Then
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().isHasNext()).isFalse();
+        assertThat(response.getBody().getNextCursor()).isNull();
+        verify(manageCompetitorUseCase).getCompetitors(42L, 20);
+    }
+
+    @Test
+    @DisplayName("Should reject malformed cursor")
+    void shouldRejectMalformedCursor() {
+        // When & Then
+        assertThatThrownBy(() -> competitorController.getCompetitors("not-a-cursor!", 20, webRequest()))
+                .isInstanceOf(InvalidCompetitorDataException.class)
+                .hasMessageContaining("cursor");
+
+        verifyNoInteractions(manageCompetitorUseCase);
+    }
+
+    @Test
+    @DisplayName("Should return empty page when no competitors exist")
+    void shouldReturnEmptyPageWhenNoCompetitorsExist() {
+        // Given
+        when(manageCompetitorUseCase.getCompetitors(null, 20)).thenReturn(new CompetitorPage(List.of(), null));
+        when(webMapper.toResponseList(List.of())).thenReturn(List.of());
+
+        // When
+        ResponseEntity<CompetitorPageResponse> response = competitorController.getCompetitors(null, 20, webRequest());
 
         // Then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isNotNull();
-        assertThat(response.getBody()).isEmpty();
+        assertThat(response.getBody().getContent()).isEmpty();
+        assertThat(response.getBody().isHasNext()).isFalse();
 
-        verify(manageCompetitorUseCase).getAllCompetitors();
+        verify(manageCompetitorUseCase).getCompetitors(null, 20);
         verify(webMapper).toResponseList(List.of());
     }
 
@@ -175,7 +254,7 @@ class CompetitorControllerTest {
         when(webMapper.toResponse(competitor)).thenReturn(competitorResponse);
 
         // When
-        ResponseEntity<CompetitorResponse> response = competitorController.getCompetitorById(competitorId);
+        ResponseEntity<CompetitorResponse> response = competitorController.getCompetitorById(competitorId, webRequest());
 
         // Then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -187,6 +266,54 @@ class CompetitorControllerTest {
         verify(webMapper).toResponse(competitor);
     }
 
+    @Test
+    @DisplayName("Should answer 304 from the version alone when If-None-Match matches")
+    void shouldAnswerNotModifiedFromVersion() {
+        // Given
+        when(manageCompetitorUseCase.getCompetitorVersion(1L)).thenReturn(3L);
+
+        // When
+        ResponseEntity<CompetitorResponse> response = competitorController.getCompetitorById(1L, webRequest("\"3\""));
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getBody()).isNull();
+        verify(manageCompetitorUseCase, never()).getCompetitorById(any());
+    }
+
+    @Test
+    @DisplayName("Should return the competitor with its new ETag when If-None-Match is stale")
+    void shouldReturnCompetitorWhenETagIsStale() {
+        // Given
+        competitor.setVersion(4L);
+        when(manageCompetitorUseCase.getCompetitorVersion(1L)).thenReturn(4L);
+        when(manageCompetitorUseCase.getCompetitorById(1L)).thenReturn(competitor);
+        when(webMapper.toResponse(competitor)).thenReturn(competitorResponse);
+
+        // When
+        ResponseEntity<CompetitorResponse> response = competitorController.getCompetitorById(1L, webRequest("\"3\""));
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"4\"");
+        assertThat(response.getBody()).isSameAs(competitorResponse);
+    }
+
+    @Test
+    @DisplayName("Should answer 304 for a list while the collection version is unchanged")
+    void shouldAnswerNotModifiedForUnchangedCollection() {
+        // Given
+        when(manageCompetitorUseCase.getCompetitorsVersion()).thenReturn("epoch-7");
+
+        // When
+        ResponseEntity<CompetitorSummaryPageResponse> response =
+                competitorController.getCompetitorSummaries(null, 20, webRequest("\"epoch-7\""));
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        verify(manageCompetitorUseCase, never()).getCompetitorSummaries(any(), anyInt());
+    }
+
     @Test
     @DisplayName("Should throw exception when competitor not found by ID")
     void shouldThrowExceptionWhenCompetitorNotFoundById() {
@@ -196,7 +323,7 @@ class CompetitorControllerTest {
                 .thenThrow(new CompetitorNotFoundException(competitorId));
 
         // When & Then
-        assertThatThrownBy(() -> competitorController.getCompetitorById(competitorId))
+        assertThatThrownBy(() -> competitorController.getCompetitorById(competitorId, webRequest()))
                 .isInstanceOf(CompetitorNotFoundException.class)
                 .hasMessageContaining("999");
 
@@ -209,25 +336,26 @@ class CompetitorControllerTest {
     void shouldAddClinicalTrialToCompetitorSuccessfully() {
         // Given
         Long competitorId = 1L;
-        competitor.setClinicalTrials(List.of(clinicalTrial));
-        competitorResponse.setClinicalTrials(List.of());
+        CompetitorResponse.ClinicalTrialDto trialDto = new CompetitorResponse.ClinicalTrialDto(
+                "NCT12345", "Drug A Trial", "Phase III", "Active", "Lung Cancer");
 
         when(webMapper.toDomain(addTrialRequest)).thenReturn(clinicalTrial);
         when(manageCompetitorUseCase.addClinicalTrialToCompetitor(competitorId, clinicalTrial))
-                .thenReturn(competitor);
-        when(webMapper.toResponse(competitor)).thenReturn(competitorResponse);
+                .thenReturn(clinicalTrial);
+        when(webMapper.toDto(clinicalTrial)).thenReturn(trialDto);
 
         // When
-        ResponseEntity<CompetitorResponse> response = competitorController.addClinicalTrial(competitorId, addTrialRequest);
+        ResponseEntity<CompetitorResponse.ClinicalTrialDto> response =
+                competitorController.addClinicalTrial(competitorId, addTrialRequest);
 
         // Then
-        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
         assertThat(response.getBody()).isNotNull();
-        assertThat(response.getBody().getId()).isEqualTo(1L);
+        assertThat(response.getBody().getTrialId()).isEqualTo("NCT12345");
 
         verify(webMapper).toDomain(addTrialRequest);
         verify(manageCompetitorUseCase).addClinicalTrialToCompetitor(competitorId, clinicalTrial);
-        verify(webMapper).toResponse(competitor);
+        verify(webMapper).toDto(clinicalTrial);
     }
 
     @Test
@@ -246,6 +374,6 @@ class CompetitorControllerTest {
 
         verify(webMapper).toDomain(addTrialRequest);
         verify(manageCompetitorUseCase).addClinicalTrialToCompetitor(competitorId, clinicalTrial);
-        verify(webMapper, never()).toResponse(any());
+        verify(webMapper, never()).toDto(any());
     }
 }
\ No newline at end of file
@@ -0,0 +1,74 @@
+package com.astrazeneca.competitor_service.infrastructure.web.controller;
+
+import com.astrazeneca.competitor_service.domain.exception.InvalidLandscapeQueryException;
+import com.astrazeneca.competitor_service.domain.model.LandscapeCell;
+import com.astrazeneca.competitor_service.domain.model.LandscapeDimension;
+import com.astrazeneca.competitor_service.domain.model.LandscapeQuery;
+import com.astrazeneca.competitor_service.domain.model.LandscapeResult;
+import com.astrazeneca.competitor_service.domain.ports.in.GetLandscapeUseCase;
+import com.astrazeneca.competitor_service.infrastructure.web.dto.LandscapeResponse;
+import com.astrazeneca.competitor_service.infrastructure.web.mapper.WebMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LandscapeController Tests")
+class LandscapeControllerTest {
+
+    @Mock
+    private GetLandscapeUseCase getLandscapeUseCase;
+
+    private final WebMapper webMapper = Mappers.getMapper(WebMapper.class);
+
+    @Test
+    @DisplayName("Should pass grouping dimensions and filters to the use case")
+    void shouldReturnLandscapeCells() {
+        // Given
+        LandscapeController controller = new LandscapeController(getLandscapeUseCase, webMapper);
+        ArgumentCaptor<LandscapeQuery> query = ArgumentCaptor.forClass(LandscapeQuery.class);
+        when(getLandscapeUseCase.getLandscape(query.capture())).thenReturn(new LandscapeResult(
+                List.of(new LandscapeCell(null, "Oncology", "Phase III", null, 5)), 5));
+
+        // When
+        ResponseEntity<LandscapeResponse> response = controller.getLandscape(
+                List.of("Area", " phase"), null, null, null, "Recruiting");
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(query.getValue().getGroupBy())
+                .containsExactlyInAnyOrder(LandscapeDimension.THERAPEUTIC_AREA, LandscapeDimension.PHASE);
+        assertThat(query.getValue().getStatus()).isEqualTo("Recruiting");
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getTotalTrials()).isEqualTo(5);
+        assertThat(response.getBody().getCells()).singleElement().satisfies(cell -> {
+            assertThat(cell.getTherapeuticArea()).isEqualTo("Oncology");
+            assertThat(cell.getTrials()).isEqualTo(5);
+        });
+    }
+
+    @Test
+    @DisplayName("Should reject an unknown grouping dimension")
+    void shouldRejectUnknownDimension() {
+        // Given
+        LandscapeController controller = new LandscapeController(getLandscapeUseCase, webMapper);
+
+        // When & Then
+        assertThatThrownBy(() -> controller.getLandscape(List.of("region"), null, null, null, null))
+                .isInstanceOf(InvalidLandscapeQueryException.class)
+                .hasMessageContaining("region");
+        verifyNoInteractions(getLandscapeUseCase);
+    }
+}
@@ -1,8 +1,11 @@
 package com.astrazeneca.competitor_service.infrastructure.web.exception;
 
+import com.astrazeneca.competitor_service.domain.exception.ClinicalTrialNotFoundException;
 import com.astrazeneca.competitor_service.domain.exception.CompetitorNotFoundException;
+import com.astrazeneca.competitor_service.domain.exception.DuplicateClinicalTrialException;
 import com.astrazeneca.competitor_service.domain.exception.InvalidClinicalTrialException;
 import com.astrazeneca.competitor_service.domain.exception.InvalidCompetitorDataException;
+import com.astrazeneca.competitor_service.domain.exception.InvalidLandscapeQueryException;
 import com.astrazeneca.competitor_service.infrastructure.web.dto.ErrorResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,6 +15,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpInputMessage;
 import org.springframework.http.HttpStatus;
@@ -87,6 +91,56 @@ class GlobalExceptionHandlerTest {
         assertThat(response.getBody().getMessage()).isEqualTo("Custom not found message");
     }
 
+    @Test
+    @DisplayName("Should handle ClinicalTrialNotFoundException with 404 status")
+    void shouldHandleClinicalTrialNotFoundException() {
+        // Given
+        ClinicalTrialNotFoundException exception = new ClinicalTrialNotFoundException("NCT404");
+
+        // When
+        ResponseEntity<ErrorResponse> response = exceptionHandler.handleClinicalTrialNotFound(exception, request);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getError()).isEqualTo("NOT_FOUND");
+        assertThat(response.getBody().getMessage()).contains("NCT404");
+    }
+
+    @Test
+    @DisplayName("Should handle DuplicateClinicalTrialException with 409 status")
+    void shouldHandleDuplicateClinicalTrialException() {
+        // Given
+        DuplicateClinicalTrialException exception = new DuplicateClinicalTrialException("NCT1");
+
+        // When
+        ResponseEntity<ErrorResponse> response = exceptionHandler.handleDuplicateClinicalTrial(exception, request);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getStatus()).isEqualTo(409);
+        assertThat(response.getBody().getError()).isEqualTo("DUPLICATE_CLINICAL_TRIAL");
+        assertThat(response.getBody().getMessage()).contains("NCT1");
+    }
+
+    @Test
+    @DisplayName("Should handle DataIntegrityViolationException with 409 status without leaking SQL")
+    void shouldHandleDataIntegrityViolationException() {
+        // Given
+        DataIntegrityViolationException exception = new DataIntegrityViolationException(
+                "could not execute statement", new RuntimeException("Unique index violation: UK_CLINICAL_TRIALS_TRIAL_ID"));
+
+        // When
+        ResponseEntity<ErrorResponse> response = exceptionHandler.handleDataIntegrityViolation(exception, request);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getError()).isEqualTo("CONFLICT");
+        assertThat(response.getBody().getMessage()).doesNotContain("UK_CLINICAL_TRIALS_TRIAL_ID");
+    }
+
     @Test
     @DisplayName("Should handle InvalidCompetitorDataException with 400 status")
     void shouldHandleInvalidCompetitorDataException() {
@@ -155,6 +209,22 @@ class GlobalExceptionHandlerTest {
         assertThat(response.getBody().getMessage()).contains("must not be blank");
     }
 
+    @Test
+    @DisplayName("Should handle InvalidLandscapeQueryException with 400 status")
+    void shouldHandleInvalidLandscapeQueryException() {
+        // Given
+        InvalidLandscapeQueryException exception = new InvalidLandscapeQueryException("groupBy", "unknown dimension 'region'");
+
+        // When
+        ResponseEntity<ErrorResponse> response = exceptionHandler.handleInvalidLandscapeQuery(exception, request);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getError()).isEqualTo("INVALID_LANDSCAPE_QUERY");
+        assertThat(response.getBody().getMessage()).contains("groupBy");
+    }
+
     // ==================== Validation Exceptions ====================
 
     @Test
@@ -0,0 +1,84 @@
+package com.astrazeneca.competitor_service.infrastructure.web.mapper;
+
+import com.astrazeneca.competitor_service.domain.exception.InvalidCompetitorDataException;
+import com.astrazeneca.competitor_service.domain.model.Competitor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CompetitorImportReader Tests")
+class CompetitorImportReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final WebMapper webMapper = Mappers.getMapper(WebMapper.class);
+
+    private static InputStream body(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<Object> drain(CompetitorImportReader reader) {
+        List<Object> results = new ArrayList<>();
+        while (reader.hasNext()) {
+            try {
+                results.add(reader.next());
+            } catch (InvalidCompetitorDataException ex) {
+                results.add(ex);
+            }
+        }
+        return results;
+    }
+
+    @Test
+    @DisplayName("Should read NDJSON records and continue past a malformed line")
+    void shouldReadNdjsonAndSkipMalformedLine() {
+        String ndjson = """
+                {"name":"Pfizer","headquarters":"New York","therapeuticAreas":["Oncology"],"clinicalTrials":[{"trialId":"NCT1","name":"T","phase":"Phase I","status":"Active","indication":"NSCLC"}]}
+                {not json}
+
+                {"competitorId":5,"clinicalTrials":[{"trialId":"NCT2","name":"T","phase":"Phase II","status":"Active","indication":"AML"}]}
+                """;
+
+        List<Object> results = drain(CompetitorImportReader.ndjson(body(ndjson), objectMapper, webMapper));
+
+        assertThat(results).hasSize(3);
+        assertThat(results.get(0)).isInstanceOfSatisfying(Competitor.class, c -> {
+            assertThat(c.getId()).isNull();
+            assertThat(c.getName()).isEqualTo("Pfizer");
+            assertThat(c.getClinicalTrials()).singleElement()
+                    .satisfies(t -> assertThat(t.getTrialId()).isEqualTo("NCT1"));
+        });
+        assertThat(results.get(1)).isInstanceOf(InvalidCompetitorDataException.class);
+        assertThat(results.get(2)).isInstanceOfSatisfying(Competitor.class, c -> assertThat(c.getId()).isEqualTo(5L));
+    }
+
+    @Test
+    @DisplayName("Should stream JSON array elements")
+    void shouldStreamJsonArrayElements() {
+        String json = "[{\"name\":\"A\",\"headquarters\":\"X\"},{\"name\":\"B\",\"headquarters\":\"Y\"}]";
+
+        List<Object> results = drain(CompetitorImportReader.jsonArray(body(json), objectMapper, webMapper));
+
+        assertThat(results).hasSize(2).allMatch(Competitor.class::isInstance);
+    }
+
+    @Test
+    @DisplayName("Should report a JSON array syntax error once and stop")
+    void shouldReportJsonArraySyntaxErrorOnce() {
+        String json = "[{\"name\":\"A\",\"headquarters\":\"X\"}, {\"name\": ]";
+
+        List<Object> results = drain(CompetitorImportReader.jsonArray(body(json), objectMapper, webMapper));
+
+        assertThat(results).hasSize(2);
+        assertThat(results.get(0)).isInstanceOf(Competitor.class);
+        assertThat(results.get(1)).isInstanceOf(InvalidCompetitorDataException.class);
+    }
+}
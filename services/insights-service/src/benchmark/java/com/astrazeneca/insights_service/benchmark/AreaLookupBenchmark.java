@@ -0,0 +1,127 @@
+package com.astrazeneca.insights_service.benchmark;
+
+import com.astrazeneca.insights_service.domain.model.Insight;
+import com.astrazeneca.insights_service.domain.model.TimeOrderedUuid;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+// Therapeutic-area lookups as the table grows, against an H2 table indexed like insights. The
+// table holds `rows` insights spread over Fixtures.AREAS plus a fixed MATCHES rows in LOOKUP_AREA,
+// so byKey() and topByKey() read the same number of rows at every size and should stay flat,
+// while byUpperArea(), the upper(therapeutic_area) = upper(?) query the key replaced, scans them all.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+// Two million rows and their index live on the heap
+@Fork(jvmArgsAppend = "-Xmx2g")
+public class AreaLookupBenchmark {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final int MATCHES = 20;
+    private static final int LIMIT = 50;
+    private static final String LOOKUP_AREA = "Dermatology";
+
+    @Param({"10000", "100000", "1000000", "2000000"})
+    public int rows;
+
+    private Connection connection;
+    private PreparedStatement byKey;
+    private PreparedStatement topByKey;
+    private PreparedStatement byUpperArea;
+    private int area;
+
+    @Setup
+    public void setUp() throws SQLException {
+        // Dropped when the connection closes; H2 would otherwise answer a repeated query on an
+        // unchanged table with its previous result instead of running it
+        connection = DriverManager.getConnection(
+                "jdbc:h2:mem:area-lookup-" + rows + ";OPTIMIZE_REUSE_RESULTS=FALSE", "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create table insights (id uuid primary key, description varchar(255) not null,"
+                    + " therapeutic_area varchar(255), therapeutic_area_key varchar(255), relevance_score integer)");
+            statement.execute("create index idx_insights_area_relevance"
+                    + " on insights (therapeutic_area_key, relevance_score desc, id)");
+        }
+        try (PreparedStatement insert = connection.prepareStatement("insert into insights"
+                + " (id, description, therapeutic_area, therapeutic_area_key, relevance_score) values (?, ?, ?, ?, ?)")) {
+            connection.setAutoCommit(false);
+            for (int row = 0; row < rows + MATCHES; row++) {
+                String therapeuticArea = row < rows ? Fixtures.AREAS[row % Fixtures.AREAS.length] : LOOKUP_AREA;
+                insert.setObject(1, TimeOrderedUuid.next());
+                insert.setString(2, "Insight " + row);
+                insert.setString(3, therapeuticArea);
+                insert.setString(4, Insight.normalizeTherapeuticArea(therapeuticArea));
+                insert.setInt(5, row % 3 + 1);
+                insert.addBatch();
+                if (row % BATCH_SIZE == BATCH_SIZE - 1) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+            connection.setAutoCommit(true);
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("analyze");
+        }
+        byKey = connection.prepareStatement("select * from insights where therapeutic_area_key = ?");
+        topByKey = connection.prepareStatement("select * from insights where therapeutic_area_key = ?"
+                + " order by therapeutic_area_key, relevance_score desc, id limit " + LIMIT);
+        byUpperArea = connection.prepareStatement("select * from insights where upper(therapeutic_area) = upper(?)");
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    // GET /api/insights?therapeuticArea=, with the filter normalized as InsightService does
+    @Benchmark
+    public int byKey() throws SQLException {
+        byKey.setString(1, Insight.normalizeTherapeuticArea(LOOKUP_AREA));
+        return count(byKey);
+    }
+
+    // The leaderboard's top insights of an area; every Fixtures area matches a growing share of
+    // the table, but the index hands rows back already ordered, so only LIMIT of them are read
+    @Benchmark
+    public int topByKey() throws SQLException {
+        area = (area + 1) % Fixtures.AREAS.length;
+        topByKey.setString(1, Insight.normalizeTherapeuticArea(Fixtures.AREAS[area]));
+        return count(topByKey);
+    }
+
+    // The case-insensitive match the key replaced, for comparison
+    @Benchmark
+    public int byUpperArea() throws SQLException {
+        byUpperArea.setString(1, "dermatology");
+        return count(byUpperArea);
+    }
+
+    private static int count(PreparedStatement query) throws SQLException {
+        int count = 0;
+        try (ResultSet resultSet = query.executeQuery()) {
+            while (resultSet.next()) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
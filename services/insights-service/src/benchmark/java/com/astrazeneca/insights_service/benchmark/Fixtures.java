@@ -0,0 +1,42 @@
+package com.astrazeneca.insights_service.benchmark;
+
+import com.astrazeneca.insights_service.domain.model.ImpactLevel;
+import com.astrazeneca.insights_service.domain.model.Insight;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+// Seeded benchmark data shaped like production insights, identical on every run
+final class Fixtures {
+
+    static final String[] AREAS = {"Oncology", " oncology ", "Immunology", "Cardiovascular", "Neuroscience",
+            "Respiratory", "Rare Diseases"};
+    private static final String[] FINDINGS = {"filed for accelerated approval of", "reported positive Phase III data for",
+            "discontinued development of", "signed a licensing deal for", "expanded the label of"};
+
+    private Fixtures() {
+    }
+
+    static List<Insight> insights(int count) {
+        Random random = new Random(count);
+        List<Insight> insights = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            insights.add(insight(random));
+        }
+        return insights;
+    }
+
+    static Insight insight(Random random) {
+        Insight insight = new Insight(new UUID(random.nextLong(), random.nextLong()),
+                "Competitor %s AZD%04d in %s, which may shift our positioning in second-line treatment"
+                        .formatted(FINDINGS[random.nextInt(FINDINGS.length)], random.nextInt(10_000),
+                                AREAS[random.nextInt(AREAS.length)].strip()),
+                AREAS[random.nextInt(AREAS.length)],
+                new UUID(random.nextLong(), random.nextLong()),
+                ImpactLevel.values()[random.nextInt(ImpactLevel.values().length)]);
+        insight.setVersion((long) random.nextInt(5));
+        return insight;
+    }
+}
@@ -0,0 +1,73 @@
+package com.astrazeneca.insights_service.benchmark;
+
+import com.astrazeneca.insights_service.domain.model.Insight;
+import com.astrazeneca.insights_service.domain.model.TimeOrderedUuid;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Domain construction. create() and construct() differ only by TimeOrderedUuid.next(), so their
+// gap is the cost of drawing an id. randomId() is the version 4 id create() used to draw from the
+// shared SecureRandom; the *Contended variants draw ids from four threads at once.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class InsightBenchmark {
+
+    private Insight template;
+    private int area;
+
+    @Setup
+    public void setUp() {
+        template = Fixtures.insight(new Random(42));
+    }
+
+    @Benchmark
+    public Insight create() {
+        return Insight.create(template.getDescription(), template.getTherapeuticArea(),
+                template.getCompetitorId(), template.getImpactLevel());
+    }
+
+    @Benchmark
+    public Insight construct() {
+        return new Insight(template.getId(), template.getDescription(), template.getTherapeuticArea(),
+                template.getCompetitorId(), template.getImpactLevel());
+    }
+
+    @Benchmark
+    public UUID randomId() {
+        return UUID.randomUUID();
+    }
+
+    @Benchmark
+    public UUID timeOrderedId() {
+        return TimeOrderedUuid.next();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public UUID randomIdContended() {
+        return UUID.randomUUID();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public UUID timeOrderedIdContended() {
+        return TimeOrderedUuid.next();
+    }
+
+    @Benchmark
+    public String normalizeTherapeuticArea() {
+        area = (area + 1) % Fixtures.AREAS.length;
+        return Insight.normalizeTherapeuticArea(Fixtures.AREAS[area]);
+    }
+}
@@ -0,0 +1,96 @@
+package com.astrazeneca.insights_service.benchmark;
+
+import com.astrazeneca.insights_service.domain.model.TimeOrderedUuid;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// Insert throughput into an H2 table keyed like insights, with random version 4 ids against
+// time-ordered version 7 ids. Every iteration starts from a table already holding `preloaded`
+// rows, so what is measured is placing a key in a large primary-key index, not an empty one.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class KeyInsertBenchmark {
+
+    private static final int BATCH_SIZE = 50;
+
+    @Param({"v4", "v7"})
+    public String version;
+
+    @Param({"100000"})
+    public int preloaded;
+
+    private Supplier<UUID> ids;
+    private Connection connection;
+    private PreparedStatement insert;
+    private int row;
+
+    @Setup(Level.Iteration)
+    public void setUp() throws SQLException {
+        ids = version.equals("v7") ? TimeOrderedUuid::next : UUID::randomUUID;
+        // A fresh in-memory database per iteration; it is dropped when the connection closes
+        connection = DriverManager.getConnection("jdbc:h2:mem:key-insert-" + version, "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create table insights (id uuid primary key, description varchar(255) not null,"
+                    + " therapeutic_area varchar(255), relevance_score integer)");
+        }
+        insert = connection.prepareStatement(
+                "insert into insights (id, description, therapeutic_area, relevance_score) values (?, ?, ?, ?)");
+        connection.setAutoCommit(false);
+        for (int i = 0; i < preloaded; i += BATCH_SIZE) {
+            insertBatch();
+        }
+        connection.setAutoCommit(true);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    // One row per transaction, like a single POST /api/insights
+    @Benchmark
+    public int insert() throws SQLException {
+        bind();
+        return insert.executeUpdate();
+    }
+
+    // One JDBC batch per transaction; throughput is in batches of BATCH_SIZE rows
+    @Benchmark
+    public int[] insertBatch() throws SQLException {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            bind();
+            insert.addBatch();
+        }
+        int[] counts = insert.executeBatch();
+        if (!connection.getAutoCommit()) {
+            connection.commit();
+        }
+        return counts;
+    }
+
+    private void bind() throws SQLException {
+        row++;
+        insert.setObject(1, ids.get());
+        insert.setString(2, "Insight " + row);
+        insert.setString(3, Fixtures.AREAS[row % Fixtures.AREAS.length]);
+        insert.setInt(4, row % 3 + 1);
+    }
+}
@@ -0,0 +1,57 @@
+package com.astrazeneca.insights_service.benchmark;
+
+import com.astrazeneca.insights_service.domain.model.Insight;
+import com.astrazeneca.insights_service.infrastructure.persistence.entity.InsightEntity;
+import com.astrazeneca.insights_service.infrastructure.persistence.mapper.PersistenceMapper;
+import com.astrazeneca.insights_service.infrastructure.persistence.mapper.PersistenceMapperImpl;
+import com.astrazeneca.insights_service.infrastructure.web.dto.InsightResponse;
+import com.astrazeneca.insights_service.infrastructure.web.mapper.WebMapper;
+import com.astrazeneca.insights_service.infrastructure.web.mapper.WebMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// MapStruct mapping of a result list, as done by GET /api/insights and the persistence adapter
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MapperBenchmark {
+
+    @Param({"1", "100", "1000"})
+    public int insights;
+
+    private final PersistenceMapper persistenceMapper = new PersistenceMapperImpl();
+    private final WebMapper webMapper = new WebMapperImpl();
+
+    private List<Insight> domain;
+    private List<InsightEntity> entities;
+
+    @Setup
+    public void setUp() {
+        domain = Fixtures.insights(insights);
+        entities = domain.stream().map(persistenceMapper::toEntity).toList();
+    }
+
+    @Benchmark
+    public List<InsightEntity> domainToEntity() {
+        return domain.stream().map(persistenceMapper::toEntity).toList();
+    }
+
+    @Benchmark
+    public List<Insight> entityToDomain() {
+        return entities.stream().map(persistenceMapper::toDomain).toList();
+    }
+
+    @Benchmark
+    public List<InsightResponse> domainToResponse() {
+        return webMapper.toResponseList(domain);
+    }
+}
@@ -0,0 +1,51 @@
+package com.astrazeneca.insights_service.benchmark;
+
+import com.astrazeneca.insights_service.infrastructure.web.dto.InsightResponse;
+import com.astrazeneca.insights_service.infrastructure.web.mapper.WebMapperImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Jackson, configured like Spring MVC's converter, on the GET /api/insights response body
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SerializationBenchmark {
+
+    @Param({"1", "100", "1000"})
+    public int insights;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final ObjectReader listReader = objectMapper.readerForListOf(InsightResponse.class);
+
+    private List<InsightResponse> responses;
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws IOException {
+        responses = new WebMapperImpl().toResponseList(Fixtures.insights(insights));
+        json = objectMapper.writeValueAsBytes(responses);
+    }
+
+    @Benchmark
+    public byte[] write() throws IOException {
+        return objectMapper.writeValueAsBytes(responses);
+    }
+
+    @Benchmark
+    public List<InsightResponse> read() throws IOException {
+        return listReader.readValue(json);
+    }
+}
@@ -0,0 +1,131 @@
+package com.astrazeneca.insights_service;
+
+import com.astrazeneca.insights_service.domain.model.ImpactLevel;
+import com.astrazeneca.insights_service.domain.ports.in.ManageInsightUseCase;
+import com.astrazeneca.insights_service.domain.ports.in.ManageInsightUseCase.CreateInsightCommand;
+import com.astrazeneca.insights_service.domain.ports.in.RelayInsightEventsUseCase;
+import com.astrazeneca.insights_service.domain.ports.in.RelayInsightEventsUseCase.RelayResult;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Outbox relay load test")
+class OutboxRelayLoadTest {
+
+    private static final int EVENTS = Integer.getInteger("load.events", 1000);
+    private static final int SUBSCRIBERS = Integer.getInteger("load.subscribers", 3);
+    private static final Duration RECEIVER_LATENCY = Duration.ofMillis(Long.getLong("load.receiver-latency", 5));
+    // batch size x concurrent sends
+    private static final String CONFIGS = System.getProperty("load.outbox.configs", "1x1,100x1,100x8,100x32,500x32");
+    private static final List<String> AREAS = List.of("Oncology", "Immunology", "Cardiology", "Neurology", "Rare Disease");
+
+    static {
+        // Like Tomcat; otherwise Nagle's algorithm against delayed ACKs stalls every response by ~40 ms
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+    }
+
+    private final AtomicLong sends = new AtomicLong();
+
+    @Test
+    @DisplayName("Should measure how fast the relay drains the outbox into a stand-in notification-service")
+    void shouldMeasureRelayThroughput() throws Exception {
+        HttpServer receiver = standInReceiver();
+        try {
+            List<String> rows = new ArrayList<>();
+            for (String config : CONFIGS.split(",")) {
+                String[] parts = config.strip().split("x");
+                rows.add(drain(receiver, Integer.parseInt(parts[0]), Integer.parseInt(parts[1])));
+            }
+            System.out.printf("%nOutbox relay, %d events x %d subscribers, receiver latency %d ms%n",
+                    EVENTS, SUBSCRIBERS, RECEIVER_LATENCY.toMillis());
+            System.out.printf("%10s %12s %10s %12s %12s%n", "batch", "concurrency", "seconds", "events/s", "sends/s");
+            rows.forEach(System.out::println);
+        } finally {
+            receiver.stop(0);
+        }
+    }
+
+    // Fills the outbox with the relay stopped, then drains it on this thread and times the drain
+    private String drain(HttpServer receiver, int batchSize, int concurrency) {
+        try (ConfigurableApplicationContext app = new SpringApplicationBuilder(InsightsServiceApplication.class)
+                .run("--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:outbox-" + batchSize + "x" + concurrency,
+                        "--logging.level.root=WARN",
+                        "--insights.outbox.relay.enabled=false",
+                        "--insights.outbox.batch-size=" + batchSize,
+                        "--insights.notification-service.concurrency=" + concurrency,
+                        "--insights.notification-service.base-url=http://localhost:" + receiver.getAddress().getPort())) {
+            ManageInsightUseCase insights = app.getBean(ManageInsightUseCase.class);
+            for (int i = 0; i < EVENTS; i++) {
+                insights.createInsight(new CreateInsightCommand("Competitor filing " + i,
+                        AREAS.get(i % AREAS.size()), null, ImpactLevel.HIGH));
+            }
+            RelayInsightEventsUseCase relay = app.getBean(RelayInsightEventsUseCase.class);
+            long sendsBefore = sends.get();
+            long delivered = 0;
+            long start = System.nanoTime();
+            RelayResult result;
+            do {
+                result = relay.relayDueEvents();
+                delivered += result.delivered();
+                assertThat(result.retried() + result.failed()).as("failed deliveries").isZero();
+            } while (result.delivered() > 0);
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            assertThat(delivered).isEqualTo(EVENTS);
+            assertThat(sends.get() - sendsBefore).isEqualTo((long) EVENTS * SUBSCRIBERS);
+            return "%10d %12d %10.2f %12.0f %12.0f".formatted(batchSize, concurrency, seconds,
+                    delivered / seconds, (sends.get() - sendsBefore) / seconds);
+        }
+    }
+
+    // notification-service's subscription list and send endpoint; every send waits RECEIVER_LATENCY
+    private HttpServer standInReceiver() throws IOException {
+        StringJoiner subscriptions = new StringJoiner(",", "[", "]");
+        for (int i = 0; i < SUBSCRIBERS; i++) {
+            StringJoiner areas = new StringJoiner("\",\"", "[\"", "\"]");
+            AREAS.forEach(areas::add);
+            subscriptions.add("{\"userEmail\":\"subscriber" + i + "@example.com\",\"notificationPreferences\":" + areas + "}");
+        }
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 1024);
+        server.createContext("/api/subscriptions", exchange -> respond(exchange, 200, subscriptions.toString()));
+        server.createContext("/api/notifications/send", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            try {
+                Thread.sleep(RECEIVER_LATENCY);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            sends.incrementAndGet();
+            respond(exchange, 202, "{}");
+        });
+        server.setExecutor(executor);
+        server.start();
+        return server;
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+        exchange.close();
+    }
+}
@@ -0,0 +1,110 @@
+package com.astrazeneca.insights_service;
+
+import com.astrazeneca.loadkit.OpenLoadDriver;
+import com.astrazeneca.loadkit.OpenLoadResult;
+import com.astrazeneca.loadkit.RequestMix;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.random.RandomGenerator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Saturation load test")
+class SaturationLoadTest {
+
+    private static final long SEED = Long.getLong("load.seed", 42);
+    private static final int INSIGHTS = Integer.getInteger("load.insights", 2000);
+    private static final String RATES = System.getProperty("load.rates", "100,200,400,800,1600,3200,6400");
+    private static final Duration WARMUP = Duration.ofSeconds(Long.getLong("load.warmup", 5));
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("load.seconds", 15));
+    private static final Duration P99_OBJECTIVE = Duration.ofMillis(Long.getLong("load.p99", 100));
+    private static final List<String> AREAS = List.of("Oncology", "Immunology", "Cardiology", "Neurology", "Rare Disease");
+    private static final List<String> IMPACT_LEVELS = List.of("HIGH", "MEDIUM", "LOW");
+    private static final int COMPETITORS = 200;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("Should find the arrival rate at which the insight endpoints saturate")
+    void shouldFindSaturationPoint() throws Exception {
+        // Command-line arguments, so they win over application.yaml
+        try (ConfigurableApplicationContext app = new SpringApplicationBuilder(InsightsServiceApplication.class)
+                .run("--server.port=0",
+                        "--spring.threads.virtual.enabled=" + System.getProperty("load.virtual", "true"),
+                        "--spring.datasource.url=jdbc:h2:mem:saturation",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN")) {
+            String base = "http://localhost:" + app.getEnvironment().getProperty("local.server.port");
+            UUID[] ids = seed(base);
+
+            RequestMix mix = new RequestMix()
+                    .add("get-by-id", 40, random -> get(base + "/api/insights/" + ids[random.nextInt(ids.length)]))
+                    .add("list-by-area", 20, random -> get(base + "/api/insights?therapeuticArea=" + area(random)))
+                    .add("top", 30, random -> get(base + "/api/insights/top?limit=10&therapeuticArea=" + area(random)))
+                    .add("create", 10, random -> post(base + "/api/insights", insight(random)))
+                    .withWeights(System.getProperty("load.mix"));
+
+            OpenLoadDriver driver = new OpenLoadDriver(WARMUP, DURATION, Duration.ofSeconds(5), 10_000, SEED);
+            List<Double> rates = Arrays.stream(RATES.split(",")).map(rate -> Double.parseDouble(rate.strip())).toList();
+            List<OpenLoadResult> results = driver.sweep(rates, mix, P99_OBJECTIVE);
+
+            System.out.println(OpenLoadResult.table(results, P99_OBJECTIVE));
+            for (OpenLoadResult result : results) {
+                result.writeDistributions(Path.of("target", "load", "insights-service"));
+            }
+            // The lowest rate must be served cleanly, otherwise the mix itself is broken
+            assertThat(results.get(0).total().errors()).as(OpenLoadResult.table(results.subList(0, 1), P99_OBJECTIVE))
+                    .isZero();
+        }
+    }
+
+    // Creates a deterministic dataset and returns the assigned ids
+    private UUID[] seed(String base) throws IOException, InterruptedException {
+        Random random = new Random(SEED);
+        UUID[] ids = new UUID[INSIGHTS];
+        for (int i = 0; i < INSIGHTS; i++) {
+            HttpResponse<String> response = client.send(post(base + "/api/insights", insight(random)),
+                    HttpResponse.BodyHandlers.ofString());
+            ids[i] = UUID.fromString(objectMapper.readTree(response.body()).get("id").asText());
+        }
+        return ids;
+    }
+
+    private static String insight(RandomGenerator random) {
+        return """
+                {"description":"Competitor filing %d","therapeuticArea":"%s","competitorId":"%s","impactLevel":"%s"}"""
+                .formatted(random.nextInt(100_000), AREAS.get(random.nextInt(AREAS.size())),
+                        new UUID(0, random.nextInt(COMPETITORS)), IMPACT_LEVELS.get(random.nextInt(IMPACT_LEVELS.size())));
+    }
+
+    private static String area(RandomGenerator random) {
+        return AREAS.get(random.nextInt(AREAS.size())).replace(" ", "%20");
+    }
+
+    private static HttpRequest get(String uri) {
+        return HttpRequest.newBuilder(URI.create(uri)).GET().build();
+    }
+
+    private static HttpRequest post(String uri, String body) {
+        return HttpRequest.newBuilder(URI.create(uri))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+}
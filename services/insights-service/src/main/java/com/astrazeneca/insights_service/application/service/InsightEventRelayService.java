@@ -0,0 +1,122 @@
+package com.astrazeneca.insights_service.application.service;
+
+import com.astrazeneca.insights_service.domain.model.EventDelivery;
+import com.astrazeneca.insights_service.domain.model.InsightEvent;
+import com.astrazeneca.insights_service.domain.ports.in.RelayInsightEventsUseCase;
+import com.astrazeneca.insights_service.domain.ports.out.InsightNotificationPort;
+import com.astrazeneca.insights_service.domain.ports.out.InsightOutboxPort;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+// Moves events from the outbox to subscribers. No transaction is held while notification-service
+// is called: the batch is read, delivered, then every outcome is recorded in one transaction.
+// Failed events are retried with exponential back-off until maxAttempts, then marked FAILED; a
+// retry goes only to the recipients earlier attempts did not settle.
+@Service
+public class InsightEventRelayService implements RelayInsightEventsUseCase {
+
+    private static final EventDelivery MISSING = new EventDelivery(null, "No delivery outcome reported");
+
+    private final InsightOutboxPort insightOutbox;
+    private final InsightNotificationPort insightNotifications;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration retention;
+
+    @Autowired
+    public InsightEventRelayService(InsightOutboxPort insightOutbox, InsightNotificationPort insightNotifications,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${insights.outbox.batch-size:100}") int batchSize,
+                                    @Value("${insights.outbox.max-attempts:10}") int maxAttempts,
+                                    @Value("${insights.outbox.initial-backoff:1s}") Duration initialBackoff,
+                                    @Value("${insights.outbox.max-backoff:5m}") Duration maxBackoff,
+                                    @Value("${insights.outbox.retention:24h}") Duration retention) {
+        this(insightOutbox, insightNotifications, transactionManager, Clock.systemUTC(),
+                batchSize, maxAttempts, initialBackoff, maxBackoff, retention);
+    }
+
+    InsightEventRelayService(InsightOutboxPort insightOutbox, InsightNotificationPort insightNotifications,
+                             PlatformTransactionManager transactionManager, Clock clock, int batchSize,
+                             int maxAttempts, Duration initialBackoff, Duration maxBackoff, Duration retention) {
+        this.insightOutbox = insightOutbox;
+        this.insightNotifications = insightNotifications;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.retention = retention;
+    }
+
+    @Override
+    public RelayResult relayDueEvents() {
+        Instant now = clock.instant();
+        List<InsightEvent> due = insightOutbox.findDue(now, batchSize);
+        if (due.isEmpty()) {
+            return new RelayResult(0, 0, 0, false);
+        }
+        Map<UUID, EventDelivery> deliveries = insightNotifications.notifySubscribers(due);
+        Map<InsightEvent, EventDelivery> failed = new LinkedHashMap<>();
+        List<UUID> delivered = new ArrayList<>();
+        for (InsightEvent event : due) {
+            EventDelivery delivery = deliveries.getOrDefault(event.id(), MISSING);
+            if (delivery.failed()) {
+                failed.put(event, delivery);
+            } else {
+                delivered.add(event.id());
+            }
+        }
+        Instant finished = clock.instant();
+        int exhausted = (int) failed.keySet().stream().filter(event -> event.attempts() + 1 >= maxAttempts).count();
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!delivered.isEmpty()) {
+                insightOutbox.markDelivered(delivered, finished);
+            }
+            failed.forEach((event, delivery) -> {
+                // Recipients already reached are not sent the event again
+                if (!delivery.settled().isEmpty()) {
+                    insightOutbox.recordSettled(event.id(), delivery.settled());
+                }
+                int attempts = event.attempts() + 1;
+                if (attempts >= maxAttempts) {
+                    insightOutbox.markFailed(event.id(), attempts, finished, delivery.failure());
+                } else {
+                    insightOutbox.markRetry(event.id(), attempts, finished.plus(backoff(attempts)),
+                            delivery.failure());
+                }
+            });
+        });
+        return new RelayResult(delivered.size(), failed.size() - exhausted, exhausted,
+                due.size() == batchSize && failed.isEmpty());
+    }
+
+    @Override
+    public int purgeDeliveredEvents() {
+        return transactionTemplate.execute(status ->
+                insightOutbox.purgeDeliveredBefore(clock.instant().minus(retention)));
+    }
+
+    // initialBackoff doubled per failed attempt, capped at maxBackoff
+    Duration backoff(int attempts) {
+        int doublings = Math.min(attempts - 1, 30);
+        Duration backoff = initialBackoff.multipliedBy(1L << doublings);
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+}
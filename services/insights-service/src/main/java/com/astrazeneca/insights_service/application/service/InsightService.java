@@ -1,23 +1,46 @@
 package com.astrazeneca.insights_service.application.service;
 
+import com.astrazeneca.insights_service.domain.model.CompetitorSummary;
+import com.astrazeneca.insights_service.domain.model.ImpactLevel;
 import com.astrazeneca.insights_service.domain.model.Insight;
+import com.astrazeneca.insights_service.domain.model.InsightEvent;
+import com.astrazeneca.insights_service.domain.model.InsightField;
+import com.astrazeneca.insights_service.domain.model.InsightFilter;
 import com.astrazeneca.insights_service.domain.ports.in.ManageInsightUseCase;
+import com.astrazeneca.insights_service.domain.ports.out.CollectionVersionPort;
+import com.astrazeneca.insights_service.domain.ports.out.CompetitorDirectoryPort;
+import com.astrazeneca.insights_service.domain.ports.out.InsightOutboxPort;
 import com.astrazeneca.insights_service.domain.ports.out.InsightRepositoryPort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
 public class InsightService implements ManageInsightUseCase {
 
     private final InsightRepositoryPort insightRepository;
+    private final CollectionVersionPort collectionVersion;
+    private final CompetitorDirectoryPort competitorDirectory;
+    private final InsightOutboxPort insightOutbox;
 
-    public InsightService(InsightRepositoryPort insightRepository) {
+    public InsightService(InsightRepositoryPort insightRepository, CollectionVersionPort collectionVersion,
+                          CompetitorDirectoryPort competitorDirectory, InsightOutboxPort insightOutbox) {
         this.insightRepository = insightRepository;
+        this.collectionVersion = collectionVersion;
+        this.competitorDirectory = competitorDirectory;
+        this.insightOutbox = insightOutbox;
     }
 
     @Override
@@ -28,7 +51,13 @@ public class InsightService implements ManageInsightUseCase {
                 command.competitorId(),
                 command.impactLevel()
         );
-        return insightRepository.save(insight);
+        Insight saved = insightRepository.save(insight);
+        if (saved.getImpactLevel() == ImpactLevel.HIGH) {
+            // Same transaction as the insight; subscribers are notified later, off the request
+            insightOutbox.append(InsightEvent.insightCreated(saved, Instant.now()));
+        }
+        collectionVersion.recordChange();
+        return saved;
     }
 
     @Override
@@ -37,6 +66,18 @@ public class InsightService implements ManageInsightUseCase {
         return insightRepository.findById(id);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Long> getInsightVersion(UUID id) {
+        return insightRepository.findVersion(id);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public String getInsightsVersion() {
+        return collectionVersion.currentVersion();
+    }
+
     @Override
     public Insight updateInsight(UUID id, UpdateInsightCommand command) {
         Insight insight = insightRepository.findById(id)
@@ -49,7 +90,57 @@ public class InsightService implements ManageInsightUseCase {
                 command.impactLevel()
         );
 
-        return insightRepository.save(insight);
+        Insight saved = insightRepository.save(insight);
+        collectionVersion.recordChange();
+        return saved;
+    }
+
+    @Override
+    public Insight updateInsight(UUID id, long expectedVersion, UpdateInsightCommand command) {
+        // Every column is replaced, so the result is known without reading the row back
+        Insight insight = new Insight(id, command.description(), command.therapeuticArea(),
+                command.competitorId(), command.impactLevel());
+        insight.setVersion(updateIfVersion(id, expectedVersion, insight, EnumSet.allOf(InsightField.class)));
+        return insight;
+    }
+
+    @Override
+    public long patchInsight(UUID id, long expectedVersion, PatchInsightCommand command) {
+        Set<InsightField> fields = command.fields();
+        if (fields.contains(InsightField.DESCRIPTION) && command.description() == null) {
+            throw new IllegalArgumentException("description cannot be removed");
+        }
+        if (fields.contains(InsightField.IMPACT_LEVEL) && command.impactLevel() == null) {
+            throw new IllegalArgumentException("impactLevel cannot be removed");
+        }
+        // Only the named fields are written, so the others may carry anything
+        Insight changes = new Insight();
+        changes.setDescription(command.description());
+        changes.setTherapeuticArea(command.therapeuticArea());
+        changes.setCompetitorId(command.competitorId());
+        changes.setImpactLevel(command.impactLevel());
+        if (fields.isEmpty()) {
+            // Nothing to write, but the precondition still has to hold
+            long current = insightRepository.findVersion(id).orElseThrow(() -> new InsightNotFoundException(id));
+            if (current != expectedVersion) {
+                throw new InsightVersionMismatchException(id);
+            }
+            return current;
+        }
+        return updateIfVersion(id, expectedVersion, changes, fields);
+    }
+
+    private long updateIfVersion(UUID id, long expectedVersion, Insight changes, Set<InsightField> fields) {
+        Optional<Long> version = insightRepository.updateIfVersion(id, expectedVersion, changes, fields);
+        if (version.isEmpty()) {
+            // Only a failed update pays for telling a missing insight from a stale version
+            if (insightRepository.findVersion(id).isEmpty()) {
+                throw new InsightNotFoundException(id);
+            }
+            throw new InsightVersionMismatchException(id);
+        }
+        collectionVersion.recordChange();
+        return version.get();
     }
 
     @Override
@@ -58,20 +149,98 @@ public class InsightService implements ManageInsightUseCase {
             throw new InsightNotFoundException(id);
         }
         insightRepository.deleteById(id);
+        collectionVersion.recordChange();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long deleteInsights(InsightFilterCommand command) {
+        InsightFilter filter = toFilter(command);
+        boolean changed = true;
+        try {
+            long deleted = insightRepository.deleteMatching(filter);
+            changed = deleted > 0;
+            return deleted;
+        } finally {
+            // Chunks commit one by one: a failure can follow committed chunks, so the ETag must move then too
+            if (changed) {
+                collectionVersion.recordChange();
+            }
+        }
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long updateImpactLevel(InsightFilterCommand command, ImpactLevel impactLevel) {
+        if (impactLevel == null) {
+            throw new IllegalArgumentException("impactLevel is required");
+        }
+        InsightFilter filter = toFilter(command);
+        boolean changed = true;
+        try {
+            long updated = insightRepository.updateImpactLevelMatching(filter, impactLevel);
+            changed = updated > 0;
+            return updated;
+        } finally {
+            if (changed) {
+                collectionVersion.recordChange();
+            }
+        }
+    }
+
+    private static InsightFilter toFilter(InsightFilterCommand command) {
+        return new InsightFilter(command.competitorId(),
+                Insight.normalizeTherapeuticArea(command.therapeuticArea()), command.ids());
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<Insight> getAllInsights(String therapeuticArea) {
         if (therapeuticArea != null && !therapeuticArea.isBlank()) {
-            return insightRepository.findByTherapeuticArea(therapeuticArea);
+            return insightRepository.findByTherapeuticAreaKey(Insight.normalizeTherapeuticArea(therapeuticArea));
         }
         return insightRepository.findAll();
     }
 
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<Insight> getTopInsights(String therapeuticArea, UUID competitorId, int limit) {
+        if (limit < 1 || limit > MAX_TOP_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_TOP_LIMIT);
+        }
+        return insightRepository.findTopByRelevance(
+                Insight.normalizeTherapeuticArea(therapeuticArea), competitorId, limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportInsights(Consumer<Insight> sink) {
+        try (Stream<Insight> insights = insightRepository.streamAll()) {
+            insights.forEach(sink);
+        }
+    }
+
+    // A remote call: never hold a database connection while waiting on it
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Map<UUID, CompetitorSummary> getCompetitors(Collection<UUID> competitorIds) {
+        if (competitorIds.isEmpty()) {
+            return Map.of();
+        }
+        return competitorDirectory.findSummaries(competitorIds);
+    }
+
     public static class InsightNotFoundException extends RuntimeException {
+        // Expected outcome answered with a 404 and never logged with a trace: skip capturing one
         public InsightNotFoundException(UUID id) {
-            super("Insight not found with id: " + id);
+            super("Insight not found with id: " + id, null, false, false);
+        }
+    }
+
+    public static class InsightVersionMismatchException extends RuntimeException {
+        // Expected outcome answered with a 412 and never logged with a trace: skip capturing one
+        public InsightVersionMismatchException(UUID id) {
+            super("Insight " + id + " has changed since the version in If-Match", null, false, false);
         }
     }
 }
@@ -0,0 +1,13 @@
+package com.astrazeneca.insights_service.domain.model;
+
+import java.util.List;
+import java.util.UUID;
+
+// Competitor as competitor-service describes it, keyed by the UUID insights refer to it with
+public record CompetitorSummary(UUID id, String name, String headquarters, List<String> therapeuticAreas,
+                                long trialCount) {
+
+    public CompetitorSummary {
+        therapeuticAreas = therapeuticAreas == null ? List.of() : List.copyOf(therapeuticAreas);
+    }
+}
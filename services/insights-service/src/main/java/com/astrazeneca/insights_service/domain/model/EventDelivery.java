@@ -0,0 +1,20 @@
+package com.astrazeneca.insights_service.domain.model;
+
+import java.util.Set;
+
+// Outcome of one attempt at an event: the recipients it settled (notified, or rejected for good,
+// so never worth sending again) and, when some recipients are left over, why they were not reached
+public record EventDelivery(Set<String> settled, String failure) {
+
+    public EventDelivery {
+        settled = settled == null ? Set.of() : Set.copyOf(settled);
+    }
+
+    public static EventDelivery complete(Set<String> settled) {
+        return new EventDelivery(settled, null);
+    }
+
+    public boolean failed() {
+        return failure != null;
+    }
+}
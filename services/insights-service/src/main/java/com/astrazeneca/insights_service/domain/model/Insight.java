@@ -1,5 +1,6 @@
 package com.astrazeneca.insights_service.domain.model;
 
+import java.util.Locale;
 import java.util.UUID;
 
 public class Insight {
@@ -7,9 +8,12 @@ public class Insight {
     private UUID id;
     private String description;
     private String therapeuticArea;
+    private String therapeuticAreaKey;
     private UUID competitorId;
     private ImpactLevel impactLevel;
     private Integer relevanceScore;
+    // Assigned by persistence; advances on every update
+    private Long version;
 
     public Insight() {
     }
@@ -17,24 +21,34 @@ public class Insight {
     public Insight(UUID id, String description, String therapeuticArea, UUID competitorId, ImpactLevel impactLevel) {
         this.id = id;
         this.description = description;
-        this.therapeuticArea = therapeuticArea;
+        setTherapeuticArea(therapeuticArea);
         this.competitorId = competitorId;
         this.impactLevel = impactLevel;
         this.relevanceScore = calculateRelevanceScore(impactLevel);
     }
 
     public static Insight create(String description, String therapeuticArea, UUID competitorId, ImpactLevel impactLevel) {
-        return new Insight(UUID.randomUUID(), description, therapeuticArea, competitorId, impactLevel);
+        return new Insight(TimeOrderedUuid.next(), description, therapeuticArea, competitorId, impactLevel);
     }
 
     public void update(String description, String therapeuticArea, UUID competitorId, ImpactLevel impactLevel) {
         this.description = description;
-        this.therapeuticArea = therapeuticArea;
+        setTherapeuticArea(therapeuticArea);
         this.competitorId = competitorId;
         this.impactLevel = impactLevel;
         this.relevanceScore = calculateRelevanceScore(impactLevel);
     }
 
+    /**
+     * Canonical form used to match therapeutic areas regardless of case and surrounding whitespace.
+     */
+    public static String normalizeTherapeuticArea(String therapeuticArea) {
+        if (therapeuticArea == null || therapeuticArea.isBlank()) {
+            return null;
+        }
+        return therapeuticArea.strip().toLowerCase(Locale.ROOT);
+    }
+
     private Integer calculateRelevanceScore(ImpactLevel impactLevel) {
         if (impactLevel == null) {
             return null;
@@ -65,6 +79,15 @@ public class Insight {
 
     public void setTherapeuticArea(String therapeuticArea) {
         this.therapeuticArea = therapeuticArea;
+        this.therapeuticAreaKey = normalizeTherapeuticArea(therapeuticArea);
+    }
+
+    public String getTherapeuticAreaKey() {
+        return therapeuticAreaKey;
+    }
+
+    public void setTherapeuticAreaKey(String therapeuticAreaKey) {
+        this.therapeuticAreaKey = therapeuticAreaKey;
     }
 
     public UUID getCompetitorId() {
@@ -91,5 +114,13 @@ public class Insight {
     public void setRelevanceScore(Integer relevanceScore) {
         this.relevanceScore = relevanceScore;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
 
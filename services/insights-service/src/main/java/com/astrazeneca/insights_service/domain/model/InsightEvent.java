@@ -0,0 +1,26 @@
+package com.astrazeneca.insights_service.domain.model;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+
+// Something subscribers are told about, recorded in the outbox with a copy of the insight as it
+// was written, so relaying it never reads the insight back. `attempts` counts failed deliveries;
+// `settled` holds the recipients earlier attempts already reached, who are not sent it again.
+public record InsightEvent(UUID id, UUID insightId, String description, String therapeuticArea, UUID competitorId,
+                           ImpactLevel impactLevel, Instant createdAt, int attempts, Set<String> settled) {
+
+    public InsightEvent {
+        settled = settled == null ? Set.of() : Set.copyOf(settled);
+    }
+
+    public static InsightEvent insightCreated(Insight insight, Instant now) {
+        return new InsightEvent(TimeOrderedUuid.next(), insight.getId(), insight.getDescription(),
+                insight.getTherapeuticArea(), insight.getCompetitorId(), insight.getImpactLevel(), now, 0, Set.of());
+    }
+
+    public InsightEvent withSettled(Set<String> settled) {
+        return new InsightEvent(id, insightId, description, therapeuticArea, competitorId, impactLevel, createdAt,
+                attempts, settled);
+    }
+}
@@ -0,0 +1,10 @@
+package com.astrazeneca.insights_service.domain.model;
+
+// Fields a client can change on an existing insight. Derived columns follow the field they are
+// computed from: THERAPEUTIC_AREA also writes its normalized key, IMPACT_LEVEL the relevance score.
+public enum InsightField {
+    DESCRIPTION,
+    THERAPEUTIC_AREA,
+    COMPETITOR_ID,
+    IMPACT_LEVEL
+}
@@ -0,0 +1,16 @@
+package com.astrazeneca.insights_service.domain.model;
+
+import java.util.List;
+import java.util.UUID;
+
+// Selects insights for bulk writes: every non-null criterion must match. An empty id list
+// matches nothing; a filter without any criterion is rejected rather than matching everything.
+public record InsightFilter(UUID competitorId, String therapeuticAreaKey, List<UUID> ids) {
+
+    public InsightFilter {
+        if (competitorId == null && therapeuticAreaKey == null && ids == null) {
+            throw new IllegalArgumentException("At least one of competitorId, therapeuticArea or ids is required");
+        }
+        ids = ids == null ? null : List.copyOf(ids);
+    }
+}
@@ -1,24 +1,58 @@
 package com.astrazeneca.insights_service.domain.ports.in;
 
+import com.astrazeneca.insights_service.domain.model.CompetitorSummary;
 import com.astrazeneca.insights_service.domain.model.ImpactLevel;
 import com.astrazeneca.insights_service.domain.model.Insight;
+import com.astrazeneca.insights_service.domain.model.InsightField;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface ManageInsightUseCase {
 
+    int DEFAULT_TOP_LIMIT = 10;
+    int MAX_TOP_LIMIT = 100;
+
     Insight createInsight(CreateInsightCommand command);
 
     Optional<Insight> getInsightById(UUID id);
 
+    // Current version of the insight, read without loading it
+    Optional<Long> getInsightVersion(UUID id);
+
+    // Changes whenever any insight is written; read it before the data it describes
+    String getInsightsVersion();
+
     Insight updateInsight(UUID id, UpdateInsightCommand command);
 
+    // Replaces the insight only if it is still at expectedVersion, in a single statement
+    Insight updateInsight(UUID id, long expectedVersion, UpdateInsightCommand command);
+
+    // Writes only the non-null fields of the command if the insight is still at expectedVersion;
+    // returns the new version
+    long patchInsight(UUID id, long expectedVersion, PatchInsightCommand command);
+
     void deleteInsight(UUID id);
 
+    // Bulk writes, committed in chunks, so a failure can leave earlier chunks applied; return affected rows
+    long deleteInsights(InsightFilterCommand filter);
+
+    long updateImpactLevel(InsightFilterCommand filter, ImpactLevel impactLevel);
+
     List<Insight> getAllInsights(String therapeuticArea);
 
+    List<Insight> getTopInsights(String therapeuticArea, UUID competitorId, int limit);
+
+    void exportInsights(Consumer<Insight> sink);
+
+    // Summaries of the referenced competitors, fetched together; unresolved ids are left out
+    Map<UUID, CompetitorSummary> getCompetitors(Collection<UUID> competitorIds);
+
     record CreateInsightCommand(
             String description,
             String therapeuticArea,
@@ -32,5 +66,22 @@ public interface ManageInsightUseCase {
             UUID competitorId,
             ImpactLevel impactLevel
     ) {}
+
+    // Non-null criteria are combined with AND; at least one is required
+    record InsightFilterCommand(
+            UUID competitorId,
+            String therapeuticArea,
+            List<UUID> ids
+    ) {}
+
+    // Only the named fields are written, null included: a null therapeuticArea or competitorId
+    // clears it, while description and impactLevel cannot be cleared
+    record PatchInsightCommand(
+            Set<InsightField> fields,
+            String description,
+            String therapeuticArea,
+            UUID competitorId,
+            ImpactLevel impactLevel
+    ) {}
 }
 
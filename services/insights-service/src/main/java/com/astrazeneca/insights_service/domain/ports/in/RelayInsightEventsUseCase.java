@@ -0,0 +1,14 @@
+package com.astrazeneca.insights_service.domain.ports.in;
+
+public interface RelayInsightEventsUseCase {
+
+    // Delivers one batch of due outbox events and records the outcome of each
+    RelayResult relayDueEvents();
+
+    // Deletes delivered events past their retention; returns how many
+    int purgeDeliveredEvents();
+
+    // `more` is set when the batch was full and went through cleanly, so another one is likely due
+    record RelayResult(int delivered, int retried, int failed, boolean more) {
+    }
+}
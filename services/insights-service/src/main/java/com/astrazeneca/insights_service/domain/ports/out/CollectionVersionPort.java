@@ -0,0 +1,11 @@
+package com.astrazeneca.insights_service.domain.ports.out;
+
+// Version token for the insight collection as a whole, served as the ETag of list endpoints
+public interface CollectionVersionPort {
+
+    // Differs from every earlier token once any insight write has committed
+    String currentVersion();
+
+    // Inside a transaction the token changes only once it completes
+    void recordChange();
+}
@@ -0,0 +1,15 @@
+package com.astrazeneca.insights_service.domain.ports.out;
+
+import com.astrazeneca.insights_service.domain.model.CompetitorSummary;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+
+// Competitors owned by competitor-service, looked up to decorate insights
+public interface CompetitorDirectoryPort {
+
+    // Resolves what it can in one round trip at most. Ids that are unknown, or that could not be
+    // resolved in time, are left out of the result: callers fall back to the bare id. Never throws.
+    Map<UUID, CompetitorSummary> findSummaries(Collection<UUID> competitorIds);
+}
@@ -0,0 +1,16 @@
+package com.astrazeneca.insights_service.domain.ports.out;
+
+import com.astrazeneca.insights_service.domain.model.EventDelivery;
+import com.astrazeneca.insights_service.domain.model.InsightEvent;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+// Subscribers are notified through notification-service
+public interface InsightNotificationPort {
+
+    // Notifies the subscribers of each event's therapeutic area, skipping those in event.settled().
+    // Returns one outcome per event id. Never throws.
+    Map<UUID, EventDelivery> notifySubscribers(List<InsightEvent> events);
+}
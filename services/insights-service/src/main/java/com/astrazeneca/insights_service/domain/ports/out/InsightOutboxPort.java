@@ -0,0 +1,33 @@
+package com.astrazeneca.insights_service.domain.ports.out;
+
+import com.astrazeneca.insights_service.domain.model.InsightEvent;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+// Events waiting to be relayed. append joins the caller's transaction, so an event is stored
+// if and only if the write it describes commits.
+public interface InsightOutboxPort {
+
+    void append(InsightEvent event);
+
+    // Pending events whose next attempt is due, earliest due first, with the recipients earlier
+    // attempts settled
+    List<InsightEvent> findDue(Instant now, int limit);
+
+    // One statement for the whole batch; settled recipients are no longer needed
+    void markDelivered(Collection<UUID> ids, Instant deliveredAt);
+
+    // Recipients an unfinished attempt settled, so the retry skips them
+    void recordSettled(UUID id, Collection<String> recipients);
+
+    void markRetry(UUID id, int attempts, Instant nextAttemptAt, String error);
+
+    // Gives up on the event; it stays in the outbox for inspection
+    void markFailed(UUID id, int attempts, Instant failedAt, String error);
+
+    // Deletes events delivered before the cutoff; returns how many
+    int purgeDeliveredBefore(Instant cutoff);
+}
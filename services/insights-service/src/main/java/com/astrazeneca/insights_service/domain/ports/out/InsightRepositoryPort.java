@@ -0,0 +1,48 @@
+package com.astrazeneca.insights_service.domain.ports.out;
+
+import com.astrazeneca.insights_service.domain.model.ImpactLevel;
+import com.astrazeneca.insights_service.domain.model.Insight;
+import com.astrazeneca.insights_service.domain.model.InsightField;
+import com.astrazeneca.insights_service.domain.model.InsightFilter;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+public interface InsightRepositoryPort {
+
+    Insight save(Insight insight);
+
+    Optional<Insight> findById(UUID id);
+
+    // Reads the version column alone, without loading the insight
+    Optional<Long> findVersion(UUID id);
+
+    // One UPDATE guarded by the version: writes the given fields of `changes`, advances the version
+    // and returns the new one, or empty when no insight has this id at this version
+    Optional<Long> updateIfVersion(UUID id, long expectedVersion, Insight changes, Set<InsightField> fields);
+
+    List<Insight> findAll();
+
+    // Expects a key produced by Insight.normalizeTherapeuticArea
+    List<Insight> findByTherapeuticAreaKey(String therapeuticAreaKey);
+
+    // Highest relevance first, ties broken by id; null filters are ignored
+    List<Insight> findTopByRelevance(String therapeuticAreaKey, UUID competitorId, int limit);
+
+    // Lazily reads from an open database cursor; must be closed and consumed inside a transaction
+    Stream<Insight> streamAll();
+
+    void deleteById(UUID id);
+
+    // Set-based bulk writes over the insights matching the filter, each chunk of rows committed in
+    // its own transaction; return the number of rows deleted or changed
+    long deleteMatching(InsightFilter filter);
+
+    // Rows already at the impact level are left alone and not counted
+    long updateImpactLevelMatching(InsightFilter filter, ImpactLevel impactLevel);
+
+    boolean existsById(UUID id);
+}
@@ -0,0 +1,33 @@
+package com.astrazeneca.insights_service.infrastructure.client;
+
+import java.util.OptionalLong;
+import java.util.UUID;
+
+// Insights refer to competitors by UUID, competitor-service keys them by a Long sequence. A
+// competitor id is carried in a UUID as an RFC 9562 version 8 (custom) layout with every bit
+// zero but the version, the variant and the id in the low 62 bits, so competitor 42 is
+// 00000000-0000-8000-8000-00000000002a. The mapping needs no table and no call; a UUID of any
+// other shape (random version 4 ids from before, time-ordered insight ids) names no competitor.
+public final class CompetitorIds {
+
+    private static final long MOST_SIGNIFICANT = 0x0000_0000_0000_8000L;
+    private static final long VARIANT = 0x8000_0000_0000_0000L;
+    private static final long ID_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+
+    private CompetitorIds() {
+    }
+
+    public static UUID toUuid(long competitorId) {
+        if ((competitorId & ~ID_MASK) != 0) {
+            throw new IllegalArgumentException("Competitor id out of range: " + competitorId);
+        }
+        return new UUID(MOST_SIGNIFICANT, VARIANT | competitorId);
+    }
+
+    public static OptionalLong toCompetitorId(UUID id) {
+        if (id.getMostSignificantBits() != MOST_SIGNIFICANT || (id.getLeastSignificantBits() & ~ID_MASK) != VARIANT) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(id.getLeastSignificantBits() & ID_MASK);
+    }
+}
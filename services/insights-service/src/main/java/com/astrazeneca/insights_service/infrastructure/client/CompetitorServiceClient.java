@@ -0,0 +1,158 @@
+package com.astrazeneca.insights_service.infrastructure.client;
+
+import com.astrazeneca.insights_service.domain.model.CompetitorSummary;
+import com.astrazeneca.insights_service.domain.ports.out.CompetitorDirectoryPort;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+// Resolves competitor summaries from competitor-service. All ids asked for together leave in one
+// POST /api/competitors/summaries/lookup (split only past the endpoint's batch limit), and every
+// answer, "not found" included, is kept in a bounded TTL cache. Connect and response timeouts
+// bound the wait; after a failure, calls are skipped for a back-off period, so an unavailable
+// competitor-service costs one timeout, not one per request. Nothing here fails a request:
+// ids that could not be resolved are left out and served bare.
+@Slf4j
+@Component
+public class CompetitorServiceClient implements CompetitorDirectoryPort {
+
+    static final String CACHE_NAME = "competitor-summaries";
+    // competitor-service rejects larger lookups
+    static final int MAX_BATCH = 1000;
+
+    private final RestClient restClient;
+    private final Cache<Long, Optional<CompetitorSummary>> cache;
+    private final Ticker ticker;
+    private final Duration failureBackoff;
+    private final Counter unresolvedAfterError;
+    private final Counter unresolvedInBackoff;
+    private volatile long backoffUntil;
+
+    @Autowired
+    public CompetitorServiceClient(RestClient.Builder restClientBuilder,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${insights.competitor-service.base-url:http://localhost:8081}") String baseUrl,
+                                   @Value("${insights.competitor-service.connect-timeout:250ms}") Duration connectTimeout,
+                                   @Value("${insights.competitor-service.read-timeout:500ms}") Duration readTimeout,
+                                   @Value("${insights.competitor-service.failure-backoff:5s}") Duration failureBackoff,
+                                   @Value("${insights.competitor-service.cache.maximum-size:10000}") long maximumSize,
+                                   @Value("${insights.competitor-service.cache.ttl:5m}") Duration ttl) {
+        this(restClientBuilder.baseUrl(baseUrl).requestFactory(requestFactory(connectTimeout, readTimeout)).build(),
+                meterRegistry, failureBackoff, maximumSize, ttl, Ticker.systemTicker());
+    }
+
+    CompetitorServiceClient(RestClient restClient, MeterRegistry meterRegistry, Duration failureBackoff,
+                            long maximumSize, Duration ttl, Ticker ticker) {
+        this.restClient = restClient;
+        this.ticker = ticker;
+        this.failureBackoff = failureBackoff;
+        this.backoffUntil = ticker.read();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        this.unresolvedAfterError = Counter.builder("competitor.lookup.unresolved")
+                .description("Competitor ids served without a summary because competitor-service could not answer")
+                .tag("reason", "error")
+                .register(meterRegistry);
+        this.unresolvedInBackoff = Counter.builder("competitor.lookup.unresolved")
+                .description("Competitor ids served without a summary because competitor-service could not answer")
+                .tag("reason", "backoff")
+                .register(meterRegistry);
+    }
+
+    static JdkClientHttpRequestFactory requestFactory(Duration connectTimeout, Duration readTimeout) {
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(
+                HttpClient.newBuilder().connectTimeout(connectTimeout).build());
+        // Bounds the whole response, not just the wait between bytes
+        requestFactory.setReadTimeout(readTimeout);
+        return requestFactory;
+    }
+
+    @Override
+    public Map<UUID, CompetitorSummary> findSummaries(Collection<UUID> competitorIds) {
+        Set<Long> ids = new HashSet<>();
+        competitorIds.forEach(id -> CompetitorIds.toCompetitorId(id).ifPresent(ids::add));
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        // Misses are fetched together; ids missing from the fetch result are not cached
+        Map<UUID, CompetitorSummary> summaries = new HashMap<>();
+        cache.getAll(ids, this::fetch).values()
+                .forEach(summary -> summary.ifPresent(found -> summaries.put(found.id(), found)));
+        return summaries;
+    }
+
+    private Map<Long, Optional<CompetitorSummary>> fetch(Set<? extends Long> ids) {
+        if (backoffUntil - ticker.read() > 0) {
+            unresolvedInBackoff.increment(ids.size());
+            return Map.of();
+        }
+        List<Long> pending = List.copyOf(ids);
+        Map<Long, Optional<CompetitorSummary>> fetched = new HashMap<>();
+        try {
+            for (int from = 0; from < pending.size(); from += MAX_BATCH) {
+                LookupResponse response = restClient.post()
+                        .uri("/api/competitors/summaries/lookup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(new LookupRequest(pending.subList(from, Math.min(from + MAX_BATCH, pending.size()))))
+                        .retrieve()
+                        .body(LookupResponse.class);
+                if (response == null) {
+                    throw new RestClientException("Empty competitor lookup response");
+                }
+                response.competitors().forEach(found -> fetched.put(found.id(), Optional.of(found.toDomain())));
+                response.notFound().forEach(id -> fetched.put(id, Optional.empty()));
+            }
+        } catch (RestClientException ex) {
+            backoffUntil = ticker.read() + failureBackoff.toNanos();
+            unresolvedAfterError.increment(pending.size() - fetched.size());
+            log.warn("Competitor lookup failed; serving {} competitor ids bare and pausing lookups for {}",
+                    pending.size() - fetched.size(), failureBackoff, ex);
+        }
+        return fetched;
+    }
+
+    record LookupRequest(List<Long> ids) {
+    }
+
+    record LookupResponse(List<Summary> competitors, List<Long> notFound) {
+
+        LookupResponse {
+            competitors = competitors == null ? List.of() : competitors;
+            notFound = notFound == null ? List.of() : notFound;
+        }
+    }
+
+    record Summary(long id, String name, String headquarters, List<String> therapeuticAreas, long trialCount) {
+
+        CompetitorSummary toDomain() {
+            return new CompetitorSummary(CompetitorIds.toUuid(id), name, headquarters, therapeuticAreas, trialCount);
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.astrazeneca.insights_service.infrastructure.client;
+
+import com.astrazeneca.insights_service.domain.model.EventDelivery;
+import com.astrazeneca.insights_service.domain.model.Insight;
+import com.astrazeneca.insights_service.domain.model.InsightEvent;
+import com.astrazeneca.insights_service.domain.ports.out.InsightNotificationPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicReference;
+
+// Fans insight events out to subscribers through notification-service's public API: one
+// GET /api/subscriptions per batch resolves who follows which therapeutic area, then every
+// (event, subscriber) pair is one POST /api/notifications/send, `concurrency` of them in flight.
+// A 2xx, or a 4xx other than 429, settles that recipient for good; a timeout, 429 or 5xx fails the
+// event so the relay retries it for the recipients it has not settled, and once notification-service
+// looks unavailable the rest of the batch is failed without being sent rather than waiting out a
+// timeout per send.
+@Slf4j
+@Component
+public class NotificationServiceClient implements InsightNotificationPort, DisposableBean {
+
+    private static final ParameterizedTypeReference<List<SubscriptionResponse>> SUBSCRIPTIONS =
+            new ParameterizedTypeReference<>() {
+            };
+
+    private final RestClient restClient;
+    private final ExecutorService executor;
+    private final Counter sent;
+    private final Counter rejected;
+    private final Counter failed;
+
+    @Autowired
+    public NotificationServiceClient(RestClient.Builder restClientBuilder,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${insights.notification-service.base-url:http://localhost:8083}") String baseUrl,
+                                     @Value("${insights.notification-service.connect-timeout:250ms}") Duration connectTimeout,
+                                     @Value("${insights.notification-service.read-timeout:2s}") Duration readTimeout,
+                                     @Value("${insights.notification-service.concurrency:8}") int concurrency,
+                                     @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this(restClientBuilder.baseUrl(baseUrl)
+                        .requestFactory(CompetitorServiceClient.requestFactory(connectTimeout, readTimeout))
+                        .build(),
+                meterRegistry, concurrency, virtualThreads);
+    }
+
+    NotificationServiceClient(RestClient restClient, MeterRegistry meterRegistry, int concurrency,
+                              boolean virtualThreads) {
+        this.restClient = restClient;
+        // A fixed pool either way: its size caps the sends in flight
+        this.executor = Executors.newFixedThreadPool(concurrency, threadFactory(virtualThreads));
+        this.sent = sendCounter(meterRegistry, "sent");
+        this.rejected = sendCounter(meterRegistry, "rejected");
+        this.failed = sendCounter(meterRegistry, "failed");
+    }
+
+    private static ThreadFactory threadFactory(boolean virtualThreads) {
+        return virtualThreads
+                ? Thread.ofVirtual().name("insight-notify-", 1).factory()
+                : new CustomizableThreadFactory("insight-notify-");
+    }
+
+    private static Counter sendCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("insight.notifications")
+                .description("Notifications sent to notification-service for insight events")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Map<UUID, EventDelivery> notifySubscribers(List<InsightEvent> events) {
+        Map<String, Set<String>> recipientsByArea;
+        try {
+            recipientsByArea = recipientsByArea();
+        } catch (RestClientException ex) {
+            log.warn("Could not list subscriptions; {} insight events will be retried", events.size(), ex);
+            Map<UUID, EventDelivery> deliveries = new HashMap<>();
+            events.forEach(event -> deliveries.put(event.id(),
+                    new EventDelivery(Set.of(), "Listing subscriptions failed: " + ex.getMessage())));
+            return deliveries;
+        }
+        Map<UUID, Set<String>> settled = new ConcurrentHashMap<>();
+        Map<UUID, String> failures = new ConcurrentHashMap<>();
+        AtomicReference<String> unavailable = new AtomicReference<>();
+        List<CompletableFuture<Void>> sends = new ArrayList<>();
+        for (InsightEvent event : events) {
+            String area = Insight.normalizeTherapeuticArea(event.therapeuticArea());
+            String message = message(event);
+            Set<String> reached = settled.computeIfAbsent(event.id(), id -> ConcurrentHashMap.newKeySet());
+            for (String recipient : recipientsByArea.getOrDefault(area, Set.of())) {
+                if (event.settled().contains(recipient)) {
+                    continue;
+                }
+                sends.add(CompletableFuture.runAsync(
+                        () -> send(event.id(), recipient, message, reached, failures, unavailable), executor));
+            }
+        }
+        CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new)).join();
+        Map<UUID, EventDelivery> deliveries = new HashMap<>();
+        settled.forEach((id, reached) -> deliveries.put(id, new EventDelivery(reached, failures.get(id))));
+        return deliveries;
+    }
+
+    private Map<String, Set<String>> recipientsByArea() {
+        List<SubscriptionResponse> subscriptions = restClient.get()
+                .uri("/api/subscriptions")
+                .retrieve()
+                .body(SUBSCRIPTIONS);
+        Map<String, Set<String>> recipientsByArea = new HashMap<>();
+        for (SubscriptionResponse subscription : subscriptions == null ? List.<SubscriptionResponse>of() : subscriptions) {
+            if (subscription.notificationPreferences() == null) {
+                continue;
+            }
+            for (String preference : subscription.notificationPreferences()) {
+                String area = Insight.normalizeTherapeuticArea(preference);
+                if (area != null) {
+                    recipientsByArea.computeIfAbsent(area, key -> new LinkedHashSet<>()).add(subscription.userEmail());
+                }
+            }
+        }
+        return recipientsByArea;
+    }
+
+    private void send(UUID eventId, String recipient, String message, Set<String> settled,
+                      Map<UUID, String> failures, AtomicReference<String> unavailable) {
+        String skipped = unavailable.get();
+        if (skipped != null) {
+            failed.increment();
+            failures.putIfAbsent(eventId, skipped);
+            return;
+        }
+        try {
+            restClient.post()
+                    .uri("/api/notifications/send")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(new SendRequest(recipient, message))
+                    .retrieve()
+                    .toBodilessEntity();
+            sent.increment();
+            settled.add(recipient);
+        } catch (HttpClientErrorException ex) {
+            if (ex.getStatusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS)) {
+                fail(eventId, ex, failures, unavailable);
+            } else {
+                // Retrying would be rejected the same way
+                rejected.increment();
+                settled.add(recipient);
+                log.warn("Notification for insight event {} to {} rejected: {}", eventId, recipient, ex.getMessage());
+            }
+        } catch (RestClientException ex) {
+            fail(eventId, ex, failures, unavailable);
+        }
+    }
+
+    private void fail(UUID eventId, RestClientException ex, Map<UUID, String> failures,
+                      AtomicReference<String> unavailable) {
+        failed.increment();
+        String reason = "Sending notification failed: " + ex.getMessage();
+        unavailable.compareAndSet(null, reason);
+        failures.putIfAbsent(eventId, reason);
+    }
+
+    static String message(InsightEvent event) {
+        String area = event.therapeuticArea() == null ? "" : " in " + event.therapeuticArea();
+        return "New " + event.impactLevel() + "-impact insight" + area + ": " + event.description()
+                + " (insight " + event.insightId() + ")";
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    record SubscriptionResponse(String userEmail, List<String> notificationPreferences) {
+    }
+
+    record SendRequest(String recipientEmail, String messageContent) {
+    }
+}
@@ -0,0 +1,118 @@
+package com.astrazeneca.insights_service.infrastructure.outbox;
+
+import com.astrazeneca.insights_service.domain.ports.in.RelayInsightEventsUseCase;
+import com.astrazeneca.insights_service.domain.ports.in.RelayInsightEventsUseCase.RelayResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Polls the outbox on one background thread. Each poll drains due events batch after batch while
+// batches come back full and clean, then sleeps for the poll interval; delivered events past their
+// retention are purged at most once per purge interval.
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "insights.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay implements SmartLifecycle {
+
+    // Stop after the web server has stopped accepting requests, but before beans (e.g. the DataSource) are destroyed
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private final RelayInsightEventsUseCase relayInsightEventsUseCase;
+    private final Duration pollInterval;
+    private final Duration purgeInterval;
+    private final Duration shutdownTimeout;
+    private final Counter delivered;
+    private final Counter retried;
+    private final Counter failed;
+    private ScheduledExecutorService executor;
+    private long lastPurge;
+    private volatile boolean running;
+
+    public OutboxRelay(RelayInsightEventsUseCase relayInsightEventsUseCase,
+                       MeterRegistry meterRegistry,
+                       @Value("${insights.outbox.relay.poll-interval:500ms}") Duration pollInterval,
+                       @Value("${insights.outbox.relay.purge-interval:1m}") Duration purgeInterval,
+                       @Value("${insights.outbox.relay.shutdown-timeout:10s}") Duration shutdownTimeout) {
+        this.relayInsightEventsUseCase = relayInsightEventsUseCase;
+        this.pollInterval = pollInterval;
+        this.purgeInterval = purgeInterval;
+        this.shutdownTimeout = shutdownTimeout;
+        this.delivered = relayCounter(meterRegistry, "delivered");
+        this.retried = relayCounter(meterRegistry, "retried");
+        this.failed = relayCounter(meterRegistry, "failed");
+    }
+
+    private static Counter relayCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("insight.outbox.events")
+                .description("Outbox events relayed to subscribers, by outcome of the attempt")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    void poll() {
+        try {
+            RelayResult result;
+            do {
+                result = relayInsightEventsUseCase.relayDueEvents();
+                delivered.increment(result.delivered());
+                retried.increment(result.retried());
+                failed.increment(result.failed());
+            } while (result.more() && running);
+            if (System.nanoTime() - lastPurge >= purgeInterval.toNanos()) {
+                lastPurge = System.nanoTime();
+                int purged = relayInsightEventsUseCase.purgeDeliveredEvents();
+                if (purged > 0) {
+                    log.debug("Purged {} delivered outbox events", purged);
+                }
+            }
+        } catch (RuntimeException ex) {
+            // A failed poll must not cancel the schedule; the events stay due for the next one
+            log.error("Relaying outbox events failed", ex);
+        }
+    }
+
+    @Override
+    public void start() {
+        executor = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("insight-outbox-"));
+        lastPurge = System.nanoTime();
+        running = true;
+        executor.scheduleWithFixedDelay(this::poll, pollInterval.toMillis(), pollInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(shutdownTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("Outbox relay did not finish its batch within {}; its events stay pending",
+                        shutdownTimeout);
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException ex) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+}
@@ -1,38 +1,124 @@
 package com.astrazeneca.insights_service.infrastructure.persistence.adapter;
 
+import com.astrazeneca.insights_service.domain.model.ImpactLevel;
 import com.astrazeneca.insights_service.domain.model.Insight;
+import com.astrazeneca.insights_service.domain.model.InsightField;
+import com.astrazeneca.insights_service.domain.model.InsightFilter;
 import com.astrazeneca.insights_service.domain.ports.out.InsightRepositoryPort;
+import com.astrazeneca.insights_service.infrastructure.persistence.entity.InsightEntity.ImpactLevelEntity;
 import com.astrazeneca.insights_service.infrastructure.persistence.entity.InsightEntity;
+import com.astrazeneca.insights_service.infrastructure.persistence.filter.KnownInsightIds;
 import com.astrazeneca.insights_service.infrastructure.persistence.mapper.PersistenceMapper;
 import com.astrazeneca.insights_service.infrastructure.persistence.repository.JpaInsightRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.StringJoiner;
 import java.util.UUID;
+import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
 
 @Component
 public class InsightPersistenceAdapter implements InsightRepositoryPort {
 
     private final JpaInsightRepository jpaRepository;
     private final PersistenceMapper mapper;
+    private final EntityManager entityManager;
+    private final KnownInsightIds knownIds;
+    private final TransactionTemplate chunkTransaction;
+    private final int bulkChunkSize;
 
-    public InsightPersistenceAdapter(JpaInsightRepository jpaRepository, PersistenceMapper mapper) {
+    public InsightPersistenceAdapter(JpaInsightRepository jpaRepository, PersistenceMapper mapper,
+                                     EntityManager entityManager, KnownInsightIds knownIds,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${insights.bulk.chunk-size:500}") int bulkChunkSize) {
         this.jpaRepository = jpaRepository;
         this.mapper = mapper;
+        this.entityManager = entityManager;
+        this.knownIds = knownIds;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.bulkChunkSize = bulkChunkSize;
     }
 
     @Override
     public Insight save(Insight insight) {
+        boolean inserting = insight.getVersion() == null;
         InsightEntity entity = mapper.toEntity(insight);
-        InsightEntity savedEntity = jpaRepository.save(entity);
+        // Flushed so the returned version is the one the update produced
+        InsightEntity savedEntity = jpaRepository.saveAndFlush(entity);
+        if (inserting) {
+            knownIds.add(savedEntity.getId());
+        }
         return mapper.toDomain(savedEntity);
     }
 
     @Override
     public Optional<Insight> findById(UUID id) {
-        return jpaRepository.findById(id)
+        if (!knownIds.mightExist(id)) {
+            return Optional.empty();
+        }
+        Optional<Insight> insight = jpaRepository.findById(id)
                 .map(mapper::toDomain);
+        if (insight.isEmpty()) {
+            knownIds.recordFalsePositive();
+        }
+        return insight;
+    }
+
+    @Override
+    public Optional<Long> findVersion(UUID id) {
+        if (!knownIds.mightExist(id)) {
+            return Optional.empty();
+        }
+        Optional<Long> version = jpaRepository.findVersionById(id);
+        if (version.isEmpty()) {
+            knownIds.recordFalsePositive();
+        }
+        return version;
+    }
+
+    @Override
+    public Optional<Long> updateIfVersion(UUID id, long expectedVersion, Insight changes, Set<InsightField> fields) {
+        if (!knownIds.mightExist(id)) {
+            return Optional.empty();
+        }
+        // Only the requested columns are written; derived columns travel with their source field
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (InsightField field : fields) {
+            switch (field) {
+                case DESCRIPTION -> values.put("description", changes.getDescription());
+                case THERAPEUTIC_AREA -> {
+                    values.put("therapeuticArea", changes.getTherapeuticArea());
+                    values.put("therapeuticAreaKey", changes.getTherapeuticAreaKey());
+                }
+                case COMPETITOR_ID -> values.put("competitorId", changes.getCompetitorId());
+                case IMPACT_LEVEL -> {
+                    values.put("impactLevel", mapper.toEntityImpactLevel(changes.getImpactLevel()));
+                    values.put("relevanceScore", changes.getRelevanceScore());
+                }
+            }
+        }
+        StringJoiner assignments = new StringJoiner(", ", "UPDATE InsightEntity i SET ", ", i.version = i.version + 1");
+        values.keySet().forEach(column -> assignments.add("i." + column + " = :" + column));
+        Query update = entityManager.createQuery(assignments + " WHERE i.id = :id AND i.version = :version");
+        values.forEach(update::setParameter);
+        update.setParameter("id", id);
+        update.setParameter("version", expectedVersion);
+        return update.executeUpdate() == 1 ? Optional.of(expectedVersion + 1) : Optional.empty();
     }
 
     @Override
@@ -43,20 +129,152 @@ public class InsightPersistenceAdapter implements InsightRepositoryPort {
     }
 
     @Override
-    public List<Insight> findByTherapeuticArea(String therapeuticArea) {
-        return jpaRepository.findByTherapeuticAreaIgnoreCase(therapeuticArea).stream()
+    public List<Insight> findByTherapeuticAreaKey(String therapeuticAreaKey) {
+        return jpaRepository.findByTherapeuticAreaKey(therapeuticAreaKey).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<Insight> findTopByRelevance(String therapeuticAreaKey, UUID competitorId, int limit) {
+        Limit top = Limit.of(limit);
+        List<InsightEntity> entities;
+        if (therapeuticAreaKey != null && competitorId != null) {
+            entities = jpaRepository.findTopByTherapeuticAreaKeyAndCompetitorId(therapeuticAreaKey, competitorId, top);
+        } else if (therapeuticAreaKey != null) {
+            entities = jpaRepository.findTopByTherapeuticAreaKey(therapeuticAreaKey, top);
+        } else if (competitorId != null) {
+            entities = jpaRepository.findTopByCompetitorId(competitorId, top);
+        } else {
+            entities = jpaRepository.findByOrderByRelevanceScoreDescIdAsc(top);
+        }
+        return entities.stream()
                 .map(mapper::toDomain)
                 .toList();
     }
 
+    @Override
+    public Stream<Insight> streamAll() {
+        // Detach each row once mapped so the persistence context does not grow with the table
+        return jpaRepository.streamAll()
+                .map(entity -> {
+                    Insight insight = mapper.toDomain(entity);
+                    entityManager.detach(entity);
+                    return insight;
+                });
+    }
+
     @Override
     public void deleteById(UUID id) {
-        jpaRepository.deleteById(id);
+        if (jpaRepository.deleteRowById(id) > 0) {
+            afterCommit(() -> knownIds.remove(id));
+        }
+    }
+
+    @Override
+    public long deleteMatching(InsightFilter filter) {
+        return inChunks(filter, null, ids -> {
+            // The rows are locked, so every one of them is deleted by this statement
+            int deleted = jpaRepository.deleteRowsByIdIn(ids);
+            afterCommit(() -> ids.forEach(knownIds::remove));
+            return deleted;
+        });
+    }
+
+    @Override
+    public long updateImpactLevelMatching(InsightFilter filter, ImpactLevel impactLevel) {
+        ImpactLevelEntity level = mapper.toEntityImpactLevel(impactLevel);
+        return inChunks(filter, level,
+                ids -> jpaRepository.updateImpactLevelByIdIn(ids, level, impactLevel.getScore()));
+    }
+
+    // Locks the next chunk of matching ids, writes them with one statement and commits, until no
+    // match is left. Short chunks keep row locks and undo logs small instead of holding the whole
+    // match for one long transaction; an id list is walked in slices, any other filter in id order.
+    private long inChunks(InsightFilter filter, ImpactLevelEntity unlessAt, ToIntFunction<List<UUID>> write) {
+        long affected = 0;
+        if (filter.ids() != null) {
+            List<UUID> candidates = filter.ids().stream().distinct().filter(knownIds::mightExist).toList();
+            for (int from = 0; from < candidates.size(); from += bulkChunkSize) {
+                List<UUID> slice = candidates.subList(from, Math.min(from + bulkChunkSize, candidates.size()));
+                affected += writeChunk(filter, slice, null, unlessAt, write).affected();
+            }
+            return affected;
+        }
+        UUID after = null;
+        Chunk chunk;
+        do {
+            chunk = writeChunk(filter, null, after, unlessAt, write);
+            affected += chunk.affected();
+            after = chunk.ids().isEmpty() ? null : chunk.ids().getLast();
+        } while (chunk.ids().size() == bulkChunkSize);
+        return affected;
+    }
+
+    private Chunk writeChunk(InsightFilter filter, List<UUID> slice, UUID after, ImpactLevelEntity unlessAt,
+                             ToIntFunction<List<UUID>> write) {
+        return chunkTransaction.execute(status -> {
+            List<UUID> ids = lockMatchingIds(filter, slice, after, unlessAt);
+            return new Chunk(ids, ids.isEmpty() ? 0 : write.applyAsInt(ids));
+        });
+    }
+
+    private List<UUID> lockMatchingIds(InsightFilter filter, List<UUID> slice, UUID after, ImpactLevelEntity unlessAt) {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        StringJoiner where = new StringJoiner(" AND ", " WHERE ", "").setEmptyValue("");
+        if (filter.competitorId() != null) {
+            where.add("i.competitorId = :competitorId");
+            parameters.put("competitorId", filter.competitorId());
+        }
+        if (filter.therapeuticAreaKey() != null) {
+            where.add("i.therapeuticAreaKey = :therapeuticAreaKey");
+            parameters.put("therapeuticAreaKey", filter.therapeuticAreaKey());
+        }
+        if (slice != null) {
+            where.add("i.id IN :ids");
+            parameters.put("ids", slice);
+        }
+        if (after != null) {
+            where.add("i.id > :after");
+            parameters.put("after", after);
+        }
+        if (unlessAt != null) {
+            where.add("i.impactLevel <> :impactLevel");
+            parameters.put("impactLevel", unlessAt);
+        }
+        TypedQuery<UUID> select = entityManager.createQuery(
+                "SELECT i.id FROM InsightEntity i" + where + " ORDER BY i.id", UUID.class);
+        parameters.forEach(select::setParameter);
+        return select.setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .setMaxResults(bulkChunkSize)
+                .getResultList();
     }
 
     @Override
     public boolean existsById(UUID id) {
-        return jpaRepository.existsById(id);
+        if (!knownIds.mightExist(id)) {
+            return false;
+        }
+        boolean exists = jpaRepository.existsById(id);
+        if (!exists) {
+            knownIds.recordFalsePositive();
+        }
+        return exists;
     }
-}
 
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private record Chunk(List<UUID> ids, int affected) {
+    }
+}
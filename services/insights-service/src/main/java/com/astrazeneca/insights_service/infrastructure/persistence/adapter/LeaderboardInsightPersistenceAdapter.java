@@ -0,0 +1,297 @@
+package com.astrazeneca.insights_service.infrastructure.persistence.adapter;
+
+import com.astrazeneca.insights_service.domain.model.ImpactLevel;
+import com.astrazeneca.insights_service.domain.model.Insight;
+import com.astrazeneca.insights_service.domain.model.InsightField;
+import com.astrazeneca.insights_service.domain.model.InsightFilter;
+import com.astrazeneca.insights_service.domain.ports.out.InsightRepositoryPort;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+// Keeps the top-ranked insights per therapeutic area (and overall) in memory so the hot
+// leaderboard is served without a query. Boards are loaded lazily and kept exact on writes;
+// a board that can no longer prove it holds the true top entries is dropped and reloaded.
+@Primary
+@Component
+@ConditionalOnProperty(name = "insights.leaderboard.enabled", havingValue = "true", matchIfMissing = true)
+public class LeaderboardInsightPersistenceAdapter implements InsightRepositoryPort {
+
+    static final Comparator<Insight> RANKING = Comparator
+            .comparing(Insight::getRelevanceScore, Comparator.nullsLast(Comparator.reverseOrder()))
+            // Matches the database's unsigned byte order for UUID ties
+            .thenComparing(insight -> insight.getId().toString());
+
+    private final InsightRepositoryPort delegate;
+    private final int capacity;
+    private final Map<BoardKey, Board> boards = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    // Locks rather than monitors: under JDK 21 a virtual thread waiting on a monitor holds its carrier thread
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    @Autowired
+    public LeaderboardInsightPersistenceAdapter(InsightPersistenceAdapter delegate,
+                                                @Value("${insights.leaderboard.capacity:100}") int capacity) {
+        this((InsightRepositoryPort) delegate, capacity);
+    }
+
+    LeaderboardInsightPersistenceAdapter(InsightRepositoryPort delegate, int capacity) {
+        this.delegate = delegate;
+        this.capacity = capacity;
+    }
+
+    @Override
+    public List<Insight> findTopByRelevance(String therapeuticAreaKey, UUID competitorId, int limit) {
+        if (competitorId != null || limit > capacity) {
+            return delegate.findTopByRelevance(therapeuticAreaKey, competitorId, limit);
+        }
+        BoardKey key = new BoardKey(therapeuticAreaKey);
+        Board board = boards.get(key);
+        if (board == null) {
+            board = load(key);
+        }
+        return board.top(limit);
+    }
+
+    @Override
+    public Insight save(Insight insight) {
+        Insight saved = delegate.save(insight);
+        removeEverywhere(saved.getId());
+        afterCommit(() -> {
+            removeEverywhere(saved.getId());
+            offer(new BoardKey(null), saved);
+            if (saved.getTherapeuticAreaKey() != null) {
+                offer(new BoardKey(saved.getTherapeuticAreaKey()), saved);
+            }
+        });
+        return saved;
+    }
+
+    @Override
+    public Optional<Long> updateIfVersion(UUID id, long expectedVersion, Insight changes, Set<InsightField> fields) {
+        Optional<Long> version = delegate.updateIfVersion(id, expectedVersion, changes, fields);
+        if (version.isEmpty()) {
+            return version;
+        }
+        if (fields.containsAll(EnumSet.allOf(InsightField.class))) {
+            // A full replacement carries every ranked value, so it can be re-ranked like a save
+            removeEverywhere(id);
+            afterCommit(() -> {
+                removeEverywhere(id);
+                offer(new BoardKey(null), changes);
+                if (changes.getTherapeuticAreaKey() != null) {
+                    offer(new BoardKey(changes.getTherapeuticAreaKey()), changes);
+                }
+            });
+        } else {
+            // The rest of a partially updated insight is unknown here: drop the boards it may have moved on
+            boolean reranked = fields.contains(InsightField.IMPACT_LEVEL) || fields.contains(InsightField.THERAPEUTIC_AREA);
+            dropBoards(id, reranked);
+            afterCommit(() -> dropBoards(id, reranked));
+        }
+        return version;
+    }
+
+    @Override
+    public void deleteById(UUID id) {
+        delegate.deleteById(id);
+        removeEverywhere(id);
+        afterCommit(() -> removeEverywhere(id));
+    }
+
+    // Which ranked insights a filter reaches is unknown here, and each chunk commits on its own:
+    // drop every board, and again once the last chunk is in so none loaded mid-run survives
+    @Override
+    public long deleteMatching(InsightFilter filter) {
+        dropBoards(null, true);
+        try {
+            return delegate.deleteMatching(filter);
+        } finally {
+            dropBoards(null, true);
+        }
+    }
+
+    @Override
+    public long updateImpactLevelMatching(InsightFilter filter, ImpactLevel impactLevel) {
+        dropBoards(null, true);
+        try {
+            return delegate.updateImpactLevelMatching(filter, impactLevel);
+        } finally {
+            dropBoards(null, true);
+        }
+    }
+
+    @Override
+    public Optional<Insight> findById(UUID id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public Optional<Long> findVersion(UUID id) {
+        return delegate.findVersion(id);
+    }
+
+    @Override
+    public List<Insight> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Insight> findByTherapeuticAreaKey(String therapeuticAreaKey) {
+        return delegate.findByTherapeuticAreaKey(therapeuticAreaKey);
+    }
+
+    @Override
+    public Stream<Insight> streamAll() {
+        return delegate.streamAll();
+    }
+
+    @Override
+    public boolean existsById(UUID id) {
+        return delegate.existsById(id);
+    }
+
+    private Board load(BoardKey key) {
+        long before = generation.get();
+        List<Insight> top = delegate.findTopByRelevance(key.therapeuticAreaKey(), null, capacity);
+        Board board = new Board(top, top.size() < capacity);
+        install(key, board, before);
+        return board;
+    }
+
+    // A write landing while the query ran may be missing from its result: serve it once, don't keep it
+    private void install(BoardKey key, Board board, long loadedAtGeneration) {
+        writeLock.lock();
+        try {
+            if (generation.get() == loadedAtGeneration) {
+                boards.putIfAbsent(key, board);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void offer(BoardKey key, Insight insight) {
+        writeLock.lock();
+        try {
+            generation.incrementAndGet();
+            Board board = boards.get(key);
+            if (board != null) {
+                board.offer(insight);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void removeEverywhere(UUID id) {
+        writeLock.lock();
+        try {
+            generation.incrementAndGet();
+            boards.forEach((key, board) -> {
+                if (!board.remove(id)) {
+                    boards.remove(key, board);
+                }
+            });
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void dropBoards(UUID id, boolean all) {
+        writeLock.lock();
+        try {
+            generation.incrementAndGet();
+            boards.entrySet().removeIf(entry -> all || entry.getValue().contains(id));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private record BoardKey(String therapeuticAreaKey) {}
+
+    private final class Board {
+
+        private final TreeSet<Insight> entries = new TreeSet<>(RANKING);
+        private final ReentrantLock lock = new ReentrantLock();
+        // True while the board holds every matching insight, not just the best `capacity` of them
+        private boolean exhaustive;
+
+        private Board(List<Insight> top, boolean exhaustive) {
+            this.entries.addAll(top);
+            this.exhaustive = exhaustive;
+        }
+
+        List<Insight> top(int limit) {
+            lock.lock();
+            try {
+                return entries.stream().limit(limit).toList();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void offer(Insight insight) {
+            lock.lock();
+            try {
+                entries.add(insight);
+                if (entries.size() > capacity) {
+                    entries.pollLast();
+                    exhaustive = false;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        boolean contains(UUID id) {
+            lock.lock();
+            try {
+                return entries.stream().anyMatch(insight -> insight.getId().equals(id));
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        // Returns false when the board lost an entry it cannot replace and must be reloaded
+        boolean remove(UUID id) {
+            lock.lock();
+            try {
+                boolean removed = entries.removeIf(insight -> insight.getId().equals(id));
+                return !removed || exhaustive;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
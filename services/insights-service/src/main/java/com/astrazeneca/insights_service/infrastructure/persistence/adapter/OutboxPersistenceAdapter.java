@@ -0,0 +1,100 @@
+package com.astrazeneca.insights_service.infrastructure.persistence.adapter;
+
+import com.astrazeneca.insights_service.domain.model.InsightEvent;
+import com.astrazeneca.insights_service.domain.ports.out.InsightOutboxPort;
+import com.astrazeneca.insights_service.infrastructure.persistence.entity.OutboxEventEntity;
+import com.astrazeneca.insights_service.infrastructure.persistence.entity.OutboxEventEntity.Status;
+import com.astrazeneca.insights_service.infrastructure.persistence.entity.OutboxRecipientEntity;
+import com.astrazeneca.insights_service.infrastructure.persistence.mapper.PersistenceMapper;
+import com.astrazeneca.insights_service.infrastructure.persistence.repository.JpaOutboxEventRepository;
+import com.astrazeneca.insights_service.infrastructure.persistence.repository.JpaOutboxRecipientRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Component
+public class OutboxPersistenceAdapter implements InsightOutboxPort {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final JpaOutboxEventRepository jpaRepository;
+    private final JpaOutboxRecipientRepository recipientRepository;
+    private final PersistenceMapper mapper;
+    private final EntityManager entityManager;
+
+    public OutboxPersistenceAdapter(JpaOutboxEventRepository jpaRepository,
+                                    JpaOutboxRecipientRepository recipientRepository,
+                                    PersistenceMapper mapper, EntityManager entityManager) {
+        this.jpaRepository = jpaRepository;
+        this.recipientRepository = recipientRepository;
+        this.mapper = mapper;
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public void append(InsightEvent event) {
+        OutboxEventEntity entity = mapper.toEntity(event);
+        entity.setStatus(Status.PENDING);
+        entity.setNextAttemptAt(event.createdAt());
+        // persist, not save: the id is assigned, and save would read the row first to tell insert from merge
+        entityManager.persist(entity);
+    }
+
+    @Override
+    public List<InsightEvent> findDue(Instant now, int limit) {
+        List<InsightEvent> due = jpaRepository.findDue(Status.PENDING, now, Limit.of(limit)).stream()
+                .map(mapper::toDomain)
+                .toList();
+        // Only retried events can have settled recipients; one query fetches them for the whole batch
+        List<UUID> retried = due.stream().filter(event -> event.attempts() > 0).map(InsightEvent::id).toList();
+        if (retried.isEmpty()) {
+            return due;
+        }
+        Map<UUID, Set<String>> settled = recipientRepository.findByEventIds(retried).stream()
+                .map(OutboxRecipientEntity::getId)
+                .collect(Collectors.groupingBy(OutboxRecipientEntity.Key::getEventId,
+                        Collectors.mapping(OutboxRecipientEntity.Key::getRecipient, Collectors.toSet())));
+        return due.stream()
+                .map(event -> event.withSettled(settled.getOrDefault(event.id(), Set.of())))
+                .toList();
+    }
+
+    @Override
+    public void markDelivered(Collection<UUID> ids, Instant deliveredAt) {
+        jpaRepository.markProcessed(ids, Status.DELIVERED, deliveredAt);
+        recipientRepository.deleteByEventIds(ids);
+    }
+
+    @Override
+    public void recordSettled(UUID id, Collection<String> recipients) {
+        recipients.forEach(recipient ->
+                entityManager.persist(new OutboxRecipientEntity(new OutboxRecipientEntity.Key(id, recipient))));
+    }
+
+    @Override
+    public void markRetry(UUID id, int attempts, Instant nextAttemptAt, String error) {
+        jpaRepository.markRetry(id, attempts, nextAttemptAt, truncate(error));
+    }
+
+    @Override
+    public void markFailed(UUID id, int attempts, Instant failedAt, String error) {
+        jpaRepository.markProcessed(id, Status.FAILED, attempts, failedAt, truncate(error));
+    }
+
+    @Override
+    public int purgeDeliveredBefore(Instant cutoff) {
+        return jpaRepository.deleteProcessedBefore(Status.DELIVERED, cutoff);
+    }
+
+    private static String truncate(String error) {
+        return error == null || error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
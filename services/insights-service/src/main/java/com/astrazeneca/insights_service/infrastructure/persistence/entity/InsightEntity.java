@@ -9,7 +9,11 @@ import lombok.Setter;
 import java.util.UUID;
 
 @Entity
-@Table(name = "insights")
+@Table(name = "insights", indexes = {
+        @Index(name = "idx_insights_area_relevance", columnList = "therapeutic_area_key, relevance_score DESC, id"),
+        @Index(name = "idx_insights_competitor_relevance", columnList = "competitor_id, relevance_score DESC, id"),
+        @Index(name = "idx_insights_relevance", columnList = "relevance_score DESC, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -26,6 +30,9 @@ public class InsightEntity {
     @Column(name = "therapeutic_area")
     private String therapeuticArea;
 
+    @Column(name = "therapeutic_area_key")
+    private String therapeuticAreaKey;
+
     @Column(name = "competitor_id")
     private UUID competitorId;
 
@@ -36,6 +43,11 @@ public class InsightEntity {
     @Column(name = "relevance_score")
     private Integer relevanceScore;
 
+    // Served as the insight's ETag; a null version also tells Spring Data the entity is new
+    @Version
+    @Column(name = "version")
+    private Long version;
+
     public enum ImpactLevelEntity {
         HIGH, MEDIUM, LOW
     }
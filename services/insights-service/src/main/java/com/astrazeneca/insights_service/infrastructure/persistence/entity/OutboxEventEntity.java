@@ -0,0 +1,68 @@
+package com.astrazeneca.insights_service.infrastructure.persistence.entity;
+
+import com.astrazeneca.insights_service.infrastructure.persistence.entity.InsightEntity.ImpactLevelEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(name = "insight_outbox", indexes = {
+        // The relay's poll: pending events, earliest due first
+        @Index(name = "idx_insight_outbox_due", columnList = "status, next_attempt_at, id"),
+        @Index(name = "idx_insight_outbox_processed", columnList = "status, processed_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEventEntity {
+
+    @Id
+    @Column(name = "id", updatable = false, nullable = false)
+    private UUID id;
+
+    @Column(name = "insight_id", nullable = false)
+    private UUID insightId;
+
+    @Column(name = "description", nullable = false)
+    private String description;
+
+    @Column(name = "therapeutic_area")
+    private String therapeuticArea;
+
+    @Column(name = "competitor_id")
+    private UUID competitorId;
+
+    @Column(name = "impact_level", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private ImpactLevelEntity impactLevel;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "status", nullable = false, length = 16)
+    @Enumerated(EnumType.STRING)
+    private Status status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private Instant nextAttemptAt;
+
+    // When the event was delivered or given up on
+    @Column(name = "processed_at")
+    private Instant processedAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    public enum Status {
+        PENDING, DELIVERED, FAILED
+    }
+}
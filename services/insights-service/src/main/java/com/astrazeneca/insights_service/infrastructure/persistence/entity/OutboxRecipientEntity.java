@@ -0,0 +1,38 @@
+package com.astrazeneca.insights_service.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+// A recipient a pending outbox event has already reached (or that rejected it for good), so a
+// retry skips them. Only failed events have rows; they go once the event is delivered.
+@Entity
+@Table(name = "insight_outbox_recipients")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxRecipientEntity {
+
+    @EmbeddedId
+    private Key id;
+
+    @Embeddable
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+
+        @Column(name = "event_id", nullable = false)
+        private UUID eventId;
+
+        @Column(name = "recipient", nullable = false)
+        private String recipient;
+    }
+}
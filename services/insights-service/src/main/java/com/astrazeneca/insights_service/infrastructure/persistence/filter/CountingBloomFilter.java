@@ -0,0 +1,107 @@
+package com.astrazeneca.insights_service.infrastructure.persistence.filter;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.UUID;
+
+// Bloom filter over UUID keys with a byte counter per slot instead of a bit, so keys can be
+// removed again. Answers "definitely absent" or "possibly present". A counter that reaches 255
+// stays there and is never decremented: removal can then leave a false positive, but never a
+// false negative. Each removed key must have been added exactly once. Thread-safe via CAS.
+// Sized for an expected number of keys, past which the false-positive rate rises: a 1% rate
+// takes about 9.6 slots per key, so at one byte per slot a million keys take about 9.6 MB.
+final class CountingBloomFilter {
+
+    private static final VarHandle COUNTERS = MethodHandles.arrayElementVarHandle(byte[].class);
+    private static final int SATURATED = 0xFF;
+
+    private final byte[] counters;
+    private final int hashCount;
+
+    CountingBloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions < 1) {
+            throw new IllegalArgumentException("expectedInsertions must be positive");
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("falsePositiveRate must be between 0 and 1");
+        }
+        // m = -n ln p / (ln 2)^2, k = m / n ln 2
+        long slots = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.counters = new byte[(int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, slots))];
+        this.hashCount = (int) Math.max(1, Math.round((double) counters.length / expectedInsertions * Math.log(2)));
+    }
+
+    void add(UUID key) {
+        long hash1 = hash1(key);
+        long hash2 = hash2(key, hash1);
+        for (int i = 0; i < hashCount; i++) {
+            increment(slot(hash1 + i * hash2));
+        }
+    }
+
+    void remove(UUID key) {
+        long hash1 = hash1(key);
+        long hash2 = hash2(key, hash1);
+        for (int i = 0; i < hashCount; i++) {
+            decrement(slot(hash1 + i * hash2));
+        }
+    }
+
+    boolean mightContain(UUID key) {
+        long hash1 = hash1(key);
+        long hash2 = hash2(key, hash1);
+        for (int i = 0; i < hashCount; i++) {
+            if ((byte) COUNTERS.getVolatile(counters, slot(hash1 + i * hash2)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    int slotCount() {
+        return counters.length;
+    }
+
+    int hashCount() {
+        return hashCount;
+    }
+
+    private int slot(long combined) {
+        return (int) ((combined & Long.MAX_VALUE) % counters.length);
+    }
+
+    private void increment(int slot) {
+        byte current;
+        do {
+            current = (byte) COUNTERS.getVolatile(counters, slot);
+            if ((current & 0xFF) == SATURATED) {
+                return;
+            }
+        } while (!COUNTERS.compareAndSet(counters, slot, current, (byte) (current + 1)));
+    }
+
+    private void decrement(int slot) {
+        byte current;
+        do {
+            current = (byte) COUNTERS.getVolatile(counters, slot);
+            if (current == 0 || (current & 0xFF) == SATURATED) {
+                return;
+            }
+        } while (!COUNTERS.compareAndSet(counters, slot, current, (byte) (current - 1)));
+    }
+
+    private static long hash1(UUID key) {
+        return mix(key.getMostSignificantBits() ^ mix(key.getLeastSignificantBits()));
+    }
+
+    private static long hash2(UUID key, long hash1) {
+        return mix(hash1 ^ key.getLeastSignificantBits() ^ 0x9E3779B97F4A7C15L);
+    }
+
+    // SplitMix64 finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
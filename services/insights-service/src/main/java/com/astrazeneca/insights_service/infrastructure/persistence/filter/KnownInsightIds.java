@@ -0,0 +1,95 @@
+package com.astrazeneca.insights_service.infrastructure.persistence.filter;
+
+import com.astrazeneca.insights_service.infrastructure.persistence.repository.JpaInsightRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+// Negative cache over stored insight ids, so lookups and deletes of ids that do not exist are
+// answered without a query. Loaded from an id-only scan before the server accepts requests.
+// Inserts are added before commit (a rollback only leaves a false positive); deletes are removed
+// after commit, and only when a row was actually deleted, so no id is ever removed twice.
+@Component
+public class KnownInsightIds implements SmartInitializingSingleton {
+
+    static final String FILTER_NAME = "insights";
+
+    private static final Logger log = LoggerFactory.getLogger(KnownInsightIds.class);
+
+    private final JpaInsightRepository jpaRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final CountingBloomFilter filter;
+    private final Counter skipped;
+    private final Counter queried;
+    private final Counter falsePositives;
+
+    public KnownInsightIds(JpaInsightRepository jpaRepository,
+                           PlatformTransactionManager transactionManager,
+                           MeterRegistry meterRegistry,
+                           @Value("${insights.id-filter.expected-insertions:1000000}") long expectedInsertions,
+                           @Value("${insights.id-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.jpaRepository = jpaRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.filter = new CountingBloomFilter(expectedInsertions, falsePositiveRate);
+        this.skipped = Counter.builder("id.filter.lookups").tag("filter", FILTER_NAME).tag("result", "skipped")
+                .description("Lookups of unknown ids answered without a database query")
+                .register(meterRegistry);
+        this.queried = Counter.builder("id.filter.lookups").tag("filter", FILTER_NAME).tag("result", "queried")
+                .description("Lookups the filter passed on to the database")
+                .register(meterRegistry);
+        this.falsePositives = Counter.builder("id.filter.false.positives").tag("filter", FILTER_NAME)
+                .description("Passed lookups for which the database found nothing")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        long started = System.nanoTime();
+        AtomicLong loaded = new AtomicLong();
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<UUID> ids = jpaRepository.streamAllIds()) {
+                ids.forEach(id -> {
+                    filter.add(id);
+                    loaded.incrementAndGet();
+                });
+            }
+        });
+        log.info("Loaded {} insight ids into a {}-slot filter in {} ms", loaded.get(), filter.slotCount(),
+                (System.nanoTime() - started) / 1_000_000);
+    }
+
+    // False means the id is not stored; true means it may be and the database decides
+    public boolean mightExist(UUID id) {
+        if (id == null || !filter.mightContain(id)) {
+            skipped.increment();
+            return false;
+        }
+        queried.increment();
+        return true;
+    }
+
+    // Once per inserted id
+    public void add(UUID id) {
+        filter.add(id);
+    }
+
+    // Once per deleted row, after the delete committed
+    public void remove(UUID id) {
+        filter.remove(id);
+    }
+
+    public void recordFalsePositive() {
+        falsePositives.increment();
+    }
+}
@@ -2,8 +2,10 @@ package com.astrazeneca.insights_service.infrastructure.persistence.mapper;
 
 import com.astrazeneca.insights_service.domain.model.ImpactLevel;
 import com.astrazeneca.insights_service.domain.model.Insight;
+import com.astrazeneca.insights_service.domain.model.InsightEvent;
 import com.astrazeneca.insights_service.infrastructure.persistence.entity.InsightEntity;
 import com.astrazeneca.insights_service.infrastructure.persistence.entity.InsightEntity.ImpactLevelEntity;
+import com.astrazeneca.insights_service.infrastructure.persistence.entity.OutboxEventEntity;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
@@ -16,6 +18,16 @@ public interface PersistenceMapper {
     @Mapping(target = "impactLevel", source = "impactLevel")
     Insight toDomain(InsightEntity entity);
 
+    // Delivery state is set by the outbox adapter
+    @Mapping(target = "status", ignore = true)
+    @Mapping(target = "nextAttemptAt", ignore = true)
+    @Mapping(target = "processedAt", ignore = true)
+    @Mapping(target = "lastError", ignore = true)
+    OutboxEventEntity toEntity(InsightEvent event);
+
+    @Mapping(target = "settled", ignore = true)
+    InsightEvent toDomain(OutboxEventEntity entity);
+
     default ImpactLevelEntity toEntityImpactLevel(ImpactLevel impactLevel) {
         if (impactLevel == null) {
             return null;
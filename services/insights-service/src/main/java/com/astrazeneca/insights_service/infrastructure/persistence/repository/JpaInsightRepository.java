@@ -1,15 +1,73 @@
 package com.astrazeneca.insights_service.infrastructure.persistence.repository;
 
 import com.astrazeneca.insights_service.infrastructure.persistence.entity.InsightEntity;
+import com.astrazeneca.insights_service.infrastructure.persistence.entity.InsightEntity.ImpactLevelEntity;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
 public interface JpaInsightRepository extends JpaRepository<InsightEntity, UUID> {
 
-    List<InsightEntity> findByTherapeuticAreaIgnoreCase(String therapeuticArea);
+    List<InsightEntity> findByTherapeuticAreaKey(String therapeuticAreaKey);
+
+    @Query("SELECT i.version FROM InsightEntity i WHERE i.id = :id")
+    Optional<Long> findVersionById(UUID id);
+
+    @Query("SELECT i.id FROM InsightEntity i")
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    Stream<UUID> streamAllIds();
+
+    // One statement instead of a SELECT and a DELETE; returns the number of rows removed
+    @Modifying
+    @Query("DELETE FROM InsightEntity i WHERE i.id = :id")
+    int deleteRowById(UUID id);
+
+    @Modifying
+    @Query("DELETE FROM InsightEntity i WHERE i.id IN :ids")
+    int deleteRowsByIdIn(Collection<UUID> ids);
+
+    // Advances the version too, so ETags handed out before the change no longer match
+    @Modifying
+    @Query("UPDATE InsightEntity i SET i.impactLevel = :impactLevel, i.relevanceScore = :relevanceScore, "
+            + "i.version = i.version + 1 WHERE i.id IN :ids")
+    int updateImpactLevelByIdIn(Collection<UUID> ids, ImpactLevelEntity impactLevel, int relevanceScore);
+
+    List<InsightEntity> findByOrderByRelevanceScoreDescIdAsc(Limit limit);
+
+    // The filtered column is repeated in ORDER BY so the planner reads the composite index in order instead of sorting
+    @Query("SELECT i FROM InsightEntity i WHERE i.therapeuticAreaKey = :therapeuticAreaKey "
+            + "ORDER BY i.therapeuticAreaKey, i.relevanceScore DESC, i.id")
+    List<InsightEntity> findTopByTherapeuticAreaKey(String therapeuticAreaKey, Limit limit);
+
+    @Query("SELECT i FROM InsightEntity i WHERE i.competitorId = :competitorId "
+            + "ORDER BY i.competitorId, i.relevanceScore DESC, i.id")
+    List<InsightEntity> findTopByCompetitorId(UUID competitorId, Limit limit);
+
+    @Query("SELECT i FROM InsightEntity i WHERE i.therapeuticAreaKey = :therapeuticAreaKey AND i.competitorId = :competitorId "
+            + "ORDER BY i.therapeuticAreaKey, i.relevanceScore DESC, i.id")
+    List<InsightEntity> findTopByTherapeuticAreaKeyAndCompetitorId(String therapeuticAreaKey, UUID competitorId, Limit limit);
+
+    @Query("SELECT i FROM InsightEntity i")
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HINT_CACHEABLE, value = "false")
+    })
+    Stream<InsightEntity> streamAll();
 }
 
@@ -0,0 +1,40 @@
+package com.astrazeneca.insights_service.infrastructure.persistence.repository;
+
+import com.astrazeneca.insights_service.infrastructure.persistence.entity.OutboxEventEntity;
+import com.astrazeneca.insights_service.infrastructure.persistence.entity.OutboxEventEntity.Status;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface JpaOutboxEventRepository extends JpaRepository<OutboxEventEntity, UUID> {
+
+    @Query("SELECT e FROM OutboxEventEntity e WHERE e.status = :status AND e.nextAttemptAt <= :now "
+            + "ORDER BY e.nextAttemptAt, e.id")
+    List<OutboxEventEntity> findDue(Status status, Instant now, Limit limit);
+
+    @Modifying
+    @Query("UPDATE OutboxEventEntity e SET e.status = :status, e.processedAt = :processedAt WHERE e.id IN :ids")
+    int markProcessed(Collection<UUID> ids, Status status, Instant processedAt);
+
+    @Modifying
+    @Query("UPDATE OutboxEventEntity e SET e.attempts = :attempts, e.nextAttemptAt = :nextAttemptAt, "
+            + "e.lastError = :lastError WHERE e.id = :id")
+    int markRetry(UUID id, int attempts, Instant nextAttemptAt, String lastError);
+
+    @Modifying
+    @Query("UPDATE OutboxEventEntity e SET e.status = :status, e.attempts = :attempts, e.processedAt = :processedAt, "
+            + "e.lastError = :lastError WHERE e.id = :id")
+    int markProcessed(UUID id, Status status, int attempts, Instant processedAt, String lastError);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEventEntity e WHERE e.status = :status AND e.processedAt < :cutoff")
+    int deleteProcessedBefore(Status status, Instant cutoff);
+}
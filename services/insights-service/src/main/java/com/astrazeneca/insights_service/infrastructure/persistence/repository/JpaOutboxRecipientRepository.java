@@ -0,0 +1,22 @@
+package com.astrazeneca.insights_service.infrastructure.persistence.repository;
+
+import com.astrazeneca.insights_service.infrastructure.persistence.entity.OutboxRecipientEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface JpaOutboxRecipientRepository extends JpaRepository<OutboxRecipientEntity, OutboxRecipientEntity.Key> {
+
+    @Query("SELECT r FROM OutboxRecipientEntity r WHERE r.id.eventId IN :eventIds")
+    List<OutboxRecipientEntity> findByEventIds(Collection<UUID> eventIds);
+
+    @Modifying
+    @Query("DELETE FROM OutboxRecipientEntity r WHERE r.id.eventId IN :eventIds")
+    int deleteByEventIds(Collection<UUID> eventIds);
+}
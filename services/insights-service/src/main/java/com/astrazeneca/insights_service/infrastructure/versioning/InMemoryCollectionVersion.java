@@ -0,0 +1,10 @@
+package com.astrazeneca.insights_service.infrastructure.versioning;
+
+import com.astrazeneca.insights_service.domain.ports.out.CollectionVersionPort;
+import com.astrazeneca.servicekit.versioning.CollectionChangeCounter;
+import org.springframework.stereotype.Component;
+
+// Counts the insight writes of this instance with service-kit's in-process change counter
+@Component
+public class InMemoryCollectionVersion extends CollectionChangeCounter implements CollectionVersionPort {
+}
@@ -1,12 +1,15 @@
 package com.astrazeneca.insights_service.infrastructure.web.controller;
 
 import com.astrazeneca.insights_service.application.service.InsightService.InsightNotFoundException;
+import com.astrazeneca.insights_service.application.service.InsightService.InsightVersionMismatchException;
 import com.astrazeneca.insights_service.infrastructure.web.dto.ErrorResponse;
 import com.astrazeneca.insights_service.infrastructure.web.dto.ValidationErrorResponse;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingRequestHeaderException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
@@ -27,6 +30,29 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
     }
 
+    @ExceptionHandler(InsightVersionMismatchException.class)
+    public ResponseEntity<ErrorResponse> handleVersionMismatch(InsightVersionMismatchException ex) {
+        ErrorResponse error = new ErrorResponse(
+                HttpStatus.PRECONDITION_FAILED.value(),
+                ex.getMessage(),
+                LocalDateTime.now()
+        );
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(error);
+    }
+
+    @ExceptionHandler(MissingRequestHeaderException.class)
+    public ResponseEntity<ErrorResponse> handleMissingHeader(MissingRequestHeaderException ex) {
+        // Conditional writes insist on knowing which version the client saw
+        HttpStatus status = HttpHeaders.IF_MATCH.equalsIgnoreCase(ex.getHeaderName())
+                ? HttpStatus.PRECONDITION_REQUIRED : HttpStatus.BAD_REQUEST;
+        ErrorResponse error = new ErrorResponse(
+                status.value(),
+                ex.getHeaderName() + " header is required",
+                LocalDateTime.now()
+        );
+        return ResponseEntity.status(status).body(error);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ValidationErrorResponse> handleValidationErrors(MethodArgumentNotValidException ex) {
         Map<String, String> errors = new HashMap<>();
@@ -1,10 +1,19 @@
 package com.astrazeneca.insights_service.infrastructure.web.controller;
 
+import com.astrazeneca.insights_service.application.service.InsightService.InsightVersionMismatchException;
+import com.astrazeneca.insights_service.domain.model.CompetitorSummary;
 import com.astrazeneca.insights_service.domain.model.Insight;
 import com.astrazeneca.insights_service.domain.ports.in.ManageInsightUseCase;
+import com.astrazeneca.insights_service.infrastructure.web.dto.BulkDeleteRequest;
+import com.astrazeneca.insights_service.infrastructure.web.dto.BulkImpactLevelRequest;
+import com.astrazeneca.insights_service.infrastructure.web.dto.BulkOperationResponse;
 import com.astrazeneca.insights_service.infrastructure.web.dto.CreateInsightRequest;
 import com.astrazeneca.insights_service.infrastructure.web.dto.InsightResponse;
+import com.astrazeneca.insights_service.infrastructure.web.dto.PatchInsightRequest;
 import com.astrazeneca.insights_service.infrastructure.web.mapper.WebMapper;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -12,25 +21,44 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/insights")
 @Tag(name = "Insight Management", description = "APIs for managing insights")
 public class InsightController {
 
+    private static final String INCLUDE_COMPETITOR = "competitor";
+
     private final ManageInsightUseCase manageInsightUseCase;
     private final WebMapper webMapper;
+    private final ObjectWriter ndjsonWriter;
 
-    public InsightController(ManageInsightUseCase manageInsightUseCase, WebMapper webMapper) {
+    public InsightController(ManageInsightUseCase manageInsightUseCase, WebMapper webMapper, ObjectMapper objectMapper) {
         this.manageInsightUseCase = manageInsightUseCase;
         this.webMapper = webMapper;
+        // Many values share one response stream, so the writer must not close it after each line
+        this.ndjsonWriter = objectMapper.writerFor(InsightResponse.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
     }
 
     @Operation(summary = "Create a new insight", description = "Creates a new insight with the provided details")
@@ -45,45 +73,162 @@ public class InsightController {
         return ResponseEntity.status(HttpStatus.CREATED).body(webMapper.toResponse(insight));
     }
 
-    @Operation(summary = "Get all insights", description = "Retrieves all insights, optionally filtered by therapeutic area")
+    @Operation(summary = "Get all insights", description = "Retrieves all insights, optionally filtered by therapeutic area."
+            + " With include=competitor, each insight embeds its competitor summary from competitor-service, fetched in one batched call; no ETag is sent then.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Successfully retrieved insights")
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved insights"),
+            @ApiResponse(responseCode = "304", description = "No insight changed since the ETag in If-None-Match", content = @Content)
     })
     @GetMapping
     public ResponseEntity<List<InsightResponse>> getAllInsights(
             @Parameter(description = "Filter by therapeutic area")
-            @RequestParam(required = false) String therapeuticArea) {
+            @RequestParam(required = false) String therapeuticArea,
+            @Parameter(description = "Set to competitor to embed each insight's competitor summary")
+            @RequestParam(required = false) Set<String> include,
+            WebRequest webRequest) {
+        if (includesCompetitor(include)) {
+            return ResponseEntity.ok(withCompetitors(manageInsightUseCase.getAllInsights(therapeuticArea)));
+        }
+        String etag = etag(manageInsightUseCase.getInsightsVersion());
+        if (webRequest.checkNotModified(etag)) {
+            // checkNotModified has already written the ETag header
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
         List<Insight> insights = manageInsightUseCase.getAllInsights(therapeuticArea);
-        return ResponseEntity.ok(webMapper.toResponseList(insights));
+        return ResponseEntity.ok().eTag(etag).body(webMapper.toResponseList(insights));
+    }
+
+    @Operation(summary = "Get top insights by relevance",
+            description = "Retrieves the most relevant insights, optionally filtered by therapeutic area and/or competitor."
+            + " With include=competitor, each insight embeds its competitor summary from competitor-service, fetched in one batched call; no ETag is sent then.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved ranked insights"),
+            @ApiResponse(responseCode = "304", description = "No insight changed since the ETag in If-None-Match", content = @Content),
+            @ApiResponse(responseCode = "400", description = "Invalid limit", content = @Content)
+    })
+    @GetMapping("/top")
+    public ResponseEntity<List<InsightResponse>> getTopInsights(
+            @Parameter(description = "Filter by therapeutic area")
+            @RequestParam(required = false) String therapeuticArea,
+            @Parameter(description = "Filter by competitor")
+            @RequestParam(required = false) UUID competitorId,
+            @Parameter(description = "Number of insights to return (1-" + ManageInsightUseCase.MAX_TOP_LIMIT + ")")
+            @RequestParam(defaultValue = "" + ManageInsightUseCase.DEFAULT_TOP_LIMIT) int limit,
+            @Parameter(description = "Set to competitor to embed each insight's competitor summary")
+            @RequestParam(required = false) Set<String> include,
+            WebRequest webRequest) {
+        if (includesCompetitor(include)) {
+            return ResponseEntity.ok(withCompetitors(manageInsightUseCase.getTopInsights(therapeuticArea, competitorId, limit)));
+        }
+        String etag = etag(manageInsightUseCase.getInsightsVersion());
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        List<Insight> insights = manageInsightUseCase.getTopInsights(therapeuticArea, competitorId, limit);
+        return ResponseEntity.ok().eTag(etag).body(webMapper.toResponseList(insights));
+    }
+
+    @Operation(summary = "Export all insights",
+            description = "Streams every insight as newline-delimited JSON, one object per line, straight from a database cursor")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Insights streamed",
+                    content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = InsightResponse.class)))
+    })
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void exportInsights(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        try (OutputStream out = new BufferedOutputStream(response.getOutputStream())) {
+            manageInsightUseCase.exportInsights(insight -> writeLine(out, webMapper.toResponse(insight)));
+        }
+    }
+
+    private void writeLine(OutputStream out, InsightResponse insight) {
+        try {
+            ndjsonWriter.writeValue(out, insight);
+            out.write('\n');
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
     }
 
-    @Operation(summary = "Get insight by ID", description = "Retrieves a specific insight by its unique identifier")
+    @Operation(summary = "Get insight by ID", description = "Retrieves a specific insight by its unique identifier. "
+            + "The ETag is the insight's version; with a matching If-None-Match only the version is read. "
+            + "With include=competitor the competitor summary is embedded, no ETag is sent and If-None-Match is not evaluated.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Insight found",
                     content = @Content(schema = @Schema(implementation = InsightResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Insight unchanged since the ETag in If-None-Match", content = @Content),
             @ApiResponse(responseCode = "404", description = "Insight not found", content = @Content)
     })
     @GetMapping("/{id}")
     public ResponseEntity<InsightResponse> getInsightById(
-            @Parameter(description = "Unique identifier of the insight") @PathVariable UUID id) {
+            @Parameter(description = "Unique identifier of the insight") @PathVariable UUID id,
+            @Parameter(description = "Set to competitor to embed each insight's competitor summary")
+            @RequestParam(required = false) Set<String> include,
+            WebRequest webRequest) {
+        boolean withCompetitor = includesCompetitor(include);
+        if (!withCompetitor && webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            Optional<Long> version = manageInsightUseCase.getInsightVersion(id);
+            if (version.isEmpty()) {
+                return ResponseEntity.notFound().build();
+            }
+            if (webRequest.checkNotModified(etag(version.get()))) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+            }
+        }
+        // No ETag with the competitor embedded: Spring would otherwise answer a matching If-None-Match
+        // with 304 although the competitor part may have changed
         return manageInsightUseCase.getInsightById(id)
-                .map(insight -> ResponseEntity.ok(webMapper.toResponse(insight)))
+                .map(insight -> withCompetitor
+                        ? ResponseEntity.ok(withCompetitors(List.of(insight)).getFirst())
+                        : ResponseEntity.ok().eTag(etag(insight.getVersion())).body(webMapper.toResponse(insight)))
                 .orElse(ResponseEntity.notFound().build());
     }
 
-    @Operation(summary = "Update an insight", description = "Updates an existing insight with the provided details")
+    @Operation(summary = "Update an insight", description = "Replaces an existing insight with the provided details. "
+            + "If-Match is required: with the insight's ETag, the insight is replaced in a single statement only "
+            + "if it has not changed since; with *, the last write wins.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Insight updated successfully",
                     content = @Content(schema = @Schema(implementation = InsightResponse.class))),
-            @ApiResponse(responseCode = "400", description = "Invalid input data", content = @Content),
-            @ApiResponse(responseCode = "404", description = "Insight not found", content = @Content)
+            @ApiResponse(responseCode = "400", description = "Invalid input data, or a null description or impactLevel",
+                    content = @Content),
+            @ApiResponse(responseCode = "404", description = "Insight not found", content = @Content),
+            @ApiResponse(responseCode = "412", description = "Insight changed since the ETag in If-Match", content = @Content),
+            @ApiResponse(responseCode = "428", description = "If-Match header missing", content = @Content)
     })
     @PutMapping("/{id}")
     public ResponseEntity<InsightResponse> updateInsight(
             @Parameter(description = "Unique identifier of the insight") @PathVariable UUID id,
+            @Parameter(description = "ETag of the insight the update is based on, or * to overwrite it unconditionally")
+            @RequestHeader(HttpHeaders.IF_MATCH) String ifMatch,
             @Valid @RequestBody CreateInsightRequest request) {
-        Insight insight = manageInsightUseCase.updateInsight(id, webMapper.toUpdateCommand(request));
-        return ResponseEntity.ok(webMapper.toResponse(insight));
+        Insight insight = ifMatch.strip().equals("*")
+                ? manageInsightUseCase.updateInsight(id, webMapper.toUpdateCommand(request))
+                : manageInsightUseCase.updateInsight(id, expectedVersion(id, ifMatch), webMapper.toUpdateCommand(request));
+        return ResponseEntity.ok().eTag(etag(insight.getVersion())).body(webMapper.toResponse(insight));
+    }
+
+    @Operation(summary = "Partially update an insight", description = "Applies a JSON merge patch: changes only the "
+            + "fields present in the body, in a single statement, if the insight has not changed since the ETag in the "
+            + "required If-Match header. A null therapeuticArea or competitorId clears it; description and impactLevel "
+            + "cannot be null. Responds with the new ETag and no body.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Insight updated; the ETag header holds its new version"),
+            @ApiResponse(responseCode = "400", description = "Invalid input data, or a null description or impactLevel",
+                    content = @Content),
+            @ApiResponse(responseCode = "404", description = "Insight not found", content = @Content),
+            @ApiResponse(responseCode = "412", description = "Insight changed since the ETag in If-Match", content = @Content),
+            @ApiResponse(responseCode = "428", description = "If-Match header missing", content = @Content)
+    })
+    @PatchMapping(value = "/{id}", consumes = {MediaType.APPLICATION_JSON_VALUE, "application/merge-patch+json"})
+    public ResponseEntity<Void> patchInsight(
+            @Parameter(description = "Unique identifier of the insight") @PathVariable UUID id,
+            @Parameter(description = "ETag of the insight the change is based on")
+            @RequestHeader(HttpHeaders.IF_MATCH) String ifMatch,
+            @Valid @RequestBody PatchInsightRequest request) {
+        long version = manageInsightUseCase.patchInsight(id, expectedVersion(id, ifMatch), webMapper.toPatchCommand(request));
+        return ResponseEntity.noContent().eTag(etag(version)).build();
     }
 
     @Operation(summary = "Delete an insight", description = "Deletes an insight by its unique identifier")
@@ -97,4 +242,68 @@ public class InsightController {
         manageInsightUseCase.deleteInsight(id);
         return ResponseEntity.noContent().build();
     }
+
+    @Operation(summary = "Delete matching insights", description = "Deletes every insight matching all given criteria "
+            + "(competitor, therapeutic area, id list) with set-based statements over chunks of rows, each chunk in its "
+            + "own transaction. Responds with the number of insights deleted.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Matching insights deleted",
+                    content = @Content(schema = @Schema(implementation = BulkOperationResponse.class))),
+            @ApiResponse(responseCode = "400", description = "No criteria given or invalid input data", content = @Content)
+    })
+    @PostMapping("/bulk-delete")
+    public ResponseEntity<BulkOperationResponse> deleteInsights(@Valid @RequestBody BulkDeleteRequest request) {
+        long deleted = manageInsightUseCase.deleteInsights(webMapper.toFilterCommand(request));
+        return ResponseEntity.ok(new BulkOperationResponse(deleted));
+    }
+
+    @Operation(summary = "Set the impact level of matching insights", description = "Sets the impact level, and with it "
+            + "the relevance score, of every insight matching all given criteria, in chunks like bulk-delete. "
+            + "Responds with the number of insights changed; those already at the level are skipped.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Matching insights updated",
+                    content = @Content(schema = @Schema(implementation = BulkOperationResponse.class))),
+            @ApiResponse(responseCode = "400", description = "No criteria given or invalid input data", content = @Content)
+    })
+    @PostMapping("/bulk-update")
+    public ResponseEntity<BulkOperationResponse> updateImpactLevel(@Valid @RequestBody BulkImpactLevelRequest request) {
+        long updated = manageInsightUseCase.updateImpactLevel(webMapper.toFilterCommand(request), request.getImpactLevel());
+        return ResponseEntity.ok(new BulkOperationResponse(updated));
+    }
+
+    // The collection ETag does not cover competitor-service data, so embedding responses carry
+    // none and are never answered 304
+    private static boolean includesCompetitor(Set<String> include) {
+        return include != null && include.contains(INCLUDE_COMPETITOR);
+    }
+
+    // One competitor lookup for the whole response, however many insights share or differ in competitor
+    private List<InsightResponse> withCompetitors(List<Insight> insights) {
+        List<InsightResponse> responses = webMapper.toResponseList(insights);
+        Set<UUID> competitorIds = responses.stream()
+                .map(InsightResponse::getCompetitorId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<UUID, CompetitorSummary> competitors = manageInsightUseCase.getCompetitors(competitorIds);
+        responses.forEach(response -> response.setCompetitor(
+                webMapper.toCompetitorResponse(competitors.get(response.getCompetitorId()))));
+        return responses;
+    }
+
+    private static String etag(Object version) {
+        return "\"" + version + "\"";
+    }
+
+    // If-Match needs a strong match, so only a single quoted version of ours can succeed
+    private static long expectedVersion(UUID id, String ifMatch) {
+        String tag = ifMatch.strip();
+        if (tag.length() > 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            try {
+                return Long.parseLong(tag.substring(1, tag.length() - 1));
+            } catch (NumberFormatException ignored) {
+                // Not one of our ETags
+            }
+        }
+        throw new InsightVersionMismatchException(id);
+    }
 }
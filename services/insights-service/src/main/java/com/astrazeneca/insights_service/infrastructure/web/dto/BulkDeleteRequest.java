@@ -0,0 +1,25 @@
+package com.astrazeneca.insights_service.infrastructure.web.dto;
+
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.UUID;
+
+// Criteria are combined with AND; at least one is required
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkDeleteRequest {
+
+    private UUID competitorId;
+
+    private String therapeuticArea;
+
+    @Size(max = 10_000, message = "At most 10000 ids per request")
+    private List<UUID> ids;
+}
@@ -0,0 +1,16 @@
+package com.astrazeneca.insights_service.infrastructure.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkOperationResponse {
+
+    // Rows deleted or changed; rows already at the requested value are not counted
+    private long affected;
+}
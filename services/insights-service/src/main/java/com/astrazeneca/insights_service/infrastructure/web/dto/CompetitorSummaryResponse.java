@@ -0,0 +1,22 @@
+package com.astrazeneca.insights_service.infrastructure.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompetitorSummaryResponse {
+
+    private UUID id;
+    private String name;
+    private String headquarters;
+    private List<String> therapeuticAreas;
+    private long trialCount;
+}
@@ -1,6 +1,7 @@
 package com.astrazeneca.insights_service.infrastructure.web.dto;
 
 import com.astrazeneca.insights_service.domain.model.ImpactLevel;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -20,5 +21,8 @@ public class InsightResponse {
     private UUID competitorId;
     private ImpactLevel impactLevel;
     private Integer relevanceScore;
+    // Only with ?include=competitor, and only when competitor-service resolved the id in time
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private CompetitorSummaryResponse competitor;
 }
 
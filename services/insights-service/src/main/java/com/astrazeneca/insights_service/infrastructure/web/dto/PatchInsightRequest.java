@@ -0,0 +1,52 @@
+package com.astrazeneca.insights_service.infrastructure.web.dto;
+
+import com.astrazeneca.insights_service.domain.model.ImpactLevel;
+import com.astrazeneca.insights_service.domain.model.InsightField;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.Pattern;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.UUID;
+
+// JSON merge patch (RFC 7396): members left out keep their current value, and a null member
+// clears the field. Jackson calls a setter for every member in the body, null or not, so the
+// setters record which members were sent.
+@Getter
+@NoArgsConstructor
+public class PatchInsightRequest {
+
+    @Pattern(regexp = "(?s).*\\S.*", message = "Description must not be blank")
+    private String description;
+
+    private String therapeuticArea;
+
+    private UUID competitorId;
+
+    private ImpactLevel impactLevel;
+
+    @JsonIgnore
+    private final Set<InsightField> fields = EnumSet.noneOf(InsightField.class);
+
+    public void setDescription(String description) {
+        this.description = description;
+        fields.add(InsightField.DESCRIPTION);
+    }
+
+    public void setTherapeuticArea(String therapeuticArea) {
+        this.therapeuticArea = therapeuticArea;
+        fields.add(InsightField.THERAPEUTIC_AREA);
+    }
+
+    public void setCompetitorId(UUID competitorId) {
+        this.competitorId = competitorId;
+        fields.add(InsightField.COMPETITOR_ID);
+    }
+
+    public void setImpactLevel(ImpactLevel impactLevel) {
+        this.impactLevel = impactLevel;
+        fields.add(InsightField.IMPACT_LEVEL);
+    }
+}
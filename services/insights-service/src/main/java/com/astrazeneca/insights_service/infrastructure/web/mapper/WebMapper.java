@@ -1,11 +1,19 @@
 package com.astrazeneca.insights_service.infrastructure.web.mapper;
 
+import com.astrazeneca.insights_service.domain.model.CompetitorSummary;
 import com.astrazeneca.insights_service.domain.model.Insight;
 import com.astrazeneca.insights_service.domain.ports.in.ManageInsightUseCase.CreateInsightCommand;
+import com.astrazeneca.insights_service.domain.ports.in.ManageInsightUseCase.InsightFilterCommand;
+import com.astrazeneca.insights_service.domain.ports.in.ManageInsightUseCase.PatchInsightCommand;
 import com.astrazeneca.insights_service.domain.ports.in.ManageInsightUseCase.UpdateInsightCommand;
+import com.astrazeneca.insights_service.infrastructure.web.dto.BulkDeleteRequest;
+import com.astrazeneca.insights_service.infrastructure.web.dto.BulkImpactLevelRequest;
+import com.astrazeneca.insights_service.infrastructure.web.dto.CompetitorSummaryResponse;
 import com.astrazeneca.insights_service.infrastructure.web.dto.CreateInsightRequest;
 import com.astrazeneca.insights_service.infrastructure.web.dto.InsightResponse;
+import com.astrazeneca.insights_service.infrastructure.web.dto.PatchInsightRequest;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 import java.util.List;
 
@@ -16,8 +24,17 @@ public interface WebMapper {
 
     UpdateInsightCommand toUpdateCommand(CreateInsightRequest request);
 
+    PatchInsightCommand toPatchCommand(PatchInsightRequest request);
+
+    InsightFilterCommand toFilterCommand(BulkDeleteRequest request);
+
+    InsightFilterCommand toFilterCommand(BulkImpactLevelRequest request);
+
+    @Mapping(target = "competitor", ignore = true)
     InsightResponse toResponse(Insight insight);
 
+    CompetitorSummaryResponse toCompetitorResponse(CompetitorSummary competitor);
+
     List<InsightResponse> toResponseList(List<Insight> insights);
 }
 
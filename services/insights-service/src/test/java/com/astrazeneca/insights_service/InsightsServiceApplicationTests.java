@@ -1,15 +1,42 @@
 package com.astrazeneca.insights_service;
 
+import com.astrazeneca.insights_service.domain.ports.out.CollectionVersionPort;
+import com.astrazeneca.servicekit.metrics.PortTimingInterceptor;
+import com.astrazeneca.servicekit.metrics.SqlProfilingDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ContextConfiguration;
 
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
 @SpringBootTest
 @ContextConfiguration(classes = InsightsServiceApplication.class)
 class InsightsServiceApplicationTests {
 
+	@Autowired
+	private DataSource dataSource;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Autowired
+	private CollectionVersionPort collectionVersion;
+
 	@Test
 	void contextLoads() {
+		// Wrapped by service-kit's auto-configuration
+		assertThat(dataSource).isInstanceOf(SqlProfilingDataSource.class);
+	}
+
+	@Test
+	void timesCallsThroughTheDomainPorts() {
+		collectionVersion.currentVersion();
+
+		assertThat(meterRegistry.find(PortTimingInterceptor.METRIC).tag("port", "CollectionVersionPort").timer()).isNotNull();
 	}
 
 }
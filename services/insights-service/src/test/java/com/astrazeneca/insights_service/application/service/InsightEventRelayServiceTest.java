@@ -0,0 +1,252 @@
+package com.astrazeneca.insights_service.application.service;
+
+import com.astrazeneca.insights_service.domain.model.EventDelivery;
+import com.astrazeneca.insights_service.domain.model.ImpactLevel;
+import com.astrazeneca.insights_service.domain.model.Insight;
+import com.astrazeneca.insights_service.domain.model.InsightEvent;
+import com.astrazeneca.insights_service.domain.ports.in.ManageInsightUseCase.CreateInsightCommand;
+import com.astrazeneca.insights_service.domain.ports.in.RelayInsightEventsUseCase.RelayResult;
+import com.astrazeneca.insights_service.infrastructure.persistence.adapter.InsightPersistenceAdapter;
+import com.astrazeneca.insights_service.infrastructure.persistence.adapter.OutboxPersistenceAdapter;
+import com.astrazeneca.insights_service.infrastructure.persistence.filter.KnownInsightIds;
+import com.astrazeneca.insights_service.infrastructure.persistence.mapper.PersistenceMapperImpl;
+import com.astrazeneca.insights_service.infrastructure.versioning.InMemoryCollectionVersion;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Against the real outbox table; the relay commits its own transactions, so the tests do not run in one
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({InsightPersistenceAdapter.class, OutboxPersistenceAdapter.class, PersistenceMapperImpl.class,
+        KnownInsightIds.class, SimpleMeterRegistry.class})
+class InsightEventRelayServiceTest {
+
+    private static final Instant START = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Autowired
+    private InsightPersistenceAdapter insightAdapter;
+
+    @Autowired
+    private OutboxPersistenceAdapter outbox;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final MutableClock clock = new MutableClock();
+    private final List<InsightEvent> notified = new CopyOnWriteArrayList<>();
+    private Function<List<InsightEvent>, Map<UUID, EventDelivery>> notifications = events -> {
+        notified.addAll(events);
+        return events.stream().collect(Collectors.toMap(InsightEvent::id, event -> EventDelivery.complete(Set.of())));
+    };
+
+    @AfterEach
+    void clearTables() {
+        jdbcTemplate.update("DELETE FROM insight_outbox_recipients");
+        jdbcTemplate.update("DELETE FROM insight_outbox");
+        jdbcTemplate.update("DELETE FROM insights");
+    }
+
+    private InsightEventRelayService relay(int batchSize, int maxAttempts) {
+        return new InsightEventRelayService(outbox, events -> notifications.apply(events), transactionManager, clock,
+                batchSize, maxAttempts, Duration.ofSeconds(1), Duration.ofSeconds(10), Duration.ofHours(1));
+    }
+
+    private InsightEvent append(String description) {
+        InsightEvent event = InsightEvent.insightCreated(
+                Insight.create(description, "Oncology", null, ImpactLevel.HIGH), clock.instant());
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> outbox.append(event));
+        return event;
+    }
+
+    // Every event delivered except `failing`, which reached no one
+    private static Map<UUID, EventDelivery> failing(List<InsightEvent> events, InsightEvent failing, String error) {
+        return events.stream().collect(Collectors.toMap(InsightEvent::id, event -> event.id().equals(failing.id())
+                ? new EventDelivery(Set.of(), error)
+                : EventDelivery.complete(Set.of())));
+    }
+
+    private Map<String, Object> row(UUID id) {
+        return jdbcTemplate.queryForMap(
+                "SELECT status, attempts, next_attempt_at, processed_at, last_error FROM insight_outbox WHERE id = ?", id);
+    }
+
+    @Test
+    void recordsHighImpactInsightsInTheTransactionThatCreatesThem() {
+        InsightService service = new InsightService(insightAdapter, new InMemoryCollectionVersion(),
+                ids -> Map.of(), outbox);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        Insight high = transaction.execute(status ->
+                service.createInsight(new CreateInsightCommand("Phase 3 readout", "Oncology", null, ImpactLevel.HIGH)));
+        transaction.executeWithoutResult(status ->
+                service.createInsight(new CreateInsightCommand("Minor label update", "Oncology", null, ImpactLevel.LOW)));
+        transaction.executeWithoutResult(status -> {
+            service.createInsight(new CreateInsightCommand("Rolled back", "Oncology", null, ImpactLevel.HIGH));
+            status.setRollbackOnly();
+        });
+
+        assertThat(jdbcTemplate.queryForList("SELECT insight_id FROM insight_outbox", UUID.class))
+                .containsExactly(high.getId());
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM insights", Long.class)).isEqualTo(2);
+    }
+
+    @Test
+    void deliversDueEventsInBatchesAndMarksThemDelivered() {
+        InsightEvent first = append("a");
+        InsightEvent second = append("b");
+        InsightEvent third = append("c");
+        InsightEventRelayService relay = relay(2, 3);
+
+        assertThat(relay.relayDueEvents()).isEqualTo(new RelayResult(2, 0, 0, true));
+        assertThat(relay.relayDueEvents()).isEqualTo(new RelayResult(1, 0, 0, false));
+        assertThat(relay.relayDueEvents()).isEqualTo(new RelayResult(0, 0, 0, false));
+
+        assertThat(notified).extracting(InsightEvent::id).containsExactly(first.id(), second.id(), third.id());
+        assertThat(notified.getFirst().description()).isEqualTo("a");
+        assertThat(row(third.id())).containsEntry("STATUS", "DELIVERED").containsEntry("ATTEMPTS", 0);
+        assertThat(row(third.id()).get("PROCESSED_AT")).isNotNull();
+    }
+
+    @Test
+    void retriesFailedEventsWithExponentialBackoffThenGivesUp() {
+        InsightEvent failing = append("a");
+        notifications = events -> failing(events, failing, "503 Service Unavailable");
+        InsightEventRelayService relay = relay(10, 3);
+
+        assertThat(relay.relayDueEvents()).isEqualTo(new RelayResult(0, 1, 0, false));
+        assertThat(row(failing.id())).containsEntry("STATUS", "PENDING").containsEntry("ATTEMPTS", 1)
+                .containsEntry("LAST_ERROR", "503 Service Unavailable");
+        // Not due again before its back-off has passed: 1s, then 2s
+        assertThat(relay.relayDueEvents().retried()).isZero();
+        clock.advance(Duration.ofSeconds(1));
+        assertThat(relay.relayDueEvents().retried()).isEqualTo(1);
+        clock.advance(Duration.ofMillis(1999));
+        assertThat(relay.relayDueEvents().retried()).isZero();
+        clock.advance(Duration.ofMillis(1));
+        assertThat(relay.relayDueEvents()).isEqualTo(new RelayResult(0, 0, 1, false));
+
+        assertThat(row(failing.id())).containsEntry("STATUS", "FAILED").containsEntry("ATTEMPTS", 3)
+                .containsEntry("PROCESSED_AT", START.plusSeconds(3).atOffset(ZoneOffset.UTC));
+        clock.advance(Duration.ofHours(1));
+        assertThat(relay.relayDueEvents().failed()).isZero();
+        assertThat(relay.backoff(9)).isEqualTo(Duration.ofSeconds(10));
+    }
+
+    @Test
+    void deliversTheRestOfABatchWhenSomeEventsFail() {
+        InsightEvent failing = append("a");
+        InsightEvent delivered = append("b");
+        notifications = events -> failing(events, failing, "timeout");
+
+        // A failure ends the drain even though the batch was full
+        assertThat(relay(2, 3).relayDueEvents()).isEqualTo(new RelayResult(1, 1, 0, false));
+        assertThat(row(delivered.id())).containsEntry("STATUS", "DELIVERED");
+        assertThat(row(failing.id())).containsEntry("STATUS", "PENDING");
+    }
+
+    @Test
+    void retriesOnlyTheRecipientsEarlierAttemptsDidNotSettle() {
+        InsightEvent event = append("a");
+        List<Set<String>> skipped = new CopyOnWriteArrayList<>();
+        // Each attempt reaches one more of three subscribers before notification-service gives out
+        notifications = events -> {
+            Set<String> settled = events.getFirst().settled();
+            skipped.add(settled);
+            String next = "subscriber" + settled.size() + "@example.com";
+            return settled.size() < 2
+                    ? Map.of(event.id(), new EventDelivery(Set.of(next), "503 Service Unavailable"))
+                    : Map.of(event.id(), EventDelivery.complete(Set.of(next)));
+        };
+        InsightEventRelayService relay = relay(10, 5);
+
+        assertThat(relay.relayDueEvents().retried()).isEqualTo(1);
+        clock.advance(Duration.ofSeconds(1));
+        assertThat(relay.relayDueEvents().retried()).isEqualTo(1);
+        clock.advance(Duration.ofSeconds(2));
+        assertThat(relay.relayDueEvents().delivered()).isEqualTo(1);
+
+        assertThat(skipped).containsExactly(Set.of(), Set.of("subscriber0@example.com"),
+                Set.of("subscriber0@example.com", "subscriber1@example.com"));
+        // Delivered events no longer need their settled recipients
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM insight_outbox_recipients", Long.class))
+                .isZero();
+    }
+
+    @Test
+    void treatsAnEventWithoutAnOutcomeAsFailed() {
+        InsightEvent event = append("a");
+        notifications = events -> Map.of();
+
+        assertThat(relay(10, 3).relayDueEvents()).isEqualTo(new RelayResult(0, 1, 0, false));
+        assertThat(row(event.id())).containsEntry("STATUS", "PENDING");
+    }
+
+    @Test
+    void purgesDeliveredEventsPastTheirRetention() {
+        InsightEvent delivered = append("a");
+        InsightEventRelayService relay = relay(10, 3);
+        relay.relayDueEvents();
+        InsightEvent pending = append("b");
+        notifications = events -> failing(events, pending, "timeout");
+        relay.relayDueEvents();
+
+        assertThat(relay.purgeDeliveredEvents()).isZero();
+        clock.advance(Duration.ofHours(1).plusMillis(1));
+        assertThat(relay.purgeDeliveredEvents()).isEqualTo(1);
+
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM insight_outbox", UUID.class))
+                .containsExactly(pending.id())
+                .doesNotContain(delivered.id());
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now = START;
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
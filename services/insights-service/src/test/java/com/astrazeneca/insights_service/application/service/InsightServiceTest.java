@@ -0,0 +1,192 @@
+package com.astrazeneca.insights_service.application.service;
+
+import com.astrazeneca.insights_service.application.service.InsightService.InsightNotFoundException;
+import com.astrazeneca.insights_service.application.service.InsightService.InsightVersionMismatchException;
+import com.astrazeneca.insights_service.domain.model.ImpactLevel;
+import com.astrazeneca.insights_service.domain.model.Insight;
+import com.astrazeneca.insights_service.domain.model.InsightField;
+import com.astrazeneca.insights_service.domain.ports.in.ManageInsightUseCase.InsightFilterCommand;
+import com.astrazeneca.insights_service.domain.ports.in.ManageInsightUseCase.PatchInsightCommand;
+import com.astrazeneca.insights_service.domain.ports.in.ManageInsightUseCase.UpdateInsightCommand;
+import com.astrazeneca.insights_service.domain.ports.out.InsightOutboxPort;
+import com.astrazeneca.insights_service.domain.ports.out.InsightRepositoryPort;
+import com.astrazeneca.insights_service.infrastructure.versioning.InMemoryCollectionVersion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class InsightServiceTest {
+
+    @Mock
+    private InsightRepositoryPort insightRepository;
+
+    @Mock
+    private InsightOutboxPort insightOutbox;
+
+    private final InMemoryCollectionVersion collectionVersion = new InMemoryCollectionVersion();
+    private InsightService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new InsightService(insightRepository, collectionVersion, ids -> Map.of(), insightOutbox);
+    }
+
+    private static InsightFilterCommand byCompetitor() {
+        return new InsightFilterCommand(UUID.randomUUID(), null, null);
+    }
+
+    @Test
+    void bulkWritesMoveTheCollectionVersionOnlyWhenRowsChanged() {
+        String before = collectionVersion.currentVersion();
+        when(insightRepository.deleteMatching(any())).thenReturn(0L);
+
+        assertThat(service.deleteInsights(byCompetitor())).isZero();
+        assertThat(collectionVersion.currentVersion()).isEqualTo(before);
+
+        when(insightRepository.updateImpactLevelMatching(any(), eq(ImpactLevel.HIGH))).thenReturn(3L);
+        assertThat(service.updateImpactLevel(byCompetitor(), ImpactLevel.HIGH)).isEqualTo(3);
+        assertThat(collectionVersion.currentVersion()).isNotEqualTo(before);
+    }
+
+    @Test
+    void bulkDeleteMovesTheCollectionVersionWhenALaterChunkFails() {
+        String before = collectionVersion.currentVersion();
+        // As when the first chunks committed and a later one threw
+        when(insightRepository.deleteMatching(any())).thenThrow(new IllegalStateException("chunk 3 failed"));
+
+        assertThatThrownBy(() -> service.deleteInsights(byCompetitor())).hasMessage("chunk 3 failed");
+
+        assertThat(collectionVersion.currentVersion()).isNotEqualTo(before);
+    }
+
+    @Test
+    void bulkUpdateMovesTheCollectionVersionWhenALaterChunkFails() {
+        String before = collectionVersion.currentVersion();
+        when(insightRepository.updateImpactLevelMatching(any(), eq(ImpactLevel.LOW)))
+                .thenThrow(new IllegalStateException("chunk 2 failed"));
+
+        assertThatThrownBy(() -> service.updateImpactLevel(byCompetitor(), ImpactLevel.LOW))
+                .hasMessage("chunk 2 failed");
+
+        assertThat(collectionVersion.currentVersion()).isNotEqualTo(before);
+    }
+
+    @Test
+    void conditionalUpdateReturnsTheNewVersionWithoutReadingTheInsight() {
+        UUID id = UUID.randomUUID();
+        String before = collectionVersion.currentVersion();
+        when(insightRepository.updateIfVersion(eq(id), eq(3L), any(), eq(EnumSet.allOf(InsightField.class))))
+                .thenReturn(Optional.of(4L));
+
+        Insight updated = service.updateInsight(id, 3L,
+                new UpdateInsightCommand("Phase 3 readout", "Oncology", null, ImpactLevel.HIGH));
+
+        assertThat(updated.getVersion()).isEqualTo(4L);
+        assertThat(updated.getRelevanceScore())
+                .isEqualTo(Insight.create("d", null, null, ImpactLevel.HIGH).getRelevanceScore());
+        assertThat(collectionVersion.currentVersion()).isNotEqualTo(before);
+        verify(insightRepository, never()).findById(any());
+        verify(insightRepository, never()).findVersion(any());
+    }
+
+    @Test
+    void conditionalUpdateOfAStaleVersionFailsWithAMismatch() {
+        UUID id = UUID.randomUUID();
+        String before = collectionVersion.currentVersion();
+        when(insightRepository.updateIfVersion(eq(id), eq(3L), any(), anySet())).thenReturn(Optional.empty());
+        when(insightRepository.findVersion(id)).thenReturn(Optional.of(5L));
+
+        assertThatThrownBy(() -> service.updateInsight(id, 3L,
+                new UpdateInsightCommand("Phase 3 readout", "Oncology", null, ImpactLevel.HIGH)))
+                .isInstanceOf(InsightVersionMismatchException.class);
+        assertThatThrownBy(() -> service.patchInsight(id, 3L,
+                new PatchInsightCommand(EnumSet.of(InsightField.IMPACT_LEVEL), null, null, null, ImpactLevel.LOW)))
+                .isInstanceOf(InsightVersionMismatchException.class);
+
+        assertThat(collectionVersion.currentVersion()).isEqualTo(before);
+    }
+
+    @Test
+    void conditionalUpdateOfAMissingInsightFailsWithNotFound() {
+        UUID id = UUID.randomUUID();
+        when(insightRepository.updateIfVersion(eq(id), eq(3L), any(), anySet())).thenReturn(Optional.empty());
+        when(insightRepository.findVersion(id)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.patchInsight(id, 3L,
+                new PatchInsightCommand(EnumSet.of(InsightField.DESCRIPTION), "Updated", null, null, null)))
+                .isInstanceOf(InsightNotFoundException.class);
+    }
+
+    @Test
+    void patchClearsTheOptionalFieldsSetToNull() {
+        UUID id = UUID.randomUUID();
+        when(insightRepository.updateIfVersion(eq(id), eq(3L), any(), anySet())).thenReturn(Optional.of(4L));
+
+        assertThat(service.patchInsight(id, 3L, new PatchInsightCommand(
+                EnumSet.of(InsightField.THERAPEUTIC_AREA, InsightField.COMPETITOR_ID), null, null, null, null)))
+                .isEqualTo(4L);
+
+        ArgumentCaptor<Insight> changes = ArgumentCaptor.forClass(Insight.class);
+        verify(insightRepository).updateIfVersion(eq(id), eq(3L), changes.capture(),
+                eq(EnumSet.of(InsightField.THERAPEUTIC_AREA, InsightField.COMPETITOR_ID)));
+        assertThat(changes.getValue().getTherapeuticArea()).isNull();
+        assertThat(changes.getValue().getTherapeuticAreaKey()).isNull();
+        assertThat(changes.getValue().getCompetitorId()).isNull();
+    }
+
+    @Test
+    void patchRejectsClearingTheRequiredFields() {
+        UUID id = UUID.randomUUID();
+
+        assertThatThrownBy(() -> service.patchInsight(id, 3L,
+                new PatchInsightCommand(EnumSet.of(InsightField.DESCRIPTION), null, null, null, null)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.patchInsight(id, 3L,
+                new PatchInsightCommand(EnumSet.of(InsightField.IMPACT_LEVEL), null, null, null, null)))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verify(insightRepository, never()).updateIfVersion(any(), anyLong(), any(), anySet());
+    }
+
+    @Test
+    void emptyPatchChecksTheVersionWithoutWriting() {
+        UUID id = UUID.randomUUID();
+        when(insightRepository.findVersion(id)).thenReturn(Optional.of(4L));
+        PatchInsightCommand nothing = new PatchInsightCommand(EnumSet.noneOf(InsightField.class), null, null, null, null);
+
+        assertThat(service.patchInsight(id, 4L, nothing)).isEqualTo(4L);
+        assertThatThrownBy(() -> service.patchInsight(id, 3L, nothing))
+                .isInstanceOf(InsightVersionMismatchException.class);
+
+        verify(insightRepository, never()).updateIfVersion(any(), anyLong(), any(), anySet());
+    }
+
+    @Test
+    void rejectedFilterLeavesTheCollectionVersionAlone() {
+        String before = collectionVersion.currentVersion();
+
+        assertThatThrownBy(() -> service.deleteInsights(new InsightFilterCommand(null, null, null)))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(collectionVersion.currentVersion()).isEqualTo(before);
+    }
+}
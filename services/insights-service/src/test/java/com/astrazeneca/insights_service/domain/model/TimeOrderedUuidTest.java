@@ -0,0 +1,50 @@
+package com.astrazeneca.insights_service.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimeOrderedUuidTest {
+
+    private static final long NOW = 1_760_000_000_000L;
+
+    @Test
+    void encodesVersionVariantAndTimestamp() {
+        UUID id = new TimeOrderedUuid(() -> NOW, () -> -1L).generate();
+
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+        assertThat(id.getMostSignificantBits() >>> 16).isEqualTo(NOW);
+    }
+
+    @Test
+    void increasesStrictlyWithinOneMillisecondAndWhenTheClockStepsBack() {
+        AtomicLong clock = new AtomicLong(NOW);
+        TimeOrderedUuid generator = new TimeOrderedUuid(clock::get, () -> 0L);
+        List<UUID> ids = new ArrayList<>();
+
+        // More ids than the 12-bit sequence holds, so the timestamp has to run ahead of the clock
+        Stream.generate(generator::generate).limit(10_000).forEach(ids::add);
+        clock.set(NOW - 1_000);
+        ids.add(generator.generate());
+
+        // String order is the unsigned byte order databases sort UUIDs by
+        List<String> text = ids.stream().map(UUID::toString).toList();
+        assertThat(text).isSorted().doesNotHaveDuplicates();
+        assertThat(ids.getLast().getMostSignificantBits() >>> 16).isGreaterThan(NOW);
+    }
+
+    @Test
+    void ordersInsightsByCreation() {
+        Insight first = Insight.create("First", "Oncology", null, ImpactLevel.LOW);
+        Insight second = Insight.create("Second", "Oncology", null, ImpactLevel.LOW);
+
+        assertThat(first.getId().toString()).isLessThan(second.getId().toString());
+    }
+}
@@ -0,0 +1,157 @@
+package com.astrazeneca.insights_service.infrastructure.client;
+
+import com.astrazeneca.insights_service.domain.model.CompetitorSummary;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Runs the client against a local stand-in for competitor-service's lookup endpoint
+class CompetitorServiceClientTest {
+
+    private static final String ANSWER = """
+            {"competitors": [{"id": 1, "name": "Pfizer", "headquarters": "New York, USA",
+                              "therapeuticAreas": ["Oncology"], "trialCount": 4}],
+             "notFound": [2]}""";
+
+    private final List<String> requests = new CopyOnWriteArrayList<>();
+    private final AtomicReference<Handler> handler = new AtomicReference<>(exchange -> respond(exchange, 200, ANSWER));
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private HttpServer server;
+
+    @BeforeEach
+    void startStub() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/api/competitors/summaries/lookup", exchange -> {
+            requests.add(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            handler.get().handle(exchange);
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void stopStub() {
+        server.stop(0);
+    }
+
+    private CompetitorServiceClient client(Duration readTimeout, Duration failureBackoff) {
+        return new CompetitorServiceClient(RestClient.builder(), meterRegistry,
+                "http://localhost:" + server.getAddress().getPort(),
+                Duration.ofMillis(250), readTimeout, failureBackoff, 100, Duration.ofMinutes(5));
+    }
+
+    @Test
+    void mapsCompetitorIdsToUuidsAndBack() {
+        UUID id = CompetitorIds.toUuid(42);
+
+        assertThat(id).hasToString("00000000-0000-8000-8000-00000000002a");
+        assertThat(id.version()).isEqualTo(8);
+        assertThat(CompetitorIds.toCompetitorId(id)).hasValue(42);
+        assertThat(CompetitorIds.toCompetitorId(UUID.randomUUID())).isEmpty();
+    }
+
+    @Test
+    void resolvesAllIdsInOneCallAndCachesFoundAndMissingAnswers() {
+        CompetitorServiceClient client = client(Duration.ofSeconds(2), Duration.ofSeconds(5));
+        UUID pfizer = CompetitorIds.toUuid(1);
+        UUID unknown = CompetitorIds.toUuid(2);
+
+        Map<UUID, CompetitorSummary> first = client.findSummaries(List.of(pfizer, unknown, pfizer, UUID.randomUUID()));
+        Map<UUID, CompetitorSummary> second = client.findSummaries(List.of(unknown, pfizer));
+
+        assertThat(requests).singleElement().isIn("{\"ids\":[1,2]}", "{\"ids\":[2,1]}");
+        assertThat(first).containsOnlyKeys(pfizer);
+        assertThat(first.get(pfizer).name()).isEqualTo("Pfizer");
+        assertThat(first.get(pfizer).trialCount()).isEqualTo(4);
+        assertThat(second).isEqualTo(first);
+    }
+
+    @Test
+    void skipsTheCallWhenNoIdNamesACompetitor() {
+        assertThat(client(Duration.ofSeconds(2), Duration.ofSeconds(5)).findSummaries(List.of(UUID.randomUUID()))).isEmpty();
+
+        assertThat(requests).isEmpty();
+    }
+
+    @Test
+    void fallsBackToBareIdsWithinTheTimeoutAndPausesLookups() {
+        handler.set(exchange -> {
+            sleep(Duration.ofSeconds(2));
+            respond(exchange, 200, ANSWER);
+        });
+        CompetitorServiceClient client = client(Duration.ofMillis(200), Duration.ofMinutes(1));
+
+        long started = System.nanoTime();
+        Map<UUID, CompetitorSummary> summaries = client.findSummaries(List.of(CompetitorIds.toUuid(1)));
+        Duration waited = Duration.ofNanos(System.nanoTime() - started);
+
+        assertThat(summaries).isEmpty();
+        assertThat(waited).isLessThan(Duration.ofSeconds(1));
+        // Within the back-off the service is not asked again, and nothing was cached
+        assertThat(client.findSummaries(List.of(CompetitorIds.toUuid(1)))).isEmpty();
+        assertThat(requests).hasSize(1);
+        assertThat(unresolved("error")).isEqualTo(1);
+        assertThat(unresolved("backoff")).isEqualTo(1);
+    }
+
+    @Test
+    void retriesAfterAnErrorOnceTheBackoffIsOver() {
+        AtomicInteger calls = new AtomicInteger();
+        handler.set(exchange -> {
+            if (calls.getAndIncrement() == 0) {
+                respond(exchange, 503, "{}");
+            } else {
+                respond(exchange, 200, ANSWER);
+            }
+        });
+        CompetitorServiceClient client = client(Duration.ofSeconds(2), Duration.ZERO);
+
+        assertThat(client.findSummaries(List.of(CompetitorIds.toUuid(1)))).isEmpty();
+        assertThat(client.findSummaries(List.of(CompetitorIds.toUuid(1)))).containsOnlyKeys(CompetitorIds.toUuid(1));
+        assertThat(requests).hasSize(2);
+    }
+
+    private double unresolved(String reason) {
+        return meterRegistry.get("competitor.lookup.unresolved").tag("reason", reason).counter().count();
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (var out = exchange.getResponseBody()) {
+            out.write(bytes);
+        } catch (IOException ignored) {
+            // The client gave up waiting
+        }
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private interface Handler {
+        void handle(HttpExchange exchange) throws IOException;
+    }
+}
@@ -0,0 +1,178 @@
+package com.astrazeneca.insights_service.infrastructure.client;
+
+import com.astrazeneca.insights_service.domain.model.EventDelivery;
+import com.astrazeneca.insights_service.domain.model.ImpactLevel;
+import com.astrazeneca.insights_service.domain.model.Insight;
+import com.astrazeneca.insights_service.domain.model.InsightEvent;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Runs the client against a local stand-in for notification-service's subscription and send endpoints
+class NotificationServiceClientTest {
+
+    private static final String SUBSCRIPTIONS = """
+            [{"id": "0199a000-0000-7000-8000-000000000001", "userEmail": "a@example.com",
+              "notificationPreferences": ["Oncology", "Cardiology"]},
+             {"id": "0199a000-0000-7000-8000-000000000002", "userEmail": "b@example.com",
+              "notificationPreferences": [" oncology "]},
+             {"id": "0199a000-0000-7000-8000-000000000003", "userEmail": "c@example.com",
+              "notificationPreferences": ["Neurology"]}]""";
+
+    private final List<String> sends = new CopyOnWriteArrayList<>();
+    private final AtomicReference<Handler> subscriptions = new AtomicReference<>(
+            exchange -> respond(exchange, 200, SUBSCRIPTIONS));
+    private final AtomicReference<Handler> send = new AtomicReference<>(exchange -> respond(exchange, 202, "{}"));
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<NotificationServiceClient> clients = new CopyOnWriteArrayList<>();
+    private HttpServer server;
+
+    @BeforeEach
+    void startStub() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/api/subscriptions", exchange -> subscriptions.get().handle(exchange));
+        server.createContext("/api/notifications/send", exchange -> {
+            sends.add(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            send.get().handle(exchange);
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void stopStub() {
+        clients.forEach(NotificationServiceClient::destroy);
+        server.stop(0);
+    }
+
+    private NotificationServiceClient client(int concurrency) {
+        NotificationServiceClient client = new NotificationServiceClient(RestClient.builder(), meterRegistry,
+                "http://localhost:" + server.getAddress().getPort(),
+                Duration.ofMillis(250), Duration.ofSeconds(2), concurrency, false);
+        clients.add(client);
+        return client;
+    }
+
+    private static InsightEvent event(String description, String therapeuticArea) {
+        return InsightEvent.insightCreated(
+                Insight.create(description, therapeuticArea, null, ImpactLevel.HIGH), Instant.now());
+    }
+
+    private double sent(String outcome) {
+        return meterRegistry.get("insight.notifications").tag("outcome", outcome).counter().count();
+    }
+
+    @Test
+    void sendsEachEventToTheSubscribersOfItsTherapeuticArea() {
+        InsightEvent oncology = event("Phase 3 readout", "ONCOLOGY");
+        InsightEvent cardiology = event("New indication", "Cardiology");
+        InsightEvent unfollowed = event("Trial halted", "Dermatology");
+
+        Map<UUID, EventDelivery> deliveries = client(4).notifySubscribers(List.of(oncology, cardiology, unfollowed));
+
+        assertThat(deliveries).containsOnlyKeys(oncology.id(), cardiology.id(), unfollowed.id());
+        assertThat(deliveries.values()).noneMatch(EventDelivery::failed);
+        assertThat(deliveries.get(oncology.id()).settled()).containsExactlyInAnyOrder("a@example.com", "b@example.com");
+        assertThat(deliveries.get(unfollowed.id()).settled()).isEmpty();
+        assertThat(sends).hasSize(3);
+        assertThat(sends).filteredOn(body -> body.contains("a@example.com")).hasSize(2);
+        assertThat(sends).filteredOn(body -> body.contains("b@example.com")).singleElement()
+                .asString().contains("Phase 3 readout").contains(oncology.insightId().toString());
+        assertThat(NotificationServiceClient.message(cardiology))
+                .startsWith("New HIGH-impact insight in Cardiology: New indication");
+        assertThat(sent("sent")).isEqualTo(3);
+    }
+
+    @Test
+    void dropsRejectedSendsWithoutFailingTheEvent() {
+        send.set(exchange -> respond(exchange, 400, "{\"message\": \"Invalid email format\"}"));
+
+        InsightEvent event = event("Phase 3 readout", "Oncology");
+
+        EventDelivery delivery = client(4).notifySubscribers(List.of(event)).get(event.id());
+
+        // Rejected recipients are settled too: a retry would be rejected the same way
+        assertThat(delivery.failed()).isFalse();
+        assertThat(delivery.settled()).containsExactlyInAnyOrder("a@example.com", "b@example.com");
+        assertThat(sends).hasSize(2);
+        assertThat(sent("rejected")).isEqualTo(2);
+    }
+
+    @Test
+    void failsTheBatchWithoutFurtherSendsOnceNotificationServiceIsUnavailable() {
+        send.set(exchange -> respond(exchange, 503, "{\"message\": \"Notification queue is full\"}"));
+        InsightEvent oncology = event("Phase 3 readout", "Oncology");
+        InsightEvent cardiology = event("New indication", "Cardiology");
+
+        Map<UUID, EventDelivery> deliveries = client(1).notifySubscribers(List.of(oncology, cardiology));
+
+        assertThat(deliveries.values()).allMatch(EventDelivery::failed).allMatch(delivery -> delivery.settled().isEmpty());
+        assertThat(deliveries.get(oncology.id()).failure()).contains("503");
+        // One send reached the stub; the other two were failed without being sent
+        assertThat(sends).hasSize(1);
+        assertThat(sent("failed")).isEqualTo(3);
+    }
+
+    @Test
+    void reportsTheRecipientsAFailedEventReachedAndSkipsThemOnRetry() {
+        // notification-service gives out after the first send
+        send.set(exchange -> respond(exchange, sends.size() == 1 ? 202 : 503, "{}"));
+        InsightEvent oncology = event("Phase 3 readout", "Oncology");
+        NotificationServiceClient client = client(1);
+
+        EventDelivery first = client.notifySubscribers(List.of(oncology)).get(oncology.id());
+
+        assertThat(first.failed()).isTrue();
+        assertThat(first.settled()).hasSize(1);
+        String reached = first.settled().iterator().next();
+
+        send.set(exchange -> respond(exchange, 202, "{}"));
+        sends.clear();
+        EventDelivery retry = client.notifySubscribers(List.of(oncology.withSettled(first.settled())))
+                .get(oncology.id());
+
+        assertThat(retry.failed()).isFalse();
+        assertThat(retry.settled()).doesNotContain(reached).hasSize(1);
+        assertThat(sends).singleElement().asString().doesNotContain(reached);
+    }
+
+    @Test
+    void failsEveryEventWhenSubscriptionsCannotBeListed() {
+        subscriptions.set(exchange -> respond(exchange, 500, "{}"));
+        InsightEvent event = event("Phase 3 readout", "Oncology");
+
+        assertThat(client(4).notifySubscribers(List.of(event))).containsOnlyKeys(event.id())
+                .allSatisfy((id, delivery) -> assertThat(delivery.failed()).isTrue());
+        assertThat(sends).isEmpty();
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+        exchange.close();
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+        void handle(HttpExchange exchange) throws IOException;
+    }
+}
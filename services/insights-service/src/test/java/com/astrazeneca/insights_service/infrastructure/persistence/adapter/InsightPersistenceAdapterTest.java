@@ -0,0 +1,279 @@
+package com.astrazeneca.insights_service.infrastructure.persistence.adapter;
+
+import com.astrazeneca.insights_service.domain.model.ImpactLevel;
+import com.astrazeneca.insights_service.domain.model.Insight;
+import com.astrazeneca.insights_service.domain.model.InsightField;
+import com.astrazeneca.insights_service.domain.model.InsightFilter;
+import com.astrazeneca.insights_service.infrastructure.persistence.filter.KnownInsightIds;
+import com.astrazeneca.insights_service.infrastructure.persistence.mapper.PersistenceMapperImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.api.Trigger;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.transaction.TestTransaction;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest(properties = "insights.bulk.chunk-size=2")
+@Import({InsightPersistenceAdapter.class, PersistenceMapperImpl.class, KnownInsightIds.class, SimpleMeterRegistry.class})
+class InsightPersistenceAdapterTest {
+
+    @Autowired
+    private InsightPersistenceAdapter adapter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void findsInsightsByNormalizedTherapeuticArea() {
+        adapter.save(Insight.create("a", "Oncology", UUID.randomUUID(), ImpactLevel.HIGH));
+        adapter.save(Insight.create("b", "  ONCOLOGY ", UUID.randomUUID(), ImpactLevel.LOW));
+        adapter.save(Insight.create("c", "Cardiology", UUID.randomUUID(), ImpactLevel.MEDIUM));
+
+        List<Insight> insights = adapter.findByTherapeuticAreaKey(Insight.normalizeTherapeuticArea("oncology"));
+
+        assertThat(insights).extracting(Insight::getDescription).containsExactlyInAnyOrder("a", "b");
+        assertThat(insights).extracting(Insight::getTherapeuticArea).contains("  ONCOLOGY ");
+    }
+
+    @Test
+    void advancesVersionOnUpdateAndReadsItAlone() {
+        Insight created = adapter.save(Insight.create("a", "Oncology", UUID.randomUUID(), ImpactLevel.LOW));
+        created.update("b", "Oncology", created.getCompetitorId(), ImpactLevel.HIGH);
+
+        Insight updated = adapter.save(created);
+
+        assertThat(updated.getVersion()).isEqualTo(created.getVersion() + 1);
+        assertThat(adapter.findVersion(created.getId())).contains(updated.getVersion());
+        assertThat(adapter.findVersion(UUID.randomUUID())).isEmpty();
+    }
+
+    @Test
+    void conditionalUpdateWritesOnlyRequestedColumnsAtTheExpectedVersion() {
+        Insight created = adapter.save(Insight.create("a", "Oncology", UUID.randomUUID(), ImpactLevel.LOW));
+        Insight changes = new Insight();
+        changes.setDescription("b");
+        changes.setImpactLevel(ImpactLevel.HIGH);
+        Set<InsightField> fields = EnumSet.of(InsightField.DESCRIPTION, InsightField.IMPACT_LEVEL);
+
+        assertThat(adapter.updateIfVersion(created.getId(), created.getVersion(), changes, fields))
+                .contains(created.getVersion() + 1);
+        // The same precondition no longer holds
+        assertThat(adapter.updateIfVersion(created.getId(), created.getVersion(), changes, fields)).isEmpty();
+
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "SELECT description, therapeutic_area_key, impact_level, relevance_score, version FROM insights WHERE id = ?",
+                created.getId());
+        assertThat(row).containsEntry("DESCRIPTION", "b")
+                .containsEntry("THERAPEUTIC_AREA_KEY", "oncology")
+                .containsEntry("IMPACT_LEVEL", "HIGH")
+                .containsEntry("RELEVANCE_SCORE", ImpactLevel.HIGH.getScore())
+                .containsEntry("VERSION", created.getVersion() + 1);
+    }
+
+    @Test
+    void conditionalUpdateWritesNullsToClearedColumns() {
+        Insight created = adapter.save(Insight.create("a", "Oncology", UUID.randomUUID(), ImpactLevel.LOW));
+        Set<InsightField> fields = EnumSet.of(InsightField.THERAPEUTIC_AREA, InsightField.COMPETITOR_ID);
+
+        assertThat(adapter.updateIfVersion(created.getId(), created.getVersion(), new Insight(), fields))
+                .contains(created.getVersion() + 1);
+
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "SELECT therapeutic_area, therapeutic_area_key, competitor_id, description FROM insights WHERE id = ?",
+                created.getId());
+        assertThat(row).containsEntry("THERAPEUTIC_AREA", null)
+                .containsEntry("THERAPEUTIC_AREA_KEY", null)
+                .containsEntry("COMPETITOR_ID", null)
+                .containsEntry("DESCRIPTION", "a");
+    }
+
+    @Test
+    void answersUnknownIdsWithoutQueryingAndForgetsDeletedOnes() {
+        Insight stored = adapter.save(Insight.create("a", "Oncology", UUID.randomUUID(), ImpactLevel.LOW));
+        double skippedBefore = skipped();
+
+        assertThat(adapter.findById(UUID.randomUUID())).isEmpty();
+        assertThat(adapter.existsById(UUID.randomUUID())).isFalse();
+        assertThat(adapter.findVersion(UUID.randomUUID())).isEmpty();
+        assertThat(skipped()).isEqualTo(skippedBefore + 3);
+
+        assertThat(adapter.existsById(stored.getId())).isTrue();
+        adapter.deleteById(stored.getId());
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+
+        // Removed once the delete committed
+        assertThat(adapter.existsById(stored.getId())).isFalse();
+        assertThat(skipped()).isEqualTo(skippedBefore + 4);
+    }
+
+    @Test
+    void bulkDeletesMatchingRowsInChunksAndForgetsTheirIds() {
+        UUID competitorId = UUID.randomUUID();
+        List<UUID> matching = Stream.generate(() -> adapter.save(
+                        Insight.create("match", "Dermatology", competitorId, ImpactLevel.LOW)).getId())
+                .limit(5).toList();
+        Insight other = adapter.save(Insight.create("other", "Dermatology", UUID.randomUUID(), ImpactLevel.LOW));
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+
+        // Chunks of two: two full chunks and a partial one, each committed on its own
+        assertThat(adapter.deleteMatching(new InsightFilter(competitorId, "dermatology", null))).isEqualTo(5);
+
+        assertThat(matching).noneMatch(adapter::existsById);
+        assertThat(adapter.existsById(other.getId())).isTrue();
+        assertThat(adapter.deleteMatching(new InsightFilter(null, null, List.of(other.getId(), other.getId(), UUID.randomUUID()))))
+                .isEqualTo(1);
+        assertThat(adapter.existsById(other.getId())).isFalse();
+    }
+
+    @Test
+    void bulkUpdatesImpactLevelAndCountsOnlyChangedRows() {
+        UUID competitorId = UUID.randomUUID();
+        Insight low = adapter.save(Insight.create("low", "Dermatology", competitorId, ImpactLevel.LOW));
+        Insight medium = adapter.save(Insight.create("medium", "Dermatology", competitorId, ImpactLevel.MEDIUM));
+        Insight high = adapter.save(Insight.create("high", "Dermatology", competitorId, ImpactLevel.HIGH));
+        Insight other = adapter.save(Insight.create("other", "Dermatology", UUID.randomUUID(), ImpactLevel.LOW));
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+
+        assertThat(adapter.updateImpactLevelMatching(new InsightFilter(competitorId, null, null), ImpactLevel.HIGH))
+                .isEqualTo(2);
+
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "SELECT impact_level, relevance_score, version FROM insights WHERE id = ?", low.getId());
+        assertThat(row).containsEntry("IMPACT_LEVEL", "HIGH")
+                .containsEntry("RELEVANCE_SCORE", ImpactLevel.HIGH.getScore())
+                .containsEntry("VERSION", low.getVersion() + 1);
+        assertThat(adapter.findVersion(medium.getId())).contains(medium.getVersion() + 1);
+        assertThat(adapter.findVersion(high.getId())).contains(high.getVersion());
+        assertThat(adapter.findVersion(other.getId())).contains(other.getVersion());
+
+        assertThat(adapter.deleteMatching(new InsightFilter(null, "dermatology", null))).isEqualTo(4);
+    }
+
+    @Test
+    void bulkDeleteKeepsEarlierChunksCommittedWhenALaterOneFails() {
+        UUID competitorId = UUID.randomUUID();
+        // Locked and deleted in id order, which is creation order: the poisoned row lands in the third chunk
+        List<UUID> committed = Stream.generate(() -> adapter.save(
+                        Insight.create("match", "Hepatology", competitorId, ImpactLevel.LOW)).getId())
+                .limit(4).toList();
+        Insight poisoned = adapter.save(Insight.create(FailOnPoison.POISON, "Hepatology", competitorId, ImpactLevel.LOW));
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+        jdbcTemplate.execute("CREATE TRIGGER fail_on_poison BEFORE DELETE ON insights FOR EACH ROW CALL \""
+                + FailOnPoison.class.getName() + "\"");
+        try {
+            assertThatThrownBy(() -> adapter.deleteMatching(new InsightFilter(competitorId, null, null)))
+                    .hasRootCauseMessage(FailOnPoison.POISON);
+        } finally {
+            jdbcTemplate.execute("DROP TRIGGER fail_on_poison");
+        }
+
+        assertThat(committed).noneMatch(adapter::existsById);
+        assertThat(adapter.existsById(poisoned.getId())).isTrue();
+    }
+
+    public static class FailOnPoison implements Trigger {
+
+        static final String POISON = "poison";
+
+        @Override
+        public void fire(Connection connection, Object[] oldRow, Object[] newRow) throws SQLException {
+            if (Arrays.asList(oldRow).contains(POISON)) {
+                throw new SQLException(POISON);
+            }
+        }
+    }
+
+    @Test
+    void bulkFilterNeedsACriterion() {
+        assertThatThrownBy(() -> new InsightFilter(null, null, null)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private double skipped() {
+        return meterRegistry.get("id.filter.lookups").tag("result", "skipped").counter().count();
+    }
+
+    @Test
+    void streamsEveryRowPastTheFetchSizeWithoutKeepingThemManaged() {
+        // More than two fetches of 500, ending in a partial one
+        int rows = 1_201;
+        List<UUID> ids = Stream.generate(UUID::randomUUID).limit(rows).toList();
+        jdbcTemplate.batchUpdate("INSERT INTO insights (id, description, therapeutic_area, therapeutic_area_key, "
+                        + "impact_level, relevance_score, version) VALUES (?, ?, 'Nephrology', 'nephrology', 'LOW', ?, 0)",
+                ids.stream().map(id -> new Object[]{id, "export", ImpactLevel.LOW.getScore()}).toList());
+
+        List<UUID> streamed = new ArrayList<>();
+        try (Stream<Insight> insights = adapter.streamAll()) {
+            insights.filter(insight -> "nephrology".equals(insight.getTherapeuticAreaKey()))
+                    .forEach(insight -> {
+                        streamed.add(insight.getId());
+                        // Each row is detached once mapped, so the session does not grow with the table
+                        assertThat(entityManager.getEntityManager().unwrap(Session.class)
+                                .getStatistics().getEntityCount()).isZero();
+                    });
+        }
+
+        assertThat(streamed).hasSize(rows).containsExactlyInAnyOrderElementsOf(ids);
+    }
+
+    @Test
+    void therapeuticAreaLookupUsesIndex() {
+        String plan = jdbcTemplate.queryForObject(
+                "EXPLAIN SELECT * FROM insights WHERE therapeutic_area_key = 'oncology'", String.class);
+
+        assertThat(plan).containsIgnoringCase("idx_insights_area_relevance");
+    }
+
+    @Test
+    void returnsTopInsightsByRelevance() {
+        UUID competitorId = UUID.randomUUID();
+        adapter.save(Insight.create("low", "Oncology", competitorId, ImpactLevel.LOW));
+        adapter.save(Insight.create("high", "Oncology", UUID.randomUUID(), ImpactLevel.HIGH));
+        adapter.save(Insight.create("medium", "Oncology", competitorId, ImpactLevel.MEDIUM));
+        adapter.save(Insight.create("other", "Cardiology", competitorId, ImpactLevel.HIGH));
+
+        assertThat(adapter.findTopByRelevance("oncology", null, 2))
+                .extracting(Insight::getDescription).containsExactly("high", "medium");
+        assertThat(adapter.findTopByRelevance(null, competitorId, 10))
+                .extracting(Insight::getDescription).containsExactly("other", "medium", "low");
+        assertThat(adapter.findTopByRelevance("oncology", competitorId, 10))
+                .extracting(Insight::getDescription).containsExactly("medium", "low");
+    }
+
+    @Test
+    void topInsightsQueryReadsIndexInOrder() {
+        String plan = jdbcTemplate.queryForObject(
+                "EXPLAIN SELECT * FROM insights WHERE therapeutic_area_key = 'oncology' "
+                        + "ORDER BY therapeutic_area_key, relevance_score DESC, id FETCH FIRST 10 ROWS ONLY", String.class);
+
+        assertThat(plan).containsIgnoringCase("idx_insights_area_relevance").containsIgnoringCase("index sorted");
+    }
+}
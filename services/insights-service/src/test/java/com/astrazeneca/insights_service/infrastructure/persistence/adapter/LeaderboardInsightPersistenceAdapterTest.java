@@ -0,0 +1,204 @@
+package com.astrazeneca.insights_service.infrastructure.persistence.adapter;
+
+import com.astrazeneca.insights_service.domain.model.ImpactLevel;
+import com.astrazeneca.insights_service.domain.model.Insight;
+import com.astrazeneca.insights_service.domain.model.InsightField;
+import com.astrazeneca.insights_service.domain.model.InsightFilter;
+import com.astrazeneca.insights_service.domain.ports.out.InsightRepositoryPort;
+import com.astrazeneca.insights_service.infrastructure.persistence.mapper.PersistenceMapperImpl;
+import com.astrazeneca.insights_service.infrastructure.persistence.repository.JpaInsightRepository;
+import com.astrazeneca.servicekit.metrics.PortTimingInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LeaderboardInsightPersistenceAdapterTest {
+
+    private static final int CAPACITY = 2;
+
+    @Mock
+    private InsightRepositoryPort delegate;
+
+    @Mock
+    private JpaInsightRepository jpaRepository;
+
+    private LeaderboardInsightPersistenceAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new LeaderboardInsightPersistenceAdapter(delegate, CAPACITY);
+        lenient().when(delegate.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    private static Insight insight(String description, ImpactLevel impactLevel) {
+        return Insight.create(description, "Oncology", UUID.randomUUID(), impactLevel);
+    }
+
+    @Test
+    void servesRepeatedReadsFromMemory() {
+        Insight high = insight("high", ImpactLevel.HIGH);
+        when(delegate.findTopByRelevance("oncology", null, CAPACITY)).thenReturn(List.of(high));
+
+        adapter.findTopByRelevance("oncology", null, 2);
+        List<Insight> top = adapter.findTopByRelevance("oncology", null, 1);
+
+        assertThat(top).containsExactly(high);
+        verify(delegate, times(1)).findTopByRelevance("oncology", null, CAPACITY);
+    }
+
+    @Test
+    void keepsBoardExactOnCreate() {
+        Insight medium = insight("medium", ImpactLevel.MEDIUM);
+        Insight low = insight("low", ImpactLevel.LOW);
+        when(delegate.findTopByRelevance("oncology", null, CAPACITY)).thenReturn(List.of(medium, low));
+        adapter.findTopByRelevance("oncology", null, 2);
+
+        Insight high = adapter.save(insight("high", ImpactLevel.HIGH));
+
+        assertThat(adapter.findTopByRelevance("oncology", null, 2)).containsExactly(high, medium);
+        verify(delegate, times(1)).findTopByRelevance("oncology", null, CAPACITY);
+    }
+
+    @Test
+    void reloadsBoardWhenRankedEntryIsDeleted() {
+        Insight high = insight("high", ImpactLevel.HIGH);
+        Insight medium = insight("medium", ImpactLevel.MEDIUM);
+        Insight low = insight("low", ImpactLevel.LOW);
+        when(delegate.findTopByRelevance("oncology", null, CAPACITY))
+                .thenReturn(List.of(high, medium))
+                .thenReturn(List.of(medium, low));
+        adapter.findTopByRelevance("oncology", null, 2);
+
+        adapter.deleteById(high.getId());
+
+        assertThat(adapter.findTopByRelevance("oncology", null, 2)).containsExactly(medium, low);
+        verify(delegate, times(2)).findTopByRelevance("oncology", null, CAPACITY);
+    }
+
+    @Test
+    void reranksUpdatedEntryWithoutReloadWhenBoardHoldsEveryMatch() {
+        Insight first = insight("first", ImpactLevel.HIGH);
+        when(delegate.findTopByRelevance("oncology", null, CAPACITY)).thenReturn(List.of(first));
+        adapter.findTopByRelevance("oncology", null, 2);
+
+        Insight demoted = insight("first", ImpactLevel.LOW);
+        demoted.setId(first.getId());
+        adapter.save(demoted);
+
+        assertThat(adapter.findTopByRelevance("oncology", null, 2))
+                .singleElement().extracting(Insight::getRelevanceScore).isEqualTo(ImpactLevel.LOW.getScore());
+        verify(delegate, times(1)).findTopByRelevance("oncology", null, CAPACITY);
+    }
+
+    @Test
+    void reloadsBoardsAfterPartialUpdateOfRankedColumns() {
+        Insight high = insight("high", ImpactLevel.HIGH);
+        Insight low = insight("low", ImpactLevel.LOW);
+        when(delegate.findTopByRelevance("oncology", null, CAPACITY)).thenReturn(List.of(high, low));
+        when(delegate.updateIfVersion(eq(low.getId()), eq(0L), any(), any())).thenReturn(Optional.of(1L));
+        adapter.findTopByRelevance("oncology", null, 2);
+
+        Insight changes = new Insight();
+        changes.setImpactLevel(ImpactLevel.HIGH);
+        adapter.updateIfVersion(low.getId(), 0L, changes, EnumSet.of(InsightField.IMPACT_LEVEL));
+        adapter.findTopByRelevance("oncology", null, 2);
+
+        verify(delegate, times(2)).findTopByRelevance("oncology", null, CAPACITY);
+    }
+
+    @Test
+    void keepsBoardsWhenConditionalUpdateFails() {
+        Insight high = insight("high", ImpactLevel.HIGH);
+        when(delegate.findTopByRelevance("oncology", null, CAPACITY)).thenReturn(List.of(high));
+        when(delegate.updateIfVersion(any(), anyLong(), any(), any())).thenReturn(Optional.empty());
+        adapter.findTopByRelevance("oncology", null, 2);
+
+        assertThat(adapter.updateIfVersion(high.getId(), 7L, new Insight(), EnumSet.allOf(InsightField.class))).isEmpty();
+        adapter.findTopByRelevance("oncology", null, 2);
+
+        verify(delegate, times(1)).findTopByRelevance("oncology", null, CAPACITY);
+    }
+
+    @Test
+    void dropsBoardsLoadedWhileABulkWriteRuns() {
+        Insight high = insight("high", ImpactLevel.HIGH);
+        InsightFilter filter = new InsightFilter(high.getCompetitorId(), null, null);
+        when(delegate.findTopByRelevance("oncology", null, CAPACITY)).thenReturn(List.of(high));
+        // A read between two committed chunks sees the run half done
+        when(delegate.deleteMatching(filter)).thenAnswer(invocation -> {
+            adapter.findTopByRelevance("oncology", null, 2);
+            return 1L;
+        });
+        adapter.findTopByRelevance("oncology", null, 2);
+
+        assertThat(adapter.deleteMatching(filter)).isEqualTo(1L);
+        adapter.findTopByRelevance("oncology", null, 2);
+
+        verify(delegate, times(3)).findTopByRelevance("oncology", null, CAPACITY);
+    }
+
+    @Test
+    void delegatesCompetitorFiltersAndLargeLimits() {
+        UUID competitorId = UUID.randomUUID();
+
+        adapter.findTopByRelevance("oncology", competitorId, 1);
+        adapter.findTopByRelevance("oncology", null, CAPACITY + 1);
+
+        verify(delegate).findTopByRelevance("oncology", competitorId, 1);
+        verify(delegate).findTopByRelevance("oncology", null, CAPACITY + 1);
+    }
+
+    @Test
+    void isTimedApartFromTheAdapterItWraps() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PortTimingInterceptor interceptor = new PortTimingInterceptor(
+                new StaticListableBeanFactory(Map.of("meterRegistry", meterRegistry)).getBeanProvider(MeterRegistry.class),
+                "com.astrazeneca.insights_service.domain.ports");
+        UUID competitorId = UUID.randomUUID();
+        when(jpaRepository.findTopByCompetitorId(eq(competitorId), any())).thenReturn(List.of());
+        // As wired: the @Primary decorator and its delegate are both beans, so both are advised
+        InsightPersistenceAdapter jpaAdapter = advised(new InsightPersistenceAdapter(jpaRepository,
+                new PersistenceMapperImpl(), null, null, null, 500), interceptor);
+        LeaderboardInsightPersistenceAdapter leaderboard =
+                advised(new LeaderboardInsightPersistenceAdapter(jpaAdapter, 100), interceptor);
+
+        // Competitor boards are not kept, so the call passes through to the adapter
+        assertThat(leaderboard.findTopByRelevance(null, competitorId, 10)).isEmpty();
+
+        assertThat(meterRegistry.find(PortTimingInterceptor.METRIC)
+                .tags("port", "InsightRepositoryPort", "method", "findTopByRelevance").timers())
+                .hasSize(2)
+                .allSatisfy(timer -> assertThat(timer.count()).isEqualTo(1))
+                .extracting(timer -> timer.getId().getTag("class"))
+                .containsExactlyInAnyOrder("LeaderboardInsightPersistenceAdapter", "InsightPersistenceAdapter");
+    }
+
+    // Advised like service-kit's port timing advisor advises beans
+    @SuppressWarnings("unchecked")
+    private static <T> T advised(T target, PortTimingInterceptor interceptor) {
+        ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvisor(new DefaultPointcutAdvisor(interceptor.pointcut(), interceptor));
+        return (T) proxyFactory.getProxy();
+    }
+}
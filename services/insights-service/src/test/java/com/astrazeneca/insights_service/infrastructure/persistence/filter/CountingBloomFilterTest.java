@@ -0,0 +1,36 @@
+package com.astrazeneca.insights_service.infrastructure.persistence.filter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CountingBloomFilterTest {
+
+    @Test
+    void keepsRemainingKeysAfterRemovals() {
+        CountingBloomFilter filter = new CountingBloomFilter(10_000, 0.01);
+        List<UUID> kept = Stream.generate(UUID::randomUUID).limit(5_000).toList();
+        List<UUID> removed = Stream.generate(UUID::randomUUID).limit(5_000).toList();
+        kept.forEach(filter::add);
+        removed.forEach(filter::add);
+
+        removed.forEach(filter::remove);
+
+        assertThat(kept).allMatch(filter::mightContain);
+        assertThat(removed.stream().filter(filter::mightContain).count()).isLessThan(100);
+    }
+
+    @Test
+    void keepsFalsePositiveRateNearTarget() {
+        CountingBloomFilter filter = new CountingBloomFilter(10_000, 0.01);
+        Stream.generate(UUID::randomUUID).limit(10_000).forEach(filter::add);
+
+        long falsePositives = Stream.generate(UUID::randomUUID).limit(100_000).filter(filter::mightContain).count();
+
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+    }
+}
@@ -0,0 +1,373 @@
+package com.astrazeneca.insights_service.infrastructure.web.controller;
+
+import com.astrazeneca.insights_service.application.service.InsightService;
+import com.astrazeneca.insights_service.domain.model.CompetitorSummary;
+import com.astrazeneca.insights_service.domain.model.ImpactLevel;
+import com.astrazeneca.insights_service.domain.model.Insight;
+import com.astrazeneca.insights_service.domain.model.InsightField;
+import com.astrazeneca.insights_service.domain.model.InsightFilter;
+import com.astrazeneca.insights_service.domain.ports.out.CompetitorDirectoryPort;
+import com.astrazeneca.insights_service.domain.ports.out.InsightOutboxPort;
+import com.astrazeneca.insights_service.domain.ports.out.InsightRepositoryPort;
+import com.astrazeneca.insights_service.infrastructure.versioning.InMemoryCollectionVersion;
+import com.astrazeneca.insights_service.infrastructure.web.mapper.WebMapperImpl;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// The web layer over the real InsightService, so the status codes come from the same exceptions
+// and checks as in production; only the outbound ports are mocked
+@WebMvcTest(InsightController.class)
+@Import({InsightService.class, WebMapperImpl.class, InMemoryCollectionVersion.class})
+class InsightControllerTest {
+
+    private static final UUID ID = UUID.fromString("0199a000-0000-7000-8000-000000000001");
+    private static final String UPDATE = """
+            {"description": "Phase 3 readout", "therapeuticArea": "Oncology", "impactLevel": "HIGH"}""";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private InsightRepositoryPort insightRepository;
+
+    @MockitoBean
+    private CompetitorDirectoryPort competitorDirectory;
+
+    @MockitoBean
+    private InsightOutboxPort insightOutbox;
+
+    @Test
+    void putWithAMatchingIfMatchReplacesTheInsightAndAnswersItsNewETag() throws Exception {
+        when(insightRepository.updateIfVersion(eq(ID), eq(3L), any(), eq(EnumSet.allOf(InsightField.class))))
+                .thenReturn(Optional.of(4L));
+
+        mockMvc.perform(put("/api/insights/{id}", ID).header("If-Match", "\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON).content(UPDATE))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"4\""))
+                .andExpect(jsonPath("$.id").value(ID.toString()))
+                .andExpect(jsonPath("$.relevanceScore").value(Insight.create("d", null, null, ImpactLevel.HIGH)
+                        .getRelevanceScore()));
+
+        // One guarded UPDATE: nothing is read, before or after
+        verify(insightRepository, never()).findById(any());
+        verify(insightRepository, never()).findVersion(any());
+    }
+
+    @Test
+    void putWithAStaleIfMatchAnswers412() throws Exception {
+        when(insightRepository.updateIfVersion(eq(ID), eq(3L), any(), anySet())).thenReturn(Optional.empty());
+        when(insightRepository.findVersion(ID)).thenReturn(Optional.of(5L));
+
+        mockMvc.perform(put("/api/insights/{id}", ID).header("If-Match", "\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON).content(UPDATE))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(header().doesNotExist("ETag"));
+    }
+
+    @Test
+    void putWithAnETagThatIsNotOneOfOursAnswers412WithoutTouchingTheStore() throws Exception {
+        mockMvc.perform(put("/api/insights/{id}", ID).header("If-Match", "W/\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON).content(UPDATE))
+                .andExpect(status().isPreconditionFailed());
+
+        verifyNoInteractions(insightRepository);
+    }
+
+    @Test
+    void putOfAnUnknownInsightAnswers404() throws Exception {
+        when(insightRepository.updateIfVersion(eq(ID), eq(3L), any(), anySet())).thenReturn(Optional.empty());
+        when(insightRepository.findVersion(ID)).thenReturn(Optional.empty());
+
+        mockMvc.perform(put("/api/insights/{id}", ID).header("If-Match", "\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON).content(UPDATE))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void putWithoutIfMatchAnswers428() throws Exception {
+        mockMvc.perform(put("/api/insights/{id}", ID)
+                        .contentType(MediaType.APPLICATION_JSON).content(UPDATE))
+                .andExpect(status().isPreconditionRequired());
+
+        verifyNoInteractions(insightRepository);
+    }
+
+    @Test
+    void putWithIfMatchStarOverwritesWhateverVersionIsStored() throws Exception {
+        Insight stored = new Insight(ID, "Old", "Oncology", null, ImpactLevel.LOW);
+        stored.setVersion(7L);
+        when(insightRepository.findById(ID)).thenReturn(Optional.of(stored));
+        when(insightRepository.save(any())).thenAnswer(invocation -> {
+            Insight saved = invocation.getArgument(0);
+            saved.setVersion(8L);
+            return saved;
+        });
+
+        mockMvc.perform(put("/api/insights/{id}", ID).header("If-Match", "*")
+                        .contentType(MediaType.APPLICATION_JSON).content(UPDATE))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"8\""))
+                .andExpect(jsonPath("$.description").value("Phase 3 readout"));
+    }
+
+    @Test
+    void patchWritesOnlyTheFieldsSentAndAnswersTheNewETag() throws Exception {
+        when(insightRepository.updateIfVersion(eq(ID), eq(2L), any(), anySet())).thenReturn(Optional.of(3L));
+
+        mockMvc.perform(patch("/api/insights/{id}", ID).header("If-Match", "\"2\"")
+                        .contentType("application/merge-patch+json").content("{\"impactLevel\": \"HIGH\"}"))
+                .andExpect(status().isNoContent())
+                .andExpect(header().string("ETag", "\"3\""));
+
+        ArgumentCaptor<Insight> changes = ArgumentCaptor.forClass(Insight.class);
+        ArgumentCaptor<Set<InsightField>> fields = ArgumentCaptor.captor();
+        verify(insightRepository).updateIfVersion(eq(ID), eq(2L), changes.capture(), fields.capture());
+        assertThat(fields.getValue()).containsExactly(InsightField.IMPACT_LEVEL);
+        assertThat(changes.getValue().getImpactLevel()).isEqualTo(ImpactLevel.HIGH);
+        assertThat(changes.getValue().getDescription()).isNull();
+        assertThat(changes.getValue().getTherapeuticArea()).isNull();
+    }
+
+    @Test
+    void patchClearsTheFieldsSentAsNull() throws Exception {
+        when(insightRepository.updateIfVersion(eq(ID), eq(2L), any(), anySet())).thenReturn(Optional.of(3L));
+
+        mockMvc.perform(patch("/api/insights/{id}", ID).header("If-Match", "\"2\"")
+                        .contentType("application/merge-patch+json")
+                        .content("{\"therapeuticArea\": null, \"competitorId\": null}"))
+                .andExpect(status().isNoContent());
+
+        ArgumentCaptor<Insight> changes = ArgumentCaptor.forClass(Insight.class);
+        ArgumentCaptor<Set<InsightField>> fields = ArgumentCaptor.captor();
+        verify(insightRepository).updateIfVersion(eq(ID), eq(2L), changes.capture(), fields.capture());
+        assertThat(fields.getValue()).containsExactlyInAnyOrder(InsightField.THERAPEUTIC_AREA, InsightField.COMPETITOR_ID);
+        assertThat(changes.getValue().getTherapeuticAreaKey()).isNull();
+        assertThat(changes.getValue().getCompetitorId()).isNull();
+    }
+
+    @Test
+    void patchRejectsANullDescriptionOrImpactLevel() throws Exception {
+        for (String body : List.of("{\"description\": null}", "{\"impactLevel\": null}")) {
+            mockMvc.perform(patch("/api/insights/{id}", ID).header("If-Match", "\"2\"")
+                            .contentType("application/merge-patch+json").content(body))
+                    .andExpect(status().isBadRequest());
+        }
+
+        verify(insightRepository, never()).updateIfVersion(any(), anyLong(), any(), anySet());
+    }
+
+    @Test
+    void patchWithAStaleIfMatchAnswers412() throws Exception {
+        when(insightRepository.updateIfVersion(eq(ID), eq(2L), any(), anySet())).thenReturn(Optional.empty());
+        when(insightRepository.findVersion(ID)).thenReturn(Optional.of(3L));
+
+        mockMvc.perform(patch("/api/insights/{id}", ID).header("If-Match", "\"2\"")
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"description\": \"Updated\"}"))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    void patchWithoutIfMatchAnswers428() throws Exception {
+        mockMvc.perform(patch("/api/insights/{id}", ID)
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"description\": \"Updated\"}"))
+                .andExpect(status().isPreconditionRequired());
+
+        verifyNoInteractions(insightRepository);
+    }
+
+    @Test
+    void getByIdAnswers304ForTheCurrentVersionWithoutLoadingTheInsight() throws Exception {
+        when(insightRepository.findVersion(ID)).thenReturn(Optional.of(3L));
+
+        mockMvc.perform(get("/api/insights/{id}", ID).header("If-None-Match", "\"3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"3\""));
+
+        verify(insightRepository, never()).findById(any());
+    }
+
+    @Test
+    void getByIdAnswersTheInsightWithAFreshETagOnceAWriteMovedItsVersion() throws Exception {
+        when(insightRepository.updateIfVersion(eq(ID), eq(3L), any(), anySet())).thenReturn(Optional.of(4L));
+        String etag = mockMvc.perform(patch("/api/insights/{id}", ID).header("If-Match", "\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"description\": \"Updated\"}"))
+                .andReturn().getResponse().getHeader("ETag");
+        when(insightRepository.findVersion(ID)).thenReturn(Optional.of(4L));
+        when(insightRepository.findById(ID)).thenReturn(Optional.of(stored(4L)));
+
+        mockMvc.perform(get("/api/insights/{id}", ID).header("If-None-Match", "\"3\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(jsonPath("$.description").value("Phase 3 readout"));
+        mockMvc.perform(get("/api/insights/{id}", ID).header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void getByIdOfAnUnknownInsightAnswers404EvenWithIfNoneMatch() throws Exception {
+        when(insightRepository.findVersion(ID)).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/insights/{id}", ID).header("If-None-Match", "\"3\""))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void listAnswers304UntilAWriteMovesTheCollectionETag() throws Exception {
+        when(insightRepository.findAll()).thenReturn(List.of(stored(1L)));
+        String etag = mockMvc.perform(get("/api/insights"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/insights").header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/api/insights/top").header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+        verify(insightRepository, times(1)).findAll();
+
+        when(insightRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        mockMvc.perform(post("/api/insights").contentType(MediaType.APPLICATION_JSON).content(UPDATE))
+                .andExpect(status().isCreated());
+
+        String fresh = mockMvc.perform(get("/api/insights").header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(ID.toString()))
+                .andReturn().getResponse().getHeader("ETag");
+        assertThat(fresh).isNotNull().isNotEqualTo(etag);
+    }
+
+    @Test
+    void responsesEmbeddingCompetitorsCarryNoETagAndIgnoreIfNoneMatch() throws Exception {
+        UUID competitorId = UUID.randomUUID();
+        Insight insight = stored(3L);
+        insight.setCompetitorId(competitorId);
+        when(insightRepository.findById(ID)).thenReturn(Optional.of(insight));
+        when(insightRepository.findAll()).thenReturn(List.of(insight));
+        when(competitorDirectory.findSummaries(Set.of(competitorId))).thenReturn(Map.of(competitorId,
+                new CompetitorSummary(competitorId, "Acme Pharma", "Basel", List.of("Oncology"), 2)));
+        String listETag = mockMvc.perform(get("/api/insights")).andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/insights/{id}", ID).param("include", "competitor").header("If-None-Match", "\"3\""))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("ETag"))
+                .andExpect(jsonPath("$.competitor.name").value("Acme Pharma"));
+        mockMvc.perform(get("/api/insights").param("include", "competitor").header("If-None-Match", listETag))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("ETag"))
+                .andExpect(jsonPath("$[0].competitor.name").value("Acme Pharma"));
+
+        verify(insightRepository, never()).findVersion(any());
+    }
+
+    @Test
+    void bulkDeleteAnswersTheNumberOfInsightsDeleted() throws Exception {
+        UUID competitorId = UUID.randomUUID();
+        when(insightRepository.deleteMatching(new InsightFilter(competitorId, "oncology", null))).thenReturn(42L);
+
+        mockMvc.perform(post("/api/insights/bulk-delete").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"competitorId\": \"" + competitorId + "\", \"therapeuticArea\": \" Oncology \"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affected").value(42));
+    }
+
+    @Test
+    void bulkUpdateAnswersTheNumberOfInsightsChanged() throws Exception {
+        List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID());
+        when(insightRepository.updateImpactLevelMatching(new InsightFilter(null, null, ids), ImpactLevel.LOW))
+                .thenReturn(1L);
+
+        mockMvc.perform(post("/api/insights/bulk-update").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\": [\"" + ids.get(0) + "\", \"" + ids.get(1) + "\"], \"impactLevel\": \"LOW\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affected").value(1));
+    }
+
+    @Test
+    void bulkWritesWithoutAFilterCriterionAnswer400() throws Exception {
+        mockMvc.perform(post("/api/insights/bulk-delete").contentType(MediaType.APPLICATION_JSON).content("{}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(containsString("At least one of")));
+        mockMvc.perform(post("/api/insights/bulk-update").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"impactLevel\": \"HIGH\"}"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(insightRepository);
+    }
+
+    @Test
+    void bulkUpdateWithoutAnImpactLevelAnswers400() throws Exception {
+        mockMvc.perform(post("/api/insights/bulk-update").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"therapeuticArea\": \"Oncology\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors.impactLevel").value("Impact level is required"));
+
+        verifyNoInteractions(insightRepository);
+    }
+
+    @Test
+    void exportStreamsOneJsonObjectPerLineAsNdjson() throws Exception {
+        List<Insight> insights = List.of(stored(1L),
+                Insight.create("Trial halted", "Cardiology", UUID.randomUUID(), ImpactLevel.LOW),
+                Insight.create("Line one\nline two", null, null, ImpactLevel.MEDIUM));
+        when(insightRepository.streamAll()).thenAnswer(invocation -> insights.stream());
+
+        String body = mockMvc.perform(get("/api/insights/export"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(body).endsWith("\n");
+        List<String> lines = body.lines().toList();
+        assertThat(lines).hasSize(insights.size());
+        for (int i = 0; i < lines.size(); i++) {
+            JsonNode line = objectMapper.readTree(lines.get(i));
+            assertThat(line.isObject()).isTrue();
+            assertThat(line.get("id").asText()).isEqualTo(insights.get(i).getId().toString());
+            assertThat(line.get("description").asText()).isEqualTo(insights.get(i).getDescription());
+        }
+    }
+
+    private static Insight stored(long version) {
+        Insight insight = new Insight(ID, "Phase 3 readout", "Oncology", null, ImpactLevel.HIGH);
+        insight.setVersion(version);
+        return insight;
+    }
+}
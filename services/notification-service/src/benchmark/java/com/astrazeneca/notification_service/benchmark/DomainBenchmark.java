@@ -0,0 +1,41 @@
+package com.astrazeneca.notification_service.benchmark;
+
+import com.astrazeneca.notification_service.domain.model.NotificationLog;
+import com.astrazeneca.notification_service.domain.model.Subscription;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Factory methods on the send and subscribe paths; both draw a time-ordered UUID and NotificationLog reads the clock
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DomainBenchmark {
+
+    private String email;
+    private String message;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        email = Fixtures.email(random);
+        message = Fixtures.message(random);
+    }
+
+    @Benchmark
+    public NotificationLog createNotificationLog() {
+        return NotificationLog.create(email, message);
+    }
+
+    @Benchmark
+    public Subscription createSubscription() {
+        return Subscription.create(email, Fixtures.PREFERENCES);
+    }
+}
@@ -0,0 +1,45 @@
+package com.astrazeneca.notification_service.benchmark;
+
+import com.astrazeneca.notification_service.domain.model.NotificationLog;
+import com.astrazeneca.notification_service.domain.model.NotificationStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+// Seeded benchmark data shaped like production notifications, identical on every run
+final class Fixtures {
+
+    static final List<String> PREFERENCES = List.of("EMAIL", "NEW_TRIAL", "PHASE_CHANGE", "WEEKLY_DIGEST");
+    private static final LocalDateTime EPOCH = LocalDateTime.of(2025, 1, 1, 9, 0);
+    private static final String[] EVENTS = {"started a Phase III trial", "published interim results",
+            "received FDA approval", "terminated a trial early"};
+
+    private Fixtures() {
+    }
+
+    static List<NotificationLog> notificationLogs(int count) {
+        Random random = new Random(count);
+        List<NotificationLog> logs = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            logs.add(new NotificationLog(
+                    new UUID(random.nextLong(), random.nextLong()),
+                    email(random),
+                    message(random),
+                    EPOCH.plusSeconds(random.nextInt(31_536_000)),
+                    NotificationStatus.values()[random.nextInt(NotificationStatus.values().length)]));
+        }
+        return logs;
+    }
+
+    static String email(Random random) {
+        return "analyst.%04d@astrazeneca.com".formatted(random.nextInt(10_000));
+    }
+
+    static String message(Random random) {
+        return "Competitor %d %s for AZD%04d in oncology; review the updated landscape before Monday's portfolio meeting."
+                .formatted(random.nextInt(500), EVENTS[random.nextInt(EVENTS.length)], random.nextInt(10_000));
+    }
+}
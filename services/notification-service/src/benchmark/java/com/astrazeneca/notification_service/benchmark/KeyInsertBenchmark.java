@@ -0,0 +1,103 @@
+package com.astrazeneca.notification_service.benchmark;
+
+import com.astrazeneca.notification_service.domain.model.TimeOrderedUuid;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// Insert throughput into an H2 table keyed like notification_logs, with random version 4 ids
+// against time-ordered version 7 ids. Every iteration starts from a table already holding
+// `preloaded` rows, so what is measured is placing a key in a large primary-key index.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class KeyInsertBenchmark {
+
+    private static final int BATCH_SIZE = 50;
+
+    @Param({"v4", "v7"})
+    public String version;
+
+    @Param({"100000"})
+    public int preloaded;
+
+    private Supplier<UUID> ids;
+    private Connection connection;
+    private PreparedStatement insert;
+    private String email;
+    private String message;
+
+    @Setup(Level.Iteration)
+    public void setUp() throws SQLException {
+        ids = version.equals("v7") ? TimeOrderedUuid::next : UUID::randomUUID;
+        Random random = new Random(42);
+        email = Fixtures.email(random);
+        message = Fixtures.message(random);
+        // A fresh in-memory database per iteration; it is dropped when the connection closes
+        connection = DriverManager.getConnection("jdbc:h2:mem:key-insert-" + version, "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create table notification_logs (id uuid primary key, recipient_email varchar(255),"
+                    + " message_content varchar(2000), timestamp timestamp, status varchar(20))");
+        }
+        insert = connection.prepareStatement("insert into notification_logs"
+                + " (id, recipient_email, message_content, timestamp, status) values (?, ?, ?, ?, ?)");
+        connection.setAutoCommit(false);
+        for (int i = 0; i < preloaded; i += BATCH_SIZE) {
+            insertBatch();
+        }
+        connection.setAutoCommit(true);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    // One row per transaction, like logging a single sent notification
+    @Benchmark
+    public int insert() throws SQLException {
+        bind();
+        return insert.executeUpdate();
+    }
+
+    // One JDBC batch per transaction; throughput is in batches of BATCH_SIZE rows
+    @Benchmark
+    public int[] insertBatch() throws SQLException {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            bind();
+            insert.addBatch();
+        }
+        int[] counts = insert.executeBatch();
+        if (!connection.getAutoCommit()) {
+            connection.commit();
+        }
+        return counts;
+    }
+
+    private void bind() throws SQLException {
+        insert.setObject(1, ids.get());
+        insert.setString(2, email);
+        insert.setString(3, message);
+        insert.setTimestamp(4, Timestamp.valueOf(LocalDateTime.now()));
+        insert.setString(5, "SENT");
+    }
+}
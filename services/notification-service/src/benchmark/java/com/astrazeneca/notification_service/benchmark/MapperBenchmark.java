@@ -0,0 +1,57 @@
+package com.astrazeneca.notification_service.benchmark;
+
+import com.astrazeneca.notification_service.domain.model.NotificationLog;
+import com.astrazeneca.notification_service.infrastructure.persistence.entity.NotificationLogEntity;
+import com.astrazeneca.notification_service.infrastructure.persistence.mapper.PersistenceMapper;
+import com.astrazeneca.notification_service.infrastructure.persistence.mapper.PersistenceMapperImpl;
+import com.astrazeneca.notification_service.infrastructure.web.dto.NotificationLogResponse;
+import com.astrazeneca.notification_service.infrastructure.web.mapper.WebMapper;
+import com.astrazeneca.notification_service.infrastructure.web.mapper.WebMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// MapStruct mapping of notification logs between the domain, JPA entity and REST response
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MapperBenchmark {
+
+    @Param({"1", "100", "1000"})
+    public int logs;
+
+    private final PersistenceMapper persistenceMapper = new PersistenceMapperImpl();
+    private final WebMapper webMapper = new WebMapperImpl();
+
+    private List<NotificationLog> domain;
+    private List<NotificationLogEntity> entities;
+
+    @Setup
+    public void setUp() {
+        domain = Fixtures.notificationLogs(logs);
+        entities = domain.stream().map(persistenceMapper::toEntity).toList();
+    }
+
+    @Benchmark
+    public List<NotificationLogEntity> domainToEntity() {
+        return domain.stream().map(persistenceMapper::toEntity).toList();
+    }
+
+    @Benchmark
+    public List<NotificationLog> entityToDomain() {
+        return persistenceMapper.toNotificationLogDomainList(entities);
+    }
+
+    @Benchmark
+    public List<NotificationLogResponse> domainToResponse() {
+        return webMapper.toNotificationLogResponseList(domain);
+    }
+}
@@ -0,0 +1,120 @@
+package com.astrazeneca.notification_service;
+
+import com.astrazeneca.loadkit.OpenLoadDriver;
+import com.astrazeneca.loadkit.OpenLoadResult;
+import com.astrazeneca.loadkit.RequestMix;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.random.RandomGenerator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Saturation load test")
+class SaturationLoadTest {
+
+    private static final long SEED = Long.getLong("load.seed", 42);
+    private static final int SUBSCRIPTIONS = Integer.getInteger("load.subscriptions", 200);
+    private static final int NOTIFICATIONS = Integer.getInteger("load.notifications", 2000);
+    private static final String RATES = System.getProperty("load.rates", "100,200,400,800,1600,3200,6400");
+    private static final Duration WARMUP = Duration.ofSeconds(Long.getLong("load.warmup", 5));
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("load.seconds", 15));
+    private static final Duration P99_OBJECTIVE = Duration.ofMillis(Long.getLong("load.p99", 100));
+    private static final List<String> PREFERENCES = List.of("Oncology", "Immunology", "Cardiology", "Neurology");
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicLong nextSubscriber = new AtomicLong(SUBSCRIPTIONS);
+
+    @Test
+    @DisplayName("Should find the arrival rate at which the notification endpoints saturate")
+    void shouldFindSaturationPoint() throws Exception {
+        // Command-line arguments, so they win over application.yaml
+        try (ConfigurableApplicationContext app = new SpringApplicationBuilder(NotificationServiceApplication.class)
+                .run("--server.port=0",
+                        "--spring.threads.virtual.enabled=" + System.getProperty("load.virtual", "true"),
+                        "--spring.datasource.url=jdbc:h2:mem:saturation",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN")) {
+            String base = "http://localhost:" + app.getEnvironment().getProperty("local.server.port");
+            UUID[] ids = seed(base);
+
+            // A full dispatch queue answers 503, which counts as an error and marks the rate as saturated
+            RequestMix mix = new RequestMix()
+                    .add("send", 50, random -> post(base + "/api/notifications/send", notification(random)))
+                    .add("get-notification", 20, random -> get(base + "/api/notifications/" + ids[random.nextInt(ids.length)]))
+                    .add("list-subscriptions", 20, random -> get(base + "/api/subscriptions"))
+                    .add("subscribe", 10, random -> post(base + "/api/subscriptions",
+                            subscription(random, nextSubscriber.getAndIncrement())))
+                    .withWeights(System.getProperty("load.mix"));
+
+            OpenLoadDriver driver = new OpenLoadDriver(WARMUP, DURATION, Duration.ofSeconds(5), 10_000, SEED);
+            List<Double> rates = Arrays.stream(RATES.split(",")).map(rate -> Double.parseDouble(rate.strip())).toList();
+            List<OpenLoadResult> results = driver.sweep(rates, mix, P99_OBJECTIVE);
+
+            System.out.println(OpenLoadResult.table(results, P99_OBJECTIVE));
+            for (OpenLoadResult result : results) {
+                result.writeDistributions(Path.of("target", "load", "notification-service"));
+            }
+            // The lowest rate must be served cleanly, otherwise the mix itself is broken
+            assertThat(results.get(0).total().errors()).as(OpenLoadResult.table(results.subList(0, 1), P99_OBJECTIVE))
+                    .isZero();
+        }
+    }
+
+    // Creates a deterministic dataset and returns the ids of the sent notifications
+    private UUID[] seed(String base) throws IOException, InterruptedException {
+        Random random = new Random(SEED);
+        for (int i = 0; i < SUBSCRIPTIONS; i++) {
+            send(post(base + "/api/subscriptions", subscription(random, i)));
+        }
+        UUID[] ids = new UUID[NOTIFICATIONS];
+        for (int i = 0; i < NOTIFICATIONS; i++) {
+            String body = send(post(base + "/api/notifications/send", notification(random)));
+            ids[i] = UUID.fromString(objectMapper.readTree(body).get("id").asText());
+        }
+        return ids;
+    }
+
+    private String send(HttpRequest request) throws IOException, InterruptedException {
+        return client.send(request, HttpResponse.BodyHandlers.ofString()).body();
+    }
+
+    private static String subscription(RandomGenerator random, long subscriber) {
+        return """
+                {"userEmail":"analyst%d@example.com","notificationPreferences":["%s"]}"""
+                .formatted(subscriber, PREFERENCES.get(random.nextInt(PREFERENCES.size())));
+    }
+
+    private static String notification(RandomGenerator random) {
+        return """
+                {"recipientEmail":"analyst%d@example.com","messageContent":"Competitor update %d"}"""
+                .formatted(random.nextInt(SUBSCRIPTIONS), random.nextInt(100_000));
+    }
+
+    private static HttpRequest get(String uri) {
+        return HttpRequest.newBuilder(URI.create(uri)).GET().build();
+    }
+
+    private static HttpRequest post(String uri, String body) {
+        return HttpRequest.newBuilder(URI.create(uri))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+}
@@ -0,0 +1,35 @@
+package com.astrazeneca.notification_service.application.service;
+
+import com.astrazeneca.notification_service.domain.model.NotificationLog;
+import com.astrazeneca.notification_service.domain.ports.in.DeliverNotificationUseCase;
+import com.astrazeneca.notification_service.domain.ports.out.NotificationLogRepositoryPort;
+import com.astrazeneca.notification_service.domain.ports.out.NotificationSenderPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+public class NotificationDeliveryService implements DeliverNotificationUseCase {
+
+    private final NotificationLogRepositoryPort notificationLogRepositoryPort;
+    private final NotificationSenderPort notificationSenderPort;
+
+    public NotificationDeliveryService(NotificationLogRepositoryPort notificationLogRepositoryPort,
+                                       NotificationSenderPort notificationSenderPort) {
+        this.notificationLogRepositoryPort = notificationLogRepositoryPort;
+        this.notificationSenderPort = notificationSenderPort;
+    }
+
+    // Deliberately not transactional: no DB connection is held while the sender blocks
+    @Override
+    public NotificationLog deliver(NotificationLog notificationLog) {
+        try {
+            notificationSenderPort.send(notificationLog.getRecipientEmail(), notificationLog.getMessageContent());
+            notificationLog.markSent();
+        } catch (RuntimeException ex) {
+            log.warn("Failed to deliver notification {}", notificationLog.getId(), ex);
+            notificationLog.markFailed();
+        }
+        return notificationLogRepositoryPort.save(notificationLog);
+    }
+}
@@ -1,16 +1,20 @@
 package com.astrazeneca.notification_service.application.service;
 
+import com.astrazeneca.notification_service.domain.exception.NotificationQueueFullException;
 import com.astrazeneca.notification_service.domain.model.NotificationLog;
 import com.astrazeneca.notification_service.domain.model.Subscription;
 import com.astrazeneca.notification_service.domain.ports.in.ManageSubscriptionUseCase;
 import com.astrazeneca.notification_service.domain.ports.in.SendNotificationUseCase;
+import com.astrazeneca.notification_service.domain.ports.out.NotificationDispatchPort;
 import com.astrazeneca.notification_service.domain.ports.out.NotificationLogRepositoryPort;
-import com.astrazeneca.notification_service.domain.ports.out.NotificationSenderPort;
 import com.astrazeneca.notification_service.domain.ports.out.SubscriptionRepositoryPort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 @Service
 @Transactional
@@ -18,14 +22,14 @@ public class NotificationService implements ManageSubscriptionUseCase, SendNotif
 
     private final SubscriptionRepositoryPort subscriptionRepositoryPort;
     private final NotificationLogRepositoryPort notificationLogRepositoryPort;
-    private final NotificationSenderPort notificationSenderPort;
+    private final NotificationDispatchPort notificationDispatchPort;
 
     public NotificationService(SubscriptionRepositoryPort subscriptionRepositoryPort,
                                NotificationLogRepositoryPort notificationLogRepositoryPort,
-                               NotificationSenderPort notificationSenderPort) {
+                               NotificationDispatchPort notificationDispatchPort) {
         this.subscriptionRepositoryPort = subscriptionRepositoryPort;
         this.notificationLogRepositoryPort = notificationLogRepositoryPort;
-        this.notificationSenderPort = notificationSenderPort;
+        this.notificationDispatchPort = notificationDispatchPort;
     }
 
     @Override
@@ -40,14 +44,26 @@ public class NotificationService implements ManageSubscriptionUseCase, SendNotif
         return subscriptionRepositoryPort.findAll();
     }
 
+    // Runs outside a transaction so the PENDING log is committed before a worker can pick it up
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public NotificationLog sendNotification(String recipientEmail, String messageContent) {
-        // First, send the notification via the sender port (mocked to console)
-        notificationSenderPort.send(recipientEmail, messageContent);
+        NotificationLog notificationLog = notificationLogRepositoryPort.save(
+                NotificationLog.create(recipientEmail, messageContent));
+        try {
+            notificationDispatchPort.dispatch(notificationLog);
+        } catch (NotificationQueueFullException ex) {
+            notificationLog.markFailed();
+            notificationLogRepositoryPort.save(notificationLog);
+            throw ex;
+        }
+        return notificationLog;
+    }
 
-        // Then, create and save the notification log
-        NotificationLog notificationLog = NotificationLog.create(recipientEmail, messageContent);
-        return notificationLogRepositoryPort.save(notificationLog);
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<NotificationLog> getNotification(UUID id) {
+        return notificationLogRepositoryPort.findById(id);
     }
 
     @Override
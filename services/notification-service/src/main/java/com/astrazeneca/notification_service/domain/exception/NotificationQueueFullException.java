@@ -0,0 +1,8 @@
+package com.astrazeneca.notification_service.domain.exception;
+
+public class NotificationQueueFullException extends RuntimeException {
+
+    public NotificationQueueFullException(String message) {
+        super(message);
+    }
+}
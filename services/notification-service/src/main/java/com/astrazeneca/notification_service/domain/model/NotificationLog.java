@@ -20,12 +20,20 @@ public class NotificationLog {
 
     public static NotificationLog create(String recipientEmail, String messageContent) {
         return new NotificationLog(
-                UUID.randomUUID(),
+                TimeOrderedUuid.next(),
                 recipientEmail,
                 messageContent,
                 LocalDateTime.now(),
-                NotificationStatus.SENT
+                NotificationStatus.PENDING
         );
     }
+
+    public void markSent() {
+        this.status = NotificationStatus.SENT;
+    }
+
+    public void markFailed() {
+        this.status = NotificationStatus.FAILED;
+    }
 }
 
@@ -1,6 +1,7 @@
 package com.astrazeneca.notification_service.domain.model;
 
 public enum NotificationStatus {
-    SENT
+    PENDING,
+    SENT,
+    FAILED
 }
-
@@ -18,7 +18,7 @@ public class Subscription {
     private List<String> notificationPreferences = new ArrayList<>();
 
     public static Subscription create(String userEmail, List<String> notificationPreferences) {
-        return new Subscription(UUID.randomUUID(), userEmail, notificationPreferences != null ? notificationPreferences : new ArrayList<>());
+        return new Subscription(TimeOrderedUuid.next(), userEmail, notificationPreferences != null ? notificationPreferences : new ArrayList<>());
     }
 
     public void updatePreferences(List<String> newPreferences) {
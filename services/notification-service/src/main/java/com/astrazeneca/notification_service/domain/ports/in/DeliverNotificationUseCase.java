@@ -0,0 +1,8 @@
+package com.astrazeneca.notification_service.domain.ports.in;
+
+import com.astrazeneca.notification_service.domain.model.NotificationLog;
+
+public interface DeliverNotificationUseCase {
+
+    NotificationLog deliver(NotificationLog notificationLog);
+}
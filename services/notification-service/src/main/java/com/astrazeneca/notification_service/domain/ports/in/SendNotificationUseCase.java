@@ -3,11 +3,15 @@ package com.astrazeneca.notification_service.domain.ports.in;
 import com.astrazeneca.notification_service.domain.model.NotificationLog;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 public interface SendNotificationUseCase {
 
     NotificationLog sendNotification(String recipientEmail, String messageContent);
 
+    Optional<NotificationLog> getNotification(UUID id);
+
     List<NotificationLog> listNotificationHistory();
 }
 
@@ -0,0 +1,9 @@
+package com.astrazeneca.notification_service.domain.ports.out;
+
+import com.astrazeneca.notification_service.domain.model.NotificationLog;
+
+public interface NotificationDispatchPort {
+
+    // Hands a persisted PENDING notification to background delivery; throws NotificationQueueFullException when saturated
+    void dispatch(NotificationLog notificationLog);
+}
@@ -0,0 +1,18 @@
+package com.astrazeneca.notification_service.domain.ports.out;
+
+import com.astrazeneca.notification_service.domain.model.NotificationLog;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface NotificationLogRepositoryPort {
+
+    NotificationLog save(NotificationLog notificationLog);
+
+    List<NotificationLog> findAll();
+
+    Optional<NotificationLog> findById(UUID id);
+
+    List<NotificationLog> findByRecipientEmail(String recipientEmail);
+}
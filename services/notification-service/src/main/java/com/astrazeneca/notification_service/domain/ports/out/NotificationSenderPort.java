@@ -0,0 +1,6 @@
+package com.astrazeneca.notification_service.domain.ports.out;
+
+public interface NotificationSenderPort {
+
+    void send(String recipientEmail, String messageContent);
+}
@@ -0,0 +1,20 @@
+package com.astrazeneca.notification_service.domain.ports.out;
+
+import com.astrazeneca.notification_service.domain.model.Subscription;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface SubscriptionRepositoryPort {
+
+    Subscription save(Subscription subscription);
+
+    List<Subscription> findAll();
+
+    Optional<Subscription> findById(UUID id);
+
+    Optional<Subscription> findByUserEmail(String userEmail);
+
+    void deleteById(UUID id);
+}
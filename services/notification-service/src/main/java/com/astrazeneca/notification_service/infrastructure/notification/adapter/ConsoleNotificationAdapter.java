@@ -1,28 +1,33 @@
 package com.astrazeneca.notification_service.infrastructure.notification.adapter;
 
 import com.astrazeneca.notification_service.domain.ports.out.NotificationSenderPort;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
+@Slf4j
 @Component
 public class ConsoleNotificationAdapter implements NotificationSenderPort {
 
     private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 
+    // One log event instead of a run of System.out.println calls: PrintStream locks per line,
+    // which serialises concurrent deliveries and interleaves their output
     @Override
     public void send(String recipientEmail, String messageContent) {
         String timestamp = LocalDateTime.now().format(FORMATTER);
 
-        System.out.println("========================================");
-        System.out.println("📧 NOTIFICATION SENT");
-        System.out.println("========================================");
-        System.out.println("Timestamp: " + timestamp);
-        System.out.println("To: " + recipientEmail);
-        System.out.println("Message: " + messageContent);
-        System.out.println("Status: SENT");
-        System.out.println("========================================");
+        log.info("""
+                
+                ========================================
+                📧 NOTIFICATION SENT
+                ========================================
+                Timestamp: {}
+                To: {}
+                Message: {}
+                Status: SENT
+                ========================================""", timestamp, recipientEmail, messageContent);
     }
 }
-
@@ -0,0 +1,91 @@
+package com.astrazeneca.notification_service.infrastructure.notification.dispatch;
+
+import com.astrazeneca.notification_service.domain.exception.NotificationQueueFullException;
+import com.astrazeneca.notification_service.domain.model.NotificationLog;
+import com.astrazeneca.notification_service.domain.ports.in.DeliverNotificationUseCase;
+import com.astrazeneca.notification_service.domain.ports.out.NotificationDispatchPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+public class QueuedNotificationDispatcher implements NotificationDispatchPort, SmartLifecycle {
+
+    // Stop after the web server has stopped accepting requests, but before beans (e.g. the DataSource) are destroyed
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private final DeliverNotificationUseCase deliverNotificationUseCase;
+    private final ThreadPoolExecutor executor;
+    private final Duration shutdownTimeout;
+    private volatile boolean running;
+
+    public QueuedNotificationDispatcher(DeliverNotificationUseCase deliverNotificationUseCase,
+                                        @Value("${notification.dispatch.workers:4}") int workers,
+                                        @Value("${notification.dispatch.queue-capacity:1000}") int queueCapacity,
+                                        @Value("${notification.dispatch.shutdown-timeout:30s}") Duration shutdownTimeout,
+                                        @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.deliverNotificationUseCase = deliverNotificationUseCase;
+        this.shutdownTimeout = shutdownTimeout;
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                threadFactory(virtualThreads),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    // Workers stay a fixed, bounded pool either way: the count caps concurrent deliveries, the queue gives back-pressure
+    private static ThreadFactory threadFactory(boolean virtualThreads) {
+        return virtualThreads
+                ? Thread.ofVirtual().name("notification-dispatch-", 1).factory()
+                : new CustomizableThreadFactory("notification-dispatch-");
+    }
+
+    @Override
+    public void dispatch(NotificationLog notificationLog) {
+        try {
+            executor.execute(() -> deliverNotificationUseCase.deliver(notificationLog));
+        } catch (RejectedExecutionException ex) {
+            throw new NotificationQueueFullException(
+                    "Notification queue is full or shutting down, retry later");
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(shutdownTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("Notification queue not drained within {}; {} notifications left PENDING",
+                        shutdownTimeout, executor.shutdownNow().size());
+            }
+        } catch (InterruptedException ex) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+}
@@ -17,8 +17,8 @@ import java.util.UUID;
 @AllArgsConstructor
 public class NotificationLogEntity {
 
+    // Assigned by the domain model, never generated here
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
     @Column(name = "recipient_email", nullable = false)
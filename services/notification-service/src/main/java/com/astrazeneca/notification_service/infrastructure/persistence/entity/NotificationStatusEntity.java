@@ -1,6 +1,7 @@
 package com.astrazeneca.notification_service.infrastructure.persistence.entity;
 
 public enum NotificationStatusEntity {
-    SENT
+    PENDING,
+    SENT,
+    FAILED
 }
-
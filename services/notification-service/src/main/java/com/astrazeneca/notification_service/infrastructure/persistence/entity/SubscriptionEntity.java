@@ -18,8 +18,8 @@ import java.util.UUID;
 @AllArgsConstructor
 public class SubscriptionEntity {
 
+    // Assigned by the domain model, never generated here
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
     @Column(name = "user_email", nullable = false, unique = true)
@@ -8,6 +8,7 @@ import com.astrazeneca.notification_service.infrastructure.web.dto.CreateSubscri
 import com.astrazeneca.notification_service.infrastructure.web.dto.NotificationLogResponse;
 import com.astrazeneca.notification_service.infrastructure.web.dto.SendNotificationRequest;
 import com.astrazeneca.notification_service.infrastructure.web.dto.SubscriptionResponse;
+import com.astrazeneca.notification_service.infrastructure.web.exception.ResourceNotFoundException;
 import com.astrazeneca.notification_service.infrastructure.web.mapper.WebMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -19,6 +20,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.UUID;
 
 @RestController
 @RequestMapping("/api")
@@ -64,10 +66,12 @@ public class NotificationController {
         return ResponseEntity.ok(webMapper.toSubscriptionResponseList(subscriptions));
     }
 
-    @Operation(summary = "Send a notification", description = "Sends a notification to a recipient and logs it to the database")
+    @Operation(summary = "Send a notification",
+            description = "Logs the notification as PENDING and queues it for asynchronous delivery")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "201", description = "Notification sent successfully"),
-            @ApiResponse(responseCode = "400", description = "Invalid request data")
+            @ApiResponse(responseCode = "202", description = "Notification accepted for delivery"),
+            @ApiResponse(responseCode = "400", description = "Invalid request data"),
+            @ApiResponse(responseCode = "503", description = "Dispatch queue is full, retry later")
     })
     @PostMapping("/notifications/send")
     public ResponseEntity<NotificationLogResponse> sendNotification(
@@ -77,10 +81,22 @@ public class NotificationController {
                 request.getMessageContent()
         );
         return ResponseEntity
-                .status(HttpStatus.CREATED)
+                .status(HttpStatus.ACCEPTED)
                 .body(webMapper.toResponse(notificationLog));
     }
 
+    @Operation(summary = "Get a notification", description = "Retrieves a notification and its delivery status")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Notification found"),
+            @ApiResponse(responseCode = "404", description = "Notification not found")
+    })
+    @GetMapping("/notifications/{id}")
+    public ResponseEntity<NotificationLogResponse> getNotification(@PathVariable UUID id) {
+        NotificationLog notificationLog = sendNotificationUseCase.getNotification(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Notification", "id", id));
+        return ResponseEntity.ok(webMapper.toResponse(notificationLog));
+    }
+
     @Operation(summary = "List notification history", description = "Retrieves the history of all sent notifications")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved notification history")
@@ -1,13 +1,41 @@
 package com.astrazeneca.notification_service;
 
+import com.astrazeneca.notification_service.domain.ports.out.SubscriptionRepositoryPort;
+import com.astrazeneca.servicekit.metrics.PortTimingInterceptor;
+import com.astrazeneca.servicekit.metrics.SqlProfilingDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
 @SpringBootTest
 class NotificationServiceApplicationTests {
 
+	@Autowired
+	private DataSource dataSource;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Autowired
+	private SubscriptionRepositoryPort subscriptionRepository;
+
 	@Test
 	void contextLoads() {
+		// Wrapped by service-kit's auto-configuration
+		assertInstanceOf(SqlProfilingDataSource.class, dataSource);
+	}
+
+	@Test
+	void timesCallsThroughTheDomainPorts() {
+		subscriptionRepository.findAll();
+
+		assertNotNull(meterRegistry.find(PortTimingInterceptor.METRIC).tag("port", "SubscriptionRepositoryPort").timer());
 	}
 
 }
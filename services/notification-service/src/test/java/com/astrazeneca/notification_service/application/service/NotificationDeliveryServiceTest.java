@@ -0,0 +1,61 @@
+package com.astrazeneca.notification_service.application.service;
+
+import com.astrazeneca.notification_service.domain.model.NotificationLog;
+import com.astrazeneca.notification_service.domain.model.NotificationStatus;
+import com.astrazeneca.notification_service.domain.ports.out.NotificationLogRepositoryPort;
+import com.astrazeneca.notification_service.domain.ports.out.NotificationSenderPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NotificationDeliveryService Tests")
+class NotificationDeliveryServiceTest {
+
+    @Mock
+    private NotificationLogRepositoryPort notificationLogRepositoryPort;
+
+    @Mock
+    private NotificationSenderPort notificationSenderPort;
+
+    @InjectMocks
+    private NotificationDeliveryService notificationDeliveryService;
+
+    @BeforeEach
+    void setUp() {
+        when(notificationLogRepositoryPort.save(any(NotificationLog.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    @DisplayName("Should send notification and mark it SENT")
+    void shouldSendAndMarkSent() {
+        NotificationLog pending = NotificationLog.create("test@example.com", "Hello!");
+
+        NotificationLog result = notificationDeliveryService.deliver(pending);
+
+        verify(notificationSenderPort).send("test@example.com", "Hello!");
+        verify(notificationLogRepositoryPort).save(pending);
+        assertEquals(NotificationStatus.SENT, result.getStatus());
+    }
+
+    @Test
+    @DisplayName("Should mark notification FAILED when the sender throws")
+    void shouldMarkFailedWhenSenderThrows() {
+        NotificationLog pending = NotificationLog.create("test@example.com", "Hello!");
+        doThrow(new IllegalStateException("SMTP down")).when(notificationSenderPort).send(any(), any());
+
+        NotificationLog result = notificationDeliveryService.deliver(pending);
+
+        verify(notificationLogRepositoryPort).save(pending);
+        assertEquals(NotificationStatus.FAILED, result.getStatus());
+    }
+}
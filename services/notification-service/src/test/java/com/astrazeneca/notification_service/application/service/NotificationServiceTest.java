@@ -1,14 +1,17 @@
 package com.astrazeneca.notification_service.application.service;
 
+import com.astrazeneca.notification_service.domain.exception.NotificationQueueFullException;
 import com.astrazeneca.notification_service.domain.model.NotificationLog;
+import com.astrazeneca.notification_service.domain.model.NotificationStatus;
 import com.astrazeneca.notification_service.domain.model.Subscription;
+import com.astrazeneca.notification_service.domain.ports.out.NotificationDispatchPort;
 import com.astrazeneca.notification_service.domain.ports.out.NotificationLogRepositoryPort;
-import com.astrazeneca.notification_service.domain.ports.out.NotificationSenderPort;
 import com.astrazeneca.notification_service.domain.ports.out.SubscriptionRepositoryPort;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -18,6 +21,7 @@ import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
@@ -32,7 +36,7 @@ class NotificationServiceTest {
     private NotificationLogRepositoryPort notificationLogRepositoryPort;
 
     @Mock
-    private NotificationSenderPort notificationSenderPort;
+    private NotificationDispatchPort notificationDispatchPort;
 
     @InjectMocks
     private NotificationService notificationService;
@@ -84,18 +88,35 @@ class NotificationServiceTest {
     class NotificationSendingTests {
 
         @Test
-        @DisplayName("Should send notification and save log")
-        void shouldSendNotificationAndSaveLog() {
+        @DisplayName("Should save pending log and queue it for delivery")
+        void shouldSavePendingLogAndQueueIt() {
             when(notificationLogRepositoryPort.save(any(NotificationLog.class)))
                     .thenAnswer(invocation -> invocation.getArgument(0));
 
             NotificationLog result = notificationService.sendNotification("test@example.com", "Hello!");
 
-            verify(notificationSenderPort).send("test@example.com", "Hello!");
             verify(notificationLogRepositoryPort).save(any(NotificationLog.class));
+            verify(notificationDispatchPort).dispatch(result);
             assertNotNull(result);
             assertEquals("test@example.com", result.getRecipientEmail());
             assertEquals("Hello!", result.getMessageContent());
+            assertEquals(NotificationStatus.PENDING, result.getStatus());
+        }
+
+        @Test
+        @DisplayName("Should mark log failed and propagate when the queue is full")
+        void shouldMarkLogFailedWhenQueueIsFull() {
+            when(notificationLogRepositoryPort.save(any(NotificationLog.class)))
+                    .thenAnswer(invocation -> invocation.getArgument(0));
+            doThrow(new NotificationQueueFullException("full"))
+                    .when(notificationDispatchPort).dispatch(any(NotificationLog.class));
+
+            assertThrows(NotificationQueueFullException.class,
+                    () -> notificationService.sendNotification("test@example.com", "Hello!"));
+
+            ArgumentCaptor<NotificationLog> saved = ArgumentCaptor.forClass(NotificationLog.class);
+            verify(notificationLogRepositoryPort, times(2)).save(saved.capture());
+            assertEquals(NotificationStatus.FAILED, saved.getValue().getStatus());
         }
 
         @Test
@@ -0,0 +1,56 @@
+package com.astrazeneca.notification_service.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("TimeOrderedUuid Tests")
+class TimeOrderedUuidTest {
+
+    private static final long NOW = 1_760_000_000_000L;
+
+    @Test
+    @DisplayName("Should encode version 7, the IETF variant and the millisecond timestamp")
+    void shouldEncodeVersionVariantAndTimestamp() {
+        UUID id = new TimeOrderedUuid(() -> NOW, () -> -1L).generate();
+
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+        assertEquals(NOW, id.getMostSignificantBits() >>> 16);
+    }
+
+    @Test
+    @DisplayName("Should keep increasing past the per-millisecond sequence and when the clock steps back")
+    void shouldIncreaseStrictly() {
+        AtomicLong clock = new AtomicLong(NOW);
+        TimeOrderedUuid generator = new TimeOrderedUuid(clock::get, () -> 0L);
+        List<UUID> ids = new ArrayList<>();
+
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(generator.generate());
+        }
+        clock.set(NOW - 1_000);
+        ids.add(generator.generate());
+
+        // String order is the unsigned byte order databases sort UUIDs by
+        for (int i = 1; i < ids.size(); i++) {
+            assertTrue(ids.get(i - 1).toString().compareTo(ids.get(i).toString()) < 0, "id " + i);
+        }
+    }
+
+    @Test
+    @DisplayName("Should order notification logs and subscriptions by creation")
+    void shouldOrderFactoryIdsByCreation() {
+        NotificationLog log = NotificationLog.create("a@example.com", "First");
+        Subscription subscription = Subscription.create("a@example.com", List.of("Oncology"));
+
+        assertTrue(log.getId().toString().compareTo(subscription.getId().toString()) < 0);
+    }
+}
@@ -0,0 +1,101 @@
+package com.astrazeneca.notification_service.infrastructure.notification.dispatch;
+
+import com.astrazeneca.notification_service.domain.exception.NotificationQueueFullException;
+import com.astrazeneca.notification_service.domain.model.NotificationLog;
+import com.astrazeneca.notification_service.domain.ports.in.DeliverNotificationUseCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("QueuedNotificationDispatcher Tests")
+class QueuedNotificationDispatcherTest {
+
+    @Test
+    @DisplayName("Should reject notifications once the queue is full")
+    void shouldRejectWhenQueueIsFull() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        DeliverNotificationUseCase blockingDelivery = notificationLog -> {
+            started.countDown();
+            awaitQuietly(release);
+            return notificationLog;
+        };
+        QueuedNotificationDispatcher dispatcher = new QueuedNotificationDispatcher(blockingDelivery, 1, 1, Duration.ofSeconds(5), false);
+        dispatcher.start();
+
+        dispatcher.dispatch(NotificationLog.create("a@example.com", "1"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        dispatcher.dispatch(NotificationLog.create("b@example.com", "2"));
+
+        assertThrows(NotificationQueueFullException.class,
+                () -> dispatcher.dispatch(NotificationLog.create("c@example.com", "3")));
+
+        release.countDown();
+        dispatcher.stop();
+    }
+
+    @Test
+    @DisplayName("Should deliver queued notifications before stopping")
+    void shouldDrainQueueOnStop() {
+        List<String> delivered = new CopyOnWriteArrayList<>();
+        DeliverNotificationUseCase slowDelivery = notificationLog -> {
+            sleepQuietly(20);
+            delivered.add(notificationLog.getMessageContent());
+            return notificationLog;
+        };
+        QueuedNotificationDispatcher dispatcher = new QueuedNotificationDispatcher(slowDelivery, 1, 10, Duration.ofSeconds(5), false);
+        dispatcher.start();
+        for (int i = 0; i < 5; i++) {
+            dispatcher.dispatch(NotificationLog.create("user@example.com", "message-" + i));
+        }
+
+        dispatcher.stop();
+
+        assertEquals(5, delivered.size());
+        assertFalse(dispatcher.isRunning());
+        assertThrows(NotificationQueueFullException.class,
+                () -> dispatcher.dispatch(NotificationLog.create("late@example.com", "late")));
+    }
+
+    @Test
+    @DisplayName("Should deliver on virtual threads when virtual threads are enabled")
+    void shouldDeliverOnVirtualThreads() {
+        List<Thread> workers = new CopyOnWriteArrayList<>();
+        DeliverNotificationUseCase recordingDelivery = notificationLog -> {
+            workers.add(Thread.currentThread());
+            return notificationLog;
+        };
+        QueuedNotificationDispatcher dispatcher = new QueuedNotificationDispatcher(recordingDelivery, 2, 10, Duration.ofSeconds(5), true);
+        dispatcher.start();
+
+        dispatcher.dispatch(NotificationLog.create("user@example.com", "message"));
+        dispatcher.stop();
+
+        assertEquals(1, workers.size());
+        assertTrue(workers.get(0).isVirtual());
+        assertTrue(workers.get(0).getName().startsWith("notification-dispatch-"));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.astrazeneca.notification_service.infrastructure.web.controller;
 
 import com.astrazeneca.notification_service.domain.model.NotificationLog;
+import com.astrazeneca.notification_service.domain.model.NotificationStatus;
 import com.astrazeneca.notification_service.domain.model.Subscription;
 import com.astrazeneca.notification_service.domain.ports.in.ManageSubscriptionUseCase;
 import com.astrazeneca.notification_service.domain.ports.in.SendNotificationUseCase;
@@ -8,6 +9,7 @@ import com.astrazeneca.notification_service.infrastructure.web.dto.CreateSubscri
 import com.astrazeneca.notification_service.infrastructure.web.dto.NotificationLogResponse;
 import com.astrazeneca.notification_service.infrastructure.web.dto.SendNotificationRequest;
 import com.astrazeneca.notification_service.infrastructure.web.dto.SubscriptionResponse;
+import com.astrazeneca.notification_service.infrastructure.web.exception.ResourceNotFoundException;
 import com.astrazeneca.notification_service.infrastructure.web.mapper.WebMapper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -22,6 +24,7 @@ import org.springframework.http.ResponseEntity;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -107,8 +110,8 @@ class NotificationControllerTest {
     class NotificationEndpointsTests {
 
         @Test
-        @DisplayName("Should send notification and return 201")
-        void shouldSendNotificationAndReturn201() {
+        @DisplayName("Should accept notification and return 202")
+        void shouldAcceptNotificationAndReturn202() {
             SendNotificationRequest request = new SendNotificationRequest();
             request.setRecipientEmail("recipient@example.com");
             request.setMessageContent("Hello!");
@@ -123,12 +126,38 @@ class NotificationControllerTest {
 
             ResponseEntity<NotificationLogResponse> result = notificationController.sendNotification(request);
 
-            assertEquals(HttpStatus.CREATED, result.getStatusCode());
+            assertEquals(HttpStatus.ACCEPTED, result.getStatusCode());
             assertNotNull(result.getBody());
             assertEquals("recipient@example.com", result.getBody().getRecipientEmail());
             verify(sendNotificationUseCase).sendNotification("recipient@example.com", "Hello!");
         }
 
+        @Test
+        @DisplayName("Should get notification by id and return 200")
+        void shouldGetNotificationAndReturn200() {
+            UUID id = UUID.randomUUID();
+            NotificationLog log = new NotificationLog(id, "user@example.com", "Test", LocalDateTime.now(), NotificationStatus.SENT);
+            NotificationLogResponse response = new NotificationLogResponse();
+            response.setStatus("SENT");
+
+            when(sendNotificationUseCase.getNotification(id)).thenReturn(Optional.of(log));
+            when(webMapper.toResponse(log)).thenReturn(response);
+
+            ResponseEntity<NotificationLogResponse> result = notificationController.getNotification(id);
+
+            assertEquals(HttpStatus.OK, result.getStatusCode());
+            assertEquals("SENT", result.getBody().getStatus());
+        }
+
+        @Test
+        @DisplayName("Should throw ResourceNotFoundException for unknown notification")
+        void shouldThrowForUnknownNotification() {
+            UUID id = UUID.randomUUID();
+            when(sendNotificationUseCase.getNotification(id)).thenReturn(Optional.empty());
+
+            assertThrows(ResourceNotFoundException.class, () -> notificationController.getNotification(id));
+        }
+
         @Test
         @DisplayName("Should list notification history and return 200")
         void shouldListNotificationHistoryAndReturn200() {
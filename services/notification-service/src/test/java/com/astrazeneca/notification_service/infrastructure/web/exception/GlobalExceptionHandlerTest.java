@@ -1,9 +1,11 @@
 package com.astrazeneca.notification_service.infrastructure.web.exception;
 
+import com.astrazeneca.notification_service.domain.exception.NotificationQueueFullException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
@@ -105,6 +107,25 @@ class GlobalExceptionHandlerTest {
         }
     }
 
+    @Nested
+    @DisplayName("NotificationQueueFullException Tests")
+    class NotificationQueueFullExceptionTests {
+
+        @Test
+        @DisplayName("Should handle NotificationQueueFullException and return 503 with Retry-After")
+        void shouldHandleNotificationQueueFullException() {
+            NotificationQueueFullException exception = new NotificationQueueFullException("Notification queue is full");
+
+            ResponseEntity<ErrorResponse> response = globalExceptionHandler.handleNotificationQueueFullException(exception);
+
+            assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+            assertEquals("1", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+            assertNotNull(response.getBody());
+            assertEquals(503, response.getBody().getStatus());
+            assertEquals("Service Unavailable", response.getBody().getError());
+        }
+    }
+
     @Nested
     @DisplayName("Generic Exception Tests")
     class GenericExceptionTests {
@@ -0,0 +1,48 @@
+package com.astrazeneca.benchkit;
+
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Runs the JMH benchmarks compiled into the service under test, as listed in its
+// META-INF/BenchmarkList, and writes a JSON report. A service's benchmark profile has surefire
+// scan this jar (dependenciesToScan) and sets jmh.result. Tuned with jmh.include (a regex over
+// benchmark names; all by default), jmh.forks, jmh.warmup.iterations, jmh.warmup.seconds,
+// jmh.iterations and jmh.seconds.
+class MicrobenchmarkTest {
+
+    @Test
+    void shouldRunBenchmarks() throws Exception {
+        Path report = Path.of(System.getProperty("jmh.result", "target/jmh/benchmarks.json"));
+        Files.createDirectories(report.toAbsolutePath().getParent());
+
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .forks(Integer.getInteger("jmh.forks", 1))
+                .warmupIterations(Integer.getInteger("jmh.warmup.iterations", 3))
+                .warmupTime(TimeValue.seconds(Long.getLong("jmh.warmup.seconds", 1)))
+                .measurementIterations(Integer.getInteger("jmh.iterations", 5))
+                .measurementTime(TimeValue.seconds(Long.getLong("jmh.seconds", 1)))
+                .shouldFailOnError(true)
+                .resultFormat(ResultFormatType.JSON)
+                .result(report.toString());
+        String include = System.getProperty("jmh.include");
+        if (include != null) {
+            options.include(include);
+        }
+        Collection<RunResult> results = new Runner(options.build()).run();
+
+        assertFalse(results.isEmpty(), "no benchmark matched");
+        assertTrue(Files.size(report) > 0, "empty report " + report);
+    }
+}
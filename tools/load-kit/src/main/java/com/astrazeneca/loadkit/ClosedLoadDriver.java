@@ -0,0 +1,83 @@
+package com.astrazeneca.loadkit;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Closed-model driver: a fixed number of users, each on its own virtual thread, issue requests
+ * back to back. Measures how a server copes with a given level of concurrency.
+ */
+public final class ClosedLoadDriver {
+
+    private final HttpClient client;
+    private final int concurrency;
+    private final Duration warmup;
+    private final Duration duration;
+
+    public ClosedLoadDriver(int concurrency, Duration warmup, Duration duration) {
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        this.concurrency = concurrency;
+        this.warmup = warmup;
+        this.duration = duration;
+    }
+
+    public LoadResult run(String label, Supplier<HttpRequest> requests) {
+        drive(requests, warmup, new Recorder(3), new LongAdder(), new LongAdder());
+
+        Recorder recorder = new Recorder(3);
+        LongAdder completed = new LongAdder();
+        LongAdder errors = new LongAdder();
+        long started = System.nanoTime();
+        drive(requests, duration, recorder, completed, errors);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+
+        Histogram histogram = recorder.getIntervalHistogram();
+        return new LoadResult(label, completed.sum(), errors.sum(), elapsed, histogram);
+    }
+
+    private void drive(Supplier<HttpRequest> requests, Duration length, Recorder recorder,
+                       LongAdder completed, LongAdder errors) {
+        long deadline = System.nanoTime() + length.toNanos();
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Runnable> loops = new ArrayList<>(concurrency);
+            for (int i = 0; i < concurrency; i++) {
+                loops.add(() -> {
+                    while (System.nanoTime() < deadline) {
+                        long sent = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(requests.get(), HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() >= 400) {
+                                errors.increment();
+                            }
+                        } catch (IOException ex) {
+                            errors.increment();
+                        } catch (InterruptedException ex) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                        recorder.recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - sent));
+                        completed.increment();
+                    }
+                });
+            }
+            loops.forEach(users::submit);
+        }
+    }
+}
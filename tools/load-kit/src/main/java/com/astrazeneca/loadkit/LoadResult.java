@@ -0,0 +1,33 @@
+package com.astrazeneca.loadkit;
+
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Outcome of one load run: request counts plus a latency histogram recorded in microseconds.
+ */
+public record LoadResult(String label, long requests, long errors, Duration elapsed, Histogram latencyMicros) {
+
+    public double throughputPerSecond() {
+        return requests / (elapsed.toNanos() / 1_000_000_000.0);
+    }
+
+    public double percentileMillis(double percentile) {
+        return latencyMicros.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    public String summary() {
+        return String.format(Locale.ROOT, "%-34s %10.0f req/s  p50 %8.2f ms  p99 %8.2f ms  max %8.2f ms  errors %d/%d",
+                label, throughputPerSecond(), percentileMillis(50), percentileMillis(99),
+                latencyMicros.getMaxValue() / 1000.0, errors, requests);
+    }
+
+    public static String table(List<LoadResult> results) {
+        StringBuilder table = new StringBuilder();
+        results.forEach(result -> table.append(result.summary()).append(System.lineSeparator()));
+        return table.toString();
+    }
+}
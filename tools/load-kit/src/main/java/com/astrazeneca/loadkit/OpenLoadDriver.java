@@ -0,0 +1,164 @@
+package com.astrazeneca.loadkit;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model driver: requests arrive at a constant rate whether or not earlier ones have
+ * completed, each sent from its own virtual thread. Latency is measured from the time a request
+ * was scheduled to be sent, so a server that falls behind is charged for the queueing it causes
+ * (no coordinated omission). Measures the arrival rate at which a server saturates.
+ */
+public final class OpenLoadDriver {
+
+    private final HttpClient client;
+    private final Duration warmup;
+    private final Duration duration;
+    private final Duration timeout;
+    private final int maxInFlight;
+    private final long seed;
+
+    /**
+     * @param maxInFlight requests arriving while this many are outstanding are dropped and
+     *                    counted as errors, so an overloaded server cannot exhaust the driver
+     */
+    public OpenLoadDriver(Duration warmup, Duration duration, Duration timeout, int maxInFlight, long seed) {
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        this.warmup = warmup;
+        this.duration = duration;
+        this.timeout = timeout;
+        this.maxInFlight = maxInFlight;
+        this.seed = seed;
+    }
+
+    public OpenLoadResult run(double ratePerSecond, RequestMix mix) {
+        drive(ratePerSecond, mix, warmup, new Stats(mix));
+
+        Stats stats = new Stats(mix);
+        long started = System.nanoTime();
+        drive(ratePerSecond, mix, duration, stats);
+        return stats.result(ratePerSecond, Duration.ofNanos(System.nanoTime() - started));
+    }
+
+    /**
+     * Runs each rate in ascending order and stops after the first one that saturates the server.
+     */
+    public List<OpenLoadResult> sweep(List<Double> ratesPerSecond, RequestMix mix, Duration p99Objective) {
+        List<OpenLoadResult> results = new ArrayList<>();
+        for (double rate : ratesPerSecond) {
+            OpenLoadResult result = run(rate, mix);
+            results.add(result);
+            if (result.saturated(p99Objective)) {
+                break;
+            }
+        }
+        return results;
+    }
+
+    private void drive(double ratePerSecond, RequestMix mix, Duration length, Stats stats) {
+        SplittableRandom random = new SplittableRandom(seed);
+        AtomicInteger inFlight = new AtomicInteger();
+        long interval = (long) (TimeUnit.SECONDS.toNanos(1) / ratePerSecond);
+        long start = System.nanoTime();
+        long end = start + length.toNanos();
+        // Closing the executor waits for the requests still in flight
+        try (ExecutorService requests = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long intended = start; intended < end; intended += interval) {
+                long wait = intended - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                RequestMix.Entry entry = mix.pick(random);
+                HttpRequest request = HttpRequest.newBuilder(entry.template().apply(random), (name, value) -> true)
+                        .timeout(timeout)
+                        .build();
+                if (inFlight.incrementAndGet() > maxInFlight) {
+                    inFlight.decrementAndGet();
+                    stats.record(entry.name(), 0, false);
+                    continue;
+                }
+                long scheduled = intended;
+                requests.submit(() -> {
+                    try {
+                        stats.record(entry.name(), System.nanoTime() - scheduled, send(request));
+                    } finally {
+                        inFlight.decrementAndGet();
+                    }
+                });
+            }
+        }
+    }
+
+    private boolean send(HttpRequest request) {
+        try {
+            return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() < 400;
+        } catch (IOException ex) {
+            return false;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static final class Stats {
+
+        private final Map<String, Recorder> recorders = new LinkedHashMap<>();
+        private final Map<String, LongAdder> completed = new LinkedHashMap<>();
+        private final Map<String, LongAdder> errors = new LinkedHashMap<>();
+
+        private Stats(RequestMix mix) {
+            for (RequestMix.Entry entry : mix.entries()) {
+                recorders.put(entry.name(), new Recorder(3));
+                completed.put(entry.name(), new LongAdder());
+                errors.put(entry.name(), new LongAdder());
+            }
+        }
+
+        void record(String name, long latencyNanos, boolean success) {
+            if (latencyNanos > 0) {
+                recorders.get(name).recordValue(TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+            }
+            completed.get(name).increment();
+            if (!success) {
+                errors.get(name).increment();
+            }
+        }
+
+        OpenLoadResult result(double ratePerSecond, Duration elapsed) {
+            String rate = String.format(Locale.ROOT, "%.0f/s ", ratePerSecond);
+            List<LoadResult> byRequest = new ArrayList<>();
+            recorders.forEach((name, recorder) -> byRequest.add(new LoadResult(rate + name,
+                    completed.get(name).sum(), errors.get(name).sum(), elapsed, recorder.getIntervalHistogram())));
+
+            LoadResult first = byRequest.get(0);
+            Histogram all = first.latencyMicros().copy();
+            byRequest.stream().skip(1).forEach(result -> all.add(result.latencyMicros()));
+            LoadResult total = new LoadResult(rate + "total",
+                    byRequest.stream().mapToLong(LoadResult::requests).sum(),
+                    byRequest.stream().mapToLong(LoadResult::errors).sum(), elapsed, all);
+            return new OpenLoadResult(ratePerSecond, total, byRequest);
+        }
+    }
+}
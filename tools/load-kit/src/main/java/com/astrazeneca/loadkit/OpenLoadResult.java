@@ -0,0 +1,56 @@
+package com.astrazeneca.loadkit;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Outcome of one open-model run at a fixed arrival rate: the whole mix plus one result per request.
+ */
+public record OpenLoadResult(double offeredPerSecond, LoadResult total, List<LoadResult> byRequest) {
+
+    // Achieved throughput below this share of the offered rate means requests are queueing up
+    private static final double MIN_ACHIEVED_SHARE = 0.95;
+
+    /**
+     * True when the server did not keep up: errors or dropped requests, throughput falling behind
+     * the arrival rate, or a p99 above the objective.
+     */
+    public boolean saturated(Duration p99Objective) {
+        return total.errors() > 0
+                || total.throughputPerSecond() < offeredPerSecond * MIN_ACHIEVED_SHARE
+                || total.percentileMillis(99) > p99Objective.toNanos() / 1_000_000.0;
+    }
+
+    /**
+     * Writes one HdrHistogram percentile distribution (values in milliseconds) per request and
+     * for the whole mix, e.g. {@code 400-get-by-id.hgrm}, for plotting or comparing across runs.
+     */
+    public void writeDistributions(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        List<LoadResult> all = new ArrayList<>(byRequest);
+        all.add(total);
+        for (LoadResult result : all) {
+            Path file = directory.resolve(result.label().replace("/s ", "-").replaceAll("[^A-Za-z0-9.-]", "_") + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+                result.latencyMicros().outputPercentileDistribution(out, 1000.0);
+            }
+        }
+    }
+
+    public static String table(List<OpenLoadResult> results, Duration p99Objective) {
+        StringBuilder table = new StringBuilder();
+        for (OpenLoadResult result : results) {
+            table.append(String.format(Locale.ROOT, "offered %8.0f req/s%s%n", result.offeredPerSecond(),
+                    result.saturated(p99Objective) ? "  <- saturated" : ""));
+            result.byRequest().forEach(request -> table.append("  ").append(request.summary()).append(System.lineSeparator()));
+            table.append("  ").append(result.total().summary()).append(System.lineSeparator());
+        }
+        return table.toString();
+    }
+}
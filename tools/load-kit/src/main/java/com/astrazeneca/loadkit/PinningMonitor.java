@@ -0,0 +1,75 @@
+package com.astrazeneca.loadkit;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Records {@code jdk.VirtualThreadPinned} JFR events in-process and groups them by the first
+ * non-JDK frame, so pinning caused by our own or third-party code can be told apart.
+ */
+public final class PinningMonitor implements AutoCloseable {
+
+    private static final List<String> JDK_PACKAGES = List.of("java.", "javax.", "jdk.", "sun.", "com.sun.");
+
+    private final RecordingStream stream = new RecordingStream();
+    private final Map<String, LongAdder> hotspots = new ConcurrentHashMap<>();
+
+    private PinningMonitor() {
+        stream.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+        stream.onEvent("jdk.VirtualThreadPinned", this::record);
+        stream.startAsync();
+    }
+
+    public static PinningMonitor start() {
+        return new PinningMonitor();
+    }
+
+    private void record(RecordedEvent event) {
+        String site = event.getStackTrace() == null ? "<no stack trace>" : event.getStackTrace().getFrames().stream()
+                .filter(RecordedFrame::isJavaFrame)
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName())
+                .filter(method -> JDK_PACKAGES.stream().noneMatch(method::startsWith))
+                .findFirst()
+                .orElse("<jdk internal>");
+        hotspots.computeIfAbsent(site, key -> new LongAdder()).increment();
+    }
+
+    public long pinnedCount() {
+        return hotspots.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    /**
+     * Pinning sites whose first non-JDK frame lives in one of the given packages.
+     */
+    public Map<String, Long> hotspotsIn(String packagePrefix) {
+        return hotspots.entrySet().stream()
+                .filter(entry -> entry.getKey().startsWith(packagePrefix))
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().sum()));
+    }
+
+    public String report() {
+        if (hotspots.isEmpty()) {
+            return "No virtual-thread pinning recorded";
+        }
+        return hotspots.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, LongAdder> entry) -> entry.getValue().sum()).reversed())
+                .map(entry -> String.format("%8d  %s", entry.getValue().sum(), entry.getKey()))
+                .collect(Collectors.joining(System.lineSeparator(), "Pinned virtual threads by site:" + System.lineSeparator(), ""));
+    }
+
+    @Override
+    public void close() {
+        // Let in-flight events reach the handler before the stream stops
+        stream.stop();
+        stream.close();
+    }
+}
@@ -0,0 +1,74 @@
+package com.astrazeneca.loadkit;
+
+import java.net.http.HttpRequest;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.random.RandomGenerator;
+
+/**
+ * Weighted set of named request templates an open-model run draws from. Templates receive the
+ * run's seeded random source, so a given seed always produces the same request sequence.
+ */
+public final class RequestMix {
+
+    private final List<Entry> entries = new ArrayList<>();
+    private int totalWeight;
+
+    public RequestMix add(String name, int weight, Function<RandomGenerator, HttpRequest> template) {
+        if (weight < 0) {
+            throw new IllegalArgumentException("Weight of '" + name + "' must not be negative");
+        }
+        if (weight > 0) {
+            entries.add(new Entry(name, weight, template));
+            totalWeight += weight;
+        }
+        return this;
+    }
+
+    /**
+     * Copy of this mix with weights overridden from a spec such as {@code "get-by-id:60,add-trial:10"}.
+     * Names missing from the spec keep their weight; a weight of 0 removes the request.
+     */
+    public RequestMix withWeights(String spec) {
+        Map<String, Integer> overrides = new LinkedHashMap<>();
+        if (spec != null && !spec.isBlank()) {
+            for (String pair : spec.split(",")) {
+                String[] parts = pair.strip().split(":");
+                if (parts.length != 2) {
+                    throw new IllegalArgumentException("Expected name:weight but got '" + pair + "'");
+                }
+                overrides.put(parts[0].strip(), Integer.parseInt(parts[1].strip()));
+            }
+        }
+        RequestMix mix = new RequestMix();
+        for (Entry entry : entries) {
+            mix.add(entry.name(), overrides.getOrDefault(entry.name(), entry.weight()), entry.template());
+            overrides.remove(entry.name());
+        }
+        if (!overrides.isEmpty()) {
+            throw new IllegalArgumentException("Unknown requests in mix: " + overrides.keySet());
+        }
+        return mix;
+    }
+
+    List<Entry> entries() {
+        return entries;
+    }
+
+    Entry pick(RandomGenerator random) {
+        int ticket = random.nextInt(totalWeight);
+        for (Entry entry : entries) {
+            ticket -= entry.weight();
+            if (ticket < 0) {
+                return entry;
+            }
+        }
+        throw new IllegalStateException("Request mix is empty");
+    }
+
+    record Entry(String name, int weight, Function<RandomGenerator, HttpRequest> template) {
+    }
+}
@@ -0,0 +1,44 @@
+package com.astrazeneca.servicekit.autoconfigure;
+
+import com.astrazeneca.servicekit.metrics.PortTimingInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+// Applies PortTimingInterceptor to every bean implementing a domain port. Registered as an
+// infrastructure advisor, so it joins the proxies Spring already creates for @Transactional
+// without needing AspectJ. Ordered first, so a use-case timer includes the transaction commit.
+// Settings, all optional:
+// - observability.port-timing.enabled (true): false leaves port calls untimed;
+// - ports-package (<@SpringBootApplication package>.domain.ports): package whose interfaces are
+//   ports; interfaces in a sub-package ending in .in are input ports, all others output ports.
+@AutoConfiguration
+@ConditionalOnClass({Advisor.class, MeterRegistry.class})
+@ConditionalOnProperty(name = "observability.port-timing.enabled", havingValue = "true", matchIfMissing = true)
+public class PortTimingAutoConfiguration {
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static Advisor portTimingAdvisor(ObjectProvider<MeterRegistry> meterRegistry, BeanFactory beanFactory,
+                                     Environment environment) {
+        String portsPackage = environment.getProperty("observability.port-timing.ports-package");
+        if (portsPackage == null) {
+            portsPackage = AutoConfigurationPackages.get(beanFactory).get(0) + ".domain.ports";
+        }
+        PortTimingInterceptor interceptor = new PortTimingInterceptor(meterRegistry, portsPackage);
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(interceptor.pointcut(), interceptor);
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+}
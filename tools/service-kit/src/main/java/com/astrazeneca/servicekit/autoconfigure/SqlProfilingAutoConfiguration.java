@@ -0,0 +1,63 @@
+package com.astrazeneca.servicekit.autoconfigure;
+
+import com.astrazeneca.servicekit.metrics.SqlProfilingDataSource;
+import com.astrazeneca.servicekit.metrics.SqlProfilingFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+// Wraps the DataSource in SqlProfilingDataSource and registers SqlProfilingFilter ahead of the
+// other servlet filters, so statements issued anywhere in request handling are attributed to the
+// request. Settings, all optional:
+// - observability.sql-profiling.enabled (true): false leaves the DataSource and requests alone;
+// - slow-statement (100ms): statements taking longer are logged at WARN with their SQL;
+// - statement-budget (20): requests issuing more statements, likely N+1 queries, are logged at
+//   WARN with their most repeated statements;
+// - sample-rate (0.01): fraction of the other requests logged at INFO.
+@AutoConfiguration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnClass({DelegatingDataSource.class, MeterRegistry.class})
+@ConditionalOnProperty(name = "observability.sql-profiling.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlProfilingAutoConfiguration {
+
+    @Bean
+    static BeanPostProcessor sqlProfilingDataSourcePostProcessor(Environment environment) {
+        // Bound here: a BeanPostProcessor is created before placeholders and conversions are set up
+        Duration threshold = Binder.get(environment)
+                .bind("observability.sql-profiling.slow-statement", Duration.class)
+                .orElse(Duration.ofMillis(100));
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof SqlProfilingDataSource)) {
+                    return new SqlProfilingDataSource(dataSource, threshold);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    FilterRegistrationBean<SqlProfilingFilter> sqlProfilingFilter(
+            MeterRegistry meterRegistry,
+            @Value("${observability.sql-profiling.statement-budget:20}") int statementBudget,
+            @Value("${observability.sql-profiling.sample-rate:0.01}") double sampleRate) {
+        FilterRegistrationBean<SqlProfilingFilter> registration =
+                new FilterRegistrationBean<>(new SqlProfilingFilter(meterRegistry, statementBudget, sampleRate));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
@@ -0,0 +1,100 @@
+package com.astrazeneca.servicekit.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.Pointcut;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Times every call made through a domain port: the port.calls timer around each method a bean
+// implements for an input port (use case) or output port (repository, sender, dispatcher, ...).
+// Tags: port (interface), method, direction (in: domain, out: adapters), class (implementation,
+// so a decorator and the adapter it wraps are told apart) and exception (none on success).
+// Each timer's count is also the call counter. Calls returning a Stream are timed until the
+// stream is returned, not until it is consumed. Histogram buckets are published, so p95/p99 can
+// be aggregated across instances.
+public class PortTimingInterceptor implements MethodInterceptor {
+
+    public static final String METRIC = "port.calls";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final String portsPackage;
+    private final Map<Method, Optional<Tags>> tagsByMethod = new ConcurrentHashMap<>();
+
+    // portsPackage: package whose interfaces are ports, e.g. com.example.domain.ports
+    public PortTimingInterceptor(ObjectProvider<MeterRegistry> meterRegistry, String portsPackage) {
+        this.meterRegistry = meterRegistry;
+        this.portsPackage = portsPackage + ".";
+    }
+
+    public Pointcut pointcut() {
+        return new StaticMethodMatcherPointcut() {
+            @Override
+            public boolean matches(Method method, Class<?> targetClass) {
+                return portOf(method, targetClass) != null;
+            }
+        };
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        Class<?> targetClass = invocation.getThis() != null ? AopUtils.getTargetClass(invocation.getThis()) : null;
+        Optional<Tags> tags = registry == null || targetClass == null ? Optional.empty()
+                : tagsByMethod.computeIfAbsent(AopUtils.getMostSpecificMethod(invocation.getMethod(), targetClass),
+                        method -> Optional.ofNullable(tagsOf(method, targetClass)));
+        if (tags.isEmpty()) {
+            return invocation.proceed();
+        }
+
+        Timer.Sample sample = Timer.start(registry);
+        String exception = "none";
+        try {
+            return invocation.proceed();
+        } catch (Throwable ex) {
+            exception = ex.getClass().getSimpleName();
+            throw ex;
+        } finally {
+            sample.stop(Timer.builder(METRIC)
+                    .description("Calls through a domain port")
+                    .publishPercentileHistogram()
+                    .tags(tags.get())
+                    .tag("exception", exception)
+                    .register(registry));
+        }
+    }
+
+    private Tags tagsOf(Method method, Class<?> targetClass) {
+        Class<?> port = portOf(method, targetClass);
+        if (port == null) {
+            return null;
+        }
+        return Tags.of(
+                "port", port.getSimpleName(),
+                "method", method.getName(),
+                "direction", port.getPackageName().endsWith(".in") ? "in" : "out",
+                "class", targetClass.getSimpleName());
+    }
+
+    // The port interface declaring this method, or null when the method is not part of a port
+    private Class<?> portOf(Method method, Class<?> targetClass) {
+        for (Class<?> candidate : ClassUtils.getAllInterfacesForClassAsSet(targetClass)) {
+            if (candidate.getName().startsWith(portsPackage)
+                    && ReflectionUtils.findMethod(candidate, method.getName(), method.getParameterTypes()) != null) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+}
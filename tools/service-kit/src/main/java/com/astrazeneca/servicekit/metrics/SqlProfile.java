@@ -0,0 +1,71 @@
+package com.astrazeneca.servicekit.metrics;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// JDBC work done on behalf of one HTTP request: statements, rows and statement execution time.
+// Bound to the request thread by SqlProfilingFilter and fed by SqlProfilingDataSource; statements
+// issued from other threads are not attributed to the request. Only ever touched by the thread
+// it is bound to, so it needs no synchronization.
+public final class SqlProfile {
+
+    private static final ThreadLocal<SqlProfile> CURRENT = new ThreadLocal<>();
+    // Bounds memory for requests issuing many distinct statements; counts past it still add up
+    private static final int MAX_DISTINCT_STATEMENTS = 64;
+
+    private final Map<String, Integer> executionsBySql = new HashMap<>();
+    private int statements;
+    private long rows;
+    private long nanos;
+
+    public static SqlProfile start() {
+        SqlProfile profile = new SqlProfile();
+        CURRENT.set(profile);
+        return profile;
+    }
+
+    // The profile bound to this thread, or null outside a profiled request
+    public static SqlProfile current() {
+        return CURRENT.get();
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    void recordStatement(String sql, long elapsedNanos) {
+        statements++;
+        nanos += elapsedNanos;
+        if (sql != null && (executionsBySql.size() < MAX_DISTINCT_STATEMENTS || executionsBySql.containsKey(sql))) {
+            executionsBySql.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    void recordRows(long count) {
+        rows += count;
+    }
+
+    public int statements() {
+        return statements;
+    }
+
+    public long rows() {
+        return rows;
+    }
+
+    public long nanos() {
+        return nanos;
+    }
+
+    // The statements executed most often, most frequent first. The same statement repeated
+    // many times in one request is the signature of an N+1 query.
+    public List<Map.Entry<String, Integer>> mostExecuted(int limit) {
+        return executionsBySql.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder()))
+                .limit(limit)
+                .map(entry -> Map.entry(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+}
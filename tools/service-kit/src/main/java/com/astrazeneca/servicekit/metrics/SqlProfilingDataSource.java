@@ -0,0 +1,163 @@
+package com.astrazeneca.servicekit.metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+// Wraps the application DataSource to observe every JDBC statement. Connections, statements and
+// result sets are handed out as thin proxies that time each execute* call and count the rows it
+// read or wrote into the current SqlProfile. Statements slower than the threshold are logged with
+// their SQL, whether or not a request is being profiled. Replaces spring.jpa.show-sql, which
+// printed every statement without saying which request issued it.
+public class SqlProfilingDataSource extends DelegatingDataSource {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlProfilingDataSource.class);
+
+    private final long slowStatementNanos;
+
+    public SqlProfilingDataSource(DataSource target, Duration slowStatement) {
+        super(target);
+        this.slowStatementNanos = slowStatement.toNanos();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return profiled(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return profiled(super.getConnection(username, password));
+    }
+
+    private Connection profiled(Connection connection) {
+        return proxy(Connection.class, (proxy, method, args) -> {
+            Object result = call(connection, method, args);
+            Connection profiled = (Connection) proxy;
+            if (result instanceof CallableStatement statement) {
+                return proxy(CallableStatement.class, new StatementHandler(statement, profiled, (String) args[0]));
+            }
+            if (result instanceof PreparedStatement statement) {
+                return proxy(PreparedStatement.class, new StatementHandler(statement, profiled, (String) args[0]));
+            }
+            if (result instanceof Statement statement) {
+                return proxy(Statement.class, new StatementHandler(statement, profiled, null));
+            }
+            return result;
+        });
+    }
+
+    private static ResultSet counted(ResultSet resultSet) {
+        return proxy(ResultSet.class, (proxy, method, args) -> {
+            Object result = call(resultSet, method, args);
+            if (Boolean.TRUE.equals(result) && method.getName().equals("next")) {
+                SqlProfile profile = SqlProfile.current();
+                if (profile != null) {
+                    profile.recordRows(1);
+                }
+            }
+            return result;
+        });
+    }
+
+    private final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        // Handed back by getConnection, so statements created from it are profiled too
+        private final Connection connection;
+        // Known up front for prepared statements; plain statements pass it to execute
+        private final String preparedSql;
+
+        private StatementHandler(Statement target, Connection connection, String preparedSql) {
+            this.target = target;
+            this.connection = connection;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.equals("getConnection")) {
+                return connection;
+            }
+            if (!name.startsWith("execute")) {
+                Object result = call(target, method, args);
+                boolean rows = name.equals("getResultSet") || name.equals("getGeneratedKeys");
+                return rows && result instanceof ResultSet resultSet ? counted(resultSet) : result;
+            }
+
+            String sql = preparedSql != null ? preparedSql
+                    : args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+            long started = System.nanoTime();
+            Object result = null;
+            try {
+                result = call(target, method, args);
+                return result instanceof ResultSet resultSet ? counted(resultSet) : result;
+            } finally {
+                long elapsed = System.nanoTime() - started;
+                SqlProfile profile = SqlProfile.current();
+                if (profile != null) {
+                    profile.recordStatement(sql, elapsed);
+                    profile.recordRows(rowsWritten(result));
+                }
+                if (elapsed >= slowStatementNanos) {
+                    log.atWarn()
+                            .setMessage("Slow SQL statement ({} ms): {}")
+                            .addArgument(TimeUnit.NANOSECONDS.toMillis(elapsed))
+                            .addArgument(sql)
+                            .addKeyValue("sql.time.ms", TimeUnit.NANOSECONDS.toMillis(elapsed))
+                            .addKeyValue("sql.statement", sql)
+                            .log();
+                }
+            }
+        }
+    }
+
+    // Update counts of executeUpdate and executeBatch; rows read are counted as the result set is iterated
+    private static long rowsWritten(Object result) {
+        if (result instanceof Integer count) {
+            return Math.max(count, 0);
+        }
+        if (result instanceof Long count) {
+            return Math.max(count, 0);
+        }
+        long rows = 0;
+        if (result instanceof int[] counts) {
+            for (int count : counts) {
+                rows += Math.max(count, 0);
+            }
+        } else if (result instanceof long[] counts) {
+            for (long count : counts) {
+                rows += Math.max(count, 0);
+            }
+        }
+        return rows;
+    }
+
+    private static Object call(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(SqlProfilingDataSource.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+}
@@ -0,0 +1,184 @@
+package com.astrazeneca.servicekit.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.spi.LoggingEventBuilder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// Attributes JDBC work to the HTTP request that caused it. Binds a SqlProfile to the request
+// thread and, when the request completes:
+// - adds a Server-Timing: sql;dur=<ms>;desc="<statements> statements, <rows> rows" header, written
+//   as the response is committed, so it covers the statements issued before the body was written;
+// - records the sql.request.statements, sql.request.rows and sql.request.time meters, tagged with
+//   the method and URI template;
+// - logs the request with its most repeated statements when it exceeds the statement budget (the
+//   shape of an N+1 query), and a random sample of the remaining requests.
+public class SqlProfilingFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Server-Timing";
+
+    private static final Logger log = LoggerFactory.getLogger(SqlProfilingFilter.class);
+    private static final int LOGGED_STATEMENTS = 5;
+    private static final String LOG_MESSAGE = "{} {} issued {} SQL statements (budget {}), {} rows, {} ms; most executed: {}";
+
+    private final MeterRegistry meterRegistry;
+    private final int statementBudget;
+    private final double sampleRate;
+
+    // statementBudget: requests issuing more statements are logged at WARN
+    // sampleRate: fraction of the other requests logged at INFO, between 0 and 1
+    public SqlProfilingFilter(MeterRegistry meterRegistry, int statementBudget, double sampleRate) {
+        this.meterRegistry = meterRegistry;
+        this.statementBudget = statementBudget;
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        SqlProfile profile = SqlProfile.start();
+        ProfiledResponse profiledResponse = new ProfiledResponse(response, profile);
+        try {
+            chain.doFilter(request, profiledResponse);
+        } finally {
+            SqlProfile.end();
+            profiledResponse.addProfileHeader();
+            record(request, response, profile);
+        }
+    }
+
+    private void record(HttpServletRequest request, HttpServletResponse response, SqlProfile profile) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        Tags tags = Tags.of("method", request.getMethod(), "uri", uri);
+
+        DistributionSummary.builder("sql.request.statements")
+                .description("JDBC statements executed per HTTP request")
+                .baseUnit("statements")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(profile.statements());
+        DistributionSummary.builder("sql.request.rows")
+                .description("Rows read or written by JDBC statements per HTTP request")
+                .baseUnit("rows")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(profile.rows());
+        Timer.builder("sql.request.time")
+                .description("Time spent executing JDBC statements per HTTP request")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(profile.nanos(), TimeUnit.NANOSECONDS);
+
+        LoggingEventBuilder event;
+        if (profile.statements() > statementBudget) {
+            event = log.atWarn();
+        } else if (profile.statements() > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            event = log.atInfo();
+        } else {
+            return;
+        }
+        List<Map.Entry<String, Integer>> mostExecuted = profile.mostExecuted(LOGGED_STATEMENTS);
+        event.setMessage(LOG_MESSAGE)
+                .addArgument(request.getMethod())
+                .addArgument(uri)
+                .addArgument(profile.statements())
+                .addArgument(statementBudget)
+                .addArgument(profile.rows())
+                .addArgument(millis(profile.nanos()))
+                .addArgument(mostExecuted.stream()
+                        .map(entry -> entry.getValue() + "x " + entry.getKey())
+                        .collect(Collectors.joining(" | ")))
+                .addKeyValue("http.method", request.getMethod())
+                .addKeyValue("http.uri", uri)
+                .addKeyValue("http.status", response.getStatus())
+                .addKeyValue("sql.statements", profile.statements())
+                .addKeyValue("sql.rows", profile.rows())
+                .addKeyValue("sql.time.ms", millis(profile.nanos()))
+                .addKeyValue("sql.most.executed", mostExecuted.stream()
+                        .map(entry -> Map.of("sql", entry.getKey(), "executions", entry.getValue()))
+                        .toList())
+                .log();
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0);
+    }
+
+    // Adds the profile header just before the response is committed, after which headers can no longer be set
+    private static final class ProfiledResponse extends HttpServletResponseWrapper {
+
+        private final SqlProfile profile;
+        private boolean headerAdded;
+
+        private ProfiledResponse(HttpServletResponse response, SqlProfile profile) {
+            super(response);
+            this.profile = profile;
+        }
+
+        void addProfileHeader() {
+            if (headerAdded || isCommitted()) {
+                return;
+            }
+            headerAdded = true;
+            addHeader(HEADER, String.format(Locale.ROOT, "sql;dur=%s;desc=\"%d statements, %d rows\"",
+                    millis(profile.nanos()), profile.statements(), profile.rows()));
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            addProfileHeader();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            addProfileHeader();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            addProfileHeader();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            addProfileHeader();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            addProfileHeader();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            addProfileHeader();
+            super.sendRedirect(location);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.astrazeneca.servicekit.versioning;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// Version token for a collection kept by a single instance, extended by each service's
+// collection version adapter. The token is the start time of this instance plus the number of
+// writes it has seen, so tokens from before a restart are never reused. Advanced after the
+// writing transaction completes: a reader that sees the new token can no longer read the old data.
+public class CollectionChangeCounter {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+    private final AtomicLong changes = new AtomicLong();
+
+    public String currentVersion() {
+        return epoch + "-" + changes.get();
+    }
+
+    public void recordChange() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    changes.incrementAndGet();
+                }
+            });
+        } else {
+            changes.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.astrazeneca.servicekit.autoconfigure;
+
+import com.astrazeneca.servicekit.metrics.PortTimingInterceptor;
+import com.astrazeneca.servicekit.sample.domain.ports.out.OrderStorePort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PortTimingAutoConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(AopAutoConfiguration.class, PortTimingAutoConfiguration.class))
+            .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+            .withBean(OrderStorePort.class, () -> () -> 3);
+
+    private static long portCalls(MeterRegistry meterRegistry) {
+        return meterRegistry.find(PortTimingInterceptor.METRIC).timers().stream().mapToLong(Timer::count).sum();
+    }
+
+    @Test
+    void timesThePortsUnderTheApplicationPackage() {
+        // As registered by @SpringBootApplication on com.astrazeneca.servicekit.sample
+        contextRunner.withInitializer(context -> AutoConfigurationPackages.register(
+                        (BeanDefinitionRegistry) context.getBeanFactory(), "com.astrazeneca.servicekit.sample"))
+                .run(context -> {
+                    assertThat(context.getBean(OrderStorePort.class).count()).isEqualTo(3);
+                    assertThat(portCalls(context.getBean(MeterRegistry.class))).isEqualTo(1);
+                });
+    }
+
+    @Test
+    void timesThePortsOfAConfiguredPackage() {
+        contextRunner.withPropertyValues("observability.port-timing.ports-package=com.astrazeneca.servicekit.sample.domain.ports")
+                .run(context -> {
+                    context.getBean(OrderStorePort.class).count();
+                    assertThat(portCalls(context.getBean(MeterRegistry.class))).isEqualTo(1);
+                });
+    }
+
+    @Test
+    void leavesPortsUnproxiedWhenDisabled() {
+        contextRunner.withPropertyValues("observability.port-timing.enabled=false").run(context -> {
+            assertThat(context).doesNotHaveBean(Advisor.class);
+            assertThat(AopUtils.isAopProxy(context.getBean(OrderStorePort.class))).isFalse();
+        });
+    }
+}
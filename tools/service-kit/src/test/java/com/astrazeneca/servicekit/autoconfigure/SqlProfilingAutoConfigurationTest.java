@@ -0,0 +1,55 @@
+package com.astrazeneca.servicekit.autoconfigure;
+
+import com.astrazeneca.servicekit.metrics.SqlProfilingDataSource;
+import com.astrazeneca.servicekit.metrics.SqlProfilingFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlProfilingAutoConfigurationTest {
+
+    private final WebApplicationContextRunner contextRunner = new WebApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(SqlProfilingAutoConfiguration.class))
+            .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+            .withBean(DataSource.class, () -> {
+                JdbcDataSource h2 = new JdbcDataSource();
+                h2.setURL("jdbc:h2:mem:sql-profiling-auto-configuration");
+                return h2;
+            });
+
+    @Test
+    void wrapsTheDataSourceAndRegistersTheFilterFirst() {
+        contextRunner.run(context -> {
+            assertThat(context.getBean(DataSource.class)).isInstanceOf(SqlProfilingDataSource.class);
+            assertThat(context.getBean(FilterRegistrationBean.class))
+                    .satisfies(registration -> assertThat(registration.getFilter()).isInstanceOf(SqlProfilingFilter.class))
+                    .extracting(FilterRegistrationBean::getOrder).isEqualTo(Ordered.HIGHEST_PRECEDENCE);
+        });
+    }
+
+    @Test
+    void backsOffWhenDisabled() {
+        contextRunner.withPropertyValues("observability.sql-profiling.enabled=false").run(context -> {
+            assertThat(context.getBean(DataSource.class)).isNotInstanceOf(SqlProfilingDataSource.class);
+            assertThat(context).doesNotHaveBean(FilterRegistrationBean.class);
+        });
+    }
+
+    @Test
+    void leavesApplicationsWithoutServletRequestsAlone() {
+        new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(SqlProfilingAutoConfiguration.class))
+                .withBean(DataSource.class, JdbcDataSource::new)
+                .run(context -> assertThat(context.getBean(DataSource.class)).isNotInstanceOf(SqlProfilingDataSource.class));
+    }
+}
@@ -0,0 +1,115 @@
+package com.astrazeneca.servicekit.metrics;
+
+import com.astrazeneca.servicekit.sample.domain.ports.in.PlaceOrderUseCase;
+import com.astrazeneca.servicekit.sample.domain.ports.out.OrderStorePort;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PortTimingInterceptorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PortTimingInterceptor interceptor = new PortTimingInterceptor(
+            new StaticListableBeanFactory(Map.of("meterRegistry", meterRegistry)).getBeanProvider(MeterRegistry.class),
+            "com.astrazeneca.servicekit.sample.domain.ports");
+
+    // Advised like PortTimingAutoConfiguration's advisor advises beans
+    @SuppressWarnings("unchecked")
+    private <T> T proxy(T target) {
+        ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvisor(new DefaultPointcutAdvisor(interceptor.pointcut(), interceptor));
+        return (T) proxyFactory.getProxy();
+    }
+
+    private Timer timer(String port, String method, String exception) {
+        return meterRegistry.find(PortTimingInterceptor.METRIC)
+                .tags("port", port, "method", method, "exception", exception)
+                .timer();
+    }
+
+    @Test
+    void timesOutputPortCallsTaggedWithPortMethodDirectionAndImplementation() {
+        InMemoryOrderStore store = proxy(new InMemoryOrderStore());
+
+        store.count();
+        store.count();
+
+        Timer timer = timer("OrderStorePort", "count", "none");
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(2);
+        assertThat(timer.getId().getTag("direction")).isEqualTo("out");
+        assertThat(timer.getId().getTag("class")).isEqualTo("InMemoryOrderStore");
+    }
+
+    @Test
+    void publishesHistogramBucketsForPercentilesAcrossInstances() {
+        List<DistributionStatisticConfig> configs = new ArrayList<>();
+        meterRegistry.config().meterFilter(new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                configs.add(config);
+                return config;
+            }
+        });
+
+        proxy(new InMemoryOrderStore()).count();
+
+        assertThat(configs).singleElement().extracting(DistributionStatisticConfig::isPercentileHistogram).isEqualTo(true);
+    }
+
+    @Test
+    void tagsFailedUseCaseCallsWithTheExceptionAndRethrowsIt() {
+        FailingPlaceOrder placeOrder = proxy(new FailingPlaceOrder());
+
+        assertThatThrownBy(() -> placeOrder.placeOrder("item")).isInstanceOf(IllegalStateException.class);
+
+        Timer timer = timer("PlaceOrderUseCase", "placeOrder", "IllegalStateException");
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(timer.getId().getTag("direction")).isEqualTo("in");
+    }
+
+    @Test
+    void doesNotTimeMethodsThatAreNotPartOfAPort() {
+        FailingPlaceOrder placeOrder = proxy(new FailingPlaceOrder());
+
+        placeOrder.describe();
+
+        assertThat(meterRegistry.find(PortTimingInterceptor.METRIC).timers()).isEmpty();
+    }
+
+    static class InMemoryOrderStore implements OrderStorePort {
+
+        @Override
+        public int count() {
+            return 0;
+        }
+    }
+
+    static class FailingPlaceOrder implements PlaceOrderUseCase {
+
+        @Override
+        public String placeOrder(String item) {
+            throw new IllegalStateException("order store is unavailable");
+        }
+
+        public String describe() {
+            return "place order";
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.astrazeneca.servicekit.metrics;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlProfilingDataSourceTest {
+
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:sql-profiling-data-source;DB_CLOSE_DELAY=-1");
+        dataSource = new SqlProfilingDataSource(h2, Duration.ofSeconds(10));
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("drop table if exists item");
+            statement.execute("create table item (id int auto_increment primary key, description varchar(255))");
+        }
+        SqlProfile.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SqlProfile.end();
+    }
+
+    @Test
+    void countsTheRowsReadFromGeneratedKeys() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement insert = connection.prepareStatement(
+                     "insert into item (description) values (?)", Statement.RETURN_GENERATED_KEYS)) {
+            insert.setString(1, "Item");
+            insert.executeUpdate();
+            try (ResultSet keys = insert.getGeneratedKeys()) {
+                while (keys.next()) {
+                    // Read like an ORM reads the assigned id
+                }
+            }
+        }
+
+        SqlProfile profile = SqlProfile.current();
+        assertThat(profile.statements()).isEqualTo(1);
+        // One row written, one key read
+        assertThat(profile.rows()).isEqualTo(2);
+    }
+
+    @Test
+    void handsBackTheProfiledConnectionFromItsStatements() throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            assertThat(statement.getConnection()).isSameAs(connection);
+
+            try (Statement sibling = statement.getConnection().createStatement()) {
+                sibling.executeQuery("select count(*) from item").close();
+            }
+        }
+
+        assertThat(SqlProfile.current().statements()).isEqualTo(1);
+    }
+}
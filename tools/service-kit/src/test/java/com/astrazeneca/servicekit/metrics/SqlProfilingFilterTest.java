@@ -0,0 +1,161 @@
+package com.astrazeneca.servicekit.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.sql.DataSource;
+import java.io.BufferedOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlProfilingFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SqlProfilingFilter filter = new SqlProfilingFilter(meterRegistry, 20, 0.0);
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:sql-profiling;DB_CLOSE_DELAY=-1");
+        dataSource = new SqlProfilingDataSource(h2, Duration.ofSeconds(10));
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("drop table if exists item");
+            statement.execute("create table item (id int primary key, description varchar(255))");
+        }
+    }
+
+    private static MockHttpServletRequest request(String uri, String pattern) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+        return request;
+    }
+
+    private void insertItems(int count) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement insert = connection.prepareStatement("insert into item (id, description) values (?, ?)")) {
+            for (int id = 1; id <= count; id++) {
+                insert.setInt(1, id);
+                insert.setString(2, "Item " + id);
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+    }
+
+    private int readItem(int id) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement select = connection.prepareStatement("select description from item where id = ?")) {
+            select.setInt(1, id);
+            int rows = 0;
+            try (ResultSet resultSet = select.executeQuery()) {
+                while (resultSet.next()) {
+                    rows++;
+                }
+            }
+            return rows;
+        }
+    }
+
+    @Test
+    void countsTheStatementsAndRowsOfARequestInTheHeaderAndTheMetrics() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (req, res) -> {
+            try {
+                insertItems(3);
+                for (int id = 1; id <= 3; id++) {
+                    readItem(id);
+                }
+            } catch (SQLException ex) {
+                throw new IllegalStateException(ex);
+            }
+        };
+
+        filter.doFilter(request("/api/items/1", "/api/items/{id}"), response, chain);
+
+        assertThat(response.getHeader(SqlProfilingFilter.HEADER))
+                .startsWith("sql;dur=")
+                .endsWith(";desc=\"4 statements, 6 rows\"");
+        assertThat(meterRegistry.get("sql.request.statements").tag("uri", "/api/items/{id}")
+                .summary().totalAmount()).isEqualTo(4);
+        assertThat(meterRegistry.get("sql.request.rows").tag("method", "GET")
+                .summary().totalAmount()).isEqualTo(6);
+        assertThat(meterRegistry.get("sql.request.time").timer().count()).isEqualTo(1);
+        assertThat(SqlProfile.current()).isNull();
+    }
+
+    @Test
+    void writesTheHeaderWhenTheBodyIsWrittenAndKeepsCountingAfterwards() throws Exception {
+        insertItems(1);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (req, res) -> {
+            try {
+                readItem(1);
+                res.getOutputStream().write('x');
+                res.flushBuffer();
+                readItem(1);
+            } catch (SQLException ex) {
+                throw new IllegalStateException(ex);
+            }
+        };
+
+        filter.doFilter(request("/api/items/1", "/api/items/{id}"), response, chain);
+
+        assertThat(response.getHeaders(SqlProfilingFilter.HEADER)).singleElement()
+                .asString().endsWith("\"1 statements, 1 rows\"");
+        assertThat(meterRegistry.get("sql.request.statements").summary().totalAmount()).isEqualTo(2);
+    }
+
+    @Test
+    void reportsOnlyThePreBodyWorkOfAStreamedResponseInTheHeaderButAllOfItInTheMetrics() throws Exception {
+        insertItems(3);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        // Like a streamed export (insights-service's NDJSON export): rows are read while the body is written
+        FilterChain chain = (req, res) -> {
+            res.setContentType("application/x-ndjson");
+            try (OutputStream out = new BufferedOutputStream(res.getOutputStream());
+                 Connection connection = dataSource.getConnection();
+                 Statement select = connection.createStatement();
+                 ResultSet resultSet = select.executeQuery("select description from item order by id")) {
+                while (resultSet.next()) {
+                    out.write((resultSet.getString(1) + "\n").getBytes(StandardCharsets.UTF_8));
+                }
+            } catch (SQLException ex) {
+                throw new IllegalStateException(ex);
+            }
+        };
+
+        filter.doFilter(request("/api/items/export", "/api/items/export"), response, chain);
+
+        assertThat(response.getContentAsString()).isEqualTo("Item 1\nItem 2\nItem 3\n");
+        assertThat(response.getHeaders(SqlProfilingFilter.HEADER)).singleElement()
+                .asString().endsWith("\"0 statements, 0 rows\"");
+        assertThat(meterRegistry.get("sql.request.statements").tag("uri", "/api/items/export")
+                .summary().totalAmount()).isEqualTo(1);
+        assertThat(meterRegistry.get("sql.request.rows").tag("uri", "/api/items/export")
+                .summary().totalAmount()).isEqualTo(3);
+    }
+
+    @Test
+    void passesStatementsThroughUnprofiledOutsideARequest() throws SQLException {
+        insertItems(2);
+
+        assertThat(readItem(2)).isEqualTo(1);
+        assertThat(SqlProfile.current()).isNull();
+        assertThat(meterRegistry.getMeters()).isEmpty();
+    }
+}
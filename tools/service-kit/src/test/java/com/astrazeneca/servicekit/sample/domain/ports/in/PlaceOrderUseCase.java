@@ -0,0 +1,7 @@
+package com.astrazeneca.servicekit.sample.domain.ports.in;
+
+// Input port of the sample service the port timing tests advise
+public interface PlaceOrderUseCase {
+
+    String placeOrder(String item);
+}
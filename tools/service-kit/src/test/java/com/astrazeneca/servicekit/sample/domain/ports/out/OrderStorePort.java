@@ -0,0 +1,7 @@
+package com.astrazeneca.servicekit.sample.domain.ports.out;
+
+// Output port of the sample service the port timing tests advise
+public interface OrderStorePort {
+
+    int count();
+}
@@ -0,0 +1,49 @@
+package com.astrazeneca.servicekit.versioning;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CollectionChangeCounterTest {
+
+    private final CollectionChangeCounter counter = new CollectionChangeCounter();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void changesTheTokenRightAwayOutsideATransaction() {
+        String before = counter.currentVersion();
+
+        counter.recordChange();
+
+        assertThat(counter.currentVersion()).isNotEqualTo(before);
+    }
+
+    @Test
+    void changesTheTokenOnlyOnceTheTransactionCompletes() {
+        String before = counter.currentVersion();
+        TransactionSynchronizationManager.initSynchronization();
+
+        counter.recordChange();
+        assertThat(counter.currentVersion()).isEqualTo(before);
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        assertThat(counter.currentVersion()).isNotEqualTo(before);
+    }
+
+    @Test
+    void neverReusesATokenOfAnotherInstance() throws InterruptedException {
+        Thread.sleep(2);
+
+        assertThat(new CollectionChangeCounter().currentVersion()).isNotEqualTo(counter.currentVersion());
+    }
+}